@@ -0,0 +1,93 @@
+package blackjack.io;
+
+import blackjack.logic.Outcome;
+import blackjack.model.Card;
+import blackjack.model.Rank;
+import blackjack.model.Suit;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks appending rounds to the memory-mapped round journal and scanning it back.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundJournalBenchmark {
+
+    private Path file;
+    private RoundJournal journal;
+    private final List<Card> playerHand = List.of(Card.of(Suit.HEARTS, Rank.TEN), Card.of(Suit.CLUBS, Rank.SEVEN));
+    private final List<Card> dealerHand = List.of(Card.of(Suit.SPADES, Rank.NINE), Card.of(Suit.DIAMONDS, Rank.NINE));
+    private long scoreSum;
+
+    /**
+     * Opens a fresh journal with 100,000 rounds for the scan benchmark.
+     * @throws IOException if the journal cannot be created.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("benchmark", ".journal");
+        Files.delete(file);
+        journal = new RoundJournal(file);
+        for (int i = 0; i < 100_000; i++) {
+            journal.append(Outcome.DEALER_WIN, 17, 18, false, playerHand, dealerHand);
+        }
+    }
+
+    /**
+     * Closes and deletes the journal.
+     * @throws IOException if the journal cannot be closed or deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.close();
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Measures appending one round.
+     * @return The new round number, consumed by JMH.
+     */
+    @Benchmark
+    public long append() {
+        return journal.append(Outcome.DEALER_WIN, 17, 18, false, playerHand, dealerHand);
+    }
+
+    /**
+     * Measures reading one round by its number.
+     * @return The player's score of the round, consumed by JMH.
+     */
+    @Benchmark
+    public int randomRead() {
+        return journal.read(1 + (journal.getRoundCount() >>> 1)).getPlayerScore();
+    }
+
+    /**
+     * Measures a sequential scan over the last 100,000 rounds.
+     * @return The sum of the player's scores, consumed by JMH.
+     */
+    @Benchmark
+    public long scan() {
+        scoreSum = 0;
+        journal.scan(journal.getRoundCount() - 99_999, entry -> scoreSum += entry.getPlayerScore());
+        return scoreSum;
+    }
+}
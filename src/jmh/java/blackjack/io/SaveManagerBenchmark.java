@@ -0,0 +1,76 @@
+package blackjack.io;
+
+import blackjack.logic.BlackjackGame;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks saving and loading the game state.
+ * The Gradle jmh task runs in build/jmh, so the save file written here never replaces the player's own save.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveManagerBenchmark {
+
+    private BlackjackGame game;
+
+    /**
+     * Creates a game with a full results history and an existing save file.
+     * @throws IOException if the initial save fails.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        game = new BlackjackGame("Benchmark", 6);
+        for (int i = 0; i < 20; i++) {
+            game.playerStand();
+            game.startNewRound();
+        }
+        SaveManager.saveGame(game);
+    }
+
+    /**
+     * Measures writing the game state to disk.
+     * @return The saved game, consumed by JMH.
+     * @throws IOException if saving fails.
+     */
+    @Benchmark
+    public BlackjackGame save() throws IOException {
+        SaveManager.saveGame(game);
+        return game;
+    }
+
+    /**
+     * Measures reading the game state from disk.
+     * @return The loaded game, consumed by JMH.
+     * @throws Exception if loading fails.
+     */
+    @Benchmark
+    public BlackjackGame load() throws Exception {
+        return SaveManager.loadGame();
+    }
+
+    /**
+     * Measures a full save followed by a load.
+     * @return The loaded game, consumed by JMH.
+     * @throws Exception if saving or loading fails.
+     */
+    @Benchmark
+    public BlackjackGame roundTrip() throws Exception {
+        SaveManager.saveGame(game);
+        return SaveManager.loadGame();
+    }
+}
@@ -0,0 +1,38 @@
+package blackjack.logic;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a single basic strategy table lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BasicStrategyBenchmark {
+    private final BasicStrategy strategy = BasicStrategy.compile(false, true);
+    private int step;
+
+    /**
+     * Measures one decision, cycling through totals and upcards so the lookup cannot be constant-folded.
+     * @return The decided action, consumed by JMH.
+     */
+    @Benchmark
+    public Action decide() {
+        int i = step++;
+        int total = 5 + (i & 15);
+        int upcard = 2 + (i >>> 4) % 10;
+        return strategy.decide(total, (i & 32) != 0 && total >= 12, 0, upcard, Action.DOUBLE.mask());
+    }
+}
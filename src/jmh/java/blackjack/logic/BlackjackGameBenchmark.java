@@ -0,0 +1,69 @@
+package blackjack.logic;
+
+import blackjack.model.Deck;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a complete round of the game and the recording of its result.
+ * Lives in the logic package so it can reach the package-private recordResult().
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlackjackGameBenchmark {
+
+    @Param({"1", "6"})
+    private int decks;
+
+    @Param({"S17 3:2 PEEK", "H17 6:5 NOPEEK"})
+    private String rules;
+
+    private BlackjackGame game;
+
+    /**
+     * Creates a seeded game under the compiled rules and finishes its first round.
+     */
+    @Setup
+    public void setUp() {
+        game = new BlackjackGame("Benchmark", TableRules.parse(rules).withNumberOfDecks(decks), Deck.createRandom(42));
+        game.playerStand();
+    }
+
+    /**
+     * Measures a full round: deal, hit below 17, stand, dealer turn and result recording.
+     * @return The outcome, consumed by JMH.
+     */
+    @Benchmark
+    public Outcome fullRound() {
+        game.startNewRound();
+        while (game.isPlayerTurn() && game.getPlayer().getScore() < 17) {
+            game.playerHit();
+        }
+        game.playerStand();
+        return game.getOutcome();
+    }
+
+    /**
+     * Measures recording the result of the finished round into the history.
+     * @return The game, consumed by JMH.
+     */
+    @Benchmark
+    public BlackjackGame recordResult() {
+        game.recordResult();
+        return game;
+    }
+}
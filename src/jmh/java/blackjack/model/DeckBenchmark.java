@@ -0,0 +1,73 @@
+package blackjack.model;
+
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the construction, shuffling and dealing of the shoe.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+
+    @Param({"1", "2", "6", "8"})
+    private int decks;
+
+    private RandomGenerator random;
+    private Deck deck;
+
+    /**
+     * Creates the random source and a shoe to deal from.
+     */
+    @Setup
+    public void setUp() {
+        random = Deck.createRandom(42);
+        deck = new Deck(decks, 1.0, random);
+    }
+
+    /**
+     * Measures building and shuffling a fresh shoe.
+     * @return The new deck, consumed by JMH.
+     */
+    @Benchmark
+    public Deck constructAndShuffle() {
+        return new Deck(decks, random);
+    }
+
+    /**
+     * Measures reshuffling an existing shoe in place.
+     * @return The reshuffled deck, consumed by JMH.
+     */
+    @Benchmark
+    public Deck reshuffle() {
+        deck.reshuffle();
+        return deck;
+    }
+
+    /**
+     * Measures dealing a single card; the shoe is reshuffled when it runs out.
+     * @return The dealt card, consumed by JMH.
+     */
+    @Benchmark
+    public Card dealCard() {
+        if (deck.getCardCount() == 0) {
+            deck.reshuffle();
+        }
+        return deck.dealCard();
+    }
+}
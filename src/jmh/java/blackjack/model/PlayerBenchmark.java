@@ -0,0 +1,88 @@
+package blackjack.model;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the score calculation of a hand across different hand sizes, and splitting a pair
+ * with the seat's pooled hands (run with {@code -prof gc} to confirm that a split does not allocate).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark {
+
+    @Param({"2", "3", "5", "8"})
+    private int handSize;
+
+    private Player player;
+    private Card[] cards;
+    private final Player splitter = new Player("Splitter");
+    private final Card eightOfHearts = Card.of(Suit.HEARTS, Rank.EIGHT);
+    private final Card eightOfClubs = Card.of(Suit.CLUBS, Rank.EIGHT);
+
+    /**
+     * Builds a hand of the requested size from low cards and Aces, so it never busts.
+     */
+    @Setup
+    public void setUp() {
+        player = new Player("Benchmark");
+        Rank[] ranks = {Rank.ACE, Rank.TWO, Rank.ACE, Rank.THREE, Rank.TWO, Rank.ACE, Rank.TWO, Rank.ACE};
+        cards = new Card[handSize];
+        for (int i = 0; i < handSize; i++) {
+            cards[i] = Card.of(Suit.values()[i % 4], ranks[i]);
+            player.addCard(cards[i]);
+        }
+    }
+
+    /**
+     * Measures reading the score of the hand.
+     * @return The score, consumed by JMH.
+     */
+    @Benchmark
+    public int getScore() {
+        return player.getScore();
+    }
+
+    /**
+     * Measures clearing and rebuilding the hand, which includes the incremental total updates.
+     * @return The score of the rebuilt hand, consumed by JMH.
+     */
+    @Benchmark
+    public int rebuildHand() {
+        player.clearHand();
+        for (Card card : cards) {
+            player.addCard(card);
+        }
+        return player.getScore();
+    }
+
+    /**
+     * Measures dealing a pair, splitting it twice and clearing the seat for the next round.
+     * After the first invocation every split hand comes from the seat's pool.
+     * @return The number of hands before clearing, consumed by JMH.
+     */
+    @Benchmark
+    public int splitPair() {
+        splitter.clearHand();
+        splitter.addCard(eightOfHearts);
+        splitter.addCard(eightOfClubs);
+        splitter.split();
+        splitter.addCard(eightOfClubs);
+        splitter.split();
+        return splitter.getHandCount();
+    }
+}
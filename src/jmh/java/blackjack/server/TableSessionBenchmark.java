@@ -0,0 +1,58 @@
+package blackjack.server;
+
+import blackjack.logic.BlackjackGame;
+import blackjack.model.Deck;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the command throughput of one table shared by many submitting threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableSessionBenchmark {
+
+    private TableSession table;
+
+    /**
+     * Creates a table on a seeded game.
+     */
+    @Setup
+    public void setUp() {
+        table = new TableSession(new BlackjackGame("Benchmark", 6, Deck.createRandom(42)));
+    }
+
+    /**
+     * Measures submitting a command and waiting for its reply, with eight submitters on the same table.
+     * @return The reply, consumed by JMH.
+     */
+    @Benchmark
+    @Threads(8)
+    public TableSnapshot submitAndWait() {
+        return table.submit(TableSession.Command.NEW_ROUND).exceptionally(e -> null).join();
+    }
+
+    /**
+     * Measures reading the latest state while the table is idle.
+     * @return The snapshot, consumed by JMH.
+     */
+    @Benchmark
+    @Threads(8)
+    public TableSnapshot readSnapshot() {
+        return table.snapshot();
+    }
+}
@@ -1,22 +1,175 @@
 package blackjack;
 
 import blackjack.gui.GameFrame;
+import blackjack.logic.TableRules;
+import blackjack.server.GameServer;
+import blackjack.server.LoadGenerator;
+import blackjack.logic.BasicStrategy;
+import blackjack.logic.BlackjackGame;
+import blackjack.metrics.Metrics;
+import blackjack.model.Deck;
+import blackjack.sim.AutoPlayer;
+import blackjack.sim.BettingStrategy;
+import blackjack.sim.Recording;
+import blackjack.sim.Replayer;
+import blackjack.sim.Simulator;
+import java.io.IOException;
+import java.nio.file.Path;
 import javax.swing.SwingUtilities;
 
 /**
  * The main entry point for the Blackjack application.
- * Starts the GUI in the Event Dispatch Thread (EDT).
+ * Starts the GUI in the Event Dispatch Thread (EDT), or one of the headless modes:
+ * <ul>
+ *   <li>{@code --simulate [rounds] [decks] [seed] [maxBet] [rules]} runs a Monte Carlo simulation, with a Hi-Lo bet ramp up to maxBet units,</li>
+ *   <li>{@code --server [port] [decks]} hosts tables over the local line protocol,</li>
+ *   <li>{@code --loadtest [tables] [rounds] [decks]} load tests an in-process server,</li>
+ *   <li>{@code --record file [rounds] [decks] [seed] [rules]} plays a basic strategy session and records it,</li>
+ *   <li>{@code --replay file [reference]} replays a recording and reports the first round that diverges.</li>
+ * </ul>
+ * In every mode the game and persistence metrics are published over JMX, unless {@code -Dblackjack.metrics=false}.
  */
 public class Main {
     /**
      * Main method to start the application.
-     * @param args Command line arguments (not used).
+     * @param args Command line arguments; empty to start the GUI.
+     * @throws IOException if the server cannot be started.
+     * @throws InterruptedException if a headless mode is interrupted.
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Metrics.register();
+        if (args.length > 0) {
+            switch (args[0]) {
+                case "--simulate" -> {
+                    runSimulation(args);
+                    return;
+                }
+                case "--server" -> {
+                    runServer(args);
+                    return;
+                }
+                case "--loadtest" -> {
+                    runLoadTest(args);
+                    return;
+                }
+                case "--record" -> {
+                    runRecord(args);
+                    return;
+                }
+                case "--replay" -> {
+                    runReplay(args);
+                    return;
+                }
+                default -> {
+                    // Unknown arguments start the GUI, as before
+                }
+            }
+        }
+
         // Swing applications must be started on the Event Dispatch Thread (EDT) for thread safety.
         SwingUtilities.invokeLater(() -> {
             GameFrame frame = new GameFrame();
             frame.setVisible(true);
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * Runs a headless simulation and prints the report to the standard output.
+     * @param args The command line arguments: {@code --simulate [rounds] [decks] [seed] [maxBet] [rules]}.
+     *             A maximum bet above 1 unit bets by the Hi-Lo true count; otherwise bets are flat.
+     *             The rules are a {@link TableRules} specification such as {@code H17,6:5,NOPEEK}; the decks argument wins.
+     */
+    private static void runSimulation(String[] args) {
+        long rounds = args.length > 1 ? Long.parseLong(args[1]) : 10_000_000L;
+        int decks = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+        int maxBet = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+        TableRules rules = (args.length > 5 ? TableRules.parse(args[5]) : TableRules.STANDARD).withNumberOfDecks(decks);
+
+        BettingStrategy betting = maxBet > 1 ? BettingStrategy.hiLoRamp(maxBet) : BettingStrategy.FLAT;
+        Simulator simulator = new Simulator(rules, seed, Runtime.getRuntime().availableProcessors(), betting);
+        System.out.println("Simulating " + rounds + " rounds (" + rules + ") on " + simulator.getParallelism() + " threads...");
+        System.out.println(simulator.run(rounds));
+    }
+
+    /**
+     * Runs the multi-table game server until the process is stopped.
+     * @param args The command line arguments: {@code --server [port] [decks]}.
+     * @throws IOException if the port cannot be bound.
+     * @throws InterruptedException if the main thread is interrupted.
+     */
+    private static void runServer(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PORT;
+        int decks = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+
+        GameServer server = new GameServer(port, decks).start();
+        System.out.println("Serving Blackjack tables on localhost:" + server.getPort()
+                + " (commands: " + String.join(", ", GameServer.getCommands()) + ")");
+        Thread.currentThread().join();
+    }
+
+    /**
+     * Starts a server in this JVM, runs the load generator against it and prints the report.
+     * @param args The command line arguments: {@code --loadtest [tables] [rounds] [decks]}.
+     * @throws IOException if the server cannot be started.
+     * @throws InterruptedException if the load test is interrupted.
+     */
+    private static void runLoadTest(String[] args) throws IOException, InterruptedException {
+        int tables = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int decks = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+
+        try (GameServer server = new GameServer(0, decks).start()) {
+            System.out.println("Load testing " + tables + " tables x " + rounds + " rounds...");
+            System.out.println(new LoadGenerator(server.getPort(), tables, rounds).run());
+        }
+    }
+
+    /**
+     * Plays a session with basic strategy, records it and writes the recording to a file.
+     * @param args The command line arguments: {@code --record file [rounds] [decks] [seed] [rules]}.
+     * @throws IOException if the recording cannot be written.
+     */
+    private static void runRecord(String[] args) throws IOException {
+        Path file = Path.of(args.length > 1 ? args[1] : "session.rec");
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+        int decks = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : System.nanoTime();
+        TableRules rules = (args.length > 5 ? TableRules.parse(args[5]) : TableRules.STANDARD).withNumberOfDecks(decks);
+
+        AutoPlayer player = new AutoPlayer(BasicStrategy.compile(rules.dealerHitsSoft17(), rules.doubleAfterSplit()));
+        Recording recording = player.recordSession(rules, Deck.DEFAULT_PENETRATION, seed, rounds);
+        recording.write(file);
+        System.out.println("Recorded " + recording.getRoundCount() + " rounds (" + rules + ", seed " + seed + ", "
+                + recording.getDecisionCount() + " decisions) to " + file.toAbsolutePath());
+    }
+
+    /**
+     * Replays a recording and prints the first round whose result differs from the reference,
+     * which is the recording's own results unless a second recording of the same session is given.
+     * @param args The command line arguments: {@code --replay file [reference]}.
+     * @throws IOException if a recording cannot be read.
+     */
+    private static void runReplay(String[] args) throws IOException {
+        Recording recording = Recording.read(Path.of(args.length > 1 ? args[1] : "session.rec"));
+        long[] expected = args.length > 2 ? Recording.read(Path.of(args[2])).getDigests() : recording.getDigests();
+
+        long start = System.nanoTime();
+        long[] actual = Replayer.replay(recording);
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("Replayed %d rounds in %.3f s (%.0f rounds/s)%n",
+                actual.length, elapsed / 1e9, actual.length / (elapsed / 1e9));
+
+        Replayer.Divergence divergence = Replayer.diff(expected, actual);
+        if (divergence == null) {
+            System.out.println("No divergence: every round has the expected result.");
+            return;
+        }
+        System.out.println(divergence);
+        if (divergence.round() < recording.getRoundCount()) {
+            BlackjackGame game = Replayer.replayTo(recording, divergence.round());
+            System.out.println("  player:   " + game.getPlayer().getHands());
+            System.out.println("  dealer:   " + game.getDealer().getHand());
+        }
+    }
+}
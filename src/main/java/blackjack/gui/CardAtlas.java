@@ -0,0 +1,142 @@
+package blackjack.gui;
+
+import blackjack.model.Card;
+import blackjack.model.Suit;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A sprite atlas holding every card face and the card back, pre-rendered once into a single image.
+ * Painting a card is then one image copy: no fonts, borders or HTML are involved after the atlas is built.
+ * One atlas is kept per HiDPI scale factor, rendered at device resolution, so cards stay sharp on scaled displays.
+ * Atlases are created and used on the Event Dispatch Thread only.
+ */
+final class CardAtlas {
+    /** The width of a card in logical (unscaled) pixels. */
+    static final int CARD_WIDTH = 100;
+
+    /** The height of a card in logical (unscaled) pixels. */
+    static final int CARD_HEIGHT = 140;
+
+    /** The sprite index of the card back, after the faces (which are indexed by card code). */
+    static final int BACK = Card.DISTINCT_CARDS;
+
+    private static final int SPRITES = BACK + 1;
+    private static final int COLUMNS = 13;
+    private static final int BORDER = 2;
+
+    private static final Color FACE_COLOR = Color.WHITE;
+    private static final Color BACK_COLOR = new Color(139, 0, 0);
+    private static final Color RED_SUIT_COLOR = new Color(200, 0, 0);
+    private static final Font CARD_FONT = new Font("Serif", Font.BOLD, 20);
+
+    // One atlas per scale factor; a window usually only ever sees one or two
+    private static final Map<Double, CardAtlas> ATLASES = new HashMap<>();
+
+    private final BufferedImage image;
+    private final int spriteWidth;
+    private final int spriteHeight;
+
+    /**
+     * Renders the atlas at a scale factor.
+     * @param scale The device scale factor (1 for standard displays, 2 for a typical HiDPI display).
+     */
+    private CardAtlas(double scale) {
+        this.spriteWidth = (int) Math.ceil(CARD_WIDTH * scale);
+        this.spriteHeight = (int) Math.ceil(CARD_HEIGHT * scale);
+        int rows = (SPRITES + COLUMNS - 1) / COLUMNS;
+        // Every sprite is opaque, so an RGB image is copied without alpha blending
+        this.image = new BufferedImage(COLUMNS * spriteWidth, rows * spriteHeight, BufferedImage.TYPE_INT_RGB);
+
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            for (int sprite = 0; sprite < SPRITES; sprite++) {
+                Graphics2D cell = (Graphics2D) g.create(
+                        (sprite % COLUMNS) * spriteWidth, (sprite / COLUMNS) * spriteHeight, spriteWidth, spriteHeight);
+                try {
+                    cell.scale(scale, scale);
+                    renderSprite(cell, sprite);
+                } finally {
+                    cell.dispose();
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Returns the atlas for a scale factor, rendering it on first use.
+     * @param scale The device scale factor.
+     * @return The cached atlas.
+     */
+    static CardAtlas forScale(double scale) {
+        return ATLASES.computeIfAbsent(scale, CardAtlas::new);
+    }
+
+    /**
+     * Draws one card sprite in logical coordinates, copying device pixels one to one.
+     * @param g The graphics to paint on.
+     * @param sprite The card code, or {@link #BACK} for the card back.
+     * @param x The left edge in logical pixels.
+     * @param y The top edge in logical pixels.
+     */
+    void draw(Graphics g, int sprite, int x, int y) {
+        draw(g, sprite, x, y, CARD_WIDTH, CARD_HEIGHT);
+    }
+
+    /**
+     * Draws one card sprite stretched to a rectangle, e.g. narrowed while the card is being turned over.
+     * @param g The graphics to paint on.
+     * @param sprite The card code, or {@link #BACK} for the card back.
+     * @param x The left edge in logical pixels.
+     * @param y The top edge in logical pixels.
+     * @param width The width in logical pixels.
+     * @param height The height in logical pixels.
+     */
+    void draw(Graphics g, int sprite, int x, int y, int width, int height) {
+        int sx = (sprite % COLUMNS) * spriteWidth;
+        int sy = (sprite / COLUMNS) * spriteHeight;
+        g.drawImage(image, x, y, x + width, y + height, sx, sy, sx + spriteWidth, sy + spriteHeight, null);
+    }
+
+    /**
+     * Renders one sprite in logical card coordinates: a bordered face with the rank and suit, or the back.
+     * @param g The graphics clipped to the sprite's cell and scaled to logical pixels.
+     * @param sprite The card code, or {@link #BACK}.
+     */
+    private static void renderSprite(Graphics2D g, int sprite) {
+        String[] lines;
+        if (sprite == BACK) {
+            g.setColor(BACK_COLOR);
+            lines = new String[] {"?"};
+        } else {
+            g.setColor(FACE_COLOR);
+            lines = Card.fromCode(sprite).toString().split(" ");
+        }
+        g.fillRect(0, 0, CARD_WIDTH, CARD_HEIGHT);
+        g.setColor(Color.BLACK);
+        g.setStroke(new BasicStroke(BORDER));
+        g.drawRect(BORDER / 2, BORDER / 2, CARD_WIDTH - BORDER, CARD_HEIGHT - BORDER);
+
+        if (sprite == BACK) {
+            g.setColor(Color.WHITE);
+        } else {
+            Suit suit = Card.fromCode(sprite).getSuit();
+            g.setColor(suit == Suit.HEARTS || suit == Suit.DIAMONDS ? RED_SUIT_COLOR : Color.BLACK);
+        }
+        g.setFont(CARD_FONT);
+        FontMetrics metrics = g.getFontMetrics();
+        int lineHeight = metrics.getHeight();
+        int top = (CARD_HEIGHT - lineHeight * lines.length) / 2 + metrics.getAscent();
+        for (int i = 0; i < lines.length; i++) {
+            int width = metrics.stringWidth(lines[i]);
+            g.drawString(lines[i], (CARD_WIDTH - width) / 2, top + i * lineHeight);
+        }
+    }
+}
@@ -1,15 +1,30 @@
 package blackjack.gui;
 
+import blackjack.logic.Action;
+import blackjack.logic.BasicStrategy;
 import blackjack.logic.BlackjackGame;
+import blackjack.logic.DealerOutcomeSolver;
+import blackjack.logic.GameListener;
+import blackjack.io.AutoSaver;
+import blackjack.io.RoundJournal;
 import blackjack.io.SaveManager;
+import blackjack.io.SessionLog;
+import blackjack.metrics.Metrics;
+import blackjack.metrics.RenderEvent;
 import blackjack.model.Card;
+import blackjack.model.Deck;
 import blackjack.model.Player;
+import blackjack.logic.Outcome;
 import blackjack.logic.RoundResult;
+import blackjack.logic.Seat;
+import blackjack.logic.TableRules;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
-import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -19,7 +34,8 @@ import java.util.logging.Logger;
  * It manages the navigation between different views (Menu, Game, Statistics)
  * and handles the interaction between the user interface and the game logic.
  */
-public class GameFrame extends JFrame {
+public final class GameFrame extends JFrame {
+    private static final long serialVersionUID = 1L;
 
     // Logger
     private static final Logger LOGGER = Logger.getLogger(GameFrame.class.getName());
@@ -36,24 +52,82 @@ public class GameFrame extends JFrame {
     private static final String PLAY_AGAIN_TEXT = "Play Again";
     private static final String SAVE_GAME_TEXT = "Save Game";
     private static final String SANS_SERIF_FONT = "SansSerif";
+    private static final int[] DECK_SIZE_CHOICES = {1, 2, 4, 6, 8};
+    private static final Path JOURNAL_FILE = Path.of("saves", "rounds.journal");
+    private static final Path SESSION_DIRECTORY = Path.of("saves");
+    private static final int FRAME_STATS_MILLIS = 500;
+
+    // The components a game event can invalidate; refresh() updates only the invalidated ones
+    private static final int DIRTY_TABLE = 1;
+    private static final int DIRTY_CONTROLS = 2;
+    private static final int DIRTY_COUNT = 4;
+    private static final int DIRTY_ALL = DIRTY_TABLE | DIRTY_CONTROLS | DIRTY_COUNT;
 
     // Game Data Model
-    private BlackjackGame game;
-    private BlackjackGame mainSessionGame;
+    private transient BlackjackGame game;
+    private transient BlackjackGame mainSessionGame;
     private int selectedDeckSize = 1;
+    // The GUI plays the standard rules, so the hint chart and the EV solver are compiled for them once
+    private final transient BasicStrategy strategy = BasicStrategy.compile(TableRules.STANDARD.dealerHitsSoft17(),
+            TableRules.STANDARD.doubleAfterSplit());
+    private final transient DealerOutcomeSolver solver = new DealerOutcomeSolver(TableRules.STANDARD);
+    private transient RoundJournal roundJournal;
+    private int dirty;
+    private final transient GameListener gameListener = new GameListener() {
+        @Override
+        public void roundStarted() {
+            dirty = DIRTY_ALL;
+        }
+
+        @Override
+        public void cardDealt(Seat seat, int hand, Card card) {
+            // The hit/stand EVs depend on the player's cards and on every card seen
+            dirty |= DIRTY_TABLE | DIRTY_COUNT | (seat == Seat.PLAYER ? DIRTY_CONTROLS : 0);
+        }
+
+        @Override
+        public void handSplit(int hand, int newHand) {
+            dirty |= DIRTY_TABLE | DIRTY_CONTROLS;
+        }
+
+        @Override
+        public void turnChanged(Seat seat, int hand) {
+            // The dealer's turn reveals the hole card, which then counts
+            dirty |= DIRTY_TABLE | DIRTY_CONTROLS | (seat == Seat.DEALER ? DIRTY_COUNT : 0);
+        }
+
+        @Override
+        public void roundEnded(Outcome outcome, double netUnits) {
+            dirty |= DIRTY_TABLE | DIRTY_CONTROLS;
+        }
+
+        @Override
+        public void shoeReshuffled(int cards) {
+            dirty |= DIRTY_COUNT;
+        }
+    };
+    private transient AutoSaver autoSaver;
+    // Saves the current game after every round; moved along with the game listener
+    private transient GameListener autoSaveListener;
+    private transient SessionLog sessionLog;
 
     // Layout Components
     private JPanel cardPanel;
     private CardLayout cardLayout;
 
     // Game View UI Components
-    private JPanel dealerPanel;
-    private JPanel playerPanel;
-    private JLabel dealerScoreLabel;
-    private JLabel playerScoreLabel;
-    private JLabel statusLabel;
+    private TableView tableView;
+    private JLabel frameLabel;
+    private JLabel saveLabel;
+    private JLabel evLabel;
+    private JLabel countLabel;
     private JButton hitButton;
     private JButton standButton;
+    private JButton doubleButton;
+    private JButton splitButton;
+    private JButton surrenderButton;
+    private JButton insuranceButton;
+    private JButton hintButton;
     private JButton saveButton;
 
     /**
@@ -62,6 +136,9 @@ public class GameFrame extends JFrame {
      */
     public GameFrame() {
         initMainFrame();
+        openRoundJournal();
+        openAutoSaver();
+        openSessionLog();
         initViews();
         showView(VIEW_MENU);
 
@@ -86,6 +163,67 @@ public class GameFrame extends JFrame {
         add(cardPanel);
     }
 
+    /**
+     * Opens the journal that records every finished round ("saves/rounds.journal").
+     * The journal is closed by a shutdown hook when the application exits.
+     * If it cannot be opened, the game runs without it.
+     */
+    private void openRoundJournal() {
+        try {
+            Files.createDirectories(JOURNAL_FILE.getParent());
+            RoundJournal journal = new RoundJournal(JOURNAL_FILE);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    journal.close();
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "Closing the round journal failed", e);
+                }
+            }, "round-journal-close"));
+            this.roundJournal = journal;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Round journal unavailable", e);
+        }
+    }
+
+    /**
+     * Creates the background saver for the save file ("saves/gamestate.dat").
+     * Results are reported on the Event Dispatch Thread; pending saves are written by a shutdown hook on exit.
+     */
+    private void openAutoSaver() {
+        AutoSaver saver = new AutoSaver(SaveManager.getSaveFile(), new AutoSaver.Listener() {
+            @Override
+            public void saveCompleted(Path file, int bytes, long writeNanos) {
+                saveLabel.setText("Saved " + bytes + " bytes in " + (writeNanos / 1_000_000) + " ms");
+                saveLabel.setToolTipText(file.toAbsolutePath().toString());
+            }
+
+            @Override
+            public void saveFailed(Path file, IOException error) {
+                LOGGER.log(Level.SEVERE, "Save failed", error);
+                saveLabel.setText("Save failed");
+                JOptionPane.showMessageDialog(GameFrame.this, "Error saving game: " + error.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        }, SwingUtilities::invokeLater);
+        Runtime.getRuntime().addShutdownHook(new Thread(saver::close, "autosave-close"));
+        this.autoSaver = saver;
+    }
+
+    /**
+     * Opens the write-ahead log of the main session ("saves/session.snapshot" and "saves/session.wal").
+     * Pending records are forced to disk by a shutdown hook when the application exits.
+     */
+    private void openSessionLog() {
+        SessionLog log = new SessionLog(SESSION_DIRECTORY);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                log.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Closing the session log failed", e);
+            }
+        }, "session-log-close"));
+        this.sessionLog = log;
+    }
+
     /**
      * Initializes and adds the primary views (Menu and Game) to the CardLayout.
      */
@@ -169,80 +307,87 @@ public class GameFrame extends JFrame {
      * @return The constructed JPanel for the game view.
      */
     private JPanel createGamePanel() {
-        JPanel gameContainer = new JPanel(new BorderLayout(10, 10));
-        gameContainer.setBackground(new Color(20, 100, 50));
-
-        JPanel infoPanel = new JPanel(new GridLayout(1, 3, 10, 10));
-        infoPanel.setOpaque(false);
-        infoPanel.setBorder(new EmptyBorder(10, 10, 0, 10));
-
-        dealerScoreLabel = new JLabel("Dealer score: ?", SwingConstants.CENTER);
-        playerScoreLabel = new JLabel(DEFAULT_PLAYER_NAME + " score: 0", SwingConstants.CENTER);
-        statusLabel = new JLabel("Starting...", SwingConstants.CENTER);
-
-        styleLabel(dealerScoreLabel);
-        styleLabel(playerScoreLabel);
-        styleLabel(statusLabel);
-
-        infoPanel.add(dealerScoreLabel);
-        infoPanel.add(playerScoreLabel);
-        infoPanel.add(statusLabel);
-
-        gameContainer.add(infoPanel, BorderLayout.NORTH);
-
-        JPanel tablePanel = new JPanel(new GridLayout(2, 1, 10, 10));
-        tablePanel.setOpaque(false);
-        tablePanel.setBorder(new EmptyBorder(10, 20, 10, 20));
+        JPanel gameContainer = new JPanel(new BorderLayout());
+        gameContainer.setBackground(TableView.FELT);
 
-        dealerPanel = new JPanel();
-        dealerPanel.setBorder(BorderFactory.createTitledBorder(BorderFactory.createLineBorder(Color.WHITE), "Dealer's Hand"));
-        dealerPanel.setOpaque(false);
-        ((javax.swing.border.TitledBorder)dealerPanel.getBorder()).setTitleColor(Color.WHITE);
-
-        playerPanel = new JPanel();
-        playerPanel.setBorder(BorderFactory.createTitledBorder(BorderFactory.createLineBorder(Color.WHITE), "Your Hand"));
-        playerPanel.setOpaque(false);
-        ((javax.swing.border.TitledBorder)playerPanel.getBorder()).setTitleColor(Color.WHITE);
-
-        tablePanel.add(dealerPanel);
-        tablePanel.add(playerPanel);
-
-        gameContainer.add(tablePanel, BorderLayout.CENTER);
+        // The whole table (scores, status and hands) is one custom-painted component
+        tableView = new TableView();
+        gameContainer.add(tableView, BorderLayout.CENTER);
 
         JPanel controlPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 20, 15));
         controlPanel.setBackground(new Color(10, 50, 25));
 
         hitButton = new JButton("HIT");
         standButton = new JButton("STAND");
+        doubleButton = new JButton("DOUBLE");
+        splitButton = new JButton("SPLIT");
+        surrenderButton = new JButton("SURRENDER");
+        insuranceButton = new JButton("INSURANCE");
+        hintButton = new JButton("HINT");
         saveButton = new JButton(SAVE_GAME_TEXT);
 
         JButton backToMenuButton = new JButton(BACK_TO_MENU_TEXT);
 
-        hitButton.addActionListener(e -> handleHit());
-        standButton.addActionListener(e -> handleStand());
+        hitButton.addActionListener(e -> handleAction(() -> play(Action.HIT)));
+        standButton.addActionListener(e -> handleAction(() -> play(Action.STAND)));
+        doubleButton.addActionListener(e -> handleAction(() -> play(Action.DOUBLE)));
+        splitButton.addActionListener(e -> handleAction(() -> play(Action.SPLIT)));
+        surrenderButton.addActionListener(e -> handleAction(() -> play(Action.SURRENDER)));
+        insuranceButton.addActionListener(e -> handleAction(this::takeInsurance));
+        hintButton.addActionListener(e -> showHint());
         saveButton.addActionListener(e -> saveGame());
 
         backToMenuButton.addActionListener(e -> returnToMenu());
 
         controlPanel.add(hitButton);
         controlPanel.add(standButton);
+        controlPanel.add(doubleButton);
+        controlPanel.add(splitButton);
+        controlPanel.add(surrenderButton);
+        controlPanel.add(insuranceButton);
+        controlPanel.add(hintButton);
         controlPanel.add(saveButton);
         controlPanel.add(backToMenuButton);
 
+        evLabel = new JLabel(" ");
+        evLabel.setFont(new Font(SANS_SERIF_FONT, Font.PLAIN, 14));
+        evLabel.setForeground(Color.WHITE);
+        controlPanel.add(evLabel);
+
+        countLabel = new JLabel(" ");
+        countLabel.setFont(new Font(SANS_SERIF_FONT, Font.PLAIN, 14));
+        countLabel.setForeground(Color.WHITE);
+        controlPanel.add(countLabel);
+
+        saveLabel = new JLabel(" ");
+        saveLabel.setFont(new Font(SANS_SERIF_FONT, Font.PLAIN, 12));
+        saveLabel.setForeground(Color.WHITE);
+        controlPanel.add(saveLabel);
+
+        // Paint timings of the table, refreshed twice a second; F3 shows or hides them
+        frameLabel = new JLabel(" ");
+        frameLabel.setFont(new Font(SANS_SERIF_FONT, Font.PLAIN, 12));
+        frameLabel.setForeground(Color.WHITE);
+        frameLabel.setVisible(false);
+        controlPanel.add(frameLabel);
+        new Timer(FRAME_STATS_MILLIS, e -> {
+            if (frameLabel.isShowing()) {
+                frameLabel.setText(tableView.getFrameStats().describe());
+            }
+        }).start();
+        gameContainer.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke("F3"), "toggleFrameStats");
+        gameContainer.getActionMap().put("toggleFrameStats", new AbstractAction() {
+            @Override
+            public void actionPerformed(java.awt.event.ActionEvent e) {
+                frameLabel.setVisible(!frameLabel.isVisible());
+            }
+        });
+
         gameContainer.add(controlPanel, BorderLayout.SOUTH);
 
         return gameContainer;
     }
 
-    /**
-     * Applies standard styling to status and score labels.
-     * @param label The JLabel to style.
-     */
-    private void styleLabel(JLabel label) {
-        label.setFont(new Font(SANS_SERIF_FONT, Font.BOLD, 18));
-        label.setForeground(Color.WHITE);
-    }
-
     /**
      * Switches the active view in the CardLayout container.
      * @param viewName The name of the view to switch to.
@@ -256,8 +401,9 @@ public class GameFrame extends JFrame {
      * If a main session is active, it restores that session, discarding any temporary loaded game state.
      */
     private void returnToMenu() {
+        tableView.runWhenIdle(null);
         if (this.mainSessionGame != null) {
-            this.game = this.mainSessionGame;
+            setGame(this.mainSessionGame);
             this.selectedDeckSize = this.mainSessionGame.getNumberOfDecks();
         }
         showView(VIEW_MENU);
@@ -271,63 +417,107 @@ public class GameFrame extends JFrame {
      */
     private void startGame() {
         if (this.mainSessionGame == null) {
-            this.mainSessionGame = new BlackjackGame(DEFAULT_PLAYER_NAME, selectedDeckSize);
+            // The journal is attached before the first deal, which can already end the round
+            this.mainSessionGame = new BlackjackGame(DEFAULT_PLAYER_NAME, TableRules.STANDARD.withNumberOfDecks(selectedDeckSize),
+                    Deck.DEFAULT_PENETRATION, Deck.createRandom(), roundJournal);
+            sessionLog.begin(mainSessionGame);
         } else {
             this.mainSessionGame.setNumberOfDecks(selectedDeckSize);
-            this.mainSessionGame.startNewRound();
+            setGame(this.mainSessionGame);
+            startNewRound();
         }
 
-        this.game = this.mainSessionGame;
+        setGame(this.mainSessionGame);
 
         showView(VIEW_GAME);
         updateUI();
 
         if (this.game.isGameOver()) {
-            SwingUtilities.invokeLater(this::handleGameOver);
+            SwingUtilities.invokeLater(() -> tableView.runWhenIdle(this::handleGameOver));
         }
     }
 
     /**
-     * Opens a dialog allowing the user to select the number of card decks (1 or 2).
+     * Opens a dialog allowing the user to select the number of card decks in the shoe (1 to 8).
      */
     private void changeDeckSize() {
-        Object[] options = {"1 deck", "2 decks"};
-        int defaultIndex = (selectedDeckSize == 2) ? 1 : 0;
+        Object[] options = new Object[DECK_SIZE_CHOICES.length];
+        int defaultIndex = 0;
+        for (int i = 0; i < DECK_SIZE_CHOICES.length; i++) {
+            options[i] = DECK_SIZE_CHOICES[i] + (DECK_SIZE_CHOICES[i] == 1 ? " deck" : " decks");
+            if (DECK_SIZE_CHOICES[i] == selectedDeckSize) defaultIndex = i;
+        }
 
         int choice = JOptionPane.showOptionDialog(this,
             "Select deck size (Current: " + selectedDeckSize + ")",
             "Deck Configuration",
-            JOptionPane.YES_NO_OPTION,
+            JOptionPane.DEFAULT_OPTION,
             JOptionPane.QUESTION_MESSAGE,
             null, options, options[defaultIndex]);
 
-        if (choice == 0) selectedDeckSize = 1;
-        if (choice == 1) selectedDeckSize = 2;
+        if (choice >= 0) selectedDeckSize = DECK_SIZE_CHOICES[choice];
     }
 
     /**
-     * Handles the player's action to hit (draw a card).
-     * Updates the UI and checks if the game is over (e.g., bust).
+     * Handles one of the player's actions (hit, stand, double, split, surrender or insurance).
+     * Updates the UI and checks if the game is over (e.g., bust, or the last hand finished).
+     * @param action The action applied to the game.
      */
-    private void handleHit() {
+    private void handleAction(Runnable action) {
         if (game == null) return;
-        game.playerHit();
-        updateUI();
+        action.run();
+        refresh();
 
         if (game.isGameOver()) {
-            handleGameOver();
+            // The result dialog waits until the dealer's cards have been dealt on the table
+            tableView.runWhenIdle(this::handleGameOver);
         }
     }
 
     /**
-     * Handles the player's action to stand.
-     * This ends the player's turn, triggers the dealer's turn, and ends the game.
+     * Applies a decision to the current game, through the session log when it is the main session.
+     * @param action The decision.
      */
-    private void handleStand() {
-        if (game == null) return;
-        game.playerStand();
-        updateUI();
-        handleGameOver();
+    private void play(Action action) {
+        if (sessionLog.getGame() == game) {
+            sessionLog.apply(action);
+        } else {
+            game.playerAction(action);
+        }
+    }
+
+    /**
+     * Takes insurance in the current game, through the session log when it is the main session.
+     */
+    private void takeInsurance() {
+        if (sessionLog.getGame() == game) {
+            sessionLog.insurance(true);
+        } else {
+            game.playerInsurance(true);
+        }
+    }
+
+    /**
+     * Starts a new round of the current game, through the session log when it is the main session.
+     */
+    private void startNewRound() {
+        if (sessionLog.getGame() == game) {
+            sessionLog.startNewRound();
+        } else {
+            game.startNewRound();
+        }
+    }
+
+    /**
+     * Shows the basic strategy recommendation for the current hand against the dealer's upcard.
+     */
+    private void showHint() {
+        if (game == null || !game.isPlayerTurn() || game.isGameOver()) return;
+        Action action = strategy.decide(game.getPlayer(), game.getDealerUpcard(), game.getAllowedActions());
+        JOptionPane.showMessageDialog(this,
+            "Basic strategy suggests: " + action,
+            "Hint",
+            JOptionPane.INFORMATION_MESSAGE);
     }
 
     /**
@@ -350,15 +540,7 @@ public class GameFrame extends JFrame {
         resultLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
         // Apply consistent color coding
-        if (result.contains("won")) {
-            resultLabel.setForeground(Color.GREEN);
-        } else if (result.contains("lost")) {
-            resultLabel.setForeground(Color.RED);
-        } else if (result.contains("Tie")) {
-            resultLabel.setForeground(Color.YELLOW);
-        } else {
-            resultLabel.setForeground(Color.WHITE);
-        }
+        resultLabel.setForeground(resultColor());
 
         JLabel promptLabel = new JLabel("What would you like to do?");
         promptLabel.setFont(new Font(SANS_SERIF_FONT, Font.PLAIN, 14));
@@ -383,12 +565,11 @@ public class GameFrame extends JFrame {
         Object selectedValue = pane.getValue();
 
         if (PLAY_AGAIN_TEXT.equals(selectedValue)) {
-            game.startNewRound();
-            setGameControlsEnabled(true);
-            updateUI();
+            startNewRound();
+            refresh();
 
             if (game.isGameOver()) {
-                SwingUtilities.invokeLater(this::handleGameOver);
+                SwingUtilities.invokeLater(() -> tableView.runWhenIdle(this::handleGameOver));
             }
         } else if (SAVE_GAME_TEXT.equals(selectedValue)) {
             saveGame();
@@ -399,110 +580,120 @@ public class GameFrame extends JFrame {
     }
 
     /**
-     * Enables or disables the in-game control buttons (Hit/Stand).
+     * Enables or disables the in-game control buttons. When enabled, only the actions the rules
+     * allow on the active hand are available, and insurance only while it is offered.
      * @param enabled True to enable controls, false to disable.
      */
     private void setGameControlsEnabled(boolean enabled) {
-        hitButton.setEnabled(enabled);
-        standButton.setEnabled(enabled);
+        int allowed = enabled ? game.getAllowedActions() : 0;
+        hitButton.setEnabled((allowed & Action.HIT.mask()) != 0);
+        standButton.setEnabled((allowed & Action.STAND.mask()) != 0);
+        doubleButton.setEnabled((allowed & Action.DOUBLE.mask()) != 0);
+        splitButton.setEnabled((allowed & Action.SPLIT.mask()) != 0);
+        surrenderButton.setEnabled((allowed & Action.SURRENDER.mask()) != 0);
+        insuranceButton.setEnabled(enabled && game.isInsuranceOffered());
+        hintButton.setEnabled(enabled);
         saveButton.setEnabled(true);
     }
 
     /**
-     * Updates the game UI components (scores, hands, status) to reflect the current game state.
+     * Chooses the colour of the round result by the money won or lost over all hands.
+     * @return Green for a net win, red for a net loss, yellow for breaking even.
      */
-    private void updateUI() {
-        if (game == null) return;
-
-        ((javax.swing.border.TitledBorder)playerPanel.getBorder()).setTitle(game.getPlayer().getName() + "'s Hand");
-
-        boolean showAllDealerCards = !game.isPlayerTurn() || game.isGameOver();
-
-        displayHand(dealerPanel, game.getDealer(), showAllDealerCards);
-        displayHand(playerPanel, game.getPlayer(), true);
+    private Color resultColor() {
+        double net = game.getRoundNetUnits();
+        if (net > 0) {
+            return Color.GREEN;
+        }
+        return net < 0 ? Color.RED : Color.YELLOW;
+    }
 
-        String dScore = game.isGameOver() ? String.valueOf(game.getDealer().getScore()) : "?";
-        dealerScoreLabel.setText("Dealer score: " + dScore);
+    /**
+     * Redraws every game component, e.g. after switching to another game or view.
+     */
+    private void updateUI() {
+        dirty = DIRTY_ALL;
+        refresh();
+    }
 
-        playerScoreLabel.setText(game.getPlayer().getName() + " score: " + game.getPlayer().getScore());
+    /**
+     * Updates only the components invalidated by the game's events since the last refresh:
+     * the table (cards, frames and status), the controls and EV hint, and the count.
+     * The time it takes is recorded as the render latency and, when enabled, as a Flight Recorder event.
+     */
+    private void refresh() {
+        int changed = dirty;
+        dirty = 0;
+        if (game == null) return;
+        long start = Metrics.start();
+        RenderEvent event = new RenderEvent();
+        event.begin();
 
-        if (game.isGameOver()) {
-            String result = game.getGameResult();
-            statusLabel.setText(result);
-            
-            if (result.contains("won")) {
-                statusLabel.setForeground(Color.GREEN);
-            } else if (result.contains("lost")) {
-                statusLabel.setForeground(Color.RED);
-            } else if (result.contains("Tie")) {
-                statusLabel.setForeground(Color.YELLOW);
+        if ((changed & DIRTY_TABLE) != 0) {
+            String status;
+            Color statusColor = Color.WHITE;
+            if (game.isGameOver()) {
+                status = game.getGameResult();
+                statusColor = resultColor();
+            } else if (game.isInsuranceOffered()) {
+                status = "Insurance?";
             } else {
-                statusLabel.setForeground(Color.WHITE);
+                status = game.isPlayerTurn() ? "Your Turn!" : "Dealer's Turn!";
             }
-        } else {
-            statusLabel.setText(game.isPlayerTurn() ? "Your Turn!" : "Dealer's Turn!");
-            statusLabel.setForeground(Color.WHITE);
+            tableView.update(game, status, statusColor);
         }
-
-        setGameControlsEnabled(game.isPlayerTurn() && !game.isGameOver());
-
-        repaint();
-        revalidate();
+        if ((changed & DIRTY_CONTROLS) != 0) {
+            setGameControlsEnabled(game.isPlayerTurn() && !game.isGameOver());
+            updateExpectedValues();
+        }
+        if ((changed & DIRTY_COUNT) != 0) {
+            updateCount();
+        }
+        Metrics.rendered(start);
+        event.finish((changed & DIRTY_TABLE) != 0, (changed & DIRTY_CONTROLS) != 0, (changed & DIRTY_COUNT) != 0);
     }
 
     /**
-     * Renders the cards for a specific player in the specified panel.
-     * @param panel The JPanel where cards should be drawn.
-     * @param player The player (or dealer) whose hand is being displayed.
-     * @param showAll If true, all cards are revealed; if false, the dealer's hole card is hidden.
+     * Makes a game the current one, moving the event listener and the auto save from the previous game to it.
+     * @param newGame The game to show, or null.
      */
-    private void displayHand(JPanel panel, Player player, boolean showAll) {
-        panel.removeAll();
-        panel.setLayout(new FlowLayout(FlowLayout.CENTER, 10, 10));
-
-        List<Card> hand = player.getHand();
-
-        int limit;
-        if (showAll) {
-            limit = hand.size();
-        } else if (hand.isEmpty()) {
-            limit = 0;
-        } else {
-            limit = 1;
+    private void setGame(BlackjackGame newGame) {
+        if (game == newGame) {
+            return;
         }
-
-        for (int i = 0; i < hand.size(); i++) {
-            Card card = hand.get(i);
-            boolean isVisible = (i < limit) || showAll;
-            panel.add(createCardLabel(card, isVisible));
+        if (game != null) {
+            game.removeListener(gameListener);
+            game.removeListener(autoSaveListener);
+        }
+        game = newGame;
+        if (game != null) {
+            game.addListener(gameListener);
+            autoSaveListener = autoSaver.saveAfterEveryRound(game);
+            game.addListener(autoSaveListener);
         }
     }
 
     /**
-     * Creates a visual component representing a playing card.
-     * @param card The card object containing rank and suit data.
-     * @param visible Whether the card face is visible or if it's face down.
-     * @return A JLabel representing the card.
+     * Shows the expected value of standing (exact for the unseen cards) and hitting (estimated) for the current decision.
      */
-    private JLabel createCardLabel(Card card, boolean visible) {
-        JLabel label = new JLabel();
-        label.setPreferredSize(new Dimension(100, 140));
-        label.setOpaque(true);
-        label.setBorder(BorderFactory.createLineBorder(Color.BLACK, 2));
-        label.setHorizontalAlignment(SwingConstants.CENTER);
-        label.setFont(new Font("Serif", Font.BOLD, 20));
-
-        if (visible) {
-            label.setText("<html><center>" + card.toString().replace(" ", "<br>") + "</center></html>");
-            label.setBackground(Color.WHITE);
-            boolean isRed = card.getSuit() == blackjack.model.Suit.HEARTS || card.getSuit() == blackjack.model.Suit.DIAMONDS;
-            label.setForeground(isRed ? new Color(200, 0, 0) : Color.BLACK);
-        } else {
-            label.setText("?");
-            label.setBackground(new Color(139, 0, 0));
-            label.setForeground(Color.WHITE);
+    private void updateExpectedValues() {
+        if (!game.isPlayerTurn() || game.isGameOver()) {
+            evLabel.setText(" ");
+            return;
         }
-        return label;
+        Player player = game.getPlayer();
+        int upcard = game.getDealerUpcard().getValue();
+        int[] unseen = game.getUnseenRankCounts();
+        double stand = solver.standEv(player.getScore(), upcard, unseen);
+        double hit = solver.hitEv(player.getScore(), player.isSoft(), upcard, unseen);
+        evLabel.setText(String.format("EV stand: %+.3f | hit: %+.3f", stand, hit));
+    }
+
+    /**
+     * Shows the Hi-Lo count of the cards seen so far; the hole card only counts once it is revealed.
+     */
+    private void updateCount() {
+        countLabel.setText(String.format("Count: %+d | True: %+.1f", game.getRunningCount(), game.getTrueCount()));
     }
 
     /**
@@ -533,7 +724,14 @@ public class GameFrame extends JFrame {
         header.setFont(new Font(SANS_SERIF_FONT, Font.BOLD, 24));
         header.setHorizontalAlignment(SwingConstants.CENTER);
         header.setBorder(new EmptyBorder(20, 0, 20, 0));
-        statsContainer.add(header, BorderLayout.NORTH);
+
+        // Aggregates over every round of the game, above the list of the last 10
+        JPanel summary = new JPanel(new BorderLayout());
+        summary.setOpaque(false);
+        summary.setBorder(new EmptyBorder(0, 20, 0, 20));
+        summary.add(header, BorderLayout.NORTH);
+        summary.add(new StatisticsPanel(game.getStatistics()), BorderLayout.CENTER);
+        statsContainer.add(summary, BorderLayout.NORTH);
 
         DefaultListModel<RoundResult> listModel = new DefaultListModel<>();
         listModel.addAll(history);
@@ -586,9 +784,9 @@ public class GameFrame extends JFrame {
             "</html>",
             result.getWinner(),
             result.getPlayerScore(),
-            String.join(", ", result.getPlayerHand()),
+            result.formatPlayerHand(),
             result.getDealerScore(),
-            String.join(", ", result.getDealerHand())
+            result.formatDealerHand()
         );
         JOptionPane.showMessageDialog(this, details, "Round Details", JOptionPane.INFORMATION_MESSAGE);
     }
@@ -598,6 +796,8 @@ public class GameFrame extends JFrame {
      * Color-codes the rows based on the game result (Win/Loss/Tie).
      */
     private static class RoundResultRenderer extends DefaultListCellRenderer {
+        private static final long serialVersionUID = 1L;
+
         /**
          * Returns a component configured to display the specified value.
          * Sets text and background color based on the round result.
@@ -617,9 +817,9 @@ public class GameFrame extends JFrame {
                 renderer.setText(text);
 
                 if (!isSelected) {
-                    if (winner.contains(DEFAULT_PLAYER_NAME) || (result.getPlayerScore() <= 21 && result.getDealerScore() > 21)) {
+                    if (result.getOutcome() == Outcome.PLAYER_WIN) {
                         renderer.setBackground(new Color(150, 255, 150));
-                    } else if (winner.contains("Dealer") || result.getPlayerScore() > 21) {
+                    } else if (result.getOutcome() == Outcome.DEALER_WIN) {
                         renderer.setBackground(new Color(255, 150, 150));
                     } else {
                         renderer.setBackground(new Color(255, 255, 150));
@@ -631,33 +831,47 @@ public class GameFrame extends JFrame {
     }
 
     /**
-     * Saves the current game state using the SaveManager.
-     * Displays a success or error message via a popup dialog.
+     * Saves the current game state in the background.
+     * Only a snapshot of the game is taken here; the write and its result are reported later by the auto saver.
      */
     private void saveGame() {
         if (game == null) {
             JOptionPane.showMessageDialog(this, "No active game to save!");
             return;
         }
-        try {
-            SaveManager.saveGame(game);
-            JOptionPane.showMessageDialog(this, "Game state saved to: " + new File("saves/gamestate.dat").getAbsolutePath());
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Save failed", e);
-            JOptionPane.showMessageDialog(this, "Error saving game: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
-        }
+        autoSaver.save(game);
+        saveLabel.setText("Saving...");
     }
 
     /**
      * Loads a game state from the file system.
-     * The loaded game is treated as a temporary session.
-     * The main session (if any) is preserved and restored upon returning to the menu.
+     * Before a main session has been started, the most recent state wins: if the session log was written after
+     * the save file, the last session is restored from its snapshot plus the logged actions and continues as the
+     * main session. Otherwise the save file is loaded as a temporary session; the main session (if any) is
+     * preserved and restored upon returning to the menu.
+     * A save still being written in the background is what the player expects to load, so loading waits for the
+     * background saver; the wait happens off the Event Dispatch Thread and loading continues back on it.
      */
     private void loadGame() {
+        autoSaver.flush().thenRunAsync(this::loadFlushedGame, SwingUtilities::invokeLater);
+    }
+
+    /**
+     * Loads the most recent game state once pending saves have been written. Runs on the Event Dispatch Thread.
+     */
+    private void loadFlushedGame() {
         try {
+            if (mainSessionGame == null && isSessionNewerThanSave()) {
+                BlackjackGame recovered = SessionLog.recover(SESSION_DIRECTORY);
+                if (recovered != null) {
+                    resumeSession(recovered);
+                    return;
+                }
+            }
             BlackjackGame loadedGame = SaveManager.loadGame();
+            loadedGame.setRoundRecorder(roundJournal);
 
-            this.game = loadedGame;
+            setGame(loadedGame);
             this.selectedDeckSize = loadedGame.getNumberOfDecks();
 
             showView(VIEW_GAME);
@@ -669,6 +883,44 @@ public class GameFrame extends JFrame {
         }
     }
 
+    /**
+     * Checks whether the session log holds a more recent state than the save file.
+     * @return True if the session snapshot or log was modified after the save file, or there is no save file.
+     * @throws IOException if the file times cannot be read.
+     */
+    private boolean isSessionNewerThanSave() throws IOException {
+        Path snapshot = SESSION_DIRECTORY.resolve(SessionLog.SNAPSHOT_FILE);
+        if (!Files.exists(snapshot)) {
+            return false;
+        }
+        Path save = SaveManager.getSaveFile();
+        if (!Files.exists(save)) {
+            return true;
+        }
+        Path log = SESSION_DIRECTORY.resolve(SessionLog.LOG_FILE);
+        Path latest = Files.exists(log) && Files.getLastModifiedTime(log).compareTo(Files.getLastModifiedTime(snapshot)) > 0 ? log : snapshot;
+        return Files.getLastModifiedTime(latest).compareTo(Files.getLastModifiedTime(save)) > 0;
+    }
+
+    /**
+     * Continues a recovered session as the main session, logging it from a fresh snapshot.
+     * @param recovered The game restored from the session log.
+     */
+    private void resumeSession(BlackjackGame recovered) {
+        recovered.setRoundRecorder(roundJournal);
+        sessionLog.begin(recovered);
+        this.mainSessionGame = recovered;
+        setGame(recovered);
+        this.selectedDeckSize = recovered.getNumberOfDecks();
+
+        showView(VIEW_GAME);
+        updateUI();
+        JOptionPane.showMessageDialog(this, "Last session restored. Continue playing where you left off.");
+        if (game.isGameOver()) {
+            tableView.runWhenIdle(this::handleGameOver);
+        }
+    }
+
     /**
      * Loads the application icon from the resources folder and sets it as the window icon.
      */
@@ -1,25 +1,29 @@
 package blackjack.gui;
 
+import blackjack.logic.Outcome;
 import blackjack.logic.RoundResult;
+import blackjack.logic.RoundStatistics;
 
 import javax.swing.*;
 import java.awt.*;
 import java.util.List;
 
 /**
- * A dedicated JFrame to display the statistics history using a JList.
+ * A dedicated JFrame to display the running statistics and the statistics history using a JList.
  */
-public class StatisticsFrame extends JFrame {
+public final class StatisticsFrame extends JFrame {
+    private static final long serialVersionUID = 1L;
     private static final int MAX_RESULTS_TO_SHOW = 10;
     
     /**
      * Constructs the statistics window.
      * @param parent The parent frame.
      * @param history The list of results to display.
+     * @param statistics The running statistics of the game.
      */
-    public StatisticsFrame(JFrame parent, List<RoundResult> history) {
+    public StatisticsFrame(JFrame parent, List<RoundResult> history, RoundStatistics statistics) {
         setTitle("Last " + MAX_RESULTS_TO_SHOW + " rounds statistics");
-        setSize(600, 450);
+        setSize(800, 600);
         setMinimumSize(new Dimension(550, 350));
         setLocationRelativeTo(parent);
         setLayout(new BorderLayout());
@@ -50,6 +54,7 @@ public class StatisticsFrame extends JFrame {
         JButton closeButton = new JButton("Back to Game");
         closeButton.addActionListener(e -> dispose());
         
+        add(new StatisticsPanel(statistics), BorderLayout.NORTH);
         add(new JScrollPane(resultList), BorderLayout.CENTER);
         add(closeButton, BorderLayout.SOUTH);
     }
@@ -66,9 +71,9 @@ public class StatisticsFrame extends JFrame {
             "</html>",
             result.getWinner(),
             result.getPlayerScore(),
-            String.join(", ", result.getPlayerHand()),
+            result.formatPlayerHand(),
             result.getDealerScore(),
-            String.join(", ", result.getDealerHand())
+            result.formatDealerHand()
         );
 
         JOptionPane.showMessageDialog(this, details, "Round Details", JOptionPane.INFORMATION_MESSAGE);
@@ -90,16 +95,16 @@ public class StatisticsFrame extends JFrame {
                         index + 1,
                         winner,
                         result.getPlayerScore(),
-                        result.getPlayerHand().size() + " cards",
+                        result.getPlayerCardCount() + " cards",
                         result.getDealerScore(),
-                        result.getDealerHand().size() + " cards"
+                        result.getDealerCardCount() + " cards"
                 );
                 renderer.setText(text);
 
                 if (!isSelected) {
-                    if (winner.contains("Player")) {
+                    if (result.getOutcome() == Outcome.PLAYER_WIN) {
                         renderer.setBackground(new Color(150, 255, 150));
-                    } else if (winner.contains("Dealer")) {
+                    } else if (result.getOutcome() == Outcome.DEALER_WIN) {
                         renderer.setBackground(new Color(255, 150, 150));
                     } else {
                         renderer.setBackground(new Color(255, 255, 150));
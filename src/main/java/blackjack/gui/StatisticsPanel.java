@@ -0,0 +1,160 @@
+package blackjack.gui;
+
+import blackjack.logic.RoundStatistics;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+
+/**
+ * A summary of the running statistics of a game: outcome rates for all rounds and the sliding windows,
+ * streaks and final-score distributions. Shared by the statistics view in GameFrame and by StatisticsFrame.
+ * Everything shown is read directly from {@link RoundStatistics}, so it is instant however many rounds were played.
+ */
+class StatisticsPanel extends JPanel {
+    private static final long serialVersionUID = 1L;
+
+    private static final String[] SUMMARY_COLUMNS = {"", "Rounds", "Win", "Loss", "Push", "Player Bust", "Dealer Bust", "Blackjack", "Net Units"};
+    private static final String[] SCORE_COLUMNS = {"Final Score", "16 or less", "17", "18", "19", "20", "21", "Bust"};
+
+    /**
+     * Builds the summary from the current state of the statistics.
+     * @param statistics The statistics to show.
+     */
+    StatisticsPanel(RoundStatistics statistics) {
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+        setBorder(new EmptyBorder(10, 10, 10, 10));
+
+        add(createTable(SUMMARY_COLUMNS, summaryRows(statistics)));
+        add(Box.createVerticalStrut(8));
+        add(createTable(SCORE_COLUMNS, new Object[][] {
+                scoreRow("Player", statistics.getPlayerScoreHistogram()),
+                scoreRow("Dealer", statistics.getDealerScoreHistogram())
+        }));
+        add(Box.createVerticalStrut(8));
+
+        JLabel streaks = new JLabel(String.format("Longest win streak: %d | Longest loss streak: %d | Current streak: %s",
+                statistics.getLongestWinStreak(), statistics.getLongestLossStreak(), describeStreak(statistics.getCurrentStreak())));
+        streaks.setAlignmentX(Component.LEFT_ALIGNMENT);
+        add(streaks);
+    }
+
+    /**
+     * Creates the rows of the summary table: all rounds first, then each sliding window.
+     * @param statistics The statistics.
+     * @return The table rows.
+     */
+    private static Object[][] summaryRows(RoundStatistics statistics) {
+        Object[][] rows = new Object[RoundStatistics.WINDOW_SIZES.length + 1][];
+        rows[0] = summaryRow("All rounds", statistics.getAllTime());
+        for (int i = 0; i < RoundStatistics.WINDOW_SIZES.length; i++) {
+            int size = RoundStatistics.WINDOW_SIZES[i];
+            rows[i + 1] = summaryRow(String.format("Last %,d", size), statistics.getWindow(size));
+        }
+        return rows;
+    }
+
+    /**
+     * Formats one tally as a table row.
+     * @param label The row label.
+     * @param tally The tally.
+     * @return The table row.
+     */
+    private static Object[] summaryRow(String label, RoundStatistics.Tally tally) {
+        return new Object[] {
+                label,
+                String.format("%,d", tally.getRounds()),
+                percent(tally.getWinRate()),
+                percent(tally.getLossRate()),
+                percent(tally.getPushRate()),
+                percent(tally.getPlayerBustRate()),
+                percent(tally.getDealerBustRate()),
+                percent(tally.getBlackjackRate()),
+                String.format("%+.1f", tally.getNetUnits())
+        };
+    }
+
+    /**
+     * Groups a final-score histogram into the buckets of the score table.
+     * @param label The row label.
+     * @param histogram The histogram, indexed by score.
+     * @return The table row.
+     */
+    private static Object[] scoreRow(String label, long[] histogram) {
+        long total = 0;
+        long low = 0;
+        long bust = 0;
+        for (int score = 0; score < histogram.length; score++) {
+            total += histogram[score];
+            if (score <= 16) low += histogram[score];
+            if (score > 21) bust += histogram[score];
+        }
+        Object[] row = new Object[SCORE_COLUMNS.length];
+        row[0] = label;
+        row[1] = share(low, total);
+        for (int score = 17; score <= 21; score++) {
+            row[score - 15] = share(histogram[score], total);
+        }
+        row[7] = share(bust, total);
+        return row;
+    }
+
+    /**
+     * Creates a read-only table with its header.
+     * @param columns The column names.
+     * @param rows The table rows.
+     * @return A panel holding the table and its header.
+     */
+    private static JComponent createTable(String[] columns, Object[][] rows) {
+        DefaultTableModel model = new DefaultTableModel(rows, columns) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        JTable table = new JTable(model);
+        table.setFocusable(false);
+        table.setRowSelectionAllowed(false);
+        table.getColumnModel().getColumn(0).setPreferredWidth(120);
+
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.add(table.getTableHeader(), BorderLayout.NORTH);
+        panel.add(table, BorderLayout.CENTER);
+        panel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        panel.setMaximumSize(new Dimension(Integer.MAX_VALUE, panel.getPreferredSize().height));
+        return panel;
+    }
+
+    /**
+     * Formats a rate as a percentage.
+     * @param rate The rate (0 to 1).
+     * @return The percentage text.
+     */
+    private static String percent(double rate) {
+        return String.format("%.1f%%", rate * 100);
+    }
+
+    /**
+     * Formats a count as a percentage of a total.
+     * @param count The count.
+     * @param total The total.
+     * @return The percentage text.
+     */
+    private static String share(long count, long total) {
+        return percent(total == 0 ? 0 : (double) count / total);
+    }
+
+    /**
+     * Describes the current streak in words.
+     * @param streak Positive for wins, negative for losses.
+     * @return The description.
+     */
+    private static String describeStreak(int streak) {
+        if (streak > 0) return streak + (streak == 1 ? " win" : " wins");
+        if (streak < 0) return -streak + (streak == -1 ? " loss" : " losses");
+        return "none";
+    }
+}
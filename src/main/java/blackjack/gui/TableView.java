@@ -0,0 +1,774 @@
+package blackjack.gui;
+
+import blackjack.logic.BlackjackGame;
+import blackjack.model.Card;
+import blackjack.model.Hand;
+import blackjack.model.Player;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The game table as a single custom-painted, double-buffered component: the felt, the score and status line,
+ * the dealer's and the player's hands (one framed group per hand after a split).
+ * <p>
+ * Every update is compared with what is on screen: only the rectangles of cards, texts and frames that changed
+ * are repainted. New cards are dealt from the shoe, the hole card flips over and split cards slide to their
+ * new hand, animated at 60 frames per second by a Swing {@link Timer} that runs only while something moves.
+ * The time spent painting each frame is measured by {@link FrameStats}.
+ */
+class TableView extends JComponent {
+    private static final long serialVersionUID = 1L;
+
+    /** The colour of the table felt. */
+    static final Color FELT = new Color(20, 100, 50);
+
+    private static final int MARGIN = 20;
+    private static final int INFO_HEIGHT = 40;
+    private static final int AREA_GAP = 10;
+    private static final int CARD_GAP = 10;
+    private static final int HAND_GAP = 8;
+    private static final int TITLE_INSET = 18;
+
+    private static final int FRAME_MILLIS = 16;
+    private static final int DEAL_MILLIS = 250;
+    private static final int FLIP_MILLIS = 200;
+    private static final int SLIDE_MILLIS = 200;
+    private static final int STAGGER_MILLIS = 120;
+
+    private static final Font INFO_FONT = new Font("SansSerif", Font.BOLD, 18);
+    private static final Font TITLE_FONT = new Font("SansSerif", Font.PLAIN, 12);
+    private static final int MIN_INFO_FONT_SIZE = 10;
+    // The info font in every size it has been shrunk to, indexed by point size
+    private static final Font[] INFO_FONTS = new Font[INFO_FONT.getSize() + 1];
+
+    // Card keys: dealer cards count from 0, player hand i from (i + 1) * KEY_STRIDE
+    private static final int KEY_STRIDE = 100;
+
+    private final Timer timer = new Timer(FRAME_MILLIS, e -> tick());
+    private final transient FrameStats frameStats = new FrameStats();
+
+    private transient BlackjackGame game;
+    private String status = " ";
+    private Color statusColor = Color.WHITE;
+
+    // What is on screen, in painting order
+    private transient List<CardSprite> cards = new ArrayList<>();
+    private transient List<TextItem> texts = new ArrayList<>();
+    private transient List<FrameItem> frames = new ArrayList<>();
+
+    private transient Runnable whenIdle;
+
+    /**
+     * Creates an empty table.
+     */
+    TableView() {
+        setOpaque(true);
+        setDoubleBuffered(true);
+        setPreferredSize(new Dimension(860, 520));
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                // A new size moves everything: lay out again without animation and repaint the whole table
+                rebuild(false);
+                repaint();
+            }
+        });
+    }
+
+    /**
+     * Shows the current state of a game, animating the cards that were dealt, turned over or moved.
+     * @param game The game.
+     * @param status The status text (turn or result).
+     * @param statusColor The colour of the status text.
+     */
+    void update(BlackjackGame game, String status, Color statusColor) {
+        boolean sameGame = game == this.game;
+        this.game = game;
+        this.status = status;
+        this.statusColor = statusColor;
+        rebuild(sameGame);
+    }
+
+    /**
+     * Runs an action once every animation has finished, or right away if nothing is moving.
+     * A later request replaces an earlier one that has not run yet.
+     * @param action The action, or null to cancel a pending one.
+     */
+    void runWhenIdle(Runnable action) {
+        if (action == null || timer.isRunning()) {
+            whenIdle = action;
+        } else {
+            whenIdle = null;
+            action.run();
+        }
+    }
+
+    /**
+     * Returns the paint timings of this table.
+     * @return The frame statistics.
+     */
+    FrameStats getFrameStats() {
+        return frameStats;
+    }
+
+    /**
+     * Lays out the table for the current game and size, compares it with what is on screen and repaints
+     * the rectangles that changed.
+     * @param animate Whether new, turned and moved cards are animated; otherwise they snap into place.
+     */
+    private void rebuild(boolean animate) {
+        int width = getWidth();
+        int height = getHeight();
+        if (game == null || width == 0 || height == 0) {
+            return;
+        }
+        List<CardSprite> nextCards = new ArrayList<>();
+        List<TextItem> nextTexts = new ArrayList<>();
+        List<FrameItem> nextFrames = new ArrayList<>();
+
+        // Score and status line
+        int third = width / 3;
+        String dealerScore = game.isGameOver() ? String.valueOf(game.getDealer().getScore()) : "?";
+        String[] info = {"Dealer score: " + dealerScore, game.getPlayer().getName() + " score: " + playerScores(game.getPlayer()), status};
+        for (int i = 0; i < info.length; i++) {
+            nextTexts.add(infoText(info[i], i == 2 ? statusColor : Color.WHITE, i * third + third / 2, third - CARD_GAP));
+        }
+
+        // The dealer's and the player's areas share the height below the score line
+        int areaHeight = (height - INFO_HEIGHT - AREA_GAP - MARGIN) / 2;
+        Rectangle dealerArea = new Rectangle(MARGIN, INFO_HEIGHT, width - 2 * MARGIN, areaHeight);
+        Rectangle playerArea = new Rectangle(MARGIN, INFO_HEIGHT + areaHeight + AREA_GAP, width - 2 * MARGIN, areaHeight);
+        nextFrames.add(new FrameItem(dealerArea, "Dealer's Hand", Color.WHITE, 1));
+        nextFrames.add(new FrameItem(playerArea, game.getPlayer().getName() + "'s Hand", Color.WHITE, 1));
+
+        List<Card> dealerHand = game.getDealer().getHand();
+        boolean showAllDealerCards = !game.isPlayerTurn() || game.isGameOver();
+        layoutRow(dealerHand, showAllDealerCards ? dealerHand.size() : 1, inner(dealerArea), 0, nextCards);
+
+        Player player = game.getPlayer();
+        List<Hand> hands = player.getHands();
+        Rectangle handsArea = inner(playerArea);
+        if (hands.size() == 1) {
+            layoutRow(hands.get(0).getCards(), Integer.MAX_VALUE, handsArea, KEY_STRIDE, nextCards);
+        } else {
+            int groupWidth = (handsArea.width - (hands.size() - 1) * HAND_GAP) / hands.size();
+            for (int i = 0; i < hands.size(); i++) {
+                Hand hand = hands.get(i);
+                Rectangle group = new Rectangle(handsArea.x + i * (groupWidth + HAND_GAP), handsArea.y, groupWidth, handsArea.height);
+                boolean active = i == player.getActiveHandIndex() && game.isPlayerTurn() && !game.isGameOver();
+                String title = "Hand " + (i + 1) + ": " + hand.getScore() + (hand.isDoubled() ? " (x2)" : "");
+                nextFrames.add(new FrameItem(group, title, active ? Color.YELLOW : Color.WHITE, active ? 3 : 1));
+                layoutRow(hand.getCards(), Integer.MAX_VALUE, inner(group), (i + 1) * KEY_STRIDE, nextCards);
+            }
+        }
+
+        diffFrames(nextFrames);
+        diffTexts(nextTexts);
+        diffCards(nextCards, animate);
+    }
+
+    /**
+     * Builds a text of the score and status line in the largest font, down to {@link #MIN_INFO_FONT_SIZE},
+     * that fits its column; text that does not fit even then is cut short with an ellipsis.
+     * Long results of split hands would otherwise run into the neighbouring text.
+     * @param text The text.
+     * @param color The colour.
+     * @param centerX The centre of the column.
+     * @param maxWidth The width of the column.
+     * @return The text item.
+     */
+    private TextItem infoText(String text, Color color, int centerX, int maxWidth) {
+        Font font = infoFont(MIN_INFO_FONT_SIZE);
+        for (int size = INFO_FONT.getSize(); size > MIN_INFO_FONT_SIZE; size--) {
+            if (getFontMetrics(infoFont(size)).stringWidth(text) <= maxWidth) {
+                font = infoFont(size);
+                break;
+            }
+        }
+        FontMetrics metrics = getFontMetrics(font);
+        if (metrics.stringWidth(text) > maxWidth) {
+            int end = text.length();
+            while (end > 0 && metrics.stringWidth(text.substring(0, end)) + metrics.stringWidth("...") > maxWidth) {
+                end--;
+            }
+            text = text.substring(0, end) + "...";
+        }
+        return new TextItem(text, font, color, centerX, INFO_HEIGHT - 12);
+    }
+
+    /**
+     * Returns the info line font in a size, deriving each size once.
+     * @param size The point size.
+     * @return The font.
+     */
+    private static Font infoFont(int size) {
+        Font font = INFO_FONTS[size];
+        if (font == null) {
+            font = INFO_FONT.deriveFont((float) size);
+            INFO_FONTS[size] = font;
+        }
+        return font;
+    }
+
+    /**
+     * Joins the scores of the player's hands.
+     * @param player The player.
+     * @return The scores, separated by slashes after a split.
+     */
+    private static String playerScores(Player player) {
+        StringBuilder scores = new StringBuilder();
+        for (Hand hand : player.getHands()) {
+            scores.append(scores.length() == 0 ? "" : " / ").append(hand.getScore());
+        }
+        return scores.toString();
+    }
+
+    /**
+     * Returns the part of a framed area where cards go, below the frame's title.
+     * @param area The framed area.
+     * @return The inner area.
+     */
+    private static Rectangle inner(Rectangle area) {
+        return new Rectangle(area.x + CARD_GAP, area.y + TITLE_INSET, area.width - 2 * CARD_GAP, area.height - TITLE_INSET - CARD_GAP);
+    }
+
+    /**
+     * Places a hand's cards in a centred row, overlapping them when the row would not fit.
+     * @param hand The cards.
+     * @param visibleCount The number of leading cards shown face up.
+     * @param area The area for the row.
+     * @param keyBase The key of the first card.
+     * @param out The list receiving the placed cards.
+     */
+    private static void layoutRow(List<Card> hand, int visibleCount, Rectangle area, int keyBase, List<CardSprite> out) {
+        int n = hand.size();
+        int step = CardAtlas.CARD_WIDTH + CARD_GAP;
+        if (n > 1 && (n - 1) * step + CardAtlas.CARD_WIDTH > area.width) {
+            step = Math.max(1, (area.width - CardAtlas.CARD_WIDTH) / (n - 1));
+        }
+        int rowWidth = n == 0 ? 0 : (n - 1) * step + CardAtlas.CARD_WIDTH;
+        int x = area.x + Math.max(0, (area.width - rowWidth) / 2);
+        int y = area.y + Math.max(0, (area.height - CardAtlas.CARD_HEIGHT) / 2);
+        for (int i = 0; i < n; i++) {
+            int sprite = i < visibleCount ? hand.get(i).getCode() : CardAtlas.BACK;
+            out.add(new CardSprite(keyBase + i, sprite, x + i * step, y));
+        }
+    }
+
+    /**
+     * Replaces the frames, repainting the ones that changed.
+     * @param next The new frames.
+     */
+    private void diffFrames(List<FrameItem> next) {
+        for (FrameItem frame : frames) {
+            if (!next.contains(frame)) {
+                repaint(frame.bounds());
+            }
+        }
+        for (FrameItem frame : next) {
+            if (!frames.contains(frame)) {
+                repaint(frame.bounds());
+            }
+        }
+        frames = next;
+    }
+
+    /**
+     * Replaces the texts, repainting the ones that changed.
+     * @param next The new texts.
+     */
+    private void diffTexts(List<TextItem> next) {
+        for (TextItem text : texts) {
+            if (!next.contains(text)) {
+                repaint(text.bounds(this));
+            }
+        }
+        for (TextItem text : next) {
+            if (!texts.contains(text)) {
+                repaint(text.bounds(this));
+            }
+        }
+        texts = next;
+    }
+
+    /**
+     * Replaces the cards, starting animations for cards that were dealt, turned over or moved,
+     * and repainting the places of cards that changed.
+     * @param next The new cards, at their resting places.
+     * @param animate Whether to animate; otherwise every card snaps into place.
+     */
+    private void diffCards(List<CardSprite> next, boolean animate) {
+        Map<Integer, CardSprite> previous = new HashMap<>();
+        for (CardSprite card : cards) {
+            previous.put(card.key, card);
+        }
+        long now = System.nanoTime();
+        long delay = 0;
+
+        for (CardSprite card : next) {
+            CardSprite old = previous.remove(card.key);
+            if (!animate) {
+                card.settle();
+            } else if (old != null && old.sprite == card.sprite && old.x == card.x && old.y == card.y) {
+                card.continueFrom(old);
+            } else if (old != null && old.x == card.x && old.y == card.y) {
+                card.flipFrom(old.sprite, now + delay);
+                delay += millis(STAGGER_MILLIS);
+            } else if (old != null) {
+                card.slideFrom(old, now);
+            } else {
+                CardSprite moved = findMovedCard(previous, card.sprite);
+                if (moved != null) {
+                    // A split card leaves its old place for the new hand
+                    previous.remove(moved.key);
+                    card.slideFrom(moved, now);
+                } else {
+                    card.dealFrom(getWidth() - MARGIN - CardAtlas.CARD_WIDTH, INFO_HEIGHT - CardAtlas.CARD_HEIGHT, now + delay);
+                    delay += millis(STAGGER_MILLIS);
+                }
+            }
+            card.invalidate(this, now);
+        }
+        for (CardSprite removed : previous.values()) {
+            repaint(removed.painted);
+        }
+        cards = next;
+
+        if (animate && !timer.isRunning() && anyMoving(now)) {
+            timer.start();
+        }
+    }
+
+    /**
+     * Finds a card that left its place and shows the same face, so it can slide to its new place.
+     * @param previous The cards on screen that have no place in the new layout yet.
+     * @param sprite The face of the new card.
+     * @return The card, or null if none matches.
+     */
+    private static CardSprite findMovedCard(Map<Integer, CardSprite> previous, int sprite) {
+        if (sprite == CardAtlas.BACK) {
+            return null;
+        }
+        for (CardSprite card : previous.values()) {
+            if (card.sprite == sprite) {
+                return card;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Advances the animations by one frame: repaints the rectangles the moving cards leave and enter,
+     * and stops the timer once everything rests.
+     */
+    private void tick() {
+        long now = System.nanoTime();
+        for (CardSprite card : cards) {
+            card.invalidate(this, now);
+        }
+        if (!anyMoving(now)) {
+            timer.stop();
+            Runnable action = whenIdle;
+            whenIdle = null;
+            if (action != null) {
+                action.run();
+            }
+        }
+    }
+
+    /**
+     * Checks whether any card is still animating.
+     * @param now The current time in nanoseconds.
+     * @return true if an animation has not finished.
+     */
+    private boolean anyMoving(long now) {
+        for (CardSprite card : cards) {
+            if (card.isMoving(now)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Paints the part of the table inside the clip: felt, frames, texts and cards, in that order.
+     * @param g The graphics context.
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        long start = System.nanoTime();
+        Graphics2D g2 = (Graphics2D) g;
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        g2.setColor(FELT);
+        g2.fill(clip);
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        for (FrameItem frame : frames) {
+            if (frame.bounds().intersects(clip)) {
+                frame.paint(g2);
+            }
+        }
+        for (TextItem text : texts) {
+            if (text.bounds(this).intersects(clip)) {
+                text.paint(g2);
+            }
+        }
+        CardAtlas atlas = CardAtlas.forScale(g2.getTransform().getScaleX());
+        for (CardSprite card : cards) {
+            card.paint(g2, atlas, start, clip);
+        }
+        frameStats.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Converts milliseconds to nanoseconds.
+     * @param millis The duration in milliseconds.
+     * @return The duration in nanoseconds.
+     */
+    private static long millis(int millis) {
+        return millis * 1_000_000L;
+    }
+
+    /**
+     * Eases an animation so it slows down towards its end.
+     * @param t The linear progress (0 to 1).
+     * @return The eased progress (0 to 1).
+     */
+    private static double easeOut(double t) {
+        double rest = 1 - t;
+        return 1 - rest * rest * rest;
+    }
+
+    /**
+     * One card on the table: its resting place and face, and the animation that brings it there.
+     */
+    private static final class CardSprite {
+        private enum Motion { NONE, MOVE, FLIP }
+
+        private final int key;
+        private final int sprite;
+        private final int x;
+        private final int y;
+
+        private Motion motion = Motion.NONE;
+        private int fromX;
+        private int fromY;
+        private int fromSprite;
+        private long start;
+        private long duration;
+        private boolean hiddenBeforeStart;
+        private double lastProgress;
+        // The rectangle last painted (or about to be painted), so it can be cleared when the card moves on
+        private Rectangle painted = new Rectangle();
+
+        /**
+         * Creates a card at its resting place.
+         * @param key The identity of the card's place (owner, hand and position).
+         * @param sprite The atlas sprite shown at rest.
+         * @param x The left edge at rest.
+         * @param y The top edge at rest.
+         */
+        private CardSprite(int key, int sprite, int x, int y) {
+            this.key = key;
+            this.sprite = sprite;
+            this.x = x;
+            this.y = y;
+        }
+
+        /**
+         * Places the card without animation.
+         */
+        private void settle() {
+            motion = Motion.NONE;
+        }
+
+        /**
+         * Keeps the animation of the same card in the previous layout, if it is still running.
+         * @param old The card in the previous layout.
+         */
+        private void continueFrom(CardSprite old) {
+            motion = old.motion;
+            fromX = old.fromX;
+            fromY = old.fromY;
+            fromSprite = old.fromSprite;
+            start = old.start;
+            duration = old.duration;
+            hiddenBeforeStart = old.hiddenBeforeStart;
+            lastProgress = old.lastProgress;
+            painted = old.painted;
+        }
+
+        /**
+         * Turns the card over from the face it showed before.
+         * @param previousSprite The sprite shown before.
+         * @param start The start time in nanoseconds.
+         */
+        private void flipFrom(int previousSprite, long start) {
+            this.motion = Motion.FLIP;
+            this.fromSprite = previousSprite;
+            this.start = start;
+            this.duration = millis(FLIP_MILLIS);
+        }
+
+        /**
+         * Slides the card from where another card was painted.
+         * @param old The card whose place it leaves.
+         * @param start The start time in nanoseconds.
+         */
+        private void slideFrom(CardSprite old, long start) {
+            this.motion = Motion.MOVE;
+            this.fromX = old.painted.isEmpty() ? old.x : old.painted.x;
+            this.fromY = old.painted.isEmpty() ? old.y : old.painted.y;
+            this.start = start;
+            this.duration = millis(SLIDE_MILLIS);
+            this.painted = old.painted;
+        }
+
+        /**
+         * Deals the card from the shoe; it stays off the table until its deal starts.
+         * @param shoeX The left edge of the shoe.
+         * @param shoeY The top edge of the shoe.
+         * @param start The start time in nanoseconds.
+         */
+        private void dealFrom(int shoeX, int shoeY, long start) {
+            this.motion = Motion.MOVE;
+            this.fromX = shoeX;
+            this.fromY = shoeY;
+            this.start = start;
+            this.duration = millis(DEAL_MILLIS);
+            this.hiddenBeforeStart = true;
+        }
+
+        /**
+         * Checks whether the card is still animating.
+         * @param now The current time in nanoseconds.
+         * @return true before the end of its animation.
+         */
+        private boolean isMoving(long now) {
+            return motion != Motion.NONE && now < start + duration;
+        }
+
+        /**
+         * Returns the animation progress.
+         * @param now The current time in nanoseconds.
+         * @return The progress, below 0 before the start and 1 once finished.
+         */
+        private double progress(long now) {
+            if (motion == Motion.NONE || now >= start + duration) {
+                return 1;
+            }
+            return (double) (now - start) / duration;
+        }
+
+        /**
+         * Computes where the card is painted at a given time.
+         * @param now The current time in nanoseconds.
+         * @return The bounds, empty while a dealt card is still in the shoe.
+         */
+        private Rectangle boundsAt(long now) {
+            double t = progress(now);
+            if (motion == Motion.MOVE) {
+                if (t < 0) {
+                    return hiddenBeforeStart ? new Rectangle() : new Rectangle(fromX, fromY, CardAtlas.CARD_WIDTH, CardAtlas.CARD_HEIGHT);
+                }
+                double e = easeOut(t);
+                int cx = (int) Math.round(fromX + (x - fromX) * e);
+                int cy = (int) Math.round(fromY + (y - fromY) * e);
+                return new Rectangle(cx, cy, CardAtlas.CARD_WIDTH, CardAtlas.CARD_HEIGHT);
+            }
+            return new Rectangle(x, y, CardAtlas.CARD_WIDTH, CardAtlas.CARD_HEIGHT);
+        }
+
+        /**
+         * Requests a repaint of the rectangle the card leaves and the one it now occupies, if they changed.
+         * Resting cards that have not moved request nothing.
+         * @param view The table.
+         * @param now The current time in nanoseconds.
+         */
+        private void invalidate(JComponent view, long now) {
+            Rectangle next = boundsAt(now);
+            double t = progress(now);
+            // A flip keeps its bounds but changes every frame until its last frame has been requested
+            boolean animating = motion != Motion.NONE && lastProgress < 1 && t > 0;
+            if (!next.equals(painted) || animating) {
+                Rectangle dirty = painted.isEmpty() ? next : next.isEmpty() ? painted : painted.union(next);
+                if (!dirty.isEmpty()) {
+                    view.repaint(dirty);
+                }
+            }
+            painted = next;
+            lastProgress = Math.max(0, t);
+        }
+
+        /**
+         * Paints the card if it intersects the clip.
+         * @param g The graphics.
+         * @param atlas The sprite atlas for the current scale.
+         * @param now The frame time in nanoseconds.
+         * @param clip The clip bounds.
+         */
+        private void paint(Graphics2D g, CardAtlas atlas, long now, Rectangle clip) {
+            Rectangle bounds = boundsAt(now);
+            if (bounds.isEmpty() || !bounds.intersects(clip)) {
+                return;
+            }
+            double t = progress(now);
+            if (motion == Motion.FLIP && t < 1) {
+                if (t <= 0) {
+                    atlas.draw(g, fromSprite, bounds.x, bounds.y);
+                    return;
+                }
+                // The card narrows to its edge showing the old side, then widens showing the new side
+                int width = (int) Math.round(CardAtlas.CARD_WIDTH * Math.abs(1 - 2 * t));
+                if (width > 0) {
+                    atlas.draw(g, t < 0.5 ? fromSprite : sprite, bounds.x + (CardAtlas.CARD_WIDTH - width) / 2, bounds.y,
+                            width, CardAtlas.CARD_HEIGHT);
+                }
+                return;
+            }
+            atlas.draw(g, sprite, bounds.x, bounds.y);
+        }
+    }
+
+    /**
+     * A line of text centred on a point.
+     * @param text The text.
+     * @param font The font.
+     * @param color The colour.
+     * @param centerX The horizontal centre.
+     * @param baseline The baseline.
+     */
+    private record TextItem(String text, Font font, Color color, int centerX, int baseline) {
+        /**
+         * Computes the rectangle covered by the text.
+         * @param view The component measuring the font.
+         * @return The bounds.
+         */
+        Rectangle bounds(JComponent view) {
+            FontMetrics metrics = view.getFontMetrics(font);
+            int width = metrics.stringWidth(text);
+            return new Rectangle(centerX - width / 2 - 1, baseline - metrics.getAscent(), width + 2, metrics.getHeight());
+        }
+
+        /**
+         * Paints the text.
+         * @param g The graphics.
+         */
+        void paint(Graphics2D g) {
+            g.setFont(font);
+            g.setColor(color);
+            FontMetrics metrics = g.getFontMetrics();
+            g.drawString(text, centerX - metrics.stringWidth(text) / 2, baseline);
+        }
+    }
+
+    /**
+     * A titled line frame around an area, like a titled border.
+     * @param area The framed area.
+     * @param title The title drawn over the top edge.
+     * @param color The colour of the line and the title.
+     * @param thickness The line thickness.
+     */
+    private record FrameItem(Rectangle area, String title, Color color, int thickness) {
+        /**
+         * Computes the rectangle covered by the frame, its title and everything inside it.
+         * @return The bounds.
+         */
+        Rectangle bounds() {
+            return new Rectangle(area.x - thickness, area.y - thickness, area.width + 2 * thickness + 1, area.height + 2 * thickness + 1);
+        }
+
+        /**
+         * Paints the frame and its title.
+         * @param g The graphics.
+         */
+        void paint(Graphics2D g) {
+            int top = area.y + TITLE_INSET / 2;
+            g.setColor(color);
+            g.setStroke(new BasicStroke(thickness));
+            g.drawRect(area.x, top, area.width, area.height - TITLE_INSET / 2);
+
+            g.setFont(TITLE_FONT);
+            FontMetrics metrics = g.getFontMetrics();
+            int titleWidth = metrics.stringWidth(title) + 8;
+            g.setColor(FELT);
+            g.fillRect(area.x + 6, top - metrics.getAscent() / 2 - thickness, titleWidth, metrics.getAscent() + 2 * thickness);
+            g.setColor(color);
+            g.drawString(title, area.x + 10, top + metrics.getAscent() / 2 - 1);
+        }
+    }
+
+    /**
+     * Paint timings of the table: the last frame, a moving average and the slowest frame.
+     * Frames are painted on the Event Dispatch Thread, which is the only thread using these statistics.
+     */
+    static final class FrameStats {
+        /** The frame budget at 60 frames per second, in nanoseconds. */
+        static final long BUDGET_NANOS = 16_666_667L;
+
+        private static final double SMOOTHING = 0.1;
+
+        private long frames;
+        private long lastNanos;
+        private long maxNanos;
+        private double averageNanos;
+        private long overBudget;
+
+        /**
+         * Records the time spent painting one frame.
+         * @param nanos The paint time in nanoseconds.
+         */
+        void record(long nanos) {
+            frames++;
+            lastNanos = nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            averageNanos = frames == 1 ? nanos : averageNanos + SMOOTHING * (nanos - averageNanos);
+            if (nanos > BUDGET_NANOS) {
+                overBudget++;
+            }
+        }
+
+        /**
+         * Returns the number of frames painted.
+         * @return The frame count.
+         */
+        long getFrames() { return frames; }
+
+        /**
+         * Returns the paint time of the last frame.
+         * @return The time in nanoseconds.
+         */
+        long getLastNanos() { return lastNanos; }
+
+        /**
+         * Returns the paint time of the slowest frame.
+         * @return The time in nanoseconds.
+         */
+        long getMaxNanos() { return maxNanos; }
+
+        /**
+         * Returns the number of frames that took longer than the 60 fps budget.
+         * @return The count.
+         */
+        long getOverBudget() { return overBudget; }
+
+        /**
+         * Describes the timings for display.
+         * @return For example "Frame: 0.42 ms (avg 0.40, max 1.30, 0 over 16 ms)".
+         */
+        String describe() {
+            return String.format("Frame: %.2f ms (avg %.2f, max %.2f, %d over 16 ms)",
+                    lastNanos / 1e6, averageNanos / 1e6, maxNanos / 1e6, overBudget);
+        }
+    }
+}
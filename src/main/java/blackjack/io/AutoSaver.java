@@ -0,0 +1,216 @@
+package blackjack.io;
+
+import blackjack.logic.BlackjackGame;
+import blackjack.logic.GameListener;
+import blackjack.logic.Outcome;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Saves games to a file on a background thread, so the game thread (the Event Dispatch Thread in the GUI)
+ * never waits for the disk.
+ * <p>
+ * {@link #save(BlackjackGame)} only encodes the game into its binary save image on the calling thread.
+ * The image is small and bounded (a shoe of at most 416 cards and 10 history entries), so this takes
+ * microseconds. The image is then handed to a single writer. Bursts of saves are coalesced: at most one
+ * write is in flight and at most one image waits behind it; a newer image replaces the waiting one,
+ * because only the latest state matters. Completion and failures are reported to a {@link Listener}
+ * through a callback executor, e.g. {@code SwingUtilities::invokeLater}.
+ * <p>
+ * A game is saved automatically after every round once the listener from {@link #saveAfterEveryRound}
+ * is registered with it, so a crash loses at most the round in progress.
+ */
+public class AutoSaver implements AutoCloseable {
+
+    /**
+     * Receives the results of background writes, on the callback executor.
+     */
+    public interface Listener {
+        /**
+         * Called after a save image has been written and atomically renamed into place.
+         * @param file The save file.
+         * @param bytes The size of the save in bytes.
+         * @param writeNanos The time the write took on the writer thread.
+         */
+        void saveCompleted(Path file, int bytes, long writeNanos);
+
+        /**
+         * Called when writing a save image failed; the previous save file is left unchanged.
+         * @param file The save file.
+         * @param error The failure.
+         */
+        void saveFailed(Path file, IOException error);
+    }
+
+    private final Path file;
+    private final Listener listener;
+    private final Executor callbackExecutor;
+    private final Executor writer;
+    private final ExecutorService ownedWriter;
+
+    // The one image waiting for the writer; a newer save replaces it
+    private final AtomicReference<byte[]> pending = new AtomicReference<>();
+    // Set while a drain task is scheduled or running, so at most one write is in flight
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Creates an auto saver with its own daemon writer thread.
+     * @param file The save file, replaced atomically by every write.
+     * @param listener Receives the results of the writes.
+     * @param callbackExecutor Runs the listener callbacks (e.g. {@code SwingUtilities::invokeLater}).
+     */
+    public AutoSaver(Path file, Listener listener, Executor callbackExecutor) {
+        this(file, listener, callbackExecutor, Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "autosave-" + file.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates an auto saver that writes on the given executor. Used by tests to control the writer.
+     * @param file The save file.
+     * @param listener Receives the results of the writes.
+     * @param callbackExecutor Runs the listener callbacks.
+     * @param writer Runs the writes; tasks are submitted one at a time.
+     */
+    AutoSaver(Path file, Listener listener, Executor callbackExecutor, Executor writer) {
+        this.file = file;
+        this.listener = listener;
+        this.callbackExecutor = callbackExecutor;
+        this.writer = writer;
+        this.ownedWriter = writer instanceof ExecutorService service ? service : null;
+    }
+
+    /**
+     * Takes a save image of the game and schedules it to be written.
+     * Must be called on the thread that owns the game; returns without waiting for the disk.
+     * @param game The game to save.
+     * @throws IllegalStateException if the auto saver has been closed.
+     */
+    public void save(BlackjackGame game) {
+        if (closed) {
+            throw new IllegalStateException("The auto saver is closed.");
+        }
+        pending.set(SaveCodec.encode(game));
+        requested.incrementAndGet();
+        if (draining.compareAndSet(false, true)) {
+            writer.execute(this::drain);
+        }
+    }
+
+    /**
+     * Creates a game listener that saves the game whenever one of its rounds ends.
+     * Register it with {@link BlackjackGame#addListener}; rounds that end in quick succession are coalesced
+     * like any other burst of saves.
+     * @param game The game to save; the listener must only be registered with this game.
+     * @return The listener.
+     */
+    public GameListener saveAfterEveryRound(BlackjackGame game) {
+        return new GameListener() {
+            @Override
+            public void roundEnded(Outcome outcome, double netUnits) {
+                save(game);
+            }
+        };
+    }
+
+    /**
+     * Writes waiting images until none is left. Runs on the writer, one drain at a time.
+     */
+    private void drain() {
+        while (true) {
+            byte[] image = pending.getAndSet(null);
+            if (image == null) {
+                draining.set(false);
+                // A save that arrived after the last check, but saw the drain still running, is written by this task
+                if (pending.get() == null || !draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            write(image);
+        }
+    }
+
+    /**
+     * Writes one image and reports the result.
+     * @param image The save image.
+     */
+    private void write(byte[] image) {
+        long start = System.nanoTime();
+        try {
+            SaveManager.writeAtomically(file, image);
+            long nanos = System.nanoTime() - start;
+            written.incrementAndGet();
+            callbackExecutor.execute(() -> listener.saveCompleted(file, image.length, nanos));
+        } catch (IOException e) {
+            callbackExecutor.execute(() -> listener.saveFailed(file, e));
+        }
+    }
+
+    /**
+     * Returns a future that completes once every save requested before this call has been written or has failed.
+     * @return The future.
+     */
+    public CompletableFuture<Void> flush() {
+        // The writer runs tasks in order, and a running drain picks up every image saved before it ends
+        return CompletableFuture.runAsync(() -> { }, writer);
+    }
+
+    /**
+     * Returns the number of saves requested so far.
+     * @return The request count.
+     */
+    public long getRequestedCount() {
+        return requested.get();
+    }
+
+    /**
+     * Returns the number of images written so far; lower than the request count when saves were coalesced.
+     * @return The write count.
+     */
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    /**
+     * Returns the save file.
+     * @return The file written by this auto saver.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Writes the waiting image, if any, and stops the writer thread.
+     * Later calls to {@link #save(BlackjackGame)} are rejected.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        flush().join();
+        if (ownedWriter != null) {
+            ownedWriter.shutdown();
+            try {
+                ownedWriter.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
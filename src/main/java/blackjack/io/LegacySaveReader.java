@@ -0,0 +1,264 @@
+package blackjack.io;
+
+import blackjack.logic.BlackjackGame;
+import blackjack.logic.Outcome;
+import blackjack.logic.RoundResult;
+import blackjack.logic.TableRules;
+import blackjack.model.Card;
+import blackjack.model.Deck;
+import blackjack.model.Rank;
+import blackjack.model.Suit;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads saves written by the original Java serialization format, so older save files can still be loaded.
+ * The game classes are no longer serializable; instead each serialized class descriptor is mapped onto a
+ * private mirror class with the same field layout, which is then converted into the current model.
+ */
+final class LegacySaveReader {
+    /** The first two bytes of every Java serialization stream. */
+    static final int STREAM_MAGIC = 0xACED;
+
+    private static final Map<String, Class<?>> MIRRORS = Map.of(
+            "blackjack.logic.BlackjackGame", LegacyGame.class,
+            "blackjack.logic.RoundResult", LegacyRoundResult.class,
+            "blackjack.model.Deck", LegacyDeck.class,
+            "blackjack.model.Player", LegacyPlayer.class,
+            "blackjack.model.Dealer", LegacyDealer.class,
+            "blackjack.model.Card", LegacyCard.class);
+
+    // Only the classes that appear in an original save may be deserialized, and no array larger than a full shoe
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=20;maxarray=" + Deck.MAX_DECKS * Card.DISTINCT_CARDS + ";"
+                    + "blackjack.io.LegacySaveReader$*;blackjack.model.Suit;blackjack.model.Rank;"
+                    + "java.lang.*;java.util.*;!*");
+
+    // The original history stored cards as display strings; map them back to cards
+    private static final Map<String, Card> CARDS_BY_NAME = new HashMap<>();
+
+    static {
+        for (int code = 0; code < Card.DISTINCT_CARDS; code++) {
+            Card card = Card.fromCode(code);
+            CARDS_BY_NAME.put(card.toString(), card);
+        }
+    }
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private LegacySaveReader() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Checks whether the data starts with the Java serialization stream magic.
+     * @param data The file contents.
+     * @return True if the data is a legacy save.
+     */
+    static boolean isLegacy(byte[] data) {
+        return data.length >= 2 && ((data[0] & 0xFF) << 8 | (data[1] & 0xFF)) == STREAM_MAGIC;
+    }
+
+    /**
+     * Reads a legacy save and converts it into a game.
+     * The original shoe is rebuilt with the remaining cards still to be dealt, in their saved order.
+     * @param data The file contents.
+     * @return The restored game.
+     * @throws IOException if the data is not a valid legacy save.
+     * @throws ClassNotFoundException if the stream references an unknown class.
+     */
+    static BlackjackGame read(byte[] data) throws IOException, ClassNotFoundException {
+        Object object;
+        try (ObjectInputStream in = new MirrorInputStream(data)) {
+            object = in.readObject();
+        } catch (RuntimeException e) {
+            // A truncated or damaged stream can fail inside a collection's readObject rather than with an IOException
+            InvalidObjectException failure = new InvalidObjectException("Corrupt legacy save file.");
+            failure.initCause(e);
+            throw failure;
+        }
+        if (!(object instanceof LegacyGame legacy) || legacy.deck == null || legacy.player == null
+                || legacy.dealer == null) {
+            throw new InvalidObjectException("Not a Blackjack save file.");
+        }
+
+        try {
+            Deck deck = rebuildDeck(legacy.deck);
+            List<RoundResult> history = new ArrayList<>();
+            if (legacy.resultsHistory != null) {
+                for (LegacyRoundResult r : legacy.resultsHistory) {
+                    Outcome outcome = switch (r.winner) {
+                        case "Dealer" -> Outcome.DEALER_WIN;
+                        case "Tie" -> Outcome.PUSH;
+                        default -> Outcome.PLAYER_WIN;
+                    };
+                    List<Card> playerCards = cardsByName(r.playerHand);
+                    // Legacy games had no splits, so every two-card 21 was a natural, and were played
+                    // under the standard rules, one unit per round
+                    boolean playerBlackjack = r.playerScore == 21 && playerCards.size() == 2;
+                    history.add(new RoundResult(outcome, legacy.player.name, r.playerScore, r.dealerScore,
+                            playerCards, cardsByName(r.dealerHand), playerBlackjack,
+                            TableRules.STANDARD.netUnits(outcome, playerBlackjack)));
+                }
+            }
+            return BlackjackGame.restore(legacy.player.name, legacy.numberOfDecks, Deck.DEFAULT_PENETRATION, deck,
+                    toCards(legacy.player.hand), toCards(((LegacyPlayer) legacy.dealer).hand),
+                    legacy.isGameOver, legacy.isPlayerTurn, history);
+        } catch (RuntimeException e) {
+            InvalidObjectException failure = new InvalidObjectException("Corrupt legacy save file.");
+            failure.initCause(e);
+            throw failure;
+        }
+    }
+
+    /**
+     * Rebuilds a full shoe from a legacy deck, which only kept the cards not yet dealt.
+     * The missing cards are placed before the cursor as if they had already been dealt.
+     * @param legacy The legacy deck.
+     * @return The equivalent shoe.
+     */
+    private static Deck rebuildDeck(LegacyDeck legacy) {
+        if (legacy.numberOfDecks < 1 || legacy.numberOfDecks > Deck.MAX_DECKS) {
+            throw new IllegalArgumentException("Invalid number of decks: " + legacy.numberOfDecks);
+        }
+        List<Card> remaining = toCards(legacy.cards);
+        int[] missing = new int[Card.DISTINCT_CARDS];
+        Arrays.fill(missing, legacy.numberOfDecks);
+        for (Card card : remaining) {
+            if (--missing[card.getCode()] < 0) {
+                throw new IllegalArgumentException("Too many copies of " + card + " in the deck.");
+            }
+        }
+
+        byte[] shoe = new byte[legacy.numberOfDecks * Card.DISTINCT_CARDS];
+        int cursor = 0;
+        for (int code = 0; code < Card.DISTINCT_CARDS; code++) {
+            for (int i = 0; i < missing[code]; i++) {
+                shoe[cursor++] = (byte) code;
+            }
+        }
+        // The legacy deck dealt from the front of its list, just like the shoe
+        for (int i = 0; i < remaining.size(); i++) {
+            shoe[cursor + i] = (byte) remaining.get(i).getCode();
+        }
+        return Deck.restore(legacy.numberOfDecks, Deck.DEFAULT_PENETRATION, shoe, cursor, Deck.createRandom());
+    }
+
+    /**
+     * Converts the display strings of a legacy history entry back to cards.
+     * @param names The card display strings.
+     * @return The cards.
+     * @throws IllegalArgumentException if a string does not name a card.
+     */
+    private static List<Card> cardsByName(List<String> names) {
+        List<Card> cards = new ArrayList<>(names.size());
+        for (String name : names) {
+            Card card = CARDS_BY_NAME.get(name);
+            if (card == null) {
+                throw new IllegalArgumentException("Unknown card in history: " + name);
+            }
+            cards.add(card);
+        }
+        return cards;
+    }
+
+    /**
+     * Converts legacy cards to the canonical card instances.
+     * @param cards The legacy cards.
+     * @return The cards.
+     */
+    private static List<Card> toCards(List<LegacyCard> cards) {
+        List<Card> result = new ArrayList<>(cards.size());
+        for (LegacyCard card : cards) {
+            result.add(Card.of(card.suit, card.rank));
+        }
+        return result;
+    }
+
+    /**
+     * Object stream that substitutes the mirror classes for the original game classes.
+     */
+    private static final class MirrorInputStream extends ObjectInputStream {
+        /**
+         * @param data The serialized data.
+         * @throws IOException if the stream header is invalid.
+         */
+        private MirrorInputStream(byte[] data) throws IOException {
+            super(new ByteArrayInputStream(data));
+            setObjectInputFilter(FILTER);
+        }
+
+        /**
+         * Replaces descriptors of the original classes with those of their mirrors.
+         * @return The descriptor used to read the next object.
+         * @throws IOException if the descriptor cannot be read.
+         * @throws ClassNotFoundException if a class of the descriptor cannot be found.
+         */
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            ObjectStreamClass descriptor = super.readClassDescriptor();
+            Class<?> mirror = MIRRORS.get(descriptor.getName());
+            return mirror != null ? ObjectStreamClass.lookup(mirror) : descriptor;
+        }
+    }
+
+    // Mirrors of the original serialized classes; field names and types must match the original layout.
+    // The List fields hold serializable ArrayLists, so their declared interface type is not a problem.
+
+    @SuppressWarnings("serial")
+    private static class LegacyGame implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private LegacyDeck deck;
+        private LegacyPlayer player;
+        private LegacyDealer dealer;
+        private boolean isGameOver;
+        private boolean isPlayerTurn;
+        private int numberOfDecks;
+        private List<LegacyRoundResult> resultsHistory;
+    }
+
+    @SuppressWarnings("serial")
+    private static class LegacyDeck implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private List<LegacyCard> cards;
+        private int numberOfDecks;
+    }
+
+    @SuppressWarnings("serial")
+    private static class LegacyPlayer implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private String name;
+        private List<LegacyCard> hand;
+    }
+
+    private static class LegacyDealer extends LegacyPlayer {
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static class LegacyCard implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private Suit suit;
+        private Rank rank;
+    }
+
+    @SuppressWarnings("serial")
+    private static class LegacyRoundResult implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private String winner;
+        private int playerScore;
+        private int dealerScore;
+        private List<String> playerHand;
+        private List<String> dealerHand;
+    }
+}
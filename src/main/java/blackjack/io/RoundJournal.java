@@ -0,0 +1,407 @@
+package blackjack.io;
+
+import blackjack.logic.Outcome;
+import blackjack.logic.RoundRecorder;
+import blackjack.model.Card;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * An unbounded, append-only journal of finished rounds, stored as fixed-width binary records
+ * in a memory-mapped file.
+ * <p>
+ * The file is mapped in segments. Appending a round is a handful of stores into mapped memory,
+ * with no system call and no allocation. Once the writer is half way through the last segment,
+ * the next one is mapped on a background thread, so the game thread does not wait for the file
+ * to grow. Flushing to disk is left to the operating system, or to an explicit {@link #flush()}.
+ * <p>
+ * Record layout ({@value #RECORD_SIZE} bytes; the first record slot of the file holds the header):
+ * <pre>
+ * 0: written marker (0x80) | player blackjack (0x40) | outcome ordinal
+ * 1: player score   2: dealer score   3: player card count   4: dealer card count
+ * 5..31: card codes, player cards first
+ * </pre>
+ * Hands with more than {@value #MAX_STORED_CARDS} cards in total keep their true counts and scores,
+ * but only the first {@value #MAX_STORED_CARDS} cards are stored.
+ * <p>
+ * One thread appends; any number of threads may read concurrently.
+ */
+public class RoundJournal implements RoundRecorder, AutoCloseable {
+    /** The size of one round record in bytes. */
+    public static final int RECORD_SIZE = 32;
+
+    /** The number of card codes stored per record. */
+    public static final int MAX_STORED_CARDS = RECORD_SIZE - 5;
+
+    /** The default number of records per mapped segment (64 MiB). */
+    public static final int DEFAULT_RECORDS_PER_SEGMENT = 1 << 21;
+
+    private static final int MAX_RECORDS_PER_SEGMENT = 1 << 25;
+    private static final int MAGIC = 0x424A524A; // "BJRJ"
+    private static final byte FORMAT_VERSION = 2;
+    private static final int WRITTEN = 0x80;
+    private static final int PLAYER_BLACKJACK = 0x40;
+    private static final int OUTCOME_MASK = 0x3F;
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    // Maps segments ahead of the writer; virtual threads, so idle journals cost nothing
+    private static final ExecutorService MAPPER = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final FileChannel channel;
+    private final long segmentBytes;
+    private volatile MappedByteBuffer[] segments;
+    private volatile long roundCount;
+    private CompletableFuture<MappedByteBuffer> nextSegment;
+    private int flushedFrom;
+    private boolean closed;
+
+    /**
+     * Opens the journal at the given path with the default segment size, creating it if needed.
+     * @param file The journal file.
+     * @throws IOException if the file cannot be opened or is not a round journal.
+     */
+    public RoundJournal(Path file) throws IOException {
+        this(file, DEFAULT_RECORDS_PER_SEGMENT);
+    }
+
+    /**
+     * Opens the journal at the given path, creating it if needed.
+     * Existing rounds are kept and new rounds are appended after them.
+     * @param file The journal file.
+     * @param recordsPerSegment How many records each mapped segment holds (2 to 2^25).
+     * @throws IOException if the file cannot be opened or is not a round journal.
+     */
+    public RoundJournal(Path file, int recordsPerSegment) throws IOException {
+        if (recordsPerSegment < 2 || recordsPerSegment > MAX_RECORDS_PER_SEGMENT) {
+            throw new IllegalArgumentException("Invalid segment size: " + recordsPerSegment + " records.");
+        }
+        this.segmentBytes = (long) recordsPerSegment * RECORD_SIZE;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long size = channel.size();
+            int segmentCount = (int) Math.max(1, (size + segmentBytes - 1) / segmentBytes);
+            MappedByteBuffer[] mapped = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                mapped[i] = mapSegment(i);
+            }
+            this.segments = mapped;
+
+            if (size == 0) {
+                mapped[0].putInt(0, MAGIC).put(4, FORMAT_VERSION).put(5, (byte) RECORD_SIZE);
+            } else if (mapped[0].getInt(0) != MAGIC || mapped[0].get(4) != FORMAT_VERSION || mapped[0].get(5) != RECORD_SIZE) {
+                throw new IOException("Not a round journal: " + file);
+            }
+            this.roundCount = findRoundCount();
+            this.flushedFrom = segmentCount - 1;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends a finished round. Implements {@link RoundRecorder}, so the journal can be attached directly to a game.
+     * @param outcome The outcome of the round.
+     * @param playerScore The final score of the player.
+     * @param dealerScore The final score of the dealer.
+     * @param playerBlackjack Whether the player's hand was a natural blackjack.
+     * @param playerHand The player's cards.
+     * @param dealerHand The dealer's cards.
+     * @throws UncheckedIOException if the journal file cannot grow.
+     */
+    @Override
+    public void roundFinished(Outcome outcome, int playerScore, int dealerScore, boolean playerBlackjack,
+                              List<Card> playerHand, List<Card> dealerHand) {
+        append(outcome, playerScore, dealerScore, playerBlackjack, playerHand, dealerHand);
+    }
+
+    /**
+     * Appends a finished round to the end of the journal.
+     * @param outcome The outcome of the round.
+     * @param playerScore The final score of the player.
+     * @param dealerScore The final score of the dealer.
+     * @param playerBlackjack Whether the player's hand was a natural blackjack.
+     * @param playerHand The player's cards.
+     * @param dealerHand The dealer's cards.
+     * @return The round number of the new record (starting at 1).
+     * @throws IllegalStateException if the journal has been closed.
+     * @throws UncheckedIOException if the journal file cannot grow.
+     */
+    public long append(Outcome outcome, int playerScore, int dealerScore, boolean playerBlackjack,
+                       List<Card> playerHand, List<Card> dealerHand) {
+        if (closed) {
+            throw new IllegalStateException("The round journal is closed.");
+        }
+        long index = roundCount;
+        long offset = (index + 1) * RECORD_SIZE;
+        int segmentIndex = (int) (offset / segmentBytes);
+        MappedByteBuffer segment = writableSegment(segmentIndex);
+        int pos = (int) (offset % segmentBytes);
+        if (nextSegment == null && pos >= segmentBytes / 2) {
+            // Half way through the last segment: start mapping the next one
+            nextSegment = mapAhead(segmentIndex + 1);
+        }
+
+        segment.put(pos + 1, (byte) playerScore);
+        segment.put(pos + 2, (byte) dealerScore);
+        segment.put(pos + 3, (byte) playerHand.size());
+        segment.put(pos + 4, (byte) dealerHand.size());
+        int slot = pos + 5;
+        int end = pos + RECORD_SIZE;
+        for (int i = 0; i < playerHand.size() && slot < end; i++) {
+            segment.put(slot++, (byte) playerHand.get(i).getCode());
+        }
+        for (int i = 0; i < dealerHand.size() && slot < end; i++) {
+            segment.put(slot++, (byte) dealerHand.get(i).getCode());
+        }
+        // The marker goes last: a record without it is treated as never written
+        segment.put(pos, (byte) (WRITTEN | (playerBlackjack ? PLAYER_BLACKJACK : 0) | outcome.ordinal()));
+
+        roundCount = index + 1;
+        return index + 1;
+    }
+
+    /**
+     * Returns the number of rounds in the journal.
+     * @return The round count.
+     */
+    public long getRoundCount() {
+        return roundCount;
+    }
+
+    /**
+     * Reads a round by its number.
+     * Records never change once written, so the returned entry stays valid.
+     * @param round The round number (1 to {@link #getRoundCount()}).
+     * @return The entry for that round.
+     * @throws IndexOutOfBoundsException if the round does not exist.
+     */
+    public Entry read(long round) {
+        Objects.checkIndex(round - 1, roundCount);
+        Entry entry = new Entry();
+        entry.moveTo(segments, round);
+        return entry;
+    }
+
+    /**
+     * Visits every round from the given round number to the end of the journal, in order.
+     * A single entry is reused for the whole scan, so the visitor must not keep it;
+     * use {@link #read(long)} with {@link Entry#getRound()} to keep a round.
+     * @param fromRound The first round to visit (starting at 1).
+     * @param visitor Called once per round.
+     */
+    public void scan(long fromRound, Consumer<Entry> visitor) {
+        long end = roundCount;
+        MappedByteBuffer[] mapped = segments;
+        Entry entry = new Entry();
+        for (long round = Math.max(1, fromRound); round <= end; round++) {
+            entry.moveTo(mapped, round);
+            visitor.accept(entry);
+        }
+    }
+
+    /**
+     * Forces every round appended since the last flush to disk.
+     * Not needed for durability against a crash of the application, only of the whole machine.
+     */
+    public void flush() {
+        MappedByteBuffer[] mapped = segments;
+        for (int i = flushedFrom; i < mapped.length; i++) {
+            mapped[i].force();
+        }
+        flushedFrom = mapped.length - 1;
+    }
+
+    /**
+     * Flushes the journal and closes the file. Further appends fail.
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        flush();
+        if (nextSegment != null) {
+            // Let a mapping in progress finish before the channel goes away; its failure no longer matters
+            nextSegment.exceptionally(error -> null).join();
+        }
+        channel.close();
+    }
+
+    /**
+     * Returns the segment with the given index, switching to the segment mapped ahead when the writer reaches it.
+     * @param index The segment index.
+     * @return The mapped segment.
+     */
+    private MappedByteBuffer writableSegment(int index) {
+        MappedByteBuffer[] mapped = segments;
+        if (index < mapped.length) {
+            return mapped[index];
+        }
+        CompletableFuture<MappedByteBuffer> pending = nextSegment != null ? nextSegment : mapAhead(index);
+        nextSegment = null;
+        MappedByteBuffer segment;
+        try {
+            segment = pending.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof UncheckedIOException io ? io : e;
+        }
+        MappedByteBuffer[] grown = Arrays.copyOf(mapped, index + 1);
+        grown[index] = segment;
+        segments = grown;
+        return segment;
+    }
+
+    /**
+     * Starts mapping a segment on a background thread.
+     * @param index The segment index.
+     * @return The future mapping.
+     */
+    private CompletableFuture<MappedByteBuffer> mapAhead(int index) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return mapSegment(index);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not grow the round journal.", e);
+            }
+        }, MAPPER);
+    }
+
+    /**
+     * Maps one segment read-write, growing the file if needed.
+     * @param index The segment index.
+     * @return The mapped segment.
+     * @throws IOException if the mapping fails.
+     */
+    private MappedByteBuffer mapSegment(int index) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, index * segmentBytes, segmentBytes);
+    }
+
+    /**
+     * Finds the number of written records with a binary search for the first record without the written marker.
+     * Records are always written in order, so the marked records form a prefix.
+     * @return The number of rounds in the journal.
+     */
+    private long findRoundCount() {
+        long low = 0;
+        long high = segments.length * (segmentBytes / RECORD_SIZE) - 1;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            long offset = (mid + 1) * RECORD_SIZE;
+            if ((segments[(int) (offset / segmentBytes)].get((int) (offset % segmentBytes)) & WRITTEN) != 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A view of one round record, read directly from the mapped file.
+     */
+    public final class Entry {
+        private MappedByteBuffer segment;
+        private int pos;
+        private long round;
+
+        /**
+         * Creates an entry that is positioned by {@link #moveTo}.
+         */
+        private Entry() {
+        }
+
+        /**
+         * Positions the entry on a record.
+         * @param mapped The segments to read from.
+         * @param round The round number.
+         */
+        private void moveTo(MappedByteBuffer[] mapped, long round) {
+            long offset = round * RECORD_SIZE;
+            this.segment = mapped[(int) (offset / segmentBytes)];
+            this.pos = (int) (offset % segmentBytes);
+            this.round = round;
+        }
+
+        /**
+         * Returns the round number of this record.
+         * @return The round number (starting at 1).
+         */
+        public long getRound() { return round; }
+
+        /**
+         * Returns the outcome of the round.
+         * @return The outcome.
+         */
+        public Outcome getOutcome() { return OUTCOMES[segment.get(pos) & OUTCOME_MASK]; }
+
+        /**
+         * Returns the final score of the player.
+         * @return The player's score.
+         */
+        public int getPlayerScore() { return segment.get(pos + 1) & 0xFF; }
+
+        /**
+         * Returns the final score of the dealer.
+         * @return The dealer's score.
+         */
+        public int getDealerScore() { return segment.get(pos + 2) & 0xFF; }
+
+        /**
+         * Returns the number of cards in the player's hand.
+         * @return The player's card count.
+         */
+        public int getPlayerCardCount() { return segment.get(pos + 3) & 0xFF; }
+
+        /**
+         * Returns the number of cards in the dealer's hand.
+         * @return The dealer's card count.
+         */
+        public int getDealerCardCount() { return segment.get(pos + 4) & 0xFF; }
+
+        /**
+         * Returns one of the player's cards.
+         * @param i The card index.
+         * @return The card.
+         * @throws IndexOutOfBoundsException if the card is not stored in the record.
+         */
+        public Card getPlayerCard(int i) {
+            Objects.checkIndex(i, Math.min(getPlayerCardCount(), MAX_STORED_CARDS));
+            return Card.fromCode(segment.get(pos + 5 + i));
+        }
+
+        /**
+         * Returns one of the dealer's cards.
+         * @param i The card index.
+         * @return The card.
+         * @throws IndexOutOfBoundsException if the card is not stored in the record.
+         */
+        public Card getDealerCard(int i) {
+            int offset = getPlayerCardCount();
+            Objects.checkIndex(i, Math.max(0, Math.min(getDealerCardCount(), MAX_STORED_CARDS - offset)));
+            return Card.fromCode(segment.get(pos + 5 + offset + i));
+        }
+
+        /**
+         * Checks whether the player had a natural blackjack; a two-card 21 after a split is not one.
+         * @return True if the player had a blackjack.
+         */
+        public boolean isPlayerBlackjack() {
+            return (segment.get(pos) & PLAYER_BLACKJACK) != 0;
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package blackjack.io;
+
+import blackjack.logic.BlackjackGame;
+import blackjack.logic.Outcome;
+import blackjack.logic.RoundResult;
+import blackjack.logic.TableRules;
+import blackjack.model.Card;
+import blackjack.model.Deck;
+import blackjack.model.Hand;
+import blackjack.model.Player;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Encodes and decodes the compact, versioned binary save format.
+ * <pre>
+ * header:  magic "BJ21" (4) | format version (1) | payload length (4) | CRC32 of the payload (4)
+ * payload: player name | configured decks | configured penetration | round flags | table rules (version 4)
+ *          | shoe (decks, penetration, cursor, card codes) | player hands | dealer hand | history
+ * player hands (version 2): hand count | active hand | per hand: hand flags, cards
+ * history entry: outcome | player score | dealer score | player cards | dealer cards | net units (version 2)
+ * </pre>
+ * Cards are stored as one-byte card codes, outcomes as their ordinal, counters and lengths as unsigned varints.
+ * Since version 3 the outcome byte of a history entry also carries a player blackjack flag.
+ * The table rules are stored as their specification string, e.g. "S17 3:2 PEEK DAS NORSA LS 4HANDS 1D".
+ * Version 1 saves, written before split hands existed, hold a single player hand and are still read,
+ * as are version 2 and 3 saves; games from saves before version 4 are restored under the standard rules.
+ * Every count and length is checked against the data left before anything is allocated for it.
+ */
+final class SaveCodec {
+    /** The magic number at the start of every binary save ("BJ21"). */
+    static final int MAGIC = 0x424A3231;
+
+    /** The current format version. */
+    static final byte FORMAT_VERSION = 4;
+
+    /** The format version written before the table rules were saved. */
+    static final byte UNSAVED_RULES_VERSION = 3;
+
+    /** The format version written before history entries recorded whether the player had a natural blackjack. */
+    static final byte SPLIT_HANDS_VERSION = 2;
+
+    /** The format version written before split hands, doubles, surrender and insurance were saved. */
+    static final byte SINGLE_HAND_VERSION = 1;
+
+    /** Size of the fixed header in bytes. */
+    static final int HEADER_SIZE = 13;
+
+    private static final int FLAG_GAME_OVER = 1;
+    private static final int FLAG_PLAYER_TURN = 2;
+    private static final int FLAG_INSURANCE_OFFERED = 4;
+    private static final int FLAG_INSURANCE_TAKEN = 8;
+
+    private static final int HAND_FROM_SPLIT = 1;
+    private static final int HAND_DOUBLED = 2;
+    private static final int HAND_SURRENDERED = 4;
+    private static final int HAND_FINISHED = 8;
+
+    private static final int RESULT_PLAYER_BLACKJACK = 0x40;
+    private static final int RESULT_OUTCOME_MASK = 0x3F;
+
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private SaveCodec() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Encodes a game into a complete save file image (header and payload).
+     * @param game The game to encode.
+     * @return The encoded bytes.
+     */
+    static byte[] encode(BlackjackGame game) {
+        Writer out = new Writer();
+        out.position = HEADER_SIZE;
+
+        String playerName = game.getPlayer().getName();
+        out.string(playerName);
+        out.varint(game.getNumberOfDecks());
+        out.float64(game.getPenetration());
+        out.u8((game.isGameOver() ? FLAG_GAME_OVER : 0) | (game.isPlayerTurn() ? FLAG_PLAYER_TURN : 0)
+                | (game.isInsuranceOffered() ? FLAG_INSURANCE_OFFERED : 0) | (game.isInsuranceTaken() ? FLAG_INSURANCE_TAKEN : 0));
+        out.string(game.getRules().toString());
+
+        Deck deck = game.getDeck();
+        out.varint(deck.getNumberOfDecks());
+        out.float64(deck.getPenetration());
+        out.varint(deck.getCardsDealt());
+        out.bytes(deck.getShoeCodes());
+
+        Player player = game.getPlayer();
+        out.varint(player.getHandCount());
+        out.varint(player.getActiveHandIndex());
+        for (Hand hand : player.getHands()) {
+            out.u8((hand.isFromSplit() ? HAND_FROM_SPLIT : 0) | (hand.isDoubled() ? HAND_DOUBLED : 0)
+                    | (hand.isSurrendered() ? HAND_SURRENDERED : 0) | (hand.isFinished() ? HAND_FINISHED : 0));
+            writeHand(out, hand.getCards());
+        }
+        writeHand(out, game.getDealer().getHand());
+
+        List<RoundResult> history = game.getResultsHistory();
+        out.varint(history.size());
+        for (RoundResult result : history) {
+            out.u8((result.isPlayerBlackjack() ? RESULT_PLAYER_BLACKJACK : 0) | result.getOutcome().ordinal());
+            out.varint(result.getPlayerScore());
+            out.varint(result.getDealerScore());
+            out.varint(result.getPlayerCardCount());
+            for (int i = 0; i < result.getPlayerCardCount(); i++) {
+                out.u8(result.getPlayerCard(i).getCode());
+            }
+            out.varint(result.getDealerCardCount());
+            for (int i = 0; i < result.getDealerCardCount(); i++) {
+                out.u8(result.getDealerCard(i).getCode());
+            }
+            out.float64(result.getNetUnits());
+        }
+
+        // Header: magic, version, payload length and checksum
+        byte[] data = Arrays.copyOf(out.buffer, out.position);
+        int payloadLength = data.length - HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(data, HEADER_SIZE, payloadLength);
+        ByteBuffer.wrap(data, 0, HEADER_SIZE)
+                .putInt(MAGIC)
+                .put(FORMAT_VERSION)
+                .putInt(payloadLength)
+                .putInt((int) crc.getValue());
+        return data;
+    }
+
+    /**
+     * Decodes a save file image.
+     * @param data The complete file contents.
+     * @return The restored game.
+     * @throws IOException if the data is not a valid save of a supported version.
+     */
+    static BlackjackGame decode(byte[] data) throws IOException {
+        if (data.length < HEADER_SIZE) {
+            throw new IOException("Save file is truncated.");
+        }
+        ByteBuffer in = ByteBuffer.wrap(data);
+        if (in.getInt() != MAGIC) {
+            throw new IOException("Not a Blackjack save file.");
+        }
+        byte version = in.get();
+        if (version < SINGLE_HAND_VERSION || version > FORMAT_VERSION) {
+            throw new IOException("Unsupported save format version: " + version);
+        }
+        int payloadLength = in.getInt();
+        int checksum = in.getInt();
+        if (payloadLength != data.length - HEADER_SIZE) {
+            throw new IOException("Save file is truncated.");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data, HEADER_SIZE, payloadLength);
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Save file is corrupt (checksum mismatch).");
+        }
+
+        try {
+            String playerName = readString(in);
+            int numberOfDecks = readVarint(in);
+            double penetration = in.getDouble();
+            int flags = in.get();
+            TableRules rules = version > UNSAVED_RULES_VERSION
+                    ? TableRules.parse(readString(in))
+                    : TableRules.STANDARD.withNumberOfDecks(numberOfDecks);
+
+            int shoeDecks = readVarint(in);
+            if (shoeDecks < 1 || shoeDecks > Deck.MAX_DECKS) {
+                throw new IOException("Save file is corrupt (invalid shoe of " + shoeDecks + " decks).");
+            }
+            double shoePenetration = in.getDouble();
+            int cursor = readVarint(in);
+            byte[] shoe = new byte[shoeDecks * Card.DISTINCT_CARDS];
+            in.get(shoe);
+            Deck deck = Deck.restore(shoeDecks, shoePenetration, shoe, cursor, Deck.createRandom());
+
+            List<Hand> playerHands;
+            int activeHand = 0;
+            if (version == SINGLE_HAND_VERSION) {
+                playerHands = List.of(toHand(readHand(in), 0));
+            } else {
+                int handCount = readCount(in);
+                activeHand = readVarint(in);
+                playerHands = new ArrayList<>(handCount);
+                for (int i = 0; i < handCount; i++) {
+                    int handFlags = in.get();
+                    playerHands.add(toHand(readHand(in), handFlags));
+                }
+            }
+            List<Card> dealerHand = readHand(in);
+
+            int historySize = readCount(in);
+            List<RoundResult> history = new ArrayList<>(historySize);
+            for (int i = 0; i < historySize; i++) {
+                int outcomeByte = in.get();
+                Outcome outcome = OUTCOMES[outcomeByte & RESULT_OUTCOME_MASK];
+                int playerScore = readVarint(in);
+                int dealerScore = readVarint(in);
+                List<Card> playerCards = readHand(in);
+                List<Card> dealerCards = readHand(in);
+                boolean playerBlackjack;
+                if (version > SPLIT_HANDS_VERSION) {
+                    playerBlackjack = (outcomeByte & RESULT_PLAYER_BLACKJACK) != 0;
+                } else {
+                    // Older versions did not store the flag. Version 1 games had no splits, so every two-card 21
+                    // was a natural; in version 2 histories a two-card 21 after a split is taken for one as well
+                    playerBlackjack = playerScore == 21 && playerCards.size() == 2;
+                }
+                double netUnits;
+                if (version == SINGLE_HAND_VERSION) {
+                    // Version 1 games were always played under the standard rules, one unit per round
+                    netUnits = TableRules.STANDARD.netUnits(outcome, playerBlackjack);
+                } else {
+                    netUnits = in.getDouble();
+                }
+                history.add(new RoundResult(outcome, playerName, playerScore, dealerScore, playerCards, dealerCards,
+                        playerBlackjack, netUnits));
+            }
+
+            return BlackjackGame.restore(playerName, rules, penetration, deck, playerHands, activeHand, dealerHand,
+                    (flags & FLAG_GAME_OVER) != 0, (flags & FLAG_PLAYER_TURN) != 0,
+                    (flags & FLAG_INSURANCE_OFFERED) != 0, (flags & FLAG_INSURANCE_TAKEN) != 0, history);
+        } catch (RuntimeException e) {
+            // Underflows, invalid codes and rules, or inconsistent state rejected by the model
+            throw new IOException("Save file is corrupt.", e);
+        }
+    }
+
+    /**
+     * Writes a hand as a length followed by card codes.
+     * @param out The writer.
+     * @param hand The cards.
+     */
+    private static void writeHand(Writer out, List<Card> hand) {
+        out.varint(hand.size());
+        for (Card card : hand) {
+            out.u8(card.getCode());
+        }
+    }
+
+    /**
+     * Reads a hand written by {@link #writeHand}.
+     * @param in The buffer to read from.
+     * @return The cards.
+     * @throws IOException if the hand is longer than the data left.
+     */
+    private static List<Card> readHand(ByteBuffer in) throws IOException {
+        int size = readCount(in);
+        List<Card> hand = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            hand.add(Card.fromCode(in.get()));
+        }
+        return hand;
+    }
+
+    /**
+     * Builds a player hand from saved cards and hand flags.
+     * @param cards The cards.
+     * @param handFlags The saved hand flags.
+     * @return The hand.
+     */
+    private static Hand toHand(List<Card> cards, int handFlags) {
+        Hand hand = new Hand();
+        cards.forEach(hand::addCard);
+        if ((handFlags & HAND_FROM_SPLIT) != 0) {
+            hand.markFromSplit();
+        }
+        if ((handFlags & HAND_DOUBLED) != 0) {
+            hand.markDoubled();
+        }
+        if ((handFlags & HAND_SURRENDERED) != 0) {
+            hand.markSurrendered();
+        }
+        if ((handFlags & HAND_FINISHED) != 0) {
+            hand.markFinished();
+        }
+        return hand;
+    }
+
+    /**
+     * Reads an unsigned varint (7 bits per byte, least significant group first).
+     * @param in The buffer to read from.
+     * @return The value.
+     */
+    private static int readVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint.");
+    }
+
+    /**
+     * Reads a count or length of elements that each take at least one byte,
+     * so that a corrupt value cannot allocate more than the data could hold.
+     * @param in The buffer to read from.
+     * @return The count.
+     * @throws IOException if the count exceeds the data left.
+     */
+    private static int readCount(ByteBuffer in) throws IOException {
+        int count = readVarint(in);
+        if (count < 0 || count > in.remaining()) {
+            throw new IOException("Save file is corrupt (count " + Integer.toUnsignedString(count)
+                    + " exceeds the " + in.remaining() + " bytes left).");
+        }
+        return count;
+    }
+
+    /**
+     * Reads a UTF-8 string prefixed with its byte length.
+     * @param in The buffer to read from.
+     * @return The string.
+     * @throws IOException if the string is longer than the data left.
+     */
+    private static String readString(ByteBuffer in) throws IOException {
+        byte[] bytes = new byte[readCount(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A minimal growable byte buffer with varint support.
+     */
+    private static final class Writer {
+        private byte[] buffer = new byte[512];
+        private int position;
+
+        /**
+         * Makes room for more bytes.
+         * @param extra The number of bytes about to be written.
+         */
+        private void ensure(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+
+        /**
+         * Writes a single byte.
+         * @param value The byte value (low 8 bits).
+         */
+        private void u8(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        /**
+         * Writes an unsigned varint (7 bits per byte, least significant group first).
+         * @param value The value.
+         */
+        private void varint(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        /**
+         * Writes a big-endian double.
+         * @param value The value.
+         */
+        private void float64(double value) {
+            ensure(8);
+            ByteBuffer.wrap(buffer, position, 8).putDouble(value);
+            position += 8;
+        }
+
+        /**
+         * Writes raw bytes.
+         * @param bytes The bytes.
+         */
+        private void bytes(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        /**
+         * Writes a UTF-8 string prefixed with its byte length.
+         * @param value The string.
+         */
+        private void string(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length);
+            bytes(bytes);
+        }
+    }
+}
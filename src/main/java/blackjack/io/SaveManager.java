@@ -1,10 +1,23 @@
 package blackjack.io;
 
 import blackjack.logic.BlackjackGame;
-import java.io.*;
+import blackjack.metrics.LoadEvent;
+import blackjack.metrics.Metrics;
+import blackjack.metrics.SaveEvent;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
- * Responsible for saving and loading the game state using Java Serialization (ObjectOutputStream / ObjectInputStream)
+ * Responsible for saving and loading the game state in a compact, versioned binary format.
+ * A save is written to a temporary file, forced to disk and then atomically renamed over the old one,
+ * so a crash mid-save never leaves a half-written file behind.
+ * Saves made by older versions (Java serialization) can still be loaded.
  */
 public class SaveManager {
     private static final String SAVE_FILE = "saves/gamestate.dat";
@@ -18,30 +31,141 @@ public class SaveManager {
     }
 
     /**
-     * Saves the current BlackjackGame object to a predefined file path ("saves/gamestate.dat").
+     * Returns the default save file location ("saves/gamestate.dat").
+     * @return The save file path.
+     */
+    public static Path getSaveFile() {
+        return Path.of(SAVE_FILE);
+    }
+
+    /**
+     * Saves the current BlackjackGame object to the default save file ("saves/gamestate.dat").
      * Creates the 'saves' directory if it does not exist.
      * @param game The game object (the entire game state) to save.
-     * @throws IOException if an I/O error occurs during serialization.
+     * @throws IOException if an I/O error occurs while writing.
      */
     public static void saveGame(BlackjackGame game) throws IOException {
-        // Ensures the "saves" directory exists before attempting to save
-        File file = new File(SAVE_FILE);
-        file.getParentFile().mkdirs();
+        saveGame(game, getSaveFile());
+    }
 
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file))) {
-            oos.writeObject(game);
-        }
+    /**
+     * Saves the game to the given file, replacing it atomically.
+     * @param game The game object to save.
+     * @param file The destination file; its parent directories are created if needed.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    public static void saveGame(BlackjackGame game, Path file) throws IOException {
+        writeAtomically(file, SaveCodec.encode(game));
     }
 
     /**
-     * Loads a BlackjackGame object from the predefined file path.
+     * Loads a BlackjackGame object from the default save file.
      * @return The loaded game object.
-     * @throws IOException if an I/O error occurs (e.g., file not found).
-     * @throws ClassNotFoundException if the class definition of a serialized object is not found.
+     * @throws IOException if an I/O error occurs (e.g., file not found) or the file is corrupt.
+     * @throws ClassNotFoundException if a legacy save references a class that cannot be found.
      */
     public static BlackjackGame loadGame() throws IOException, ClassNotFoundException {
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(SAVE_FILE))) {
-            return (BlackjackGame) ois.readObject();
+        return loadGame(getSaveFile());
+    }
+
+    /**
+     * Loads a game from the given file, accepting both the binary format and legacy serialized saves.
+     * @param file The save file.
+     * @return The loaded game object.
+     * @throws IOException if an I/O error occurs or the file is corrupt.
+     * @throws ClassNotFoundException if a legacy save references a class that cannot be found.
+     */
+    public static BlackjackGame loadGame(Path file) throws IOException, ClassNotFoundException {
+        long start = Metrics.start();
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        int bytes = 0;
+        try {
+            byte[] data = readFully(file);
+            bytes = data.length;
+            BlackjackGame game = LegacySaveReader.isLegacy(data) ? LegacySaveReader.read(data) : SaveCodec.decode(data);
+            Metrics.loaded(start, bytes);
+            event.finish(file, bytes, true);
+            return game;
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            Metrics.persistenceFailed();
+            event.finish(file, bytes, false);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the data to a temporary file next to the target, forces it to disk and renames it over the target.
+     * Every save, auto-save and session snapshot goes through here, so this is where save metrics and events are taken.
+     * @param file The target file.
+     * @param data The bytes to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    static void writeAtomically(Path file, byte[] data) throws IOException {
+        long start = Metrics.start();
+        SaveEvent event = new SaveEvent();
+        event.begin();
+        try {
+            write(file, data);
+        } catch (IOException e) {
+            Metrics.persistenceFailed();
+            event.finish(file, data.length, false);
+            throw e;
+        }
+        Metrics.saved(start, data.length);
+        event.finish(file, data.length, true);
+    }
+
+    /**
+     * Performs the atomic write of {@link #writeAtomically(Path, byte[])}.
+     * @param file The target file.
+     * @param data The bytes to write.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void write(Path file, byte[] data) throws IOException {
+        Path target = file.toAbsolutePath();
+        Path directory = target.getParent();
+        Files.createDirectories(directory);
+
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads a whole file through a FileChannel.
+     * @param file The file to read.
+     * @return The file contents.
+     * @throws IOException if an I/O error occurs or the file is too large to be a save.
+     */
+    private static byte[] readFully(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Save file is too large: " + size + " bytes.");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full or the file ends
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Save file changed while it was being read.");
+            }
+            return buffer.array();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,458 @@
+package blackjack.io;
+
+import blackjack.logic.Action;
+import blackjack.logic.BlackjackGame;
+import blackjack.model.Deck;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.zip.CRC32C;
+
+/**
+ * A write-ahead log of one game session: a compact snapshot of the game, followed by the small events played since.
+ * <p>
+ * Every action is appended as a record of two to ten bytes into an in-memory batch; a background thread writes
+ * the batch and forces it to disk every {@value #DEFAULT_SYNC_MILLIS} ms (group commit), so the game thread never
+ * waits for the disk. Every {@value #DEFAULT_SNAPSHOT_ROUNDS} rounds, a snapshot of the game (its binary save image)
+ * is written and the log is started over, which caps the replay on recovery.
+ * <p>
+ * Replay is exact because shuffles are deterministic: each round start records the seed of the shuffling generator
+ * (see {@link BlackjackGame#reseedShuffle(long)}), and the snapshot records the seed in use when it was taken.
+ * <p>
+ * Log record layout (each record ends with a check byte, the low byte of a CRC32C of the record):
+ * <pre>
+ * 1 START: seed (8 bytes), number of decks (1 byte)   2..6 the Action (2 + ordinal)
+ * 7 INSURANCE   8 NO_INSURANCE   9 END: net units of the round (float, 4 bytes)
+ * </pre>
+ * The snapshot file holds a magic number, a generation, the shuffle seed and the save image; the log file header holds
+ * a magic number, the format version and the generation of the snapshot it continues. A log whose generation does not
+ * match the snapshot is stale and ignored, so a crash between writing a snapshot and starting the new log is harmless.
+ * A torn record at the end of the log (a crash mid-write) ends the replay.
+ * <p>
+ * The log is written from the thread that plays the game; {@link #recover(Path)} may be called from any thread.
+ */
+public class SessionLog implements AutoCloseable {
+    /** The name of the snapshot file in the log directory. */
+    public static final String SNAPSHOT_FILE = "session.snapshot";
+
+    /** The name of the log file in the log directory. */
+    public static final String LOG_FILE = "session.wal";
+
+    /** The default number of rounds between snapshots. */
+    public static final int DEFAULT_SNAPSHOT_ROUNDS = 100;
+
+    /** The default interval between forced writes of the log, in milliseconds. */
+    public static final int DEFAULT_SYNC_MILLIS = 50;
+
+    private static final int SNAPSHOT_MAGIC = 0x424A5353; // "BJSS"
+    private static final int LOG_MAGIC = 0x424A574C; // "BJWL"
+    private static final byte FORMAT_VERSION = 1;
+    private static final int SNAPSHOT_HEADER_SIZE = 4 + 8 + 8;
+    private static final int LOG_HEADER_SIZE = 4 + 1 + 8;
+
+    private static final byte START = 1;
+    private static final byte ACTION = 2;
+    private static final byte INSURANCE = 7;
+    private static final byte NO_INSURANCE = 8;
+    private static final byte END = 9;
+    private static final Action[] ACTIONS = Action.values();
+
+    private final Path snapshotFile;
+    private final Path logFile;
+    private final int snapshotRounds;
+    private final ScheduledExecutorService syncer;
+    private final RandomGenerator seeds = Deck.createRandom();
+
+    private BlackjackGame game;
+    private int roundsSinceSnapshot;
+    private final byte[] record = new byte[16];
+    private final CRC32C crc = new CRC32C();
+
+    // Guarded by this: the batch filled by the game thread, and a snapshot waiting to be written
+    private ByteBuffer batch = ByteBuffer.allocate(4096);
+    private byte[] pendingSnapshot;
+    // Starts at a random value, so a new session never continues the log of an older one
+    private long generation = seeds.nextLong();
+
+    // Used by the syncer thread only
+    private ByteBuffer spare = ByteBuffer.allocate(4096);
+    private FileChannel channel;
+    private volatile IOException failure;
+    private volatile boolean closed;
+
+    /**
+     * Creates a session log in the given directory with the default snapshot and sync intervals.
+     * Nothing is written until a game is attached with {@link #begin(BlackjackGame)}.
+     * @param directory The directory holding the snapshot and log files; created when needed.
+     */
+    public SessionLog(Path directory) {
+        this(directory, DEFAULT_SNAPSHOT_ROUNDS, DEFAULT_SYNC_MILLIS);
+    }
+
+    /**
+     * Creates a session log in the given directory.
+     * @param directory The directory holding the snapshot and log files; created when needed.
+     * @param snapshotRounds The number of rounds between snapshots (at least 1).
+     * @param syncMillis The interval between forced writes of the log, in milliseconds (at least 1).
+     */
+    public SessionLog(Path directory, int snapshotRounds, int syncMillis) {
+        if (snapshotRounds < 1 || syncMillis < 1) {
+            throw new IllegalArgumentException("Snapshot interval and sync interval must be positive.");
+        }
+        this.snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        this.logFile = directory.resolve(LOG_FILE);
+        this.snapshotRounds = snapshotRounds;
+        this.syncer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "session-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncer.scheduleWithFixedDelay(this::syncQuietly, syncMillis, syncMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Attaches a game to the log: takes a snapshot of it and starts a new log after it.
+     * Any previously attached game stops being logged.
+     * @param game The game to log; from now on its actions must go through this log.
+     */
+    public void begin(BlackjackGame game) {
+        this.game = game;
+        snapshot();
+    }
+
+    /**
+     * Returns the game being logged.
+     * @return The attached game, or null if none has been attached.
+     */
+    public BlackjackGame getGame() {
+        return game;
+    }
+
+    /**
+     * Starts a new round of the attached game and logs it with the seed for its shuffles.
+     * A snapshot is taken first when enough rounds have been logged since the last one.
+     */
+    public void startNewRound() {
+        if (++roundsSinceSnapshot >= snapshotRounds) {
+            snapshot();
+        }
+        long seed = seeds.nextLong();
+        game.reseedShuffle(seed);
+        game.startNewRound();
+        record[0] = START;
+        putLong(record, 1, seed);
+        record[9] = (byte) game.getNumberOfDecks();
+        append(10);
+        logRoundEnd(false);
+    }
+
+    /**
+     * Applies a decision to the active hand of the attached game and logs it.
+     * @param action The decision.
+     */
+    public void apply(Action action) {
+        boolean wasOver = game.isGameOver();
+        game.playerAction(action);
+        record[0] = (byte) (ACTION + action.ordinal());
+        append(1);
+        logRoundEnd(wasOver);
+    }
+
+    /**
+     * Takes or declines insurance in the attached game and logs the decision.
+     * @param take True to take insurance.
+     */
+    public void insurance(boolean take) {
+        boolean wasOver = game.isGameOver();
+        game.playerInsurance(take);
+        record[0] = take ? INSURANCE : NO_INSURANCE;
+        append(1);
+        logRoundEnd(wasOver);
+    }
+
+    /**
+     * Logs the end of the round, with its net units as a replay check, if the round has just ended.
+     * @param wasOver Whether the round was already over before the last event.
+     */
+    private void logRoundEnd(boolean wasOver) {
+        if (!wasOver && game.isGameOver()) {
+            record[0] = END;
+            putInt(record, 1, Float.floatToIntBits((float) game.getRoundNetUnits()));
+            append(5);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the attached game. The pending batch is dropped, as the snapshot already contains its events.
+     */
+    private void snapshot() {
+        long seed = seeds.nextLong();
+        game.reseedShuffle(seed);
+        byte[] image = SaveCodec.encode(game);
+        synchronized (this) {
+            generation++;
+            byte[] data = new byte[SNAPSHOT_HEADER_SIZE + image.length];
+            ByteBuffer.wrap(data).putInt(SNAPSHOT_MAGIC).putLong(generation).putLong(seed).put(image);
+            pendingSnapshot = data;
+            batch.clear();
+        }
+        roundsSinceSnapshot = 0;
+    }
+
+    /**
+     * Completes the record in the scratch buffer with its check byte and adds it to the batch.
+     * @param length The length of the record without the check byte.
+     */
+    private void append(int length) {
+        crc.reset();
+        crc.update(record, 0, length);
+        record[length] = (byte) crc.getValue();
+        synchronized (this) {
+            if (batch.remaining() < length + 1) {
+                batch = ByteBuffer.allocate(batch.capacity() * 2).put(batch.flip());
+            }
+            batch.put(record, 0, length + 1);
+        }
+    }
+
+    /**
+     * Returns a future that completes once everything logged so far is on disk.
+     * @return The future; it completes exceptionally if writing the log failed.
+     */
+    public CompletableFuture<Void> sync() {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                syncNow();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, syncer);
+    }
+
+    /**
+     * Runs a scheduled sync; a failure is kept and reported by the next {@link #sync()} or {@link #close()}.
+     */
+    private void syncQuietly() {
+        try {
+            syncNow();
+        } catch (IOException e) {
+            // Already recorded in the failure field
+        }
+    }
+
+    /**
+     * Writes the pending snapshot, if any, and the pending batch, then forces the log to disk. Runs on the syncer.
+     * @throws IOException if writing failed now or earlier.
+     */
+    private void syncNow() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        byte[] snapshot;
+        long snapshotGeneration;
+        ByteBuffer full;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+            snapshotGeneration = generation;
+            full = batch;
+            batch = spare;
+        }
+        try {
+            if (snapshot != null) {
+                SaveManager.writeAtomically(snapshotFile, snapshot);
+                startLog(snapshotGeneration);
+            }
+            full.flip();
+            if (full.hasRemaining() && channel != null) {
+                while (full.hasRemaining()) {
+                    channel.write(full);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            failure = e;
+            throw e;
+        } finally {
+            full.clear();
+            spare = full;
+        }
+    }
+
+    /**
+     * Replaces the log file with an empty log continuing the given snapshot generation.
+     * @param snapshotGeneration The generation of the snapshot just written.
+     * @throws IOException if the log cannot be written.
+     */
+    private void startLog(long snapshotGeneration) throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        }
+        channel.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_SIZE).putInt(LOG_MAGIC).put(FORMAT_VERSION).putLong(snapshotGeneration);
+        header.flip();
+        channel.write(header, 0);
+        channel.position(LOG_HEADER_SIZE);
+        channel.force(false);
+    }
+
+    /**
+     * Writes everything logged so far, forces it to disk and stops the background thread.
+     * @throws IOException if writing the log failed at any point.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            sync().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw e;
+        } finally {
+            syncer.shutdown();
+            if (channel != null) {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Restores the session logged in a directory: loads the snapshot and replays the log after it.
+     * @param directory The directory holding the snapshot and log files.
+     * @return The recovered game, or null if the directory holds no snapshot.
+     * @throws IOException if the files cannot be read, the snapshot is corrupt, or the log does not match it.
+     */
+    public static BlackjackGame recover(Path directory) throws IOException {
+        byte[] snapshot;
+        try {
+            snapshot = Files.readAllBytes(directory.resolve(SNAPSHOT_FILE));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        ByteBuffer in = ByteBuffer.wrap(snapshot);
+        if (snapshot.length < SNAPSHOT_HEADER_SIZE || in.getInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("Not a session snapshot.");
+        }
+        long generation = in.getLong();
+        long seed = in.getLong();
+        BlackjackGame game = SaveCodec.decode(Arrays.copyOfRange(snapshot, SNAPSHOT_HEADER_SIZE, snapshot.length));
+        game.reseedShuffle(seed);
+
+        byte[] log;
+        try {
+            log = Files.readAllBytes(directory.resolve(LOG_FILE));
+        } catch (NoSuchFileException e) {
+            return game;
+        }
+        ByteBuffer header = ByteBuffer.wrap(log);
+        if (log.length < LOG_HEADER_SIZE || header.getInt() != LOG_MAGIC || header.get() != FORMAT_VERSION
+                || header.getLong() != generation) {
+            return game; // Stale or unfinished log: the snapshot is the latest state
+        }
+        replay(game, log, LOG_HEADER_SIZE);
+        return game;
+    }
+
+    /**
+     * Applies the log records to a game, stopping at the end of the log or at a torn record.
+     * @param game The game restored from the snapshot.
+     * @param log The log file contents.
+     * @param position The offset of the first record.
+     * @throws IOException if a record does not match the game (a round ends with different net units).
+     */
+    private static void replay(BlackjackGame game, byte[] log, int position) throws IOException {
+        CRC32C crc = new CRC32C();
+        while (position < log.length) {
+            byte type = log[position];
+            int length = switch (type) {
+                case START -> 10;
+                case END -> 5;
+                default -> type >= ACTION && type <= NO_INSURANCE ? 1 : -1;
+            };
+            if (length < 0 || position + length >= log.length) {
+                return;
+            }
+            crc.reset();
+            crc.update(log, position, length);
+            if ((byte) crc.getValue() != log[position + length]) {
+                return;
+            }
+            if (type == START) {
+                game.setNumberOfDecks(log[position + 9]);
+                game.reseedShuffle(getLong(log, position + 1));
+                game.startNewRound();
+            } else if (type == INSURANCE || type == NO_INSURANCE) {
+                game.playerInsurance(type == INSURANCE);
+            } else if (type == END) {
+                float logged = Float.intBitsToFloat(getInt(log, position + 1));
+                if (!game.isGameOver() || (float) game.getRoundNetUnits() != logged) {
+                    throw new IOException("The session log does not match its snapshot.");
+                }
+            } else {
+                game.playerAction(ACTIONS[type - ACTION]);
+            }
+            position += length + 1;
+        }
+    }
+
+    /**
+     * Stores a big-endian long into a byte array.
+     * @param data The array.
+     * @param offset The offset of the first byte.
+     * @param value The value.
+     */
+    private static void putLong(byte[] data, int offset, long value) {
+        putInt(data, offset, (int) (value >>> 32));
+        putInt(data, offset + 4, (int) value);
+    }
+
+    /**
+     * Stores a big-endian int into a byte array.
+     * @param data The array.
+     * @param offset The offset of the first byte.
+     * @param value The value.
+     */
+    private static void putInt(byte[] data, int offset, int value) {
+        data[offset] = (byte) (value >>> 24);
+        data[offset + 1] = (byte) (value >>> 16);
+        data[offset + 2] = (byte) (value >>> 8);
+        data[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Reads a big-endian long from a byte array.
+     * @param data The array.
+     * @param offset The offset of the first byte.
+     * @return The value.
+     */
+    private static long getLong(byte[] data, int offset) {
+        return ((long) getInt(data, offset) << 32) | (getInt(data, offset + 4) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Reads a big-endian int from a byte array.
+     * @param data The array.
+     * @param offset The offset of the first byte.
+     * @return The value.
+     */
+    private static int getInt(byte[] data, int offset) {
+        return ((data[offset] & 0xFF) << 24) | ((data[offset + 1] & 0xFF) << 16)
+                | ((data[offset + 2] & 0xFF) << 8) | (data[offset + 3] & 0xFF);
+    }
+}
@@ -0,0 +1,20 @@
+package blackjack.logic;
+
+/**
+ * The decisions a player can make on a hand.
+ */
+public enum Action {
+    HIT,
+    STAND,
+    DOUBLE,
+    SPLIT,
+    SURRENDER;
+
+    /**
+     * Returns the bit of this action in an allowed-actions mask.
+     * @return The bit mask with only this action set.
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+}
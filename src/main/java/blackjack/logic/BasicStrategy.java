@@ -0,0 +1,227 @@
+package blackjack.logic;
+
+import blackjack.model.Card;
+import blackjack.model.Player;
+import java.util.List;
+
+/**
+ * Basic strategy compiled into dense lookup tables.
+ * The chart for a rule set is translated once into two primitive arrays: one indexed by
+ * (soft flag, player total, dealer upcard) and one indexed by (pair value, dealer upcard).
+ * Every cell packs the preferred action followed by its fallbacks (e.g. "double, otherwise hit")
+ * in 4-bit slots, so a decision is a single array load plus picking the first allowed action.
+ * The chart is the standard multi-deck chart; single-deck deviations are not modelled.
+ */
+public final class BasicStrategy {
+    private static final Action[] ACTIONS = Action.values();
+
+    /** Index stride of the upcard dimension (upcard values 2 to 11 are used directly). */
+    private static final int UPCARDS = 12;
+
+    /** Index stride of the total dimension (totals 0 to 21 are used directly). */
+    private static final int TOTALS = 22;
+
+    /** Hit and stand are always possible. */
+    private static final int ALWAYS_ALLOWED = Action.HIT.mask() | Action.STAND.mask();
+
+    // Dealer upcard:         2   3   4   5   6   7   8   9   T   A
+    private static final String[] HARD = {
+        /*  4 */ "H  H  H  H  H  H  H  H  H  H",
+        /*  5 */ "H  H  H  H  H  H  H  H  H  H",
+        /*  6 */ "H  H  H  H  H  H  H  H  H  H",
+        /*  7 */ "H  H  H  H  H  H  H  H  H  H",
+        /*  8 */ "H  H  H  H  H  H  H  H  H  H",
+        /*  9 */ "H  Dh Dh Dh Dh H  H  H  H  H",
+        /* 10 */ "Dh Dh Dh Dh Dh Dh Dh Dh H  H",
+        /* 11 */ "Dh Dh Dh Dh Dh Dh Dh Dh Dh H",
+        /* 12 */ "H  H  S  S  S  H  H  H  H  H",
+        /* 13 */ "S  S  S  S  S  H  H  H  H  H",
+        /* 14 */ "S  S  S  S  S  H  H  H  H  H",
+        /* 15 */ "S  S  S  S  S  H  H  H  Rh H",
+        /* 16 */ "S  S  S  S  S  H  H  Rh Rh Rh",
+        /* 17 */ "S  S  S  S  S  S  S  S  S  S",
+        /* 18 */ "S  S  S  S  S  S  S  S  S  S",
+        /* 19 */ "S  S  S  S  S  S  S  S  S  S",
+        /* 20 */ "S  S  S  S  S  S  S  S  S  S",
+        /* 21 */ "S  S  S  S  S  S  S  S  S  S",
+    };
+
+    private static final String[] SOFT = {
+        /* 12 */ "H  H  H  H  H  H  H  H  H  H",
+        /* 13 */ "H  H  H  Dh Dh H  H  H  H  H",
+        /* 14 */ "H  H  H  Dh Dh H  H  H  H  H",
+        /* 15 */ "H  H  Dh Dh Dh H  H  H  H  H",
+        /* 16 */ "H  H  Dh Dh Dh H  H  H  H  H",
+        /* 17 */ "H  Dh Dh Dh Dh H  H  H  H  H",
+        /* 18 */ "S  Ds Ds Ds Ds S  S  H  H  H",
+        /* 19 */ "S  S  S  S  S  S  S  S  S  S",
+        /* 20 */ "S  S  S  S  S  S  S  S  S  S",
+        /* 21 */ "S  S  S  S  S  S  S  S  S  S",
+    };
+
+    // "Ph" splits only if doubling after a split is allowed; "-" never splits and defers to the total.
+    private static final String[] PAIRS = {
+        /* 2,2 */ "Ph Ph P  P  P  P  -  -  -  -",
+        /* 3,3 */ "Ph Ph P  P  P  P  -  -  -  -",
+        /* 4,4 */ "-  -  -  Ph Ph -  -  -  -  -",
+        /* 5,5 */ "-  -  -  -  -  -  -  -  -  -",
+        /* 6,6 */ "Ph P  P  P  P  -  -  -  -  -",
+        /* 7,7 */ "P  P  P  P  P  P  -  -  -  -",
+        /* 8,8 */ "P  P  P  P  P  P  P  P  P  P",
+        /* 9,9 */ "P  P  P  P  P  -  P  P  -  -",
+        /* T,T */ "-  -  -  -  -  -  -  -  -  -",
+        /* A,A */ "P  P  P  P  P  P  P  P  P  P",
+    };
+
+    private final int[] totals = new int[2 * TOTALS * UPCARDS];
+    private final int[] pairs = new int[UPCARDS * UPCARDS];
+
+    /**
+     * Private constructor; use {@link #compile(boolean, boolean)}.
+     */
+    private BasicStrategy() {
+    }
+
+    /**
+     * Compiles the basic strategy chart for a rule set into lookup tables.
+     * @param dealerHitsSoft17 true if the dealer hits a soft 17 (H17), false if the dealer stands (S17).
+     * @param doubleAfterSplit true if doubling is allowed on split hands.
+     * @return The compiled strategy.
+     */
+    public static BasicStrategy compile(boolean dealerHitsSoft17, boolean doubleAfterSplit) {
+        BasicStrategy strategy = new BasicStrategy();
+        String[] hard = HARD.clone();
+        String[] soft = SOFT.clone();
+        String[] pairRows = PAIRS.clone();
+
+        if (dealerHitsSoft17) {
+            // H17 deviations from the S17 chart
+            hard[11 - 4] = "Dh Dh Dh Dh Dh Dh Dh Dh Dh Dh";
+            hard[15 - 4] = "S  S  S  S  S  H  H  H  Rh Rh";
+            hard[17 - 4] = "S  S  S  S  S  S  S  S  S  Rs";
+            soft[18 - 12] = "Ds Ds Ds Ds Ds S  S  H  H  H";
+            soft[19 - 12] = "S  S  S  S  Ds S  S  S  S  S";
+            pairRows[8 - 2] = "P  P  P  P  P  P  P  P  P  Rp";
+        }
+
+        for (int total = 4; total <= 21; total++) {
+            strategy.fillTotals(false, total, hard[total - 4]);
+        }
+        for (int total = 12; total <= 21; total++) {
+            strategy.fillTotals(true, total, soft[total - 12]);
+        }
+        for (int value = 2; value <= 11; value++) {
+            strategy.fillPairs(value, pairRows[value - 2], doubleAfterSplit);
+        }
+        return strategy;
+    }
+
+    /**
+     * Decides the action for a hand against the dealer's upcard.
+     * @param hand The player's hand.
+     * @param upcard The dealer's face-up card.
+     * @param allowed The mask of optional actions allowed right now (see {@link Action#mask()});
+     *                hit and stand are always allowed.
+     * @return The recommended action.
+     */
+    public Action decide(Player hand, Card upcard, int allowed) {
+        List<Card> cards = hand.getHand();
+        int pairValue = 0;
+        if (cards.size() == 2 && cards.get(0).getValue() == cards.get(1).getValue()) {
+            pairValue = cards.get(0).getValue();
+        }
+        return decide(hand.getScore(), hand.isSoft(), pairValue, upcard.getValue(), allowed);
+    }
+
+    /**
+     * Decides the action for a hand described by its totals.
+     * @param total The player's total (4 to 21; anything above 21 stands).
+     * @param soft true if an Ace in the hand is counted as 11.
+     * @param pairValue The card value of a two-card pair (2 to 11), or 0 if the hand is not a pair.
+     * @param upcard The value of the dealer's upcard (2 to 11).
+     * @param allowed The mask of optional actions allowed right now; hit and stand are always allowed.
+     * @return The recommended action.
+     */
+    public Action decide(int total, boolean soft, int pairValue, int upcard, int allowed) {
+        if (total > 21) {
+            return Action.STAND;
+        }
+        allowed |= ALWAYS_ALLOWED;
+        int packed = (pairValue != 0 && (allowed & Action.SPLIT.mask()) != 0)
+                ? pairs[pairValue * UPCARDS + upcard]
+                : totals[((soft ? TOTALS : 0) + total) * UPCARDS + upcard];
+
+        // Take the first allowed action of the packed preference list; the last one is always hit or stand.
+        while (true) {
+            Action action = ACTIONS[(packed & 0xF) - 1];
+            if ((allowed & action.mask()) != 0) {
+                return action;
+            }
+            packed >>>= 4;
+        }
+    }
+
+    /**
+     * Fills one row of the totals table.
+     * @param soft Whether the row is for soft totals.
+     * @param total The player total of the row.
+     * @param row The chart row with one token per dealer upcard.
+     */
+    private void fillTotals(boolean soft, int total, String row) {
+        String[] tokens = row.trim().split("\\s+");
+        for (int up = 2; up <= 11; up++) {
+            totals[((soft ? TOTALS : 0) + total) * UPCARDS + up] = pack(tokens[up - 2]);
+        }
+    }
+
+    /**
+     * Fills one row of the pairs table. Each split cell falls back to the cell of the pair's total.
+     * @param value The card value of the pair.
+     * @param row The chart row with one token per dealer upcard.
+     * @param doubleAfterSplit Whether "Ph" cells split.
+     */
+    private void fillPairs(int value, String row, boolean doubleAfterSplit) {
+        String[] tokens = row.trim().split("\\s+");
+        boolean soft = value == 11;
+        int total = soft ? 12 : value * 2;
+        for (int up = 2; up <= 11; up++) {
+            int fallback = totals[((soft ? TOTALS : 0) + total) * UPCARDS + up];
+            String token = tokens[up - 2];
+            int packed;
+            if (token.equals("P") || (token.equals("Ph") && doubleAfterSplit)) {
+                packed = code(Action.SPLIT) | fallback << 4;
+            } else if (token.equals("Rp")) {
+                packed = code(Action.SURRENDER) | code(Action.SPLIT) << 4 | fallback << 8;
+            } else {
+                packed = fallback;
+            }
+            pairs[value * UPCARDS + up] = packed;
+        }
+    }
+
+    /**
+     * Translates a chart token into a packed preference list.
+     * @param token The chart token (H, S, Dh, Ds, Rh, Rs).
+     * @return The packed actions, preferred action in the lowest 4 bits.
+     */
+    private static int pack(String token) {
+        return switch (token) {
+            case "H" -> code(Action.HIT);
+            case "S" -> code(Action.STAND);
+            case "Dh" -> code(Action.DOUBLE) | code(Action.HIT) << 4;
+            case "Ds" -> code(Action.DOUBLE) | code(Action.STAND) << 4;
+            case "Rh" -> code(Action.SURRENDER) | code(Action.HIT) << 4;
+            case "Rs" -> code(Action.SURRENDER) | code(Action.STAND) << 4;
+            default -> throw new IllegalArgumentException("Unknown strategy token: " + token);
+        };
+    }
+
+    /**
+     * Returns the 4-bit code of an action (0 marks an empty slot).
+     * @param action The action.
+     * @return The code.
+     */
+    private static int code(Action action) {
+        return action.ordinal() + 1;
+    }
+}
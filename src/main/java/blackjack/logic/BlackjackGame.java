@@ -1,28 +1,47 @@
 package blackjack.logic;
 
+import blackjack.metrics.DealerTurnEvent;
+import blackjack.metrics.Metrics;
+import blackjack.metrics.RoundStartEvent;
 import blackjack.model.Deck;
 import blackjack.model.Player;
 import blackjack.model.Dealer;
 import blackjack.model.Card;
-import java.io.Serializable;
+import blackjack.model.Hand;
+import blackjack.model.Rank;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
 
 /**
  * The main logic unit of the game, managing rounds, dealing, and determining the winner.
- * Implements Serializable to allow the entire game state to be saved and loaded.
+ * The dealer's drawing rule, the blackjack payout, the dealer peek and the allowed doubles, splits and surrender
+ * follow the game's compiled {@link TableRules}. Split hands are played one after another, in order.
+ * The game state is saved and loaded by {@code SaveManager}, which rebuilds games through {@link #restore}.
  */
-public class BlackjackGame implements Serializable {
+public final class BlackjackGame {
     private Deck deck;
     private Player player;
     private Dealer dealer;
     private boolean isGameOver;
     private boolean isPlayerTurn;
-    private int numberOfDecks; 
+    private boolean insuranceOffered;
+    private boolean insuranceTaken;
+    private TableRules rules;
+    private double penetration;
+    private boolean shoeSettingsChanged;
+    private RandomGenerator random;
+    private RoundRecorder roundRecorder;
+    // Copied on write; an empty array makes every event a single length check when nobody listens
+    private GameListener[] listeners = NO_LISTENERS;
+    private static final GameListener[] NO_LISTENERS = new GameListener[0];
     
     // Collection for storing statistics
     private final List<RoundResult> resultsHistory;
     private static final int HISTORY_SIZE = 10;
+    private final RoundStatistics statistics = new RoundStatistics();
 
     /**
      * Constructs a new Blackjack game with a default of 1 deck.
@@ -35,11 +54,72 @@ public class BlackjackGame implements Serializable {
     /**
      * Constructs a new Blackjack game, initializes players and starts the first round.
      * @param playerName The name of the human player.
-     * @param numberOfDecks The number of decks to use (1 or 2).
+     * @param numberOfDecks The number of decks to use (1 to 8).
      */
     public BlackjackGame(String playerName, int numberOfDecks) {
-        this.numberOfDecks = numberOfDecks; 
-        this.deck = new Deck(numberOfDecks);
+        this(playerName, numberOfDecks, Deck.createRandom());
+    }
+
+    /**
+     * Constructs a new Blackjack game that shuffles every deck with the given random generator.
+     * Used by the headless simulator, where each worker owns its own game and generator,
+     * and by anyone who needs a reproducible game from a seeded generator.
+     * @param playerName The name of the human player.
+     * @param numberOfDecks The number of decks to use (1 to 8).
+     * @param random The random generator used for shuffling.
+     */
+    public BlackjackGame(String playerName, int numberOfDecks, RandomGenerator random) {
+        this(playerName, numberOfDecks, Deck.DEFAULT_PENETRATION, random);
+    }
+
+    /**
+     * Constructs a new Blackjack game with a shoe that is reshuffled only when the cut card comes out.
+     * @param playerName The name of the human player.
+     * @param numberOfDecks The number of decks in the shoe (1 to 8).
+     * @param penetration The fraction of the shoe dealt before reshuffling.
+     * @param random The random generator used for shuffling.
+     */
+    public BlackjackGame(String playerName, int numberOfDecks, double penetration, RandomGenerator random) {
+        this(playerName, standardRules(numberOfDecks), penetration, random);
+    }
+
+    /**
+     * Constructs a new Blackjack game played under the given table rules.
+     * @param playerName The name of the human player.
+     * @param rules The compiled table rules, including the number of decks.
+     * @param random The random generator used for shuffling.
+     */
+    public BlackjackGame(String playerName, TableRules rules, RandomGenerator random) {
+        this(playerName, rules, Deck.DEFAULT_PENETRATION, random);
+    }
+
+    /**
+     * Constructs a new Blackjack game played under the given table rules, with a cut card at the given penetration.
+     * @param playerName The name of the human player.
+     * @param rules The compiled table rules, including the number of decks.
+     * @param penetration The fraction of the shoe dealt before reshuffling.
+     * @param random The random generator used for shuffling.
+     */
+    public BlackjackGame(String playerName, TableRules rules, double penetration, RandomGenerator random) {
+        this(playerName, rules, penetration, random, null);
+    }
+
+    /**
+     * Constructs a new Blackjack game whose every round, including one that ends on the first deal,
+     * is passed to the given recorder.
+     * @param playerName The name of the human player.
+     * @param rules The compiled table rules, including the number of decks.
+     * @param penetration The fraction of the shoe dealt before reshuffling.
+     * @param random The random generator used for shuffling.
+     * @param roundRecorder The recorder, or null for none; see {@link #setRoundRecorder}.
+     */
+    public BlackjackGame(String playerName, TableRules rules, double penetration, RandomGenerator random,
+                         RoundRecorder roundRecorder) {
+        this.roundRecorder = roundRecorder;
+        this.rules = rules;
+        this.penetration = penetration;
+        this.random = random;
+        this.deck = new Deck(rules.getNumberOfDecks(), penetration, random);
         this.player = new Player(playerName);
         this.dealer = new Dealer();
         this.isGameOver = true;
@@ -48,81 +128,523 @@ public class BlackjackGame implements Serializable {
     }
 
     /**
-     * Resets the game state: creates a new deck (with the stored deck count), clears hands, and deals initial cards.
+     * Constructs a game from saved state without dealing a round.
+     * @param playerName The name of the human player.
+     * @param rules The table rules, including the configured number of decks.
+     * @param penetration The configured penetration.
+     * @param deck The restored shoe.
+     */
+    private BlackjackGame(String playerName, TableRules rules, double penetration, Deck deck) {
+        this.rules = rules;
+        this.penetration = penetration;
+        this.random = Deck.createRandom();
+        this.deck = deck;
+        this.player = new Player(playerName);
+        this.dealer = new Dealer();
+        this.resultsHistory = new ArrayList<>();
+        this.shoeSettingsChanged = deck.getNumberOfDecks() != rules.getNumberOfDecks() || deck.getPenetration() != penetration;
+    }
+
+    /**
+     * Returns the standard rules with the given number of decks.
+     * @param numberOfDecks The number of decks; invalid counts default to 1, as in {@link Deck}.
+     * @return The compiled rules.
+     */
+    private static TableRules standardRules(int numberOfDecks) {
+        boolean valid = numberOfDecks >= 1 && numberOfDecks <= Deck.MAX_DECKS;
+        return TableRules.STANDARD.withNumberOfDecks(valid ? numberOfDecks : 1);
+    }
+
+    /**
+     * Rebuilds a game with a single player hand, played under the standard rules, from saved state.
+     * The restored game continues with a fresh, unseeded random generator.
+     * @param playerName The name of the human player.
+     * @param numberOfDecks The configured number of decks (applied to the shoe at the next round if it differs).
+     * @param penetration The configured penetration.
+     * @param deck The restored shoe.
+     * @param playerHand The cards in the player's hand.
+     * @param dealerHand The cards in the dealer's hand.
+     * @param isGameOver Whether the current round has ended.
+     * @param isPlayerTurn Whether it is the player's turn.
+     * @param history The round results, most recent first.
+     * @return The restored game.
+     */
+    public static BlackjackGame restore(String playerName, int numberOfDecks, double penetration, Deck deck,
+                                        List<Card> playerHand, List<Card> dealerHand,
+                                        boolean isGameOver, boolean isPlayerTurn, List<RoundResult> history) {
+        Hand hand = new Hand();
+        playerHand.forEach(hand::addCard);
+        return restore(playerName, numberOfDecks, penetration, deck, List.of(hand), 0, dealerHand,
+                isGameOver, isPlayerTurn, false, false, history);
+    }
+
+    /**
+     * Rebuilds a game played under the standard rules from saved state.
+     * The restored game continues with a fresh, unseeded random generator.
+     * @param playerName The name of the human player.
+     * @param numberOfDecks The configured number of decks (applied to the shoe at the next round if it differs).
+     * @param penetration The configured penetration.
+     * @param deck The restored shoe.
+     * @param playerHands The player's hands in playing order, with their betting state; the game takes ownership of them.
+     * @param activeHand The index of the hand being played.
+     * @param dealerHand The cards in the dealer's hand.
+     * @param isGameOver Whether the current round has ended.
+     * @param isPlayerTurn Whether it is the player's turn.
+     * @param insuranceOffered Whether the insurance decision is still pending.
+     * @param insuranceTaken Whether the player took insurance.
+     * @param history The hand results, most recent first.
+     * @return The restored game.
+     */
+    public static BlackjackGame restore(String playerName, int numberOfDecks, double penetration, Deck deck,
+                                        List<Hand> playerHands, int activeHand, List<Card> dealerHand,
+                                        boolean isGameOver, boolean isPlayerTurn,
+                                        boolean insuranceOffered, boolean insuranceTaken, List<RoundResult> history) {
+        return restore(playerName, standardRules(numberOfDecks), penetration, deck, playerHands, activeHand, dealerHand,
+                isGameOver, isPlayerTurn, insuranceOffered, insuranceTaken, history);
+    }
+
+    /**
+     * Rebuilds a game from saved state. Used by {@code SaveManager} when loading a game.
+     * The restored game continues with a fresh, unseeded random generator.
+     * @param playerName The name of the human player.
+     * @param rules The table rules, including the configured number of decks (applied to the shoe at the next round if it differs).
+     * @param penetration The configured penetration.
+     * @param deck The restored shoe.
+     * @param playerHands The player's hands in playing order, with their betting state; the game takes ownership of them.
+     * @param activeHand The index of the hand being played.
+     * @param dealerHand The cards in the dealer's hand.
+     * @param isGameOver Whether the current round has ended.
+     * @param isPlayerTurn Whether it is the player's turn.
+     * @param insuranceOffered Whether the insurance decision is still pending.
+     * @param insuranceTaken Whether the player took insurance.
+     * @param history The hand results, most recent first.
+     * @return The restored game.
+     */
+    public static BlackjackGame restore(String playerName, TableRules rules, double penetration, Deck deck,
+                                        List<Hand> playerHands, int activeHand, List<Card> dealerHand,
+                                        boolean isGameOver, boolean isPlayerTurn,
+                                        boolean insuranceOffered, boolean insuranceTaken, List<RoundResult> history) {
+        BlackjackGame game = new BlackjackGame(playerName, rules, penetration, deck);
+        game.player.restoreHands(playerHands, activeHand);
+        dealerHand.forEach(game.dealer::addCard);
+        game.isGameOver = isGameOver;
+        game.isPlayerTurn = isPlayerTurn;
+        game.insuranceOffered = insuranceOffered;
+        game.insuranceTaken = insuranceTaken;
+        game.resultsHistory.addAll(history.subList(0, Math.min(history.size(), HISTORY_SIZE)));
+        // The statistics are not saved; rebuild them from the restored history, oldest round first
+        for (int i = game.resultsHistory.size() - 1; i >= 0; i--) {
+            RoundResult result = game.resultsHistory.get(i);
+            game.statistics.record(result.getOutcome(), result.getPlayerScore(), result.getDealerScore(),
+                    result.isPlayerBlackjack(), result.isDealerBlackjack(), result.getNetUnits());
+        }
+        return game;
+    }
+
+    /**
+     * Replaces the shuffling generator with a seeded one. Every later shuffle (at the cut card, on a settings change,
+     * or when the shoe runs out mid-round) then follows from the seed, so the game can be replayed exactly.
+     * @param seed The seed.
+     */
+    public void reseedShuffle(long seed) {
+        random = Deck.createRandom(seed);
+        deck.setRandom(random);
+    }
+
+    /**
+     * Resets the round state: clears hands and deals initial cards from the persistent shoe.
+     * The shoe is reshuffled only when the cut card has come out, and rebuilt if the deck settings changed.
+     * With an Ace showing, insurance is offered first (unless the player has a Blackjack).
+     * If the rules let the dealer peek and the dealer has a Blackjack under a ten or an Ace, the round then ends at once.
      * Automatically triggers playerStand if the player has an immediate Blackjack (score 21).
      */
     public void startNewRound() {
+        RoundStartEvent event = new RoundStartEvent();
+        event.begin();
+        boolean reshuffled = isReshuffleDue();
         isGameOver = false;
         isPlayerTurn = true;
+        insuranceOffered = false;
+        insuranceTaken = false;
         
-        // Always creates a new deck (or 2 decks) based on the number of decks.
-        deck = new Deck(this.numberOfDecks); 
+        // The shoe lasts across rounds; only a settings change or the cut card triggers a new shuffle.
+        if (shoeSettingsChanged) {
+            deck = new Deck(rules.getNumberOfDecks(), penetration, random);
+            shoeSettingsChanged = false;
+            fireShoeReshuffled();
+        } else if (deck.isCutCardReached()) {
+            deck.reshuffle();
+            fireShoeReshuffled();
+        }
         player.clearHand();
         dealer.clearHand();
+        Metrics.dealt();
+        for (GameListener listener : listeners) {
+            listener.roundStarted();
+        }
 
         // Initial dealing: Player, Dealer, Player, Dealer
-        player.addCard(deck.dealCard());
-        dealer.addCard(deck.dealCard());
-        player.addCard(deck.dealCard());
-        dealer.addCard(deck.dealCard());
+        dealToPlayer(player.getActiveHand());
+        dealToDealer();
+        dealToPlayer(player.getActiveHand());
+        dealToDealer();
+
+        if (getDealerUpcard().getRank() == Rank.ACE && !player.isBlackjack()) {
+            insuranceOffered = true; // The deal completes once the player decides
+            fireTurnChanged(Seat.PLAYER, 0);
+        } else {
+            completeDeal();
+        }
+        event.finish(deck.getNumberOfDecks(), deck.getCardsDealt(), reshuffled);
+    }
+
+    /**
+     * Finishes the deal after the insurance decision: the dealer peeks, and a player Blackjack stands at once.
+     */
+    private void completeDeal() {
+        // The dealer checks the hole card first; nobody plays against a dealer Blackjack
+        if (dealer.isBlackjack() && rules.peeksWith(getDealerUpcard().getValue())) {
+            isPlayerTurn = false;
+            isGameOver = true;
+            recordResult();
+            return;
+        }
 
         // Check for immediate Blackjack
-        if (player.getScore() == 21) {
+        if (player.isBlackjack()) {
             playerStand(); // Player stands automatically on Blackjack
+        } else if (!insuranceOffered) {
+            fireTurnChanged(Seat.PLAYER, 0);
+        }
+    }
+
+    /**
+     * Takes or declines insurance while it is offered: a side bet of half the initial bet that pays 2:1
+     * if the dealer has a Blackjack. Any other action while insurance is offered declines it.
+     * @param take true to take insurance, false to decline it.
+     */
+    public void playerInsurance(boolean take) {
+        if (insuranceOffered) {
+            insuranceOffered = false;
+            insuranceTaken = take;
+            completeDeal();
         }
     }
 
     /**
-     * Executes the player's "Hit" action: deals one card to the player.
-     * If the player's score exceeds 21 (Bust), the game ends.
+     * Returns the optional actions allowed on the active hand right now.
+     * @return A mask of {@link Action#mask()} bits; 0 if the player cannot act.
+     */
+    public int getAllowedActions() {
+        if (isGameOver || !isPlayerTurn) {
+            return 0;
+        }
+        Hand hand = player.getActiveHand();
+        if (isSplitAces(hand)) {
+            // Split Aces take one card each; with resplitting allowed a new pair of Aces may still be split
+            return Action.STAND.mask() | (canSplit(hand) ? Action.SPLIT.mask() : 0);
+        }
+        int allowed = Action.HIT.mask() | Action.STAND.mask();
+        if (hand.size() == 2 && (!hand.isFromSplit() || rules.doubleAfterSplit())) {
+            allowed |= Action.DOUBLE.mask();
+        }
+        if (canSplit(hand)) {
+            allowed |= Action.SPLIT.mask();
+        }
+        if (rules.lateSurrender() && player.getHandCount() == 1 && hand.size() == 2) {
+            allowed |= Action.SURRENDER.mask();
+        }
+        return allowed;
+    }
+
+    /**
+     * Checks whether an action is allowed on the active hand right now, declining a pending insurance offer first.
+     * @param action The action.
+     * @return true if the action may be applied.
+     */
+    private boolean mayAct(Action action) {
+        playerInsurance(false);
+        return (getAllowedActions() & action.mask()) != 0;
+    }
+
+    /**
+     * Checks whether the hand can be split under the rules.
+     * @param hand The hand.
+     * @return true if the hand is a pair and the seat has room for another hand.
+     */
+    private boolean canSplit(Hand hand) {
+        if (!hand.isPair() || player.getHandCount() >= rules.getMaxHands()) {
+            return false;
+        }
+        return !isSplitAces(hand) || rules.resplitAces();
+    }
+
+    /**
+     * Checks whether the hand started from a split Ace.
+     * @param hand The hand.
+     * @return true for a split hand whose first card is an Ace.
+     */
+    private static boolean isSplitAces(Hand hand) {
+        return hand.isFromSplit() && hand.getCards().get(0).getRank() == Rank.ACE;
+    }
+
+    /**
+     * Executes the player's "Hit" action: deals one card to the active hand.
+     * If the hand's score exceeds 21 (Bust), play moves on to the next hand, or the round ends.
      */
     public void playerHit() {
-        if (!isGameOver && isPlayerTurn) {
-            player.addCard(deck.dealCard());
-            if (player.getScore() > 21) {
-                isGameOver = true; // Bust
-                isPlayerTurn = false;
-                // Game over, save the result
-                recordResult();
+        if (mayAct(Action.HIT)) {
+            dealToPlayer(player.getActiveHand());
+            if (player.isBust()) {
+                // Bust
+                player.getActiveHand().markFinished();
+                nextHand();
             }
         }
     }
 
     /**
-     * Executes the player's "Stand" action, ending the player's turn.
-     * Triggers the Dealer's turn, where the Dealer hits until their score is 17 or more.
+     * Executes the player's "Stand" action on the active hand.
+     * After the last hand, triggers the Dealer's turn, where the Dealer draws by the table rules.
      */
     public void playerStand() {
-        if (!isGameOver && isPlayerTurn) {
-            isPlayerTurn = false;
-            
-            // Dealer's turn logic (only runs if player hasn't busted)
-            if (player.getScore() <= 21) {
-                while (dealer.shouldHit()) {
-                    dealer.addCard(deck.dealCard());
-                }
+        if (mayAct(Action.STAND)) {
+            player.getActiveHand().markFinished();
+            nextHand();
+        }
+    }
+
+    /**
+     * Executes the player's "Double" action: doubles the bet on the active hand, which receives exactly one more card.
+     */
+    public void playerDouble() {
+        if (mayAct(Action.DOUBLE)) {
+            Hand hand = player.getActiveHand();
+            hand.markDoubled();
+            dealToPlayer(hand);
+            hand.markFinished();
+            nextHand();
+        }
+    }
+
+    /**
+     * Executes the player's "Split" action: the active pair becomes two hands with one bet each.
+     * The first hand receives its second card at once, the other one when it is played.
+     * Split Aces receive one card each and cannot be played further.
+     */
+    public void playerSplit() {
+        if (mayAct(Action.SPLIT)) {
+            player.split();
+            for (GameListener listener : listeners) {
+                listener.handSplit(player.getActiveHandIndex(), player.getHandCount() - 1);
             }
-            isGameOver = true;
-            
-            // Game over, save the result
-            recordResult();
+            dealSecondCard(player.getActiveHand());
+            if (player.getActiveHand().isFinished()) {
+                nextHand();
+            }
+        }
+    }
+
+    /**
+     * Executes the player's late "Surrender" action: gives up the first two cards for half the bet and ends the round.
+     */
+    public void playerSurrender() {
+        if (mayAct(Action.SURRENDER)) {
+            player.getActiveHand().markSurrendered();
+            nextHand();
         }
     }
+
+    /**
+     * Deals the second card to a hand created by a split. A split Ace is finished afterwards,
+     * unless it can be split again.
+     * @param hand The hand, holding one card.
+     */
+    private void dealSecondCard(Hand hand) {
+        dealToPlayer(hand);
+        if (isSplitAces(hand) && !canSplit(hand)) {
+            hand.markFinished();
+        }
+    }
+
+    /**
+     * Moves play to the next unfinished hand, or ends the player's turn after the last one.
+     */
+    private void nextHand() {
+        while (player.nextHand()) {
+            Hand hand = player.getActiveHand();
+            if (hand.size() == 1) {
+                dealSecondCard(hand);
+            }
+            if (!hand.isFinished()) {
+                fireTurnChanged(Seat.PLAYER, player.getActiveHandIndex());
+                return;
+            }
+        }
+        finishPlayerTurn();
+    }
+
+    /**
+     * Ends the player's turn: the dealer plays if any hand is still in play, and the round is recorded.
+     * The first hand becomes the active one again, so single-hand callers see the main hand.
+     */
+    private void finishPlayerTurn() {
+        long start = Metrics.start();
+        DealerTurnEvent event = new DealerTurnEvent();
+        event.begin();
+        isPlayerTurn = false;
+        player.activateHand(0);
+        fireTurnChanged(Seat.DEALER, 0);
+
+        // Dealer's turn logic (only runs if some hand has neither busted nor surrendered)
+        // Indexed loops keep the per-round path free of iterator allocations
+        List<Hand> hands = player.getHands();
+        boolean handInPlay = false;
+        for (int i = 0; i < hands.size(); i++) {
+            handInPlay |= !hands.get(i).isBust() && !hands.get(i).isSurrendered();
+        }
+        if (handInPlay) {
+            while (rules.dealerDraws(dealer.getScore(), dealer.isSoft())) {
+                dealToDealer();
+            }
+        }
+        isGameOver = true;
+
+        // Game over, save the result
+        recordResult();
+        Metrics.roundResolved(start);
+        event.finish(deck.getNumberOfDecks(), deck.getCardsDealt(), dealer.getHand().size(), dealer.getScore(), hands.size());
+    }
     
+    /**
+     * Deals the next card from the shoe.
+     * With a deep penetration a round can run past the last card; the discards are then reshuffled on the spot,
+     * leaving out the cards still on the table.
+     * @return The dealt card.
+     */
+    private Card drawCard() {
+        if (deck.getCardCount() == 0) {
+            deck.reshuffleDiscards(cardsInPlay());
+            fireShoeReshuffled();
+        }
+        Metrics.cardDealt();
+        return deck.dealCard();
+    }
+
+    /**
+     * Collects the cards on the table: every player hand and the dealer's hand.
+     * Only needed for a reshuffle in the middle of a round, so the allocation stays off the usual path.
+     * @return The cards in play.
+     */
+    private List<Card> cardsInPlay() {
+        List<Card> cards = new ArrayList<>(dealer.getHand());
+        List<Hand> hands = player.getHands();
+        for (int i = 0; i < hands.size(); i++) {
+            cards.addAll(hands.get(i).getCards());
+        }
+        return cards;
+    }
+
+    /**
+     * Deals the next card to one of the player's hands and reports it.
+     * @param hand The receiving hand, which is the active one.
+     */
+    private void dealToPlayer(Hand hand) {
+        Card card = drawCard();
+        hand.addCard(card);
+        for (GameListener listener : listeners) {
+            listener.cardDealt(Seat.PLAYER, player.getActiveHandIndex(), card);
+        }
+    }
+
+    /**
+     * Deals the next card to the dealer and reports it.
+     */
+    private void dealToDealer() {
+        Card card = drawCard();
+        dealer.addCard(card);
+        for (GameListener listener : listeners) {
+            listener.cardDealt(Seat.DEALER, 0, card);
+        }
+    }
+
+    /**
+     * Reports a change of turn to the listeners.
+     * @param seat The seat whose turn it is.
+     * @param hand The index of the hand to play.
+     */
+    private void fireTurnChanged(Seat seat, int hand) {
+        for (GameListener listener : listeners) {
+            listener.turnChanged(seat, hand);
+        }
+    }
+
+    /**
+     * Reports a reshuffled or rebuilt shoe to the listeners and the metrics.
+     */
+    private void fireShoeReshuffled() {
+        Metrics.shuffled();
+        for (GameListener listener : listeners) {
+            listener.shoeReshuffled(deck.getTotalCards());
+        }
+    }
+
+    /**
+     * Applies one of the player's decisions to the active hand.
+     * @param action The decision; actions the rules do not allow are ignored, as by the individual methods.
+     */
+    public void playerAction(Action action) {
+        switch (action) {
+            case HIT -> playerHit();
+            case DOUBLE -> playerDouble();
+            case SPLIT -> playerSplit();
+            case SURRENDER -> playerSurrender();
+            default -> playerStand();
+        }
+    }
+
     /**
      * Determines the final result of the game based on scores.
      * This method should only be called when {@code isGameOver()} returns true.
+     * With split hands, the result of every hand is listed in playing order.
      * @return A string describing the result (e.g., "You won!", "Tie!", "You lost! (You went over: 24)").
      */
     public String getGameResult() {
         if (!isGameOver)
             return "Game in progress";
-        
-        int pScore = player.getScore();
+
+        List<Hand> hands = player.getHands();
+        if (hands.size() == 1) {
+            return describeResult(hands.get(0));
+        }
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < hands.size(); i++) {
+            if (i > 0) {
+                result.append(" | ");
+            }
+            result.append("Hand ").append(i + 1).append(": ").append(describeResult(hands.get(i)));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Describes the result of one hand.
+     * @param hand The finished hand.
+     * @return The result message.
+     */
+    private String describeResult(Hand hand) {
+        int pScore = hand.getScore();
         int dScore = dealer.getScore();
 
+        if (hand.isSurrendered())
+            return "You lost (You surrendered half the bet)!";
         if (pScore > 21)
             return "You lost (You went over: " + pScore + ")!";
+        if (hand.isBlackjack() || dealer.isBlackjack()) {
+            if (hand.isBlackjack() == dealer.isBlackjack())
+                return "Tie (both have Blackjack)!";
+            return hand.isBlackjack() ? "Blackjack! You won!" : "You lost (Dealer has Blackjack)!";
+        }
         if (dScore > 21)
             return "You won (Dealer went over: " + dScore + ")!";
         
@@ -135,33 +657,165 @@ public class BlackjackGame implements Serializable {
     }
     
     /**
-     * Collects and saves the final outcome of the round to the history list.
+     * Returns the outcome of the finished round; with split hands, the outcome of the first hand.
+     * @return The outcome, or null if the round is still in progress.
+     */
+    public Outcome getOutcome() {
+        if (!isGameOver)
+            return null;
+        return outcomeOf(player.getHands().get(0));
+    }
+
+    /**
+     * Returns the outcome of one hand of the finished round.
+     * @param handIndex The index of the hand, 0 unless the player split.
+     * @return The outcome, or null if the round is still in progress.
+     */
+    public Outcome getOutcome(int handIndex) {
+        if (!isGameOver)
+            return null;
+        return outcomeOf(player.getHands().get(handIndex));
+    }
+
+    /**
+     * Resolves one hand against the dealer. A surrendered hand counts as lost.
+     * @param hand The finished hand.
+     * @return The outcome of the hand.
+     */
+    private Outcome outcomeOf(Hand hand) {
+        if (hand.isSurrendered())
+            return Outcome.DEALER_WIN;
+        return rules.resolve(hand.getScore(), hand.isBlackjack(), dealer.getScore(), dealer.isBlackjack());
+    }
+
+    /**
+     * Returns the units won or lost on one hand, counting a double and the blackjack payout.
+     * @param hand The finished hand.
+     * @param outcome The outcome of the hand.
+     * @return The net units, in units of the initial bet.
+     */
+    private double netUnitsOf(Hand hand, Outcome outcome) {
+        if (hand.isSurrendered())
+            return -TableRules.SURRENDER_LOSS;
+        return rules.netUnits(outcome, hand.isBlackjack()) * hand.getBetUnits();
+    }
+
+    /**
+     * Returns the result of the insurance bet.
+     * @return The net units of insurance: +1 if taken and the dealer has a Blackjack, -0.5 if taken otherwise, else 0.
+     */
+    private double insuranceNetUnits() {
+        if (!insuranceTaken)
+            return 0;
+        return dealer.isBlackjack() ? 2 * TableRules.INSURANCE_STAKE : -TableRules.INSURANCE_STAKE;
+    }
+
+    /**
+     * Returns the units the player won or lost in the finished round on an initial bet of one unit,
+     * over every hand and the insurance bet, following the payout rules.
+     * @return The net units, e.g. 1.5 for a Blackjack paid 3:2, or 0 if the round is still in progress.
+     */
+    public double getRoundNetUnits() {
+        if (!isGameOver)
+            return 0;
+        List<Hand> hands = player.getHands();
+        double net = insuranceNetUnits();
+        for (int i = 0; i < hands.size(); i++) {
+            net += netUnitsOf(hands.get(i), outcomeOf(hands.get(i)));
+        }
+        return net;
+    }
+
+    /**
+     * Checks whether insurance is currently offered (the dealer shows an Ace and the player has not decided yet).
+     * @return true while the insurance decision is pending.
+     */
+    public boolean isInsuranceOffered() { return insuranceOffered; }
+
+    /**
+     * Checks whether the player took insurance this round.
+     * @return true if insurance was taken.
+     */
+    public boolean isInsuranceTaken() { return insuranceTaken; }
+
+    /**
+     * Collects and saves the final outcome of every hand of the round to the history list and the statistics,
+     * and passes it on to the round recorder, if one is set.
      * The history is capped at 10 results.
+     * Package-private so the benchmark suite can measure it in isolation.
      */
-    private void recordResult() {
-        String winner;
-        int pScore = player.getScore();
+    void recordResult() {
         int dScore = dealer.getScore();
-        
-        // Determine the winner (similar logic to getGameResult, but standardized)
-        if (pScore > 21) winner = "Dealer";
-        else if (dScore > 21) winner = player.getName();
-        else if (pScore > dScore) winner = player.getName();
-        else if (pScore < dScore) winner = "Dealer";
-        else winner = "Tie";
-        
-        // Convert card objects to string representation using Stream.toList()
-        List<String> pHand = player.getHand().stream().map(Card::toString).toList();
-        List<String> dHand = dealer.getHand().stream().map(Card::toString).toList();
+        boolean dealerBlackjack = dealer.isBlackjack();
+        List<Hand> hands = player.getHands();
+        for (int i = 0; i < hands.size(); i++) {
+            Hand hand = hands.get(i);
+            int pScore = hand.getScore();
+            boolean playerBlackjack = hand.isBlackjack();
+            Outcome outcome = outcomeOf(hand);
+            // The insurance bet is settled with the first hand
+            double net = netUnitsOf(hand, outcome) + (i == 0 ? insuranceNetUnits() : 0);
+
+            // Hands are packed into card codes; display strings are only built when the history is shown
+            RoundResult result = new RoundResult(outcome, player.getName(), pScore, dScore, hand.getCards(), dealer.getHand(),
+                    playerBlackjack, net);
+
+            resultsHistory.add(0, result); // Add to the beginning of the list
+
+            statistics.record(outcome, pScore, dScore, playerBlackjack, dealerBlackjack, net);
+
+            if (roundRecorder != null) {
+                roundRecorder.roundFinished(outcome, pScore, dScore, playerBlackjack, hand.getCards(), dealer.getHand());
+            }
+        }
 
-        RoundResult result = new RoundResult(winner, pScore, dScore, pHand, dHand);
-        
-        resultsHistory.add(0, result); // Add to the beginning of the list
-        
         // Remove the oldest element if it exceeds HISTORY_SIZE
         while (resultsHistory.size() > HISTORY_SIZE) {
             resultsHistory.remove(resultsHistory.size() - 1);
         }
+        Metrics.roundSettled();
+
+        if (listeners.length != 0) {
+            Outcome outcome = getOutcome();
+            double net = getRoundNetUnits();
+            for (GameListener listener : listeners) {
+                listener.roundEnded(outcome, net);
+            }
+        }
+    }
+
+    /**
+     * Sets the recorder that receives every finished round, e.g. a {@code RoundJournal}.
+     * Unlike the results history, which keeps only the last 10 rounds, a recorder sees every round.
+     * @param roundRecorder The recorder, or null to stop recording.
+     */
+    public void setRoundRecorder(RoundRecorder roundRecorder) {
+        this.roundRecorder = roundRecorder;
+    }
+
+    /**
+     * Registers a listener for the game's events.
+     * @param listener The listener; registering the same listener twice delivers every event to it twice.
+     */
+    public void addListener(GameListener listener) {
+        GameListener[] grown = Arrays.copyOf(listeners, listeners.length + 1);
+        grown[listeners.length] = Objects.requireNonNull(listener);
+        listeners = grown;
+    }
+
+    /**
+     * Removes a listener registered with {@link #addListener(GameListener)}.
+     * @param listener The listener; nothing happens if it is not registered.
+     */
+    public void removeListener(GameListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                GameListener[] shrunk = Arrays.copyOf(listeners, listeners.length - 1);
+                System.arraycopy(listeners, i + 1, shrunk, i, listeners.length - i - 1);
+                listeners = shrunk.length == 0 ? NO_LISTENERS : shrunk;
+                return;
+            }
+        }
     }
 
     /**
@@ -176,6 +830,75 @@ public class BlackjackGame implements Serializable {
      */
     public Dealer getDealer() { return dealer; }
 
+    /**
+     * Returns the dealer's face-up card (the first card dealt to the dealer).
+     * @return The upcard, or null if the dealer has no cards.
+     */
+    public Card getDealerUpcard() {
+        List<Card> hand = dealer.getHand();
+        return hand.isEmpty() ? null : hand.get(0);
+    }
+
+    /**
+     * Returns the composition of the cards the player cannot see: the rest of the shoe
+     * plus the dealer's hole card while it is still face down.
+     * @return An array of 10 counts by value (index 0 = twos ... 8 = tens, 9 = Aces).
+     */
+    public int[] getUnseenRankCounts() {
+        int[] counts = deck.getRemainingRankCounts();
+        if (!isGameOver && isPlayerTurn) {
+            List<Card> hand = dealer.getHand();
+            for (int i = 1; i < hand.size(); i++) {
+                counts[hand.get(i).getValue() - 2]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the Hi-Lo running count as the player sees it: every dealt card except the dealer's hole card
+     * while it is still face down.
+     * @return The visible running count.
+     */
+    public int getRunningCount() {
+        return deck.getRunningCount() - hiddenHoleCardTag();
+    }
+
+    /**
+     * Returns the Hi-Lo true count as the player sees it: the visible running count divided by the number of
+     * unseen decks, where a face-down hole card counts as unseen.
+     * @return The visible true count, or 0 if no card is unseen.
+     */
+    public double getTrueCount() {
+        int unseen = deck.getCardCount() + (isHoleCardHidden() ? 1 : 0);
+        return unseen == 0 ? 0 : getRunningCount() * (double) Card.DISTINCT_CARDS / unseen;
+    }
+
+    /**
+     * Checks whether the next round starts from a freshly shuffled shoe, which resets the count.
+     * Count-aware bettors use it to size the next bet.
+     * @return true if the cut card has come out or the deck settings changed.
+     */
+    public boolean isReshuffleDue() {
+        return shoeSettingsChanged || deck.isCutCardReached();
+    }
+
+    /**
+     * Checks whether the dealer's hole card is currently face down.
+     * @return true during the player's turn.
+     */
+    private boolean isHoleCardHidden() {
+        return !isGameOver && isPlayerTurn && dealer.getHand().size() > 1;
+    }
+
+    /**
+     * Returns the Hi-Lo tag of the face-down hole card.
+     * @return The tag, or 0 if no card is hidden.
+     */
+    private int hiddenHoleCardTag() {
+        return isHoleCardHidden() ? dealer.getHand().get(1).getHiLoTag() : 0;
+    }
+
     /**
      * Checks if the round has ended.
      * @return true if the game is over, false otherwise.
@@ -188,21 +911,69 @@ public class BlackjackGame implements Serializable {
      */
     public boolean isPlayerTurn() { return isPlayerTurn; }
     
+    /**
+     * Returns the shoe, so callers can inspect the remaining cards and the penetration.
+     * @return The Deck instance used across rounds.
+     */
+    public Deck getDeck() { return deck; }
+
     /**
      * Returns the number of decks currently used in the game.
-     * @return The number of decks (1 or 2).
+     * @return The number of decks (1 to 8).
      */
-    public int getNumberOfDecks() { return numberOfDecks; }
+    public int getNumberOfDecks() { return rules.getNumberOfDecks(); }
     
     /**
      * Sets the number of decks to be used in the game.
-     * @param numberOfDecks The desired number of decks (1 or 2).
+     * The shoe is rebuilt at the start of the next round.
+     * @param n The desired number of decks (1 to 8).
+     * @throws IllegalArgumentException if the number of decks is invalid.
      */
-    public void setNumberOfDecks(int n) { this.numberOfDecks = n; }
+    public void setNumberOfDecks(int n) {
+        setRules(rules.withNumberOfDecks(n));
+    }
+
+    /**
+     * Returns the table rules of the game.
+     * @return The compiled rules.
+     */
+    public TableRules getRules() { return rules; }
+
+    /**
+     * Changes the table rules. The dealing and payout rules apply from the next decision on;
+     * a different number of decks rebuilds the shoe at the start of the next round.
+     * @param rules The compiled rules.
+     */
+    public void setRules(TableRules rules) {
+        shoeSettingsChanged |= rules.getNumberOfDecks() != this.rules.getNumberOfDecks();
+        this.rules = rules;
+    }
+
+    /**
+     * Returns the configured cut card penetration.
+     * @return The fraction of the shoe dealt before reshuffling.
+     */
+    public double getPenetration() { return penetration; }
+
+    /**
+     * Sets the cut card penetration.
+     * The shoe is rebuilt at the start of the next round.
+     * @param penetration The fraction of the shoe dealt before reshuffling.
+     */
+    public void setPenetration(double penetration) {
+        shoeSettingsChanged |= penetration != this.penetration;
+        this.penetration = penetration;
+    }
 
     /**
      * Returns the history of the last 10 round results.
      * @return A List of RoundResult objects.
      */
     public List<RoundResult> getResultsHistory() { return resultsHistory; }
+
+    /**
+     * Returns the running statistics over every round played in this game.
+     * @return The statistics.
+     */
+    public RoundStatistics getStatistics() { return statistics; }
 }
\ No newline at end of file
@@ -0,0 +1,329 @@
+package blackjack.logic;
+
+import blackjack.model.Dealer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Computes the exact probability distribution of the dealer's final total for a given upcard
+ * and the composition of the unseen cards, following the dealer's drawing rule of the given {@link TableRules}.
+ * Cards are drawn without replacement, so the result is exact for the given composition.
+ * When the rules let the dealer peek under the upcard, the distribution is conditioned on the dealer not having
+ * a blackjack, as it stands whenever the player gets to make a decision.
+ * The stand and hit values built on it are estimates: see {@link #hitEv(int, boolean, int, int[])}.
+ * Results are memoized in a bounded LRU cache keyed by (composition, upcard); repeated queries for
+ * the same situation, such as every GUI update within a round, are answered from the cache.
+ * Instances are not thread-safe: use one solver per thread.
+ */
+public class DealerOutcomeSolver {
+    /** Number of point values tracked in a composition (2 to 9, ten-valued cards, Ace). */
+    public static final int VALUES = 10;
+
+    /** Number of entries in a distribution: dealer totals 17 to 21, bust, then running out of cards. */
+    public static final int OUTCOMES = 7;
+
+    /** Index of the bust probability in a distribution. */
+    public static final int BUST = 5;
+
+    /**
+     * Index of the probability that the unseen cards run out before the dealer reaches a standing total.
+     * The table then reshuffles the discards, so the dealer's final total does not follow from the composition.
+     * Only tiny compositions at the very end of a shoe have this outcome.
+     */
+    public static final int EXHAUSTED = 6;
+
+    /** Default number of cached distributions. */
+    public static final int DEFAULT_CACHE_SIZE = 4096;
+
+    // Bits per value in the packed composition key: 6 for 2-9 and Aces, 8 for the ten-valued cards.
+    private static final int SMALL_BITS = 6;
+    private static final int TEN_BITS = 8;
+    private static final int TEN_INDEX = 8;
+    private static final int ACE_INDEX = 9;
+
+    private final TableRules rules;
+    private final Map<Key, double[]> cache;
+
+    /**
+     * Cache key: the packed composition and the upcard value.
+     * @param composition The packed counts of the unseen cards.
+     * @param upcard The value of the dealer's upcard.
+     */
+    private record Key(long composition, int upcard) { }
+
+    /**
+     * Constructs a solver for the standard rules with the default cache size.
+     */
+    public DealerOutcomeSolver() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a solver for the standard rules with a bounded cache.
+     * @param cacheSize The maximum number of cached distributions; the least recently used is evicted first.
+     */
+    public DealerOutcomeSolver(int cacheSize) {
+        this(TableRules.STANDARD, cacheSize);
+    }
+
+    /**
+     * Constructs a solver for the given rules with the default cache size.
+     * @param rules The table rules whose dealer drawing rule is played out.
+     */
+    public DealerOutcomeSolver(TableRules rules) {
+        this(rules, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructs a solver for the given rules with a bounded cache.
+     * @param rules The table rules whose dealer drawing rule is played out.
+     * @param cacheSize The maximum number of cached distributions; the least recently used is evicted first.
+     */
+    public DealerOutcomeSolver(TableRules rules, int cacheSize) {
+        this.rules = rules;
+        this.cache = new LinkedHashMap<>(Math.min(cacheSize, DEFAULT_CACHE_SIZE) * 2, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, double[]> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the distribution of the dealer's final total.
+     * @param upcard The value of the dealer's upcard (2 to 11).
+     * @param counts The counts of the unseen cards by value (index 0 = twos ... 8 = tens, 9 = Aces),
+     *               including the dealer's hole card. The array is not modified.
+     * @return A new array of {@link #OUTCOMES} probabilities: index 0-4 for a final total of 17-21, index 5 for bust,
+     *         index 6 for running out of cards; conditioned on no dealer blackjack if the dealer peeks with this upcard.
+     */
+    public double[] solve(int upcard, int[] counts) {
+        return solveCached(upcard, counts).clone();
+    }
+
+    /**
+     * Returns the expected value of standing on a total, in units of the bet.
+     * Exact for the composition, given that the dealer finishes with the unseen cards.
+     * @param playerTotal The player's total.
+     * @param upcard The value of the dealer's upcard.
+     * @param counts The counts of the unseen cards by value.
+     * @return The expected net result of standing, between -1 and 1.
+     */
+    public double standEv(int playerTotal, int upcard, int[] counts) {
+        return standEv(playerTotal, solveCached(upcard, counts));
+    }
+
+    /**
+     * Returns an estimate of the expected value of hitting once and then playing on optimally (hit or stand).
+     * The dealer's distribution is exact, but the player's later draws, and the dealer's distribution after them,
+     * use the composition at the decision point instead of removing each drawn card. Removing them would mean
+     * solving the dealer again for every sequence of player cards, far beyond the microseconds a GUI update
+     * or a simulated decision can spend; the difference is a small fraction of a percent except near the end
+     * of a single deck.
+     * @param playerTotal The player's current total.
+     * @param soft Whether the player's total counts an Ace as 11.
+     * @param upcard The value of the dealer's upcard.
+     * @param counts The counts of the unseen cards by value.
+     * @return The expected net result of hitting, between -1 and 1.
+     */
+    public double hitEv(int playerTotal, boolean soft, int upcard, int[] counts) {
+        if (playerTotal >= 21) {
+            return -1;
+        }
+        int remaining = 0;
+        for (int count : counts) {
+            remaining += count;
+        }
+        if (remaining == 0) {
+            return standEv(playerTotal, upcard, counts);
+        }
+        double[][] hit = hitValues(solveCached(upcard, counts), counts, remaining);
+        // A soft total holds an Ace counted as 11; a hard total can never count an Ace as 11 again
+        return soft ? hit[playerTotal - 10][1] : hit[playerTotal][0];
+    }
+
+    /**
+     * Returns the number of cached distributions.
+     * @return The cache size.
+     */
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * Looks up or computes the distribution for an upcard and composition.
+     * @param upcard The value of the dealer's upcard.
+     * @param counts The counts of the unseen cards by value.
+     * @return The cached distribution (must not be modified).
+     */
+    private double[] solveCached(int upcard, int[] counts) {
+        long packed = pack(counts);
+        if (packed < 0) {
+            return compute(upcard, counts);
+        }
+        Key key = new Key(packed, upcard);
+        double[] distribution = cache.get(key);
+        if (distribution == null) {
+            distribution = compute(upcard, counts);
+            cache.put(key, distribution);
+        }
+        return distribution;
+    }
+
+    /**
+     * Plays out every possible dealer hand starting from the upcard.
+     * @param upcard The value of the dealer's upcard.
+     * @param counts The counts of the unseen cards by value.
+     * @return The distribution of the dealer's final total.
+     */
+    private double[] compute(int upcard, int[] counts) {
+        int[] working = counts.clone();
+        int remaining = 0;
+        for (int count : working) {
+            remaining += count;
+        }
+        double[] distribution = new double[OUTCOMES];
+        boolean ace = upcard == 11;
+        int hardTotal = ace ? 1 : upcard;
+
+        // After a peek the hole card is known not to complete a blackjack, so it is drawn from the other cards only
+        int excluded = !rules.peeksWith(upcard) ? -1 : ace ? TEN_INDEX : ACE_INDEX;
+        int candidates = excluded < 0 ? 0 : remaining - working[excluded];
+        if (candidates == 0) {
+            draw(hardTotal, ace, 1.0, working, remaining, distribution);
+            return distribution;
+        }
+        for (int i = 0; i < VALUES; i++) {
+            int count = working[i];
+            if (count == 0 || i == excluded) continue;
+            working[i] = count - 1;
+            int value = i == ACE_INDEX ? 1 : i + 2;
+            draw(hardTotal + value, ace || i == ACE_INDEX, (double) count / candidates, working, remaining - 1, distribution);
+            working[i] = count;
+        }
+        return distribution;
+    }
+
+    /**
+     * Recursively draws cards for the dealer and accumulates the probability of each final total.
+     * @param hardTotal The dealer's total counting every Ace as 1.
+     * @param hasAce Whether the dealer holds at least one Ace.
+     * @param probability The probability of reaching this hand.
+     * @param counts The counts of the cards still available (modified and restored).
+     * @param remaining The number of cards still available.
+     * @param distribution The distribution to add to.
+     */
+    private void draw(int hardTotal, boolean hasAce, double probability, int[] counts, int remaining, double[] distribution) {
+        boolean soft = hasAce && hardTotal + 10 <= 21;
+        int score = score(hardTotal, hasAce);
+
+        if (score > 21) {
+            distribution[BUST] += probability;
+            return;
+        }
+        if (!rules.dealerDraws(score, soft)) {
+            distribution[score - Dealer.STAND_SCORE] += probability;
+            return;
+        }
+        if (remaining == 0) {
+            distribution[EXHAUSTED] += probability;
+            return;
+        }
+        for (int i = 0; i < VALUES; i++) {
+            int count = counts[i];
+            if (count == 0) continue;
+            counts[i] = count - 1;
+            // The Ace counts as 1 in the hard total
+            int value = i == ACE_INDEX ? 1 : i + 2;
+            draw(hardTotal + value, hasAce || i == ACE_INDEX, probability * count / remaining, counts, remaining - 1, distribution);
+            counts[i] = count;
+        }
+    }
+
+    /**
+     * Computes the value of hitting for every player hand by dynamic programming, from hard 21 downwards.
+     * @param dealer The dealer's distribution.
+     * @param counts The counts of the unseen cards by value.
+     * @param remaining The number of unseen cards.
+     * @return The hit values indexed by [hard total][1 if the hand holds an Ace, else 0].
+     */
+    private static double[][] hitValues(double[] dealer, int[] counts, int remaining) {
+        double[][] hit = new double[22][2];
+        for (int hard = 21; hard >= 2; hard--) {
+            for (int ace = 0; ace <= 1; ace++) {
+                double ev = 0;
+                for (int i = 0; i < VALUES; i++) {
+                    if (counts[i] == 0) continue;
+                    double p = (double) counts[i] / remaining;
+                    int newHard = hard + (i == ACE_INDEX ? 1 : i + 2);
+                    if (newHard > 21) {
+                        ev -= p;
+                        continue;
+                    }
+                    int newAce = (ace == 1 || i == ACE_INDEX) ? 1 : 0;
+                    int score = score(newHard, newAce == 1);
+                    double stand = standEv(score, dealer);
+                    ev += p * (score < 21 ? Math.max(stand, hit[newHard][newAce]) : stand);
+                }
+                hit[hard][ace] = ev;
+            }
+        }
+        return hit;
+    }
+
+    /**
+     * Returns the best score of a hand, counting one Ace as 11 if that does not bust it.
+     * @param hardTotal The total counting every Ace as 1.
+     * @param hasAce Whether the hand holds an Ace.
+     * @return The score.
+     */
+    private static int score(int hardTotal, boolean hasAce) {
+        return hasAce && hardTotal + 10 <= 21 ? hardTotal + 10 : hardTotal;
+    }
+
+    /**
+     * Computes the expected value of standing against a dealer distribution,
+     * given that the dealer finishes with the unseen cards.
+     * @param playerTotal The player's total.
+     * @param dealer The dealer's distribution.
+     * @return The expected net result, or 0 if the dealer always runs out of cards.
+     */
+    private static double standEv(int playerTotal, double[] dealer) {
+        if (playerTotal > 21) {
+            return -1;
+        }
+        double finished = 1 - dealer[EXHAUSTED];
+        if (finished <= 0) {
+            return 0;
+        }
+        double ev = dealer[BUST];
+        for (int i = 0; i < BUST; i++) {
+            int dealerTotal = Dealer.STAND_SCORE + i;
+            if (playerTotal > dealerTotal) {
+                ev += dealer[i];
+            } else if (playerTotal < dealerTotal) {
+                ev -= dealer[i];
+            }
+        }
+        return ev / finished;
+    }
+
+    /**
+     * Packs a composition into a single long for use as a cache key.
+     * @param counts The counts by value.
+     * @return The packed key, or -1 if a count does not fit (the result is then not cached).
+     */
+    private static long pack(int[] counts) {
+        long packed = 0;
+        for (int i = 0; i < VALUES; i++) {
+            int bits = i == TEN_INDEX ? TEN_BITS : SMALL_BITS;
+            if (counts[i] < 0 || counts[i] >= (1 << bits)) {
+                return -1;
+            }
+            packed = (packed << bits) | counts[i];
+        }
+        return packed;
+    }
+}
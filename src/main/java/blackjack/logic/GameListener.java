@@ -0,0 +1,60 @@
+package blackjack.logic;
+
+import blackjack.model.Card;
+
+/**
+ * Receives the events of a {@link BlackjackGame} as they happen, so a view can update only what changed.
+ * Every method has an empty default, so listeners implement just the events they need.
+ * Events are delivered synchronously on the thread that plays the game, after the game state has changed;
+ * listeners must not act on the game from inside a callback.
+ */
+public interface GameListener {
+
+    /**
+     * Called when a new round starts, before its first card is dealt. The previous round's cards are gone.
+     */
+    default void roundStarted() {
+    }
+
+    /**
+     * Called after a card has been dealt from the shoe to a hand.
+     * The dealer's second card is reported too, although it stays face down until the dealer's turn.
+     * @param seat The seat that received the card.
+     * @param hand The index of the receiving hand (always 0 for the dealer).
+     * @param card The card.
+     */
+    default void cardDealt(Seat seat, int hand, Card card) {
+    }
+
+    /**
+     * Called after a pair has been split: the second card of the hand moved to a new hand.
+     * @param hand The index of the split hand.
+     * @param newHand The index of the new hand.
+     */
+    default void handSplit(int hand, int newHand) {
+    }
+
+    /**
+     * Called when the turn moves: to one of the player's hands, or to the dealer, whose hole card is then revealed.
+     * Also called once the deal (and any insurance decision) is complete and the player may act.
+     * @param seat The seat whose turn it is.
+     * @param hand The index of the hand to play (always 0 for the dealer).
+     */
+    default void turnChanged(Seat seat, int hand) {
+    }
+
+    /**
+     * Called once when the round has been settled.
+     * @param outcome The outcome of the player's first hand.
+     * @param netUnits The net units of the whole round, over every hand and insurance.
+     */
+    default void roundEnded(Outcome outcome, double netUnits) {
+    }
+
+    /**
+     * Called after the shoe has been reshuffled or rebuilt; the count starts over.
+     * @param cards The number of cards in the shoe.
+     */
+    default void shoeReshuffled(int cards) {
+    }
+}
@@ -0,0 +1,25 @@
+package blackjack.logic;
+
+/**
+ * The possible outcomes of a finished round, seen from the player's side.
+ */
+public enum Outcome {
+    PLAYER_WIN,
+    DEALER_WIN,
+    PUSH;
+
+    /**
+     * Determines the outcome of a round from the final scores.
+     * A player bust always loses, even if the dealer also went over 21.
+     * @param playerScore The final score of the player.
+     * @param dealerScore The final score of the dealer.
+     * @return The outcome of the round.
+     */
+    public static Outcome fromScores(int playerScore, int dealerScore) {
+        if (playerScore > 21) return DEALER_WIN;
+        if (dealerScore > 21) return PLAYER_WIN;
+        if (playerScore > dealerScore) return PLAYER_WIN;
+        if (playerScore < dealerScore) return DEALER_WIN;
+        return PUSH;
+    }
+}
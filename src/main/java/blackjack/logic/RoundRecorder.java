@@ -0,0 +1,25 @@
+package blackjack.logic;
+
+import blackjack.model.Card;
+import java.util.List;
+
+/**
+ * Receives every finished round of a {@link BlackjackGame}, for example to append it to a journal.
+ * Called on the thread that plays the game, so implementations should return quickly.
+ */
+@FunctionalInterface
+public interface RoundRecorder {
+
+    /**
+     * Called once when a round has been resolved.
+     * The hand lists are the live, read-only hands and are only valid during the call.
+     * @param outcome The outcome of the round.
+     * @param playerScore The final score of the player.
+     * @param dealerScore The final score of the dealer.
+     * @param playerBlackjack Whether the player's hand was a natural blackjack (not a two-card 21 after a split).
+     * @param playerHand The player's cards.
+     * @param dealerHand The dealer's cards.
+     */
+    void roundFinished(Outcome outcome, int playerScore, int dealerScore, boolean playerBlackjack,
+                       List<Card> playerHand, List<Card> dealerHand);
+}
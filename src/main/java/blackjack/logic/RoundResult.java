@@ -1,41 +1,155 @@
 package blackjack.logic;
 
-import java.io.Serializable;
+import blackjack.model.Card;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
- * Stores the result and state of a single completed round for statistics.
- * Implements Serializable for game saving.
+ * Stores the result and state of a single completed hand for statistics; a round with split hands
+ * produces one result per hand.
+ * Both hands are packed into primitive card codes (6 bits per card, 10 cards per {@code long});
+ * the rare cards beyond the tenth go to a small overflow array.
+ * Display strings are only built when a round is rendered.
  */
-public class RoundResult implements Serializable {
-    private final String winner;
-    private final int playerScore;
-    private final int dealerScore;
-    private final List<String> playerHand;
-    private final List<String> dealerHand;
+public class RoundResult {
+    private static final int CARD_BITS = 6;
+    private static final long CARD_MASK = (1L << CARD_BITS) - 1;
+    private static final int PACKED_CARDS = Long.SIZE / CARD_BITS;
+
+    private final Outcome outcome;
+    private final String playerName;
+    private final byte playerScore;
+    private final byte dealerScore;
+    private final byte playerCount;
+    private final byte dealerCount;
+    private final long playerCards;
+    private final long dealerCards;
+    // Cards beyond the tenth of each hand, player's first; null for almost every round
+    private final byte[] overflowCards;
+    private final boolean playerBlackjack;
+    private final double netUnits;
+
+    /**
+     * Constructs a new RoundResult for an even-money bet of one unit on a hand that was not a natural blackjack,
+     * packing both hands.
+     * @param outcome The outcome of the round.
+     * @param playerName The name of the player, shown as the winner when the player wins.
+     * @param playerScore The final score of the player.
+     * @param dealerScore The final score of the dealer.
+     * @param playerHand The final hand of the player.
+     * @param dealerHand The final hand of the dealer.
+     */
+    public RoundResult(Outcome outcome, String playerName, int playerScore, int dealerScore, List<Card> playerHand, List<Card> dealerHand) {
+        this(outcome, playerName, playerScore, dealerScore, playerHand, dealerHand, false, evenMoney(outcome));
+    }
 
     /**
-     * Constructs a new RoundResult.
-     * @param winner The name of the winner ("Player" or "Dealer" or "Tie").
+     * Constructs a new RoundResult, packing both hands.
+     * @param outcome The outcome of the round.
+     * @param playerName The name of the player, shown as the winner when the player wins.
      * @param playerScore The final score of the player.
      * @param dealerScore The final score of the dealer.
      * @param playerHand The final hand of the player.
      * @param dealerHand The final hand of the dealer.
+     * @param playerBlackjack Whether the player's hand was a natural blackjack; a two-card 21 after a split is not.
+     * @param netUnits The units won or lost, counting doubles, surrender, the blackjack payout and insurance.
+     */
+    public RoundResult(Outcome outcome, String playerName, int playerScore, int dealerScore,
+                       List<Card> playerHand, List<Card> dealerHand, boolean playerBlackjack, double netUnits) {
+        this.playerBlackjack = playerBlackjack;
+        this.netUnits = netUnits;
+        this.outcome = Objects.requireNonNull(outcome);
+        this.playerName = playerName;
+        this.playerScore = (byte) playerScore;
+        this.dealerScore = (byte) dealerScore;
+        this.playerCount = (byte) playerHand.size();
+        this.dealerCount = (byte) dealerHand.size();
+        this.playerCards = pack(playerHand);
+        this.dealerCards = pack(dealerHand);
+
+        int overflow = Math.max(0, playerHand.size() - PACKED_CARDS) + Math.max(0, dealerHand.size() - PACKED_CARDS);
+        if (overflow == 0) {
+            this.overflowCards = null;
+        } else {
+            this.overflowCards = new byte[overflow];
+            int i = 0;
+            for (int c = PACKED_CARDS; c < playerHand.size(); c++) {
+                overflowCards[i++] = (byte) playerHand.get(c).getCode();
+            }
+            for (int c = PACKED_CARDS; c < dealerHand.size(); c++) {
+                overflowCards[i++] = (byte) dealerHand.get(c).getCode();
+            }
+        }
+    }
+
+    /**
+     * Returns the net result of an even-money bet of one unit.
+     * @param outcome The outcome.
+     * @return +1 for a win, -1 for a loss, 0 for a push.
+     */
+    private static double evenMoney(Outcome outcome) {
+        return switch (outcome) {
+            case PLAYER_WIN -> 1;
+            case DEALER_WIN -> -1;
+            case PUSH -> 0;
+        };
+    }
+
+    /**
+     * Packs the first ten cards of a hand into a long, first card in the lowest bits.
+     * @param hand The hand.
+     * @return The packed card codes.
      */
-    public RoundResult(String winner, int playerScore, int dealerScore, List<String> playerHand, List<String> dealerHand) {
-        this.winner = winner;
-        this.playerScore = playerScore;
-        this.dealerScore = dealerScore;
-        this.playerHand = playerHand;
-        this.dealerHand = dealerHand;
+    private static long pack(List<Card> hand) {
+        long packed = 0;
+        for (int i = Math.min(hand.size(), PACKED_CARDS) - 1; i >= 0; i--) {
+            packed = packed << CARD_BITS | hand.get(i).getCode();
+        }
+        return packed;
     }
 
-    
     /**
-     * Returns the name of the winner.
+     * Returns the outcome of the round.
+     * @return The outcome.
+     */
+    public Outcome getOutcome() { return outcome; }
+
+    /**
+     * Checks whether the player's hand was a natural blackjack.
+     * @return True for a natural; false for any other hand, including a two-card 21 after a split.
+     */
+    public boolean isPlayerBlackjack() { return playerBlackjack; }
+
+    /**
+     * Checks whether the dealer had a blackjack. The dealer never splits, so any two-card 21 is a natural.
+     * @return True if the dealer had a blackjack.
+     */
+    public boolean isDealerBlackjack() { return dealerScore == 21 && dealerCount == 2; }
+
+    /**
+     * Returns the units the player won or lost on this hand.
+     * @return The net units, in units of the initial bet.
+     */
+    public double getNetUnits() { return netUnits; }
+
+    /**
+     * Returns the name of the winner: the player's name, "Dealer" or "Tie".
      * @return The winner's name.
      */
-    public String getWinner() { return winner; }
+    public String getWinner() {
+        return switch (outcome) {
+            case PLAYER_WIN -> playerName;
+            case DEALER_WIN -> "Dealer";
+            case PUSH -> "Tie";
+        };
+    }
+
+    /**
+     * Returns the name of the player of this round.
+     * @return The player's name.
+     */
+    public String getPlayerName() { return playerName; }
 
     /**
      * Returns the scores of the player.
@@ -50,23 +164,105 @@ public class RoundResult implements Serializable {
     public int getDealerScore() { return dealerScore; }
 
     /**
-     * Returns the final hand of the player.
-     * @return The player's hand as a list of strings.
+     * Returns the number of cards in the player's final hand.
+     * @return The player's card count.
+     */
+    public int getPlayerCardCount() { return playerCount; }
+
+    /**
+     * Returns the number of cards in the dealer's final hand.
+     * @return The dealer's card count.
+     */
+    public int getDealerCardCount() { return dealerCount; }
+
+    /**
+     * Returns one card of the player's final hand.
+     * @param index The card index.
+     * @return The card.
      */
-    public List<String> getPlayerHand() { return playerHand; }
+    public Card getPlayerCard(int index) {
+        return card(playerCards, playerCount, 0, index);
+    }
+
+    /**
+     * Returns one card of the dealer's final hand.
+     * @param index The card index.
+     * @return The card.
+     */
+    public Card getDealerCard(int index) {
+        return card(dealerCards, dealerCount, Math.max(0, playerCount - PACKED_CARDS), index);
+    }
 
     /**
-     * Returns the final hand of the dealer.
-     * @return The dealer's hand as a list of strings.
+     * Unpacks one card of a hand.
+     * @param packed The packed first ten cards.
+     * @param count The number of cards in the hand.
+     * @param overflowStart Where the hand's cards start in the overflow array.
+     * @param index The card index.
+     * @return The card.
      */
-    public List<String> getDealerHand() { return dealerHand; }
-    
+    private Card card(long packed, int count, int overflowStart, int index) {
+        Objects.checkIndex(index, count);
+        if (index < PACKED_CARDS) {
+            return Card.fromCode((int) (packed >>> (index * CARD_BITS) & CARD_MASK));
+        }
+        return Card.fromCode(overflowCards[overflowStart + index - PACKED_CARDS]);
+    }
+
+    /**
+     * Returns the final hand of the player. The list is built on each call.
+     * @return The player's hand.
+     */
+    public List<Card> getPlayerHand() {
+        List<Card> hand = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            hand.add(getPlayerCard(i));
+        }
+        return hand;
+    }
+
+    /**
+     * Returns the final hand of the dealer. The list is built on each call.
+     * @return The dealer's hand.
+     */
+    public List<Card> getDealerHand() {
+        List<Card> hand = new ArrayList<>(dealerCount);
+        for (int i = 0; i < dealerCount; i++) {
+            hand.add(getDealerCard(i));
+        }
+        return hand;
+    }
+
+    /**
+     * Renders the player's hand for display, e.g. "ACE ♥, KING ♠".
+     * @return The player's hand as text.
+     */
+    public String formatPlayerHand() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < playerCount; i++) {
+            text.append(i == 0 ? "" : ", ").append(getPlayerCard(i));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Renders the dealer's hand for display.
+     * @return The dealer's hand as text.
+     */
+    public String formatDealerHand() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < dealerCount; i++) {
+            text.append(i == 0 ? "" : ", ").append(getDealerCard(i));
+        }
+        return text.toString();
+    }
+
     /**
      * Provides a short, human-readable summary for display in the JList.
      * @return A concise string summary of the round.
      */
     @Override
     public String toString() {
-        return String.format("Winner: %s | Player Score: %d | Dealer Score: %d", winner, playerScore, dealerScore);
+        return String.format("Winner: %s | Player Score: %d | Dealer Score: %d", getWinner(), playerScore, dealerScore);
     }
-}
\ No newline at end of file
+}
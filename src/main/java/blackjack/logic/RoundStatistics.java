@@ -0,0 +1,336 @@
+package blackjack.logic;
+
+import java.util.Arrays;
+
+/**
+ * Streaming statistics over every finished round of a game.
+ * Each round updates a fixed set of counters in O(1): outcome, bust and blackjack counts, net units,
+ * final-score histograms and win/loss streaks, for all rounds and for sliding windows over the
+ * last 100, 1,000 and 10,000 rounds. The windows keep one compact entry per round in a ring buffer
+ * the size of the largest window, so memory stays constant however many rounds are played.
+ * The ring starts small and grows with the number of rounds, so short-lived games stay light.
+ * Not thread-safe; it is updated and read on the thread that plays the game.
+ */
+public class RoundStatistics {
+    /** The sizes of the sliding windows, smallest first. */
+    public static final int[] WINDOW_SIZES = {100, 1_000, 10_000};
+
+    /** The highest score with its own histogram bucket; higher scores are counted in this bucket. */
+    public static final int MAX_SCORE = 31;
+
+    // Per-round flags kept in the ring buffer; the low two bits hold the outcome ordinal
+    private static final int OUTCOME_MASK = 3;
+    private static final int PLAYER_BUST = 4;
+    private static final int DEALER_BUST = 8;
+    private static final int PLAYER_BLACKJACK = 16;
+    private static final int DEALER_BLACKJACK = 32;
+
+    private final Tally allTime = new Tally(0);
+    private final Tally[] windows = new Tally[WINDOW_SIZES.length];
+    private static final int INITIAL_RING_SIZE = 128;
+    private static final int RING_CAPACITY = WINDOW_SIZES[WINDOW_SIZES.length - 1];
+
+    private byte[] recentFlags = new byte[INITIAL_RING_SIZE];
+    private double[] recentNet = new double[INITIAL_RING_SIZE];
+    private final long[] playerScores = new long[MAX_SCORE + 1];
+    private final long[] dealerScores = new long[MAX_SCORE + 1];
+    private int currentStreak;
+    private int longestWinStreak;
+    private int longestLossStreak;
+
+    /**
+     * Constructs empty statistics.
+     */
+    public RoundStatistics() {
+        for (int i = 0; i < WINDOW_SIZES.length; i++) {
+            windows[i] = new Tally(WINDOW_SIZES[i]);
+        }
+    }
+
+    /**
+     * Adds a finished round to every aggregate.
+     * @param outcome The outcome of the round.
+     * @param playerScore The final score of the player.
+     * @param dealerScore The final score of the dealer.
+     * @param playerBlackjack Whether the player's hand was a natural blackjack (not a two-card 21 after a split).
+     * @param dealerBlackjack Whether the dealer had a blackjack.
+     * @param net The units won (positive) or lost (negative) in the round.
+     */
+    public void record(Outcome outcome, int playerScore, int dealerScore, boolean playerBlackjack, boolean dealerBlackjack,
+                       double net) {
+        int flags = outcome.ordinal();
+        if (playerScore > 21) flags |= PLAYER_BUST;
+        if (dealerScore > 21) flags |= DEALER_BUST;
+        if (playerBlackjack) flags |= PLAYER_BLACKJACK;
+        if (dealerBlackjack) flags |= DEALER_BLACKJACK;
+
+        long round = allTime.rounds;
+        if (round == recentFlags.length && round < RING_CAPACITY) {
+            // The ring has not wrapped yet, so the rounds are still in order
+            int grown = (int) Math.min(round * 2, RING_CAPACITY);
+            recentFlags = Arrays.copyOf(recentFlags, grown);
+            recentNet = Arrays.copyOf(recentNet, grown);
+        }
+
+        // Each window drops the round that falls out of it, read from the ring before it is overwritten
+        int capacity = recentFlags.length;
+        for (Tally window : windows) {
+            if (round >= window.size) {
+                int leaving = (int) ((round - window.size) % capacity);
+                window.add(recentFlags[leaving], -recentNet[leaving], -1);
+            }
+            window.add(flags, net, 1);
+        }
+        int slot = (int) (round % capacity);
+        recentFlags[slot] = (byte) flags;
+        recentNet[slot] = net;
+        allTime.add(flags, net, 1);
+
+        playerScores[Math.min(Math.max(playerScore, 0), MAX_SCORE)]++;
+        dealerScores[Math.min(Math.max(dealerScore, 0), MAX_SCORE)]++;
+
+        // A push ends both streaks
+        switch (outcome) {
+            case PLAYER_WIN -> {
+                currentStreak = currentStreak > 0 ? currentStreak + 1 : 1;
+                longestWinStreak = Math.max(longestWinStreak, currentStreak);
+            }
+            case DEALER_WIN -> {
+                currentStreak = currentStreak < 0 ? currentStreak - 1 : -1;
+                longestLossStreak = Math.max(longestLossStreak, -currentStreak);
+            }
+            case PUSH -> currentStreak = 0;
+        }
+    }
+
+    /**
+     * Returns the aggregates over all recorded rounds.
+     * @return The all-time tally.
+     */
+    public Tally getAllTime() { return allTime; }
+
+    /**
+     * Returns the aggregates over the most recent rounds.
+     * @param size One of the {@link #WINDOW_SIZES}.
+     * @return The tally of that window.
+     * @throws IllegalArgumentException if there is no window of that size.
+     */
+    public Tally getWindow(int size) {
+        for (Tally window : windows) {
+            if (window.size == size) {
+                return window;
+            }
+        }
+        throw new IllegalArgumentException("No window of " + size + " rounds.");
+    }
+
+    /**
+     * Returns how often the player finished with each score.
+     * @return A copy of the histogram, indexed by score (0 to {@link #MAX_SCORE}).
+     */
+    public long[] getPlayerScoreHistogram() { return playerScores.clone(); }
+
+    /**
+     * Returns how often the dealer finished with each score.
+     * @return A copy of the histogram, indexed by score (0 to {@link #MAX_SCORE}).
+     */
+    public long[] getDealerScoreHistogram() { return dealerScores.clone(); }
+
+    /**
+     * Returns the current streak: positive for consecutive wins, negative for consecutive losses, 0 after a push.
+     * @return The current streak.
+     */
+    public int getCurrentStreak() { return currentStreak; }
+
+    /**
+     * Returns the longest run of consecutive wins.
+     * @return The longest win streak.
+     */
+    public int getLongestWinStreak() { return longestWinStreak; }
+
+    /**
+     * Returns the longest run of consecutive losses.
+     * @return The longest loss streak.
+     */
+    public int getLongestLossStreak() { return longestLossStreak; }
+
+    /**
+     * Clears every aggregate.
+     */
+    public void reset() {
+        allTime.clear();
+        recentFlags = new byte[INITIAL_RING_SIZE];
+        recentNet = new double[INITIAL_RING_SIZE];
+        for (Tally window : windows) {
+            window.clear();
+        }
+        Arrays.fill(playerScores, 0);
+        Arrays.fill(dealerScores, 0);
+        currentStreak = 0;
+        longestWinStreak = 0;
+        longestLossStreak = 0;
+    }
+
+    /**
+     * Outcome, bust and blackjack counts and net units over a set of rounds.
+     */
+    public static final class Tally {
+        private final int size;
+        private long rounds;
+        private long wins;
+        private long losses;
+        private long pushes;
+        private long playerBusts;
+        private long dealerBusts;
+        private long playerBlackjacks;
+        private long dealerBlackjacks;
+        private double netUnits;
+
+        /**
+         * @param size The window size, or 0 for all rounds.
+         */
+        private Tally(int size) {
+            this.size = size;
+        }
+
+        /**
+         * Adds or removes one round.
+         * @param flags The round's flags.
+         * @param net The round's net units.
+         * @param delta 1 to add the round, -1 to remove it.
+         */
+        private void add(int flags, double net, int delta) {
+            rounds += delta;
+            switch (flags & OUTCOME_MASK) {
+                case 0 -> wins += delta;
+                case 1 -> losses += delta;
+                default -> pushes += delta;
+            }
+            if ((flags & PLAYER_BUST) != 0) playerBusts += delta;
+            if ((flags & DEALER_BUST) != 0) dealerBusts += delta;
+            if ((flags & PLAYER_BLACKJACK) != 0) playerBlackjacks += delta;
+            if ((flags & DEALER_BLACKJACK) != 0) dealerBlackjacks += delta;
+            netUnits += net;
+        }
+
+        /**
+         * Resets every counter.
+         */
+        private void clear() {
+            rounds = wins = losses = pushes = 0;
+            playerBusts = dealerBusts = playerBlackjacks = dealerBlackjacks = 0;
+            netUnits = 0;
+        }
+
+        /**
+         * Returns the window size.
+         * @return The number of rounds the window covers, or 0 for the all-time tally.
+         */
+        public int getSize() { return size; }
+
+        /**
+         * Returns the number of rounds counted.
+         * @return The round count.
+         */
+        public long getRounds() { return rounds; }
+
+        /**
+         * Returns the number of rounds won by the player.
+         * @return The win count.
+         */
+        public long getWins() { return wins; }
+
+        /**
+         * Returns the number of rounds won by the dealer.
+         * @return The loss count.
+         */
+        public long getLosses() { return losses; }
+
+        /**
+         * Returns the number of tied rounds.
+         * @return The push count.
+         */
+        public long getPushes() { return pushes; }
+
+        /**
+         * Returns the number of rounds in which the player went over 21.
+         * @return The player bust count.
+         */
+        public long getPlayerBusts() { return playerBusts; }
+
+        /**
+         * Returns the number of rounds in which the dealer went over 21.
+         * @return The dealer bust count.
+         */
+        public long getDealerBusts() { return dealerBusts; }
+
+        /**
+         * Returns the number of natural blackjacks dealt to the player.
+         * @return The player blackjack count.
+         */
+        public long getPlayerBlackjacks() { return playerBlackjacks; }
+
+        /**
+         * Returns the number of natural blackjacks dealt to the dealer.
+         * @return The dealer blackjack count.
+         */
+        public long getDealerBlackjacks() { return dealerBlackjacks; }
+
+        /**
+         * Returns the units won (positive) or lost (negative) over the counted rounds.
+         * @return The net units.
+         */
+        public double getNetUnits() { return netUnits; }
+
+        /**
+         * Returns the share of rounds won by the player.
+         * @return The win rate (0 to 1), 0 if no rounds were counted.
+         */
+        public double getWinRate() { return rate(wins); }
+
+        /**
+         * Returns the share of rounds won by the dealer.
+         * @return The loss rate (0 to 1).
+         */
+        public double getLossRate() { return rate(losses); }
+
+        /**
+         * Returns the share of tied rounds.
+         * @return The push rate (0 to 1).
+         */
+        public double getPushRate() { return rate(pushes); }
+
+        /**
+         * Returns the share of rounds in which the player went over 21.
+         * @return The player bust rate (0 to 1).
+         */
+        public double getPlayerBustRate() { return rate(playerBusts); }
+
+        /**
+         * Returns the share of rounds in which the dealer went over 21.
+         * @return The dealer bust rate (0 to 1).
+         */
+        public double getDealerBustRate() { return rate(dealerBusts); }
+
+        /**
+         * Returns the share of rounds in which the player was dealt a blackjack.
+         * @return The blackjack frequency (0 to 1).
+         */
+        public double getBlackjackRate() { return rate(playerBlackjacks); }
+
+        /**
+         * Returns the average units won per round.
+         * @return The net units per round.
+         */
+        public double getNetUnitsPerRound() { return rounds == 0 ? 0 : netUnits / rounds; }
+
+        /**
+         * Divides a count by the number of rounds.
+         * @param count The count.
+         * @return The share of rounds, 0 if no rounds were counted.
+         */
+        private double rate(long count) {
+            return rounds == 0 ? 0 : (double) count / rounds;
+        }
+    }
+}
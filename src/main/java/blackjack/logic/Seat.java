@@ -0,0 +1,9 @@
+package blackjack.logic;
+
+/**
+ * The two sides of the table that receive cards and take turns.
+ */
+public enum Seat {
+    PLAYER,
+    DEALER
+}
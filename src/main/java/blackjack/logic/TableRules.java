@@ -0,0 +1,353 @@
+package blackjack.logic;
+
+import blackjack.model.Dealer;
+import blackjack.model.Deck;
+import java.util.Locale;
+
+/**
+ * The house rules of a table, compiled once into an immutable object with lookup tables.
+ * The dealer's drawing rule becomes one bit mask per hand type (hard or soft) indexed by the total,
+ * the payouts become a small table indexed by outcome and natural blackjack, and the peek rule a mask of upcards,
+ * so resolving a round does no parsing and little branching whatever the rule set.
+ * The player's options are part of the rules too: doubling after a split, the number of hands a seat may split into,
+ * resplitting Aces and late surrender. Any two cards may be doubled, split Aces receive one card each,
+ * and insurance pays 2:1 whenever the dealer shows an Ace.
+ * A rule set can be written and read back as a short specification such as {@code "H17 6:5 NOPEEK NODAS 6D"}.
+ */
+public final class TableRules {
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    /** The largest accepted maximum number of hands. */
+    private static final int MAX_HANDS_LIMIT = 8;
+
+    /** The default maximum number of hands a seat may split into. */
+    public static final int DEFAULT_MAX_HANDS = 4;
+
+    /** The part of the bet lost by a late surrender. */
+    public static final double SURRENDER_LOSS = 0.5;
+
+    /** The insurance bet, as a part of the initial bet; it pays 2:1 if the dealer has a blackjack. */
+    public static final double INSURANCE_STAKE = 0.5;
+
+    /**
+     * Stands on soft 17, pays 3:2 for a blackjack, peeks for a dealer blackjack, allows doubling after a split,
+     * splitting up to 4 hands without resplitting Aces and late surrender, one deck.
+     */
+    public static final TableRules STANDARD = compile(false, 3, 2, true, 1);
+
+    /** Totals covered by the draw masks; a dealer total never exceeds 26. */
+    private static final int TOTALS = Integer.SIZE;
+
+    private final boolean dealerHitsSoft17;
+    private final int payoutNumerator;
+    private final int payoutDenominator;
+    private final boolean dealerPeeks;
+    private final int numberOfDecks;
+    private final boolean doubleAfterSplit;
+    private final int maxHands;
+    private final boolean resplitAces;
+    private final boolean lateSurrender;
+
+    // Bit n is set if the dealer draws on a total of n (0 to 31)
+    private final int hardDraws;
+    private final int softDraws;
+    // Bit n is set if the dealer peeks with an upcard of value n
+    private final int peekUpcards;
+    // Net units for a one-unit bet, indexed by outcome ordinal * 2 + (1 if the player has a natural)
+    private final double[] payouts = new double[OUTCOMES.length * 2];
+
+    /**
+     * Private constructor; use {@link #compile} or {@link #parse}.
+     * @param dealerHitsSoft17 Whether the dealer hits a soft 17.
+     * @param payoutNumerator The numerator of the blackjack payout.
+     * @param payoutDenominator The denominator of the blackjack payout.
+     * @param dealerPeeks Whether the dealer checks for blackjack before the player acts.
+     * @param numberOfDecks The number of decks in the shoe.
+     * @param doubleAfterSplit Whether split hands may be doubled.
+     * @param maxHands The maximum number of hands after splitting.
+     * @param resplitAces Whether split Aces may be split again.
+     * @param lateSurrender Whether the first two cards may be surrendered after the peek.
+     */
+    private TableRules(boolean dealerHitsSoft17, int payoutNumerator, int payoutDenominator, boolean dealerPeeks, int numberOfDecks,
+                       boolean doubleAfterSplit, int maxHands, boolean resplitAces, boolean lateSurrender) {
+        this.dealerHitsSoft17 = dealerHitsSoft17;
+        this.payoutNumerator = payoutNumerator;
+        this.payoutDenominator = payoutDenominator;
+        this.dealerPeeks = dealerPeeks;
+        this.numberOfDecks = numberOfDecks;
+        this.doubleAfterSplit = doubleAfterSplit;
+        this.maxHands = maxHands;
+        this.resplitAces = resplitAces;
+        this.lateSurrender = lateSurrender;
+
+        int hard = 0;
+        int soft = 0;
+        for (int total = 0; total < TOTALS; total++) {
+            if (Dealer.shouldHit(total, false, dealerHitsSoft17)) hard |= 1 << total;
+            if (Dealer.shouldHit(total, true, dealerHitsSoft17)) soft |= 1 << total;
+        }
+        this.hardDraws = hard;
+        this.softDraws = soft;
+        // The dealer can only have a blackjack with a ten-valued card or an Ace showing
+        this.peekUpcards = dealerPeeks ? (1 << 10) | (1 << 11) : 0;
+
+        for (Outcome outcome : OUTCOMES) {
+            double net = switch (outcome) {
+                case PLAYER_WIN -> 1;
+                case DEALER_WIN -> -1;
+                case PUSH -> 0;
+            };
+            payouts[outcome.ordinal() * 2] = net;
+            payouts[outcome.ordinal() * 2 + 1] = outcome == Outcome.PLAYER_WIN ? (double) payoutNumerator / payoutDenominator : net;
+        }
+    }
+
+    /**
+     * Compiles a rule set with the standard player options: double after split, up to 4 hands,
+     * no resplitting of Aces and late surrender.
+     * @param dealerHitsSoft17 true if the dealer hits a soft 17 (H17), false if the dealer stands (S17).
+     * @param payoutNumerator The numerator of the blackjack payout, e.g. 3 for 3:2.
+     * @param payoutDenominator The denominator of the blackjack payout, e.g. 2 for 3:2.
+     * @param dealerPeeks true if the dealer checks for blackjack under a ten or an Ace before the player acts.
+     * @param numberOfDecks The number of decks in the shoe (1 to 8).
+     * @return The compiled rules.
+     * @throws IllegalArgumentException if the payout or the number of decks is invalid.
+     */
+    public static TableRules compile(boolean dealerHitsSoft17, int payoutNumerator, int payoutDenominator,
+                                     boolean dealerPeeks, int numberOfDecks) {
+        return compile(dealerHitsSoft17, payoutNumerator, payoutDenominator, dealerPeeks, numberOfDecks,
+                true, DEFAULT_MAX_HANDS, false, true);
+    }
+
+    /**
+     * Compiles a rule set.
+     * @param dealerHitsSoft17 true if the dealer hits a soft 17 (H17), false if the dealer stands (S17).
+     * @param payoutNumerator The numerator of the blackjack payout, e.g. 3 for 3:2.
+     * @param payoutDenominator The denominator of the blackjack payout, e.g. 2 for 3:2.
+     * @param dealerPeeks true if the dealer checks for blackjack under a ten or an Ace before the player acts.
+     * @param numberOfDecks The number of decks in the shoe (1 to 8).
+     * @param doubleAfterSplit true if split hands may be doubled (DAS).
+     * @param maxHands The maximum number of hands a seat may split into (1 for no splitting, up to 8).
+     * @param resplitAces true if a split Ace that receives another Ace may be split again (RSA).
+     * @param lateSurrender true if the player may give up the first two cards for half the bet (LS).
+     * @return The compiled rules.
+     * @throws IllegalArgumentException if the payout, the number of decks or the number of hands is invalid.
+     */
+    public static TableRules compile(boolean dealerHitsSoft17, int payoutNumerator, int payoutDenominator,
+                                     boolean dealerPeeks, int numberOfDecks, boolean doubleAfterSplit,
+                                     int maxHands, boolean resplitAces, boolean lateSurrender) {
+        if (payoutNumerator < 1 || payoutDenominator < 1) {
+            throw new IllegalArgumentException("Invalid blackjack payout: " + payoutNumerator + ":" + payoutDenominator);
+        }
+        if (numberOfDecks < 1 || numberOfDecks > Deck.MAX_DECKS) {
+            throw new IllegalArgumentException("Invalid number of decks: " + numberOfDecks);
+        }
+        if (maxHands < 1 || maxHands > MAX_HANDS_LIMIT) {
+            throw new IllegalArgumentException("Invalid number of hands: " + maxHands);
+        }
+        return new TableRules(dealerHitsSoft17, payoutNumerator, payoutDenominator, dealerPeeks, numberOfDecks,
+                doubleAfterSplit, maxHands, resplitAces, lateSurrender);
+    }
+
+    /**
+     * Parses a rule specification made of space- or comma-separated tokens, in any order and case:
+     * {@code S17} or {@code H17}, a payout such as {@code 3:2} or {@code 6:5}, {@code PEEK} or {@code NOPEEK},
+     * {@code DAS} or {@code NODAS}, {@code RSA} or {@code NORSA}, {@code LS} or {@code NOLS},
+     * a maximum number of hands such as {@code 4HANDS}, and a number of decks such as {@code 6D}.
+     * Missing tokens keep the value of {@link #STANDARD}.
+     * @param spec The specification, e.g. {@code "H17 6:5 NOPEEK NODAS 6D"}.
+     * @return The compiled rules.
+     * @throws IllegalArgumentException if a token is not recognized or a value is invalid.
+     */
+    public static TableRules parse(String spec) {
+        boolean hitsSoft17 = STANDARD.dealerHitsSoft17;
+        int numerator = STANDARD.payoutNumerator;
+        int denominator = STANDARD.payoutDenominator;
+        boolean peeks = STANDARD.dealerPeeks;
+        int decks = STANDARD.numberOfDecks;
+        boolean das = STANDARD.doubleAfterSplit;
+        int hands = STANDARD.maxHands;
+        boolean rsa = STANDARD.resplitAces;
+        boolean surrender = STANDARD.lateSurrender;
+
+        for (String token : spec.trim().toUpperCase(Locale.ROOT).split("[\\s,]+")) {
+            try {
+                if (token.isEmpty()) {
+                    continue;
+                } else if (token.equals("S17") || token.equals("H17")) {
+                    hitsSoft17 = token.equals("H17");
+                } else if (token.equals("PEEK") || token.equals("NOPEEK")) {
+                    peeks = token.equals("PEEK");
+                } else if (token.equals("DAS") || token.equals("NODAS")) {
+                    das = token.equals("DAS");
+                } else if (token.equals("RSA") || token.equals("NORSA")) {
+                    rsa = token.equals("RSA");
+                } else if (token.equals("LS") || token.equals("NOLS")) {
+                    surrender = token.equals("LS");
+                } else if (token.endsWith("HANDS")) {
+                    hands = Integer.parseInt(token.substring(0, token.length() - "HANDS".length()));
+                } else if (token.endsWith("D")) {
+                    decks = Integer.parseInt(token.substring(0, token.length() - 1));
+                } else if (token.indexOf(':') > 0) {
+                    int colon = token.indexOf(':');
+                    numerator = Integer.parseInt(token.substring(0, colon));
+                    denominator = Integer.parseInt(token.substring(colon + 1));
+                } else {
+                    throw new IllegalArgumentException("Unknown rule: " + token);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid rule: " + token, e);
+            }
+        }
+        return compile(hitsSoft17, numerator, denominator, peeks, decks, das, hands, rsa, surrender);
+    }
+
+    /**
+     * Returns the same rules with a different number of decks.
+     * @param decks The number of decks (1 to 8).
+     * @return This instance if the number is unchanged, otherwise a newly compiled rule set.
+     * @throws IllegalArgumentException if the number of decks is invalid.
+     */
+    public TableRules withNumberOfDecks(int decks) {
+        if (decks == numberOfDecks) {
+            return this;
+        }
+        return compile(dealerHitsSoft17, payoutNumerator, payoutDenominator, dealerPeeks, decks,
+                doubleAfterSplit, maxHands, resplitAces, lateSurrender);
+    }
+
+    /**
+     * Applies the dealer's drawing rule with a table lookup.
+     * @param score The dealer's current score.
+     * @param soft Whether the score counts an Ace as 11.
+     * @return true if the dealer must draw another card.
+     */
+    public boolean dealerDraws(int score, boolean soft) {
+        return score < TOTALS && ((soft ? softDraws : hardDraws) >>> score & 1) != 0;
+    }
+
+    /**
+     * Checks whether the dealer peeks for blackjack with the given upcard.
+     * @param upcardValue The value of the dealer's upcard (2 to 11).
+     * @return true if the dealer peeks, i.e. the rules allow it and the upcard is a ten or an Ace.
+     */
+    public boolean peeksWith(int upcardValue) {
+        return (peekUpcards >>> upcardValue & 1) != 0;
+    }
+
+    /**
+     * Resolves a finished round. A natural blackjack beats any other 21; two naturals push.
+     * A player bust always loses, even if the dealer also went over 21.
+     * @param playerScore The final score of the player.
+     * @param playerBlackjack Whether the player has a natural blackjack.
+     * @param dealerScore The final score of the dealer.
+     * @param dealerBlackjack Whether the dealer has a natural blackjack.
+     * @return The outcome of the round.
+     */
+    public Outcome resolve(int playerScore, boolean playerBlackjack, int dealerScore, boolean dealerBlackjack) {
+        if (playerBlackjack || dealerBlackjack) {
+            if (playerBlackjack == dealerBlackjack) return Outcome.PUSH;
+            return playerBlackjack ? Outcome.PLAYER_WIN : Outcome.DEALER_WIN;
+        }
+        return Outcome.fromScores(playerScore, dealerScore);
+    }
+
+    /**
+     * Returns the net units won or lost on a one-unit bet.
+     * @param outcome The outcome of the round.
+     * @param playerBlackjack Whether the player won with a natural blackjack.
+     * @return The net units: the blackjack payout for a natural, otherwise +1, -1 or 0.
+     */
+    public double netUnits(Outcome outcome, boolean playerBlackjack) {
+        return payouts[outcome.ordinal() * 2 + (playerBlackjack ? 1 : 0)];
+    }
+
+    /**
+     * Checks whether the dealer hits a soft 17.
+     * @return true for H17, false for S17.
+     */
+    public boolean dealerHitsSoft17() { return dealerHitsSoft17; }
+
+    /**
+     * Returns the blackjack payout as a ratio.
+     * @return The units won per unit bet on a natural blackjack, e.g. 1.5 for 3:2.
+     */
+    public double getBlackjackPayout() { return (double) payoutNumerator / payoutDenominator; }
+
+    /**
+     * Checks whether the dealer checks for blackjack before the player acts.
+     * @return true if the dealer peeks.
+     */
+    public boolean dealerPeeks() { return dealerPeeks; }
+
+    /**
+     * Checks whether split hands may be doubled.
+     * @return true for DAS.
+     */
+    public boolean doubleAfterSplit() { return doubleAfterSplit; }
+
+    /**
+     * Returns the maximum number of hands a seat may split into.
+     * @return The hand limit (1 means no splitting).
+     */
+    public int getMaxHands() { return maxHands; }
+
+    /**
+     * Checks whether split Aces may be split again.
+     * @return true for RSA.
+     */
+    public boolean resplitAces() { return resplitAces; }
+
+    /**
+     * Checks whether late surrender is offered.
+     * @return true for LS.
+     */
+    public boolean lateSurrender() { return lateSurrender; }
+
+    /**
+     * Returns the number of decks in the shoe.
+     * @return The number of decks (1 to 8).
+     */
+    public int getNumberOfDecks() { return numberOfDecks; }
+
+    /**
+     * Two rule sets are equal if every rule is the same.
+     * @param o The object to compare with.
+     * @return true if the other object is an equal rule set.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TableRules other
+                && other.dealerHitsSoft17 == dealerHitsSoft17
+                && other.payoutNumerator * payoutDenominator == payoutNumerator * other.payoutDenominator
+                && other.dealerPeeks == dealerPeeks
+                && other.numberOfDecks == numberOfDecks
+                && other.doubleAfterSplit == doubleAfterSplit
+                && other.maxHands == maxHands
+                && other.resplitAces == resplitAces
+                && other.lateSurrender == lateSurrender;
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        int flags = (dealerHitsSoft17 ? 1 : 0) | (dealerPeeks ? 2 : 0) | (doubleAfterSplit ? 4 : 0)
+                | (resplitAces ? 8 : 0) | (lateSurrender ? 16 : 0);
+        return ((Double.hashCode(getBlackjackPayout()) * 31 + flags) * 31 + maxHands) * 31 + numberOfDecks;
+    }
+
+    /**
+     * Returns the specification of the rules, which {@link #parse(String)} reads back.
+     * @return The specification, e.g. {@code "S17 3:2 PEEK DAS NORSA LS 4HANDS 1D"}.
+     */
+    @Override
+    public String toString() {
+        return (dealerHitsSoft17 ? "H17 " : "S17 ") + payoutNumerator + ":" + payoutDenominator
+                + (dealerPeeks ? " PEEK" : " NOPEEK") + (doubleAfterSplit ? " DAS" : " NODAS")
+                + (resplitAces ? " RSA" : " NORSA") + (lateSurrender ? " LS " : " NOLS ")
+                + maxHands + "HANDS " + numberOfDecks + "D";
+    }
+}
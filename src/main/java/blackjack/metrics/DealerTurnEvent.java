@@ -0,0 +1,50 @@
+package blackjack.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The resolution of a round once the player's turn is over: the dealer's play and the settlement of every hand.
+ */
+@Name("blackjack.DealerTurn")
+@Label("Dealer Turn")
+@Description("The dealer's play and the settlement of the round, once the player stands or the last hand is finished")
+public class DealerTurnEvent extends GameEvent {
+    @Label("Decks")
+    int deckCount;
+
+    @Label("Cards Dealt")
+    @Description("Cards dealt from the shoe since its last reshuffle, after the dealer's play")
+    int cardsDealt;
+
+    @Label("Dealer Cards")
+    int dealerCards;
+
+    @Label("Dealer Score")
+    int dealerScore;
+
+    @Label("Hands")
+    @Description("Number of player hands settled")
+    int hands;
+
+    /**
+     * Ends the timed section and commits the event, if it is enabled and over its threshold.
+     * @param deckCount The number of decks in the shoe.
+     * @param cardsDealt The number of cards dealt since the last reshuffle.
+     * @param dealerCards The number of cards in the dealer's hand.
+     * @param dealerScore The dealer's final score.
+     * @param hands The number of player hands settled.
+     */
+    public void finish(int deckCount, int cardsDealt, int dealerCards, int dealerScore, int hands) {
+        end();
+        if (shouldCommit()) {
+            this.deckCount = deckCount;
+            this.cardsDealt = cardsDealt;
+            this.dealerCards = dealerCards;
+            this.dealerScore = dealerScore;
+            this.hands = hands;
+            commit();
+        }
+    }
+}
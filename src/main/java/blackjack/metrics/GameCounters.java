@@ -0,0 +1,61 @@
+package blackjack.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the work done by every game in the process: deals, settled rounds, cards and shuffles.
+ * The counters are striped {@link LongAdder}s, so simulation workers counting at the same time do not contend.
+ */
+public class GameCounters implements GameCountersMBean {
+    final LongAdder deals = new LongAdder();
+    final LongAdder rounds = new LongAdder();
+    final LongAdder cardsDealt = new LongAdder();
+    final LongAdder shuffles = new LongAdder();
+
+    /**
+     * Returns the number of rounds dealt.
+     * @return The deal count.
+     */
+    @Override
+    public long getDeals() {
+        return deals.sum();
+    }
+
+    /**
+     * Returns the number of rounds settled.
+     * @return The round count.
+     */
+    @Override
+    public long getRounds() {
+        return rounds.sum();
+    }
+
+    /**
+     * Returns the number of cards dealt from every shoe.
+     * @return The card count.
+     */
+    @Override
+    public long getCardsDealt() {
+        return cardsDealt.sum();
+    }
+
+    /**
+     * Returns the number of times a shoe was reshuffled or rebuilt.
+     * @return The shuffle count.
+     */
+    @Override
+    public long getShuffles() {
+        return shuffles.sum();
+    }
+
+    /**
+     * Sets every counter back to zero.
+     */
+    @Override
+    public void reset() {
+        deals.reset();
+        rounds.reset();
+        cardsDealt.reset();
+        shuffles.reset();
+    }
+}
@@ -0,0 +1,36 @@
+package blackjack.metrics;
+
+/**
+ * The management interface of the game counters, as shown in JConsole or VisualVM.
+ */
+public interface GameCountersMBean {
+
+    /**
+     * Returns the number of rounds dealt.
+     * @return The deal count.
+     */
+    long getDeals();
+
+    /**
+     * Returns the number of rounds settled.
+     * @return The round count.
+     */
+    long getRounds();
+
+    /**
+     * Returns the number of cards dealt from every shoe.
+     * @return The card count.
+     */
+    long getCardsDealt();
+
+    /**
+     * Returns the number of times a shoe was reshuffled or rebuilt.
+     * @return The shuffle count.
+     */
+    long getShuffles();
+
+    /**
+     * Sets every counter back to zero.
+     */
+    void reset();
+}
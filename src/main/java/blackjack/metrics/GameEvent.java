@@ -0,0 +1,23 @@
+package blackjack.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.StackTrace;
+
+/**
+ * The base of the game's JDK Flight Recorder events, which put the rounds, shuffles, saves and GUI refreshes
+ * of a recording into context next to the JVM's own events.
+ * <p>
+ * The events are disabled by default, even in recordings with the {@code default} or {@code profile} settings,
+ * and are switched on per recording, e.g.
+ * {@code -XX:StartFlightRecording:+blackjack.RoundStart#enabled=true,filename=game.jfr}.
+ * While disabled, an instrumented section costs one flag check: the event object does not escape and is not
+ * allocated, and its fields are only filled in once {@link #shouldCommit()} is true.
+ * No stack traces are taken, as every event type comes from a single place.
+ */
+@Category("Blackjack")
+@Enabled(false)
+@StackTrace(false)
+abstract class GameEvent extends Event {
+}
@@ -0,0 +1,153 @@
+package blackjack.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent histogram of durations in nanoseconds, with log-linear buckets:
+ * every power of two is split into {@value #SUB_BUCKETS} equal buckets, so percentiles are estimated
+ * within 12.5% over the whole range of a long. Every bucket is a {@link LongAdder}, so threads recording
+ * at the same time do not contend on a shared counter.
+ */
+public class LatencyHistogram implements LatencyHistogramMBean {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one duration.
+     * @param nanos The duration in nanoseconds; negative values count as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[bucketOf(value)].increment();
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Returns the bucket of a value: values below {@value #SUB_BUCKETS} have their own bucket,
+     * larger ones are bucketed by their highest bit and the {@value #SUB_BUCKET_BITS} bits below it.
+     * @param value The non-negative value.
+     * @return The bucket index.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Returns the smallest value that falls into a bucket.
+     * @param bucket The bucket index.
+     * @return The lower bound of the bucket.
+     */
+    static long lowerBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        return (SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    /**
+     * Estimates a percentile as the middle of the bucket that holds it, capped at the maximum.
+     * @param percentile The percentile, from 0 to 100.
+     * @return The estimate in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i].sum();
+            if (seen >= rank) {
+                long low = lowerBoundOf(i);
+                long high = i + 1 < BUCKETS ? lowerBoundOf(i + 1) : Long.MAX_VALUE;
+                return Math.min(low + (high - low) / 2, max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Returns the number of recorded values.
+     * @return The count.
+     */
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean of the recorded values.
+     * @return The mean in microseconds, or 0 if nothing was recorded.
+     */
+    @Override
+    public double getMeanMicros() {
+        long total = count.sum();
+        return total == 0 ? 0 : sum.sum() / (total * 1e3);
+    }
+
+    /**
+     * Returns the median of the recorded values.
+     * @return The estimated median in microseconds.
+     */
+    @Override
+    public double getP50Micros() {
+        return getPercentileNanos(50) / 1e3;
+    }
+
+    /**
+     * Returns the 99th percentile of the recorded values.
+     * @return The estimated 99th percentile in microseconds.
+     */
+    @Override
+    public double getP99Micros() {
+        return getPercentileNanos(99) / 1e3;
+    }
+
+    /**
+     * Returns the largest recorded value.
+     * @return The maximum in microseconds.
+     */
+    @Override
+    public double getMaxMicros() {
+        return max.get() / 1e3;
+    }
+
+    /**
+     * Clears every recorded value.
+     */
+    @Override
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+}
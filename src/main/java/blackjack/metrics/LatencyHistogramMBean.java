@@ -0,0 +1,42 @@
+package blackjack.metrics;
+
+/**
+ * The management interface of a {@link LatencyHistogram}, as shown in JConsole or VisualVM.
+ */
+public interface LatencyHistogramMBean {
+
+    /**
+     * Returns the number of recorded values.
+     * @return The count.
+     */
+    long getCount();
+
+    /**
+     * Returns the mean of the recorded values.
+     * @return The mean in microseconds, or 0 if nothing was recorded.
+     */
+    double getMeanMicros();
+
+    /**
+     * Returns the median of the recorded values.
+     * @return The estimated median in microseconds.
+     */
+    double getP50Micros();
+
+    /**
+     * Returns the 99th percentile of the recorded values.
+     * @return The estimated 99th percentile in microseconds.
+     */
+    double getP99Micros();
+
+    /**
+     * Returns the largest recorded value.
+     * @return The maximum in microseconds.
+     */
+    double getMaxMicros();
+
+    /**
+     * Clears every recorded value.
+     */
+    void reset();
+}
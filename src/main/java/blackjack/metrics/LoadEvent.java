@@ -0,0 +1,41 @@
+package blackjack.metrics;
+
+import java.nio.file.Path;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A save file being read and decoded into a game.
+ */
+@Name("blackjack.Load")
+@Label("Load")
+@Description("Reading and decoding a save file, in the binary or the legacy format")
+public class LoadEvent extends GameEvent {
+    @Label("File")
+    String file;
+
+    @Label("Bytes Read")
+    @DataAmount
+    long bytesRead;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * Ends the timed section and commits the event, if it is enabled and over its threshold.
+     * @param file The save file.
+     * @param bytesRead The number of bytes read, or 0 if reading failed.
+     * @param succeeded Whether a game was loaded.
+     */
+    public void finish(Path file, long bytesRead, boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.file = String.valueOf(file);
+            this.bytesRead = bytesRead;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
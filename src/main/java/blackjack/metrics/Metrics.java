@@ -0,0 +1,214 @@
+package blackjack.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The process-wide instrumentation of the game and persistence hot paths, exposed as platform MBeans
+ * under the {@code blackjack} domain once {@link #register()} has been called:
+ * <ul>
+ *   <li>{@code blackjack:type=Game} counts deals, settled rounds, cards dealt and shuffles,</li>
+ *   <li>{@code blackjack:type=Persistence} counts saves, loads, their bytes and failures,</li>
+ *   <li>{@code blackjack:type=Latency,name=...} are latency histograms of round resolution (the dealer's play
+ *       and settlement), GUI refreshes, saves and loads.</li>
+ * </ul>
+ * Instrumentation is on by default and is switched off for the whole process with
+ * {@code -Dblackjack.metrics=false}. The switch is a static final constant, so with metrics off the JIT
+ * removes every hook, including the clock reads around them, and instrumented code runs as if it were not.
+ */
+public final class Metrics {
+    /** Whether instrumentation is enabled; read once, from the {@code blackjack.metrics} system property. */
+    public static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty("blackjack.metrics"));
+
+    private static final Logger LOGGER = Logger.getLogger(Metrics.class.getName());
+
+    private static final GameCounters GAME = new GameCounters();
+    private static final PersistenceCounters PERSISTENCE = new PersistenceCounters();
+    private static final LatencyHistogram ROUND_RESOLUTION = new LatencyHistogram();
+    private static final LatencyHistogram RENDER = new LatencyHistogram();
+    private static final LatencyHistogram SAVE = new LatencyHistogram();
+    private static final LatencyHistogram LOAD = new LatencyHistogram();
+
+    private static boolean registered;
+
+    /**
+     * Private constructor to hide the implicit public one.
+     * Utility classes should not be instantiated.
+     */
+    private Metrics() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Registers the MBeans with the platform MBean server, once; does nothing if metrics are disabled.
+     * A registration failure is logged and leaves the game running without JMX.
+     */
+    public static synchronized void register() {
+        if (!ENABLED || registered) {
+            return;
+        }
+        registered = true;
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(GAME, new ObjectName("blackjack:type=Game"));
+            server.registerMBean(PERSISTENCE, new ObjectName("blackjack:type=Persistence"));
+            server.registerMBean(ROUND_RESOLUTION, new ObjectName("blackjack:type=Latency,name=RoundResolution"));
+            server.registerMBean(RENDER, new ObjectName("blackjack:type=Latency,name=Render"));
+            server.registerMBean(SAVE, new ObjectName("blackjack:type=Latency,name=Save"));
+            server.registerMBean(LOAD, new ObjectName("blackjack:type=Latency,name=Load"));
+        } catch (JMException e) {
+            LOGGER.log(Level.WARNING, "Registering the metrics MBeans failed", e);
+        }
+    }
+
+    /**
+     * Reads the clock for a timed section, or returns 0 without reading it when metrics are disabled.
+     * @return The current {@link System#nanoTime()}, or 0.
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Counts a dealt round.
+     */
+    public static void dealt() {
+        if (ENABLED) {
+            GAME.deals.increment();
+        }
+    }
+
+    /**
+     * Counts a card dealt from a shoe.
+     */
+    public static void cardDealt() {
+        if (ENABLED) {
+            GAME.cardsDealt.increment();
+        }
+    }
+
+    /**
+     * Counts a reshuffled or rebuilt shoe.
+     */
+    public static void shuffled() {
+        if (ENABLED) {
+            GAME.shuffles.increment();
+        }
+    }
+
+    /**
+     * Counts a settled round.
+     */
+    public static void roundSettled() {
+        if (ENABLED) {
+            GAME.rounds.increment();
+        }
+    }
+
+    /**
+     * Records the time the dealer's play and the settlement of a round took.
+     * @param start The value of {@link #start()} when the player's turn ended.
+     */
+    public static void roundResolved(long start) {
+        if (ENABLED) {
+            ROUND_RESOLUTION.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records the time a GUI refresh took.
+     * @param start The value of {@link #start()} when the refresh began.
+     */
+    public static void rendered(long start) {
+        if (ENABLED) {
+            RENDER.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records a completed save.
+     * @param start The value of {@link #start()} when the write began.
+     * @param bytes The size of the save.
+     */
+    public static void saved(long start, int bytes) {
+        if (ENABLED) {
+            SAVE.record(System.nanoTime() - start);
+            PERSISTENCE.saves.increment();
+            PERSISTENCE.bytesWritten.add(bytes);
+        }
+    }
+
+    /**
+     * Records a completed load.
+     * @param start The value of {@link #start()} when the read began.
+     * @param bytes The size of the loaded file.
+     */
+    public static void loaded(long start, int bytes) {
+        if (ENABLED) {
+            LOAD.record(System.nanoTime() - start);
+            PERSISTENCE.loads.increment();
+            PERSISTENCE.bytesRead.add(bytes);
+        }
+    }
+
+    /**
+     * Counts a failed save or load.
+     */
+    public static void persistenceFailed() {
+        if (ENABLED) {
+            PERSISTENCE.failures.increment();
+        }
+    }
+
+    /**
+     * Returns the game counters.
+     * @return The counters, also registered as {@code blackjack:type=Game}.
+     */
+    public static GameCounters getGameCounters() {
+        return GAME;
+    }
+
+    /**
+     * Returns the persistence counters.
+     * @return The counters, also registered as {@code blackjack:type=Persistence}.
+     */
+    public static PersistenceCounters getPersistenceCounters() {
+        return PERSISTENCE;
+    }
+
+    /**
+     * Returns the latency histogram of round resolution.
+     * @return The histogram.
+     */
+    public static LatencyHistogram getRoundResolution() {
+        return ROUND_RESOLUTION;
+    }
+
+    /**
+     * Returns the latency histogram of GUI refreshes.
+     * @return The histogram.
+     */
+    public static LatencyHistogram getRender() {
+        return RENDER;
+    }
+
+    /**
+     * Returns the latency histogram of saves.
+     * @return The histogram.
+     */
+    public static LatencyHistogram getSave() {
+        return SAVE;
+    }
+
+    /**
+     * Returns the latency histogram of loads.
+     * @return The histogram.
+     */
+    public static LatencyHistogram getLoad() {
+        return LOAD;
+    }
+}
@@ -0,0 +1,71 @@
+package blackjack.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts saves and loads, the bytes they moved and the failures.
+ */
+public class PersistenceCounters implements PersistenceCountersMBean {
+    final LongAdder saves = new LongAdder();
+    final LongAdder loads = new LongAdder();
+    final LongAdder bytesWritten = new LongAdder();
+    final LongAdder bytesRead = new LongAdder();
+    final LongAdder failures = new LongAdder();
+
+    /**
+     * Returns the number of saves written.
+     * @return The save count.
+     */
+    @Override
+    public long getSaves() {
+        return saves.sum();
+    }
+
+    /**
+     * Returns the number of saves loaded.
+     * @return The load count.
+     */
+    @Override
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    /**
+     * Returns the number of bytes written by saves.
+     * @return The byte count.
+     */
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * Returns the number of bytes read by loads.
+     * @return The byte count.
+     */
+    @Override
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    /**
+     * Returns the number of saves and loads that failed.
+     * @return The failure count.
+     */
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Sets every counter back to zero.
+     */
+    @Override
+    public void reset() {
+        saves.reset();
+        loads.reset();
+        bytesWritten.reset();
+        bytesRead.reset();
+        failures.reset();
+    }
+}
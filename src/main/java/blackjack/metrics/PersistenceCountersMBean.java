@@ -0,0 +1,42 @@
+package blackjack.metrics;
+
+/**
+ * The management interface of the save and load counters, as shown in JConsole or VisualVM.
+ */
+public interface PersistenceCountersMBean {
+
+    /**
+     * Returns the number of saves written.
+     * @return The save count.
+     */
+    long getSaves();
+
+    /**
+     * Returns the number of saves loaded.
+     * @return The load count.
+     */
+    long getLoads();
+
+    /**
+     * Returns the number of bytes written by saves.
+     * @return The byte count.
+     */
+    long getBytesWritten();
+
+    /**
+     * Returns the number of bytes read by loads.
+     * @return The byte count.
+     */
+    long getBytesRead();
+
+    /**
+     * Returns the number of saves and loads that failed.
+     * @return The failure count.
+     */
+    long getFailures();
+
+    /**
+     * Sets every counter back to zero.
+     */
+    void reset();
+}
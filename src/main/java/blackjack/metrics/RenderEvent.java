@@ -0,0 +1,36 @@
+package blackjack.metrics;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A refresh of the game window after game events, covering only the components they invalidated.
+ */
+@Name("blackjack.Render")
+@Label("Render")
+public class RenderEvent extends GameEvent {
+    @Label("Table Updated")
+    boolean table;
+
+    @Label("Controls Updated")
+    boolean controls;
+
+    @Label("Count Updated")
+    boolean count;
+
+    /**
+     * Ends the timed section and commits the event, if it is enabled and over its threshold.
+     * @param table Whether the table (cards and status) was updated.
+     * @param controls Whether the controls and the EV hint were updated.
+     * @param count Whether the card count was updated.
+     */
+    public void finish(boolean table, boolean controls, boolean count) {
+        end();
+        if (shouldCommit()) {
+            this.table = table;
+            this.controls = controls;
+            this.count = count;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package blackjack.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A round being started: the reshuffle of the shoe, if due, and the initial deal.
+ */
+@Name("blackjack.RoundStart")
+@Label("Round Start")
+@Description("A new round: reshuffling the shoe when the cut card has come out, and dealing the first four cards")
+public class RoundStartEvent extends GameEvent {
+    @Label("Decks")
+    int deckCount;
+
+    @Label("Cards Dealt")
+    @Description("Cards dealt from the shoe since its last reshuffle, after the initial deal")
+    int cardsDealt;
+
+    @Label("Reshuffled")
+    boolean reshuffled;
+
+    /**
+     * Ends the timed section and commits the event, if it is enabled and over its threshold.
+     * @param deckCount The number of decks in the shoe.
+     * @param cardsDealt The number of cards dealt since the last reshuffle.
+     * @param reshuffled Whether the shoe was reshuffled or rebuilt for this round.
+     */
+    public void finish(int deckCount, int cardsDealt, boolean reshuffled) {
+        end();
+        if (shouldCommit()) {
+            this.deckCount = deckCount;
+            this.cardsDealt = cardsDealt;
+            this.reshuffled = reshuffled;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package blackjack.metrics;
+
+import java.nio.file.Path;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A save of the game state written to disk: a manual save, an auto-save or a session snapshot.
+ */
+@Name("blackjack.Save")
+@Label("Save")
+@Description("An atomic write of a save file or session snapshot, including forcing it to disk")
+public class SaveEvent extends GameEvent {
+    @Label("File")
+    String file;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytesWritten;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * Ends the timed section and commits the event, if it is enabled and over its threshold.
+     * @param file The target file.
+     * @param bytesWritten The size of the save.
+     * @param succeeded Whether the save reached the disk.
+     */
+    public void finish(Path file, long bytesWritten, boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.file = String.valueOf(file);
+            this.bytesWritten = bytesWritten;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
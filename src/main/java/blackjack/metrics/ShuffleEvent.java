@@ -0,0 +1,31 @@
+package blackjack.metrics;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A shuffle of the cards remaining in a shoe.
+ */
+@Name("blackjack.Shuffle")
+@Label("Shuffle")
+public class ShuffleEvent extends GameEvent {
+    @Label("Decks")
+    int deckCount;
+
+    @Label("Cards Shuffled")
+    int cardsShuffled;
+
+    /**
+     * Ends the timed section and commits the event, if it is enabled and over its threshold.
+     * @param deckCount The number of decks in the shoe.
+     * @param cardsShuffled The number of cards shuffled.
+     */
+    public void finish(int deckCount, int cardsShuffled) {
+        end();
+        if (shouldCommit()) {
+            this.deckCount = deckCount;
+            this.cardsShuffled = cardsShuffled;
+            commit();
+        }
+    }
+}
@@ -1,23 +1,89 @@
 package blackjack.model;
 
-import java.io.Serializable;
-
 /**
  * Represents a single playing card.
- * Implements Serializable to be part of the game state saved to file.
+ * There are only 52 distinct cards, so every card is identified by a small integer code
+ * ({@code suit * 13 + rank}) and the canonical instances are shared through {@link #of(Suit, Rank)}
+ * and {@link #fromCode(int)}. Decks store only the codes and never allocate cards while dealing,
+ * and saved games store only the codes as well.
  */
-public class Card implements Serializable {
+public class Card {
+    /** The number of distinct cards (and card codes) in a standard deck. */
+    public static final int DISTINCT_CARDS = 52;
+
+    private static final Rank[] RANKS = Rank.values();
+    private static final Suit[] SUITS = Suit.values();
+    private static final Card[] CARDS = new Card[DISTINCT_CARDS];
+
+    static {
+        for (Suit suit : SUITS) {
+            for (Rank rank : RANKS) {
+                Card card = new Card(suit, rank);
+                CARDS[card.code] = card;
+            }
+        }
+    }
+
     private final Suit suit;
     private final Rank rank;
+    private final int code;
+    private final String shortName;
 
     /**
      * Constructs a Card with a specified suit and rank.
+     * Prefer {@link #of(Suit, Rank)}, which returns the shared canonical instance.
      * @param suit The suit of the card.
      * @param rank The rank of the card.
      */
     public Card(Suit suit, Rank rank) {
         this.suit = suit;
         this.rank = rank;
+        this.code = suit.ordinal() * RANKS.length + rank.ordinal();
+        String rankName = switch (rank) {
+            case JACK -> "J";
+            case QUEEN -> "Q";
+            case KING -> "K";
+            case ACE -> "A";
+            default -> String.valueOf(rank.getValue());
+        };
+        this.shortName = rankName + suit.name().charAt(0);
+    }
+
+    /**
+     * Returns the canonical instance of the card with the given suit and rank.
+     * @param suit The suit of the card.
+     * @param rank The rank of the card.
+     * @return The shared Card instance.
+     */
+    public static Card of(Suit suit, Rank rank) {
+        return CARDS[suit.ordinal() * RANKS.length + rank.ordinal()];
+    }
+
+    /**
+     * Returns the canonical instance of the card with the given code.
+     * @param code The card code, between 0 and 51.
+     * @return The shared Card instance.
+     * @throws ArrayIndexOutOfBoundsException if the code is out of range.
+     */
+    public static Card fromCode(int code) {
+        return CARDS[code];
+    }
+
+    /**
+     * Returns the rank of the card with the given code without looking up the card.
+     * @param code The card code, between 0 and 51.
+     * @return The Rank enum value.
+     */
+    public static Rank rankOf(int code) {
+        return RANKS[code % RANKS.length];
+    }
+
+    /**
+     * Returns the compact integer code of the card.
+     * @return The card code, between 0 and 51.
+     */
+    public int getCode() {
+        return code;
     }
 
     /**
@@ -28,6 +94,18 @@ public class Card implements Serializable {
         return rank.getValue();
     }
 
+    /**
+     * Returns the Hi-Lo counting tag of the card: +1 for 2 to 6, 0 for 7 to 9 and -1 for tens and Aces.
+     * @return The tag added to the running count when the card is seen.
+     */
+    public int getHiLoTag() {
+        int value = rank.getValue();
+        if (value <= 6) {
+            return 1;
+        }
+        return value >= 10 ? -1 : 0;
+    }
+
     /**
      * Returns the rank of the card.
      * @return The Rank enum value.
@@ -44,6 +122,33 @@ public class Card implements Serializable {
         return suit;
     }
 
+    /**
+     * Two cards are equal if they have the same suit and rank.
+     * @param o The object to compare with.
+     * @return true if the other object is a card with the same code.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Card other && other.code == code;
+    }
+
+    /**
+     * Returns the card code as the hash code.
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        return code;
+    }
+
+    /**
+     * Returns a compact ASCII name of the card, used by text protocols and logs (e.g., "AH", "10S", "QD").
+     * @return The rank followed by the first letter of the suit.
+     */
+    public String getShortName() {
+        return shortName;
+    }
+
     /**
      * Provides a string representation of the card, including a Unicode symbol for the suit.
      * This is used for display in the GUI.
@@ -76,4 +181,4 @@ public class Card implements Serializable {
         }
         return rank.name() + " " + symbol;
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,8 @@ package blackjack.model;
  * The Dealer (computer player), inherits Player functionality and implements dealer-specific rules.
  */
 public class Dealer extends Player {
+    /** The score at which the dealer stands. */
+    public static final int STAND_SCORE = 17;
 
     /**
      * Constructs a Dealer, setting its name to "Dealer".
@@ -13,12 +15,24 @@ public class Dealer extends Player {
     }
 
     /**
-     * Checks if the Dealer must draw another card based on Blackjack rules.
-     * Dealer rule: must hit if score is below 17.
+     * Checks if the Dealer must draw another card under the standard rule (stand on all 17s).
+     * Games follow their table rules instead, which also support hitting a soft 17.
      * @return true if the Dealer should hit, false to stand.
      */
     public boolean shouldHit() {
-        // The Dealer must hit until their score is 17 or greater.
-        return getScore() < 17;
+        return shouldHit(getScore(), isSoft(), false);
+    }
+
+    /**
+     * Applies the dealer's drawing rule to a hand total.
+     * Table rules compile it into lookup tables once per rule set.
+     * @param score The dealer's current score.
+     * @param soft Whether the score counts an Ace as 11.
+     * @param hitsSoft17 Whether the dealer hits a soft 17 (H17) instead of standing on it (S17).
+     * @return true if the dealer must draw another card.
+     */
+    public static boolean shouldHit(int score, boolean soft, boolean hitsSoft17) {
+        // The Dealer must hit until their score is 17 or greater; under H17 a soft 17 is hit as well.
+        return score < STAND_SCORE || (hitsSoft17 && soft && score == STAND_SCORE);
     }
 }
\ No newline at end of file
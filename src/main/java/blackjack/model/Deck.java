@@ -1,25 +1,61 @@
 package blackjack.model;
 
-import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.Collections;
+import blackjack.metrics.ShuffleEvent;
+import java.util.Arrays;
 import java.util.List;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
 /**
- * Manages the deck(s) of cards, including initialization, shuffling, and dealing.
- * The deck can be configured to contain 1 or 2 standard 52-card decks.
- * Implements Serializable for game saving functionality.
+ * Manages the shoe of cards, including initialization, shuffling, and dealing.
+ * The shoe can be configured to contain 1 to 8 standard 52-card decks and lasts across rounds:
+ * a cut card is placed at the configured penetration, and the shoe is only reshuffled once it comes out.
+ * The cards are stored as compact card codes in a primitive array with a read cursor,
+ * so dealing is constant-time and does not allocate.
+ * The deck also keeps the Hi-Lo running count and the remaining cards of each value up to date as cards are dealt,
+ * so counting indicators are read in constant time instead of rescanning the shoe.
+ * The shoe is saved and restored by {@code SaveManager} through {@link #restore}.
  */
-public class Deck implements Serializable {
-    private List<Card> cards;
+public final class Deck {
+    private final byte[] shoe;
+    private int cursor;
     private final int numberOfDecks;
+    private final double penetration;
+    private final int cutCardPosition;
+    private RandomGenerator random;
+    private int runningCount;
+    private final int[] remainingByValue = new int[VALUES];
+
+    /** The number of distinct point values: 2 to 10 and the Ace. */
+    public static final int VALUES = 10;
+
+    // Per card code: the Hi-Lo tag and the index of the point value, so dealing updates the counts with two lookups
+    private static final byte[] HI_LO_TAGS = new byte[Card.DISTINCT_CARDS];
+    private static final byte[] VALUE_INDEXES = new byte[Card.DISTINCT_CARDS];
+
+    static {
+        for (int code = 0; code < Card.DISTINCT_CARDS; code++) {
+            Card card = Card.fromCode(code);
+            HI_LO_TAGS[code] = (byte) card.getHiLoTag();
+            VALUE_INDEXES[code] = (byte) (card.getValue() - 2);
+        }
+    }
 
     /** The maximum number of decks allowed. */
-    private static final int MAX_DECKS = 2;
+    public static final int MAX_DECKS = 8;
     
     /** The default number of decks for a single game. */
     private static final int DEFAULT_DECKS = 1;
 
+    /** The default fraction of the shoe dealt before the cut card comes out. */
+    public static final double DEFAULT_PENETRATION = 0.75;
+
+    /** The lowest accepted penetration. */
+    private static final double MIN_PENETRATION = 0.25;
+
+    /** The default shuffling algorithm: fast, small-state and splittable, with no shared state between threads. */
+    private static final RandomGeneratorFactory<RandomGenerator> RANDOM_FACTORY = RandomGeneratorFactory.of("L64X128MixRandom");
+
     /**
      * Constructs a new Deck with the default number of decks (1).
      */
@@ -28,54 +64,225 @@ public class Deck implements Serializable {
     }
 
     /**
-     * Constructs a new Deck and immediately initializes it with the specified number of decks (max 2).
-     * @param count The desired number of decks (1 or 2). Invalid count defaults to 1.
+     * Constructs a new Deck and immediately initializes it with the specified number of decks (max 8).
+     * @param count The desired number of decks (1 to 8). Invalid count defaults to 1.
      */
     public Deck(int count) {
-        // Ensure the count is valid: 1 or 2. If not, default to 1.
+        this(count, createRandom());
+    }
+
+    /**
+     * Constructs a new Deck that shuffles with the given random generator.
+     * Headless simulations pass a per-worker instance so that shuffling is never shared between threads.
+     * @param count The desired number of decks (1 to 8). Invalid count defaults to 1.
+     * @param random The random generator used for shuffling.
+     */
+    public Deck(int count, RandomGenerator random) {
+        this(count, DEFAULT_PENETRATION, random);
+    }
+
+    /**
+     * Constructs a new shoe with a cut card at the given penetration.
+     * @param count The desired number of decks (1 to 8). Invalid count defaults to 1.
+     * @param penetration The fraction of the shoe dealt before reshuffling (0.25 to 1). Invalid values default to 0.75.
+     * @param random The random generator used for shuffling.
+     */
+    public Deck(int count, double penetration, RandomGenerator random) {
+        // Ensure the count is valid: 1 to 8. If not, default to 1.
         if (count < 1 || count > MAX_DECKS) {
             this.numberOfDecks = DEFAULT_DECKS;
         } else {
             this.numberOfDecks = count;
         }
-        this.cards = new ArrayList<>();
+        // Same for the penetration: out-of-range values fall back to the default.
+        if (penetration < MIN_PENETRATION || penetration > 1) {
+            this.penetration = DEFAULT_PENETRATION;
+        } else {
+            this.penetration = penetration;
+        }
+        this.random = random;
+        this.shoe = new byte[numberOfDecks * Card.DISTINCT_CARDS];
+        this.cutCardPosition = (int) Math.round(shoe.length * this.penetration);
         initializeDeck();
     }
 
+    /**
+     * Constructs a shoe from saved state, without shuffling.
+     * @param numberOfDecks The number of decks in the shoe.
+     * @param penetration The penetration.
+     * @param shoe The card codes in dealing order.
+     * @param cursor The number of cards already dealt.
+     * @param random The random generator used for future shuffles.
+     */
+    private Deck(int numberOfDecks, double penetration, byte[] shoe, int cursor, RandomGenerator random) {
+        this.numberOfDecks = numberOfDecks;
+        this.penetration = penetration;
+        this.shoe = shoe;
+        this.cursor = cursor;
+        this.random = random;
+        this.cutCardPosition = (int) Math.round(shoe.length * penetration);
+        resetCounts();
+        for (int i = 0; i < cursor; i++) {
+            countDealt(shoe[i]);
+        }
+    }
+
+    /**
+     * Rebuilds a shoe from its saved state: the card order and the position of the next card to deal.
+     * @param numberOfDecks The number of decks in the shoe (1 to 8).
+     * @param penetration The penetration (0.25 to 1).
+     * @param shoe The card codes in dealing order; the array is copied.
+     * @param cursor The number of cards already dealt.
+     * @param random The random generator used for future shuffles.
+     * @return The restored deck.
+     * @throws IllegalArgumentException if the state is inconsistent.
+     */
+    public static Deck restore(int numberOfDecks, double penetration, byte[] shoe, int cursor, RandomGenerator random) {
+        if (numberOfDecks < 1 || numberOfDecks > MAX_DECKS || shoe.length != numberOfDecks * Card.DISTINCT_CARDS) {
+            throw new IllegalArgumentException("Invalid shoe size: " + shoe.length + " cards for " + numberOfDecks + " decks.");
+        }
+        if (penetration < MIN_PENETRATION || penetration > 1 || cursor < 0 || cursor > shoe.length) {
+            throw new IllegalArgumentException("Invalid shoe position or penetration.");
+        }
+        for (byte code : shoe) {
+            if (code < 0 || code >= Card.DISTINCT_CARDS) {
+                throw new IllegalArgumentException("Invalid card code: " + code);
+            }
+        }
+        return new Deck(numberOfDecks, penetration, shoe.clone(), cursor, random);
+    }
+
+    /**
+     * Returns a copy of the shoe's card codes in dealing order, including the cards already dealt.
+     * @return The card codes.
+     */
+    public byte[] getShoeCodes() {
+        return shoe.clone();
+    }
+
+    /**
+     * Creates an unseeded instance of the default shuffling generator (L64X128MixRandom).
+     * @return A new random generator.
+     */
+    public static RandomGenerator createRandom() {
+        return RANDOM_FACTORY.create();
+    }
+
+    /**
+     * Creates a seeded instance of the default shuffling generator (L64X128MixRandom).
+     * The same seed always produces the same sequence of shuffles.
+     * @param seed The seed.
+     * @return A new random generator.
+     */
+    public static RandomGenerator createRandom(long seed) {
+        return RANDOM_FACTORY.create(seed);
+    }
+
+    /**
+     * Replaces the random generator used for future shuffles.
+     * @param random The new random generator.
+     */
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+
     /**
      * Populates the deck with the specified number of standard 52-card decks and shuffles them.
      */
     private void initializeDeck() {
-        cards.clear();
-        // Create cards for the specified number of decks
-        for (int i = 0; i < numberOfDecks; i++) {
-            for (Suit suit : Suit.values()) {
-                for (Rank rank : Rank.values()) {
-                    this.cards.add(new Card(suit, rank));
+        // Fill the shoe with the card codes of each deck in order
+        for (int i = 0; i < shoe.length; i++) {
+            shoe[i] = (byte) (i % Card.DISTINCT_CARDS);
+        }
+        cursor = 0;
+        resetCounts();
+        shuffle();
+    }
+
+    /**
+     * Collects every dealt card back into the shoe and shuffles the whole shoe.
+     * The cut card is placed again at the configured penetration, and the count starts over.
+     */
+    public void reshuffle() {
+        cursor = 0;
+        resetCounts();
+        shuffle();
+    }
+
+    /**
+     * Reshuffles the shoe in the middle of a round, when it has run out of cards.
+     * Only the discards go back into the shoe: the cards still on the table are moved in front of the cursor,
+     * so they cannot be dealt again this round, and they count as seen in the new shoe's counting indicators.
+     * @param inPlay The cards on the table, all dealt from this shoe since the last reshuffle.
+     */
+    public void reshuffleDiscards(List<Card> inPlay) {
+        int kept = 0;
+        for (int i = 0; i < inPlay.size(); i++) {
+            byte code = (byte) inPlay.get(i).getCode();
+            // Find a dealt copy of the card that has not been kept yet and move it to the front
+            for (int j = kept; j < cursor; j++) {
+                if (shoe[j] == code) {
+                    shoe[j] = shoe[kept];
+                    shoe[kept++] = code;
+                    break;
                 }
             }
         }
+        cursor = kept;
+        resetCounts();
+        for (int i = 0; i < kept; i++) {
+            countDealt(shoe[i]);
+        }
         shuffle();
     }
 
     /**
-     * Randomly shuffles the cards in the deck.
+     * Resets the counting indicators to those of a full shoe.
+     */
+    private void resetCounts() {
+        runningCount = 0;
+        // Four cards of each value per deck, except the sixteen ten-valued cards
+        Arrays.fill(remainingByValue, 4 * numberOfDecks);
+        remainingByValue[VALUES - 2] = 16 * numberOfDecks;
+    }
+
+    /**
+     * Updates the counting indicators for a card leaving the shoe.
+     * @param code The code of the dealt card.
+     */
+    private void countDealt(byte code) {
+        runningCount += HI_LO_TAGS[code];
+        remainingByValue[VALUE_INDEXES[code]]--;
+    }
+
+    /**
+     * Randomly shuffles the cards remaining in the deck (Fisher-Yates).
      */
     public void shuffle() {
-        Collections.shuffle(cards);
+        ShuffleEvent event = new ShuffleEvent();
+        event.begin();
+        for (int i = shoe.length - 1; i > cursor; i--) {
+            int j = cursor + random.nextInt(i - cursor + 1);
+            byte tmp = shoe[i];
+            shoe[i] = shoe[j];
+            shoe[j] = tmp;
+        }
+        event.finish(numberOfDecks, shoe.length - cursor);
     }
 
     /**
      * Deals (removes and returns) the top card from the deck.
-     * The card is removed from the list, thus it cannot be dealt again until the deck is reset.
+     * The cursor moves past the card, thus it cannot be dealt again until the deck is reset.
      * @return The Card object dealt.
      * @throws IllegalStateException if the deck is empty.
      */
     public Card dealCard() {
-        if (cards.isEmpty()) {
+        if (cursor == shoe.length) {
             throw new IllegalStateException("The deck is empty! A new round must be started.");
         }
-        return cards.remove(0);
+        byte code = shoe[cursor++];
+        countDealt(code);
+        return Card.fromCode(code);
     }
 
     /**
@@ -83,6 +290,89 @@ public class Deck implements Serializable {
      * @return The count of cards.
      */
     public int getCardCount() {
-        return cards.size();
+        return shoe.length - cursor;
+    }
+
+    /**
+     * Returns how many cards of each point value remain in the shoe.
+     * @return A new array of 10 counts: index 0 holds the twos, index 8 the ten-valued cards and index 9 the Aces.
+     */
+    public int[] getRemainingRankCounts() {
+        return remainingByValue.clone();
+    }
+
+    /**
+     * Returns how many cards of one point value remain in the shoe.
+     * @param value The point value: 2 to 10, or 11 for the Aces.
+     * @return The number of remaining cards with that value.
+     * @throws ArrayIndexOutOfBoundsException if the value is out of range.
+     */
+    public int getRemainingCount(int value) {
+        return remainingByValue[value - 2];
+    }
+
+    /**
+     * Returns the Hi-Lo running count of the cards dealt since the last reshuffle.
+     * @return The sum of the Hi-Lo tags of the dealt cards.
+     */
+    public int getRunningCount() {
+        return runningCount;
+    }
+
+    /**
+     * Returns the Hi-Lo true count: the running count divided by the number of decks remaining.
+     * @return The true count, or 0 if the shoe is empty.
+     */
+    public double getTrueCount() {
+        int remaining = shoe.length - cursor;
+        return remaining == 0 ? 0 : runningCount * (double) Card.DISTINCT_CARDS / remaining;
+    }
+
+    /**
+     * Checks whether the cut card has come out, meaning the shoe should be reshuffled before the next round.
+     * @return true if the number of dealt cards has reached the cut card position.
+     */
+    public boolean isCutCardReached() {
+        return cursor >= cutCardPosition;
+    }
+
+    /**
+     * Returns the number of cards dealt since the last reshuffle.
+     * @return The count of dealt cards.
+     */
+    public int getCardsDealt() {
+        return cursor;
+    }
+
+    /**
+     * Returns the total number of cards in the shoe.
+     * @return The shoe size (52 times the number of decks).
+     */
+    public int getTotalCards() {
+        return shoe.length;
+    }
+
+    /**
+     * Returns the number of decks in the shoe.
+     * @return The number of decks (1 to 8).
+     */
+    public int getNumberOfDecks() {
+        return numberOfDecks;
+    }
+
+    /**
+     * Returns the configured penetration.
+     * @return The fraction of the shoe dealt before the cut card comes out.
+     */
+    public double getPenetration() {
+        return penetration;
+    }
+
+    /**
+     * Returns the position of the cut card.
+     * @return The number of dealt cards at which the shoe is due for a reshuffle.
+     */
+    public int getCutCardPosition() {
+        return cutCardPosition;
     }
-}
\ No newline at end of file
+}
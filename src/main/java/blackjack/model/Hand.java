@@ -0,0 +1,219 @@
+package blackjack.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One hand of cards with its running totals and its betting state.
+ * A seat owns a small pool of hands that are cleared and reused from round to round, so splitting a hand
+ * reuses a pooled instance and its card list instead of allocating once the pool has grown to its working size.
+ * The totals are maintained incrementally as cards are added, so reading the score and the soft/bust/blackjack
+ * flags is a constant-time field read.
+ */
+public class Hand {
+    /** The usual maximum number of cards in a hand, used as the initial capacity of the card list. */
+    private static final int TYPICAL_CARDS = 8;
+
+    private final List<Card> cards = new ArrayList<>(TYPICAL_CARDS);
+    private final List<Card> cardsView = Collections.unmodifiableList(cards);
+
+    // Running totals, updated in addCard() and reset in clear()
+    private int hardTotal;
+    private int aceCount;
+    private int score;
+    private boolean soft;
+
+    // Betting state of the hand
+    private boolean fromSplit;
+    private boolean doubled;
+    private boolean surrendered;
+    private boolean finished;
+
+    /**
+     * Adds a card to the hand and updates the running totals.
+     * @param card The Card object to add.
+     */
+    public void addCard(Card card) {
+        cards.add(card);
+
+        // Aces are counted as 1 in the hard total; one of them may count as 11 if it does not bust the hand.
+        Rank rank = card.getRank();
+        if (rank == Rank.ACE) {
+            aceCount++;
+            hardTotal += 1;
+        } else {
+            hardTotal += rank.getValue();
+        }
+        soft = aceCount > 0 && hardTotal + 10 <= 21;
+        score = soft ? hardTotal + 10 : hardTotal;
+    }
+
+    /**
+     * Removes every card and resets the betting state, keeping the card list's capacity for reuse.
+     */
+    public void clear() {
+        cards.clear();
+        hardTotal = 0;
+        aceCount = 0;
+        score = 0;
+        soft = false;
+        fromSplit = false;
+        doubled = false;
+        surrendered = false;
+        finished = false;
+    }
+
+    /**
+     * Splits a pair: moves the second card into the given (cleared) hand and marks both hands as split hands.
+     * @param into The hand receiving the second card.
+     * @throws IllegalStateException if this hand is not a pair.
+     */
+    public void splitInto(Hand into) {
+        if (!isPair()) {
+            throw new IllegalStateException("Only a pair can be split.");
+        }
+        Card first = cards.get(0);
+        Card second = cards.get(1);
+        clear();
+        addCard(first);
+        fromSplit = true;
+        into.clear();
+        into.addCard(second);
+        into.fromSplit = true;
+    }
+
+    /**
+     * Returns the score of the hand, counting one Ace as 11 while that keeps the total at or below 21.
+     * @return The best possible score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Checks whether the hand is soft, i.e. an Ace is currently counted as 11.
+     * @return true if the score includes an Ace valued at 11.
+     */
+    public boolean isSoft() {
+        return soft;
+    }
+
+    /**
+     * Checks whether the hand has gone over 21.
+     * @return true if the score exceeds 21.
+     */
+    public boolean isBust() {
+        return score > 21;
+    }
+
+    /**
+     * Checks whether the hand is a natural Blackjack: 21 with the first two cards of an unsplit hand.
+     * @return true if the hand is a natural.
+     */
+    public boolean isBlackjack() {
+        return score == 21 && cards.size() == 2 && !fromSplit;
+    }
+
+    /**
+     * Checks whether the hand is a two-card pair of equal point value, which may be split.
+     * @return true if both cards have the same value.
+     */
+    public boolean isPair() {
+        return cards.size() == 2 && cards.get(0).getValue() == cards.get(1).getValue();
+    }
+
+    /**
+     * Returns the value of the pair.
+     * @return The card value of both cards (2 to 11), or 0 if the hand is not a pair.
+     */
+    public int getPairValue() {
+        return isPair() ? cards.get(0).getValue() : 0;
+    }
+
+    /**
+     * Returns the cards in the hand.
+     * The list is a read-only view; cards must be added through {@link #addCard(Card)} to keep the totals in sync.
+     * @return A List of Card objects.
+     */
+    public List<Card> getCards() {
+        return cardsView;
+    }
+
+    /**
+     * Returns the number of cards in the hand.
+     * @return The card count.
+     */
+    public int size() {
+        return cards.size();
+    }
+
+    /**
+     * Checks whether the hand came from a split.
+     * @return true if the hand was created by splitting a pair.
+     */
+    public boolean isFromSplit() {
+        return fromSplit;
+    }
+
+    /**
+     * Marks the hand as created by a split. Used when a saved hand is restored.
+     */
+    public void markFromSplit() {
+        fromSplit = true;
+    }
+
+    /**
+     * Checks whether the bet on this hand was doubled.
+     * @return true if the hand was doubled down.
+     */
+    public boolean isDoubled() {
+        return doubled;
+    }
+
+    /**
+     * Marks the bet on this hand as doubled.
+     */
+    public void markDoubled() {
+        doubled = true;
+    }
+
+    /**
+     * Checks whether the hand was surrendered.
+     * @return true if the player gave up the hand for half the bet.
+     */
+    public boolean isSurrendered() {
+        return surrendered;
+    }
+
+    /**
+     * Marks the hand as surrendered, which also finishes it.
+     */
+    public void markSurrendered() {
+        surrendered = true;
+        finished = true;
+    }
+
+    /**
+     * Checks whether the hand takes no more actions (stood, busted, doubled, surrendered or a split Ace).
+     * @return true if the hand is finished.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Marks the hand as finished.
+     */
+    public void markFinished() {
+        finished = true;
+    }
+
+    /**
+     * Returns the bet on the hand in units of the initial bet.
+     * @return 2 for a doubled hand, otherwise 1.
+     */
+    public int getBetUnits() {
+        return doubled ? 2 : 1;
+    }
+}
@@ -1,17 +1,37 @@
 package blackjack.model;
 
-import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Represents a player, handling their hand and score calculation,
- * including the flexible Ace logic.
- * Implements Serializable for game saving functionality.
+ * Represents a player's seat: a name and the hands played in the current round.
+ * A seat starts every round with one hand and gains one per split. The hands come from a per-seat pool
+ * that only grows to the largest number of hands ever held at once, so splitting does not allocate in steady state.
+ * The single-hand methods ({@link #addCard}, {@link #getScore}, {@link #getHand}, ...) act on the active hand,
+ * which is the only hand unless the player has split.
  */
-public class Player implements Serializable {
+public class Player {
     private String name;
-    private List<Card> hand;
+
+    // The first handCount entries are in use, in playing order; the rest are spare pooled hands
+    private final List<Hand> pool = new ArrayList<>(4);
+    private final List<Hand> handsView = new AbstractList<>() {
+        @Override
+        public Hand get(int index) {
+            if (index >= handCount) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return pool.get(index);
+        }
+
+        @Override
+        public int size() {
+            return handCount;
+        }
+    };
+    private int handCount = 1;
+    private int active;
 
     /**
      * Constructs a Player with the specified name.
@@ -19,47 +39,151 @@ public class Player implements Serializable {
      */
     public Player(String name) {
         this.name = name;
-        this.hand = new ArrayList<>();
+        this.pool.add(new Hand());
     }
 
     /**
-     * Adds a card to the player's hand.
+     * Adds a card to the active hand and updates its running totals.
      * @param card The Card object to add.
      */
     public void addCard(Card card) {
-        hand.add(card);
+        pool.get(active).addCard(card);
     }
 
     /**
-     * Removes all cards from the player's hand, preparing for a new round.
+     * Removes all cards, preparing for a new round: the seat is left with one empty active hand.
      */
     public void clearHand() {
-        hand.clear();
+        for (int i = 0; i < handCount; i++) {
+            pool.get(i).clear();
+        }
+        handCount = 1;
+        active = 0;
     }
 
     /**
-     * Calculates the player's score, handling the flexible value of the Ace (11 or 1).
-     * The Ace value is automatically reduced from 11 to 1 if the total score exceeds 21.
-     * @return The best possible score, staying at or below 21 if possible.
+     * Splits the active pair into two hands. The second card moves to a pooled hand placed right after the active one,
+     * which stays active.
+     * @return The new hand.
+     * @throws IllegalStateException if the active hand is not a pair.
      */
-    public int getScore() {
-        int score = 0;
-        int aceCount = 0;
-
-        // 1. Calculate base score, counting Aces as 11
-        for (Card card : hand) {
-            score += card.getValue();
-            if (card.getRank() == Rank.ACE) {
-                aceCount++;
-            }
+    public Hand split() {
+        Hand hand = pool.get(active);
+        if (!hand.isPair()) {
+            throw new IllegalStateException("Only a pair can be split.");
+        }
+        Hand spare = handCount < pool.size() ? pool.remove(handCount) : new Hand();
+        // Moving the spare within the list shifts references only, within the list's existing capacity
+        pool.add(active + 1, spare);
+        handCount++;
+        hand.splitInto(spare);
+        return spare;
+    }
+
+    /**
+     * Replaces the hands of the seat with saved ones. Used when a game is loaded.
+     * @param hands The hands in playing order (at least one); the seat takes ownership of them.
+     * @param active The index of the active hand.
+     * @throws IllegalArgumentException if there are no hands or the active index is out of range.
+     */
+    public void restoreHands(List<Hand> hands, int active) {
+        if (hands.isEmpty() || active < 0 || active >= hands.size()) {
+            throw new IllegalArgumentException("Invalid hands: " + hands.size() + " hands, active " + active);
         }
+        pool.clear();
+        pool.addAll(hands);
+        this.handCount = hands.size();
+        this.active = active;
+    }
 
-        // 2. Adjust Ace value (11 -> 1) if the score exceeds 21
-        while (score > 21 && aceCount > 0) {
-            score -= 10;
-            aceCount--;
+    /**
+     * Moves on to the next hand in playing order.
+     * @return true if there was a next hand, false if the active hand was the last one.
+     */
+    public boolean nextHand() {
+        if (active + 1 < handCount) {
+            active++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Makes a hand the active one.
+     * @param index The index of the hand in playing order.
+     * @throws IndexOutOfBoundsException if no hand has that index.
+     */
+    public void activateHand(int index) {
+        if (index < 0 || index >= handCount) {
+            throw new IndexOutOfBoundsException(index);
         }
-        return score;
+        active = index;
+    }
+
+    /**
+     * Returns the hand being played.
+     * @return The active hand.
+     */
+    public Hand getActiveHand() {
+        return pool.get(active);
+    }
+
+    /**
+     * Returns the position of the active hand in playing order.
+     * @return The index of the active hand.
+     */
+    public int getActiveHandIndex() {
+        return active;
+    }
+
+    /**
+     * Returns the hands of the current round in playing order.
+     * The list is a read-only live view and does not allocate.
+     * @return The hands.
+     */
+    public List<Hand> getHands() {
+        return handsView;
+    }
+
+    /**
+     * Returns the number of hands in the current round.
+     * @return 1, plus one per split.
+     */
+    public int getHandCount() {
+        return handCount;
+    }
+
+    /**
+     * Returns the score of the active hand, handling the flexible value of the Ace (11 or 1).
+     * An Ace counts as 11 only while that keeps the total at or below 21.
+     * @return The best possible score, staying at or below 21 if possible.
+     */
+    public int getScore() {
+        return pool.get(active).getScore();
+    }
+
+    /**
+     * Checks whether the active hand is soft, i.e. an Ace is currently counted as 11.
+     * @return true if the score includes an Ace valued at 11.
+     */
+    public boolean isSoft() {
+        return pool.get(active).isSoft();
+    }
+
+    /**
+     * Checks whether the active hand has gone over 21.
+     * @return true if the score exceeds 21.
+     */
+    public boolean isBust() {
+        return pool.get(active).isBust();
+    }
+
+    /**
+     * Checks whether the active hand is a natural Blackjack (21 with the first two cards, not after a split).
+     * @return true if the hand consists of exactly two cards totalling 21.
+     */
+    public boolean isBlackjack() {
+        return pool.get(active).isBlackjack();
     }
 
     /**
@@ -69,8 +193,9 @@ public class Player implements Serializable {
     public String getName() { return name; }
 
     /**
-     * Returns the list of cards in the player's hand.
+     * Returns the cards in the active hand.
+     * The list is a read-only view; cards must be added through {@link #addCard(Card)} to keep the totals in sync.
      * @return A List of Card objects.
      */
-    public List<Card> getHand() { return hand; }
-}
\ No newline at end of file
+    public List<Card> getHand() { return pool.get(active).getCards(); }
+}
@@ -0,0 +1,166 @@
+package blackjack.server;
+
+import blackjack.logic.BlackjackGame;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A headless server hosting many concurrent Blackjack tables in one JVM.
+ * Every connection on the loopback interface is one table with its own game, served by its own
+ * virtual thread, so thousands of mostly idle tables cost little more than their game state.
+ * Each game is owned by a {@link TableSession}, which applies the commands on a single writer.
+ * Clients speak the line protocol described in {@link TableProtocol}.
+ */
+public class GameServer implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(GameServer.class.getName());
+
+    /** The default TCP port of the server. */
+    public static final int DEFAULT_PORT = 21021;
+
+    // Large enough that a burst of thousands of simultaneous connects is not refused
+    private static final int BACKLOG = 4096;
+
+    private final int numberOfDecks;
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+    private final AtomicLong tableIds = new AtomicLong();
+    private final LongAdder commands = new LongAdder();
+    private Thread acceptor;
+
+    /**
+     * Binds a server to the default port on the loopback interface, with single-deck tables.
+     * @throws IOException if the port cannot be bound.
+     */
+    public GameServer() throws IOException {
+        this(DEFAULT_PORT, 1);
+    }
+
+    /**
+     * Binds a server to the given port on the loopback interface.
+     * Call {@link #start()} to begin accepting tables.
+     * @param port The TCP port, or 0 for any free port.
+     * @param numberOfDecks The number of decks in each table's shoe (1 to 8).
+     * @throws IOException if the port cannot be bound.
+     */
+    public GameServer(int port, int numberOfDecks) throws IOException {
+        this.numberOfDecks = numberOfDecks;
+        this.serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Starts accepting connections on a background virtual thread.
+     * @return This server.
+     * @throws IllegalStateException if the server was already started.
+     */
+    public synchronized GameServer start() {
+        if (acceptor != null) {
+            throw new IllegalStateException("The server is already running.");
+        }
+        acceptor = Thread.ofVirtual().name("table-acceptor").start(this::acceptLoop);
+        return this;
+    }
+
+    /**
+     * Returns the port the server is bound to.
+     * @return The TCP port.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the commands of the line protocol spoken by the server.
+     * @return The command names, e.g. "HIT".
+     */
+    public static List<String> getCommands() {
+        return TableProtocol.COMMANDS;
+    }
+
+    /**
+     * Returns the number of tables currently connected.
+     * @return The open table count.
+     */
+    public int getOpenTables() {
+        return openSockets.size();
+    }
+
+    /**
+     * Returns the number of commands executed since the server started.
+     * @return The command count.
+     */
+    public long getCommandCount() {
+        return commands.sum();
+    }
+
+    /**
+     * Accepts connections until the server socket is closed, starting one virtual thread per table.
+     */
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                openSockets.add(socket);
+                connections.execute(() -> serve(socket));
+            } catch (SocketException e) {
+                // The server socket was closed
+                return;
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Accepting a table failed", e);
+            }
+        }
+    }
+
+    /**
+     * Serves one table: reads request lines and answers each of them until the client quits or disconnects.
+     * @param socket The client connection.
+     */
+    private void serve(Socket socket) {
+        try (LineConnection connection = new LineConnection(socket)) {
+            TableSession table = new TableSession(new BlackjackGame("Table-" + tableIds.incrementAndGet(), numberOfDecks));
+
+            String line;
+            while ((line = connection.readLine()) != null) {
+                String response = TableProtocol.execute(table, line);
+                commands.increment();
+                connection.writeLine(response);
+                if (response.equals(TableProtocol.BYE)) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            // The client went away; the socket is closed with the connection
+        } finally {
+            openSockets.remove(socket);
+        }
+    }
+
+    /**
+     * Stops accepting tables and closes every open connection.
+     * @throws IOException if the server socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Socket socket : openSockets) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                LOGGER.log(Level.FINE, "Closing a table failed", e);
+            }
+        }
+        connections.shutdown();
+    }
+}
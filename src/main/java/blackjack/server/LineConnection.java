@@ -0,0 +1,99 @@
+package blackjack.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A socket carrying the line protocol, with small fixed buffers.
+ * Readers and writers from java.io keep 8 KB buffers each, which would dominate the memory of
+ * an idle table; protocol lines are short, so a few hundred bytes per connection are enough.
+ */
+final class LineConnection implements AutoCloseable {
+    private static final int BUFFER_SIZE = 256;
+    private static final int MAX_LINE_LENGTH = 4096;
+
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private byte[] line = new byte[BUFFER_SIZE];
+
+    /**
+     * Wraps a connected socket.
+     * @param socket The socket.
+     * @throws IOException if the socket streams cannot be opened.
+     */
+    LineConnection(Socket socket) throws IOException {
+        this.socket = socket;
+        socket.setTcpNoDelay(true);
+        this.in = socket.getInputStream();
+        this.out = socket.getOutputStream();
+    }
+
+    /**
+     * Reads the next line, without its terminator ("\n" or "\r\n").
+     * @return The line, or null at the end of the stream.
+     * @throws IOException if reading fails or the line is too long.
+     */
+    String readLine() throws IOException {
+        int length = 0;
+        while (true) {
+            if (position == limit) {
+                limit = in.read(buffer);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return length == 0 ? null : decode(length);
+                }
+            }
+            byte b = buffer[position++];
+            if (b == '\n') {
+                return decode(length);
+            }
+            if (length == line.length) {
+                if (length >= MAX_LINE_LENGTH) {
+                    throw new IOException("Line too long.");
+                }
+                line = Arrays.copyOf(line, length * 2);
+            }
+            line[length++] = b;
+        }
+    }
+
+    /**
+     * Decodes the collected line bytes, dropping a trailing carriage return.
+     * @param length The number of collected bytes.
+     * @return The line.
+     */
+    private String decode(int length) {
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        return new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a line and its terminator in a single write.
+     * @param text The line to send.
+     * @throws IOException if writing fails.
+     */
+    void writeLine(String text) throws IOException {
+        byte[] bytes = (text + "\n").getBytes(StandardCharsets.UTF_8);
+        out.write(bytes);
+    }
+
+    /**
+     * Closes the socket.
+     * @throws IOException if closing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -0,0 +1,241 @@
+package blackjack.server;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A load generator for the game server: opens many tables at once, one virtual thread per table,
+ * plays a number of rounds on each and measures the command latency.
+ * <p>
+ * The run has two phases. First every table connects and waits; with all tables open and idle the
+ * heap is measured to find the memory cost of a table. Then all tables play their rounds at once,
+ * hitting below 17 and standing otherwise, and every command's round-trip time is recorded.
+ */
+public class LoadGenerator {
+    private static final int PLAYER_STANDS_ON = 17;
+    private static final int CONNECT_ATTEMPTS = 5;
+
+    private final int port;
+    private final int tables;
+    private final int roundsPerTable;
+
+    /**
+     * Creates a load generator for a server on the loopback interface.
+     * @param port The server port.
+     * @param tables The number of concurrent tables to open.
+     * @param roundsPerTable The number of rounds to play on each table.
+     */
+    public LoadGenerator(int port, int tables, int roundsPerTable) {
+        if (tables < 1 || roundsPerTable < 1) {
+            throw new IllegalArgumentException("At least one table and one round are needed.");
+        }
+        this.port = port;
+        this.tables = tables;
+        this.roundsPerTable = roundsPerTable;
+    }
+
+    /**
+     * Runs the load test.
+     * The heap cost per table is only meaningful when the server runs in the same JVM.
+     * @return The measurements.
+     * @throws InterruptedException if the calling thread is interrupted.
+     */
+    public LoadReport run() throws InterruptedException {
+        long heapBefore = usedHeapAfterGc();
+
+        CountDownLatch connected = new CountDownLatch(tables);
+        CountDownLatch go = new CountDownLatch(1);
+        AtomicInteger connectedTables = new AtomicInteger();
+        LongAdder commands = new LongAdder();
+        LongAdder errors = new LongAdder();
+        ConcurrentLinkedQueue<long[]> latencies = new ConcurrentLinkedQueue<>();
+
+        long start;
+        long heapPerTable;
+        // Closing the executor waits for every client to finish its rounds
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < tables; i++) {
+                clients.execute(() -> {
+                    TableClient client;
+                    try {
+                        client = TableClient.connect(port);
+                    } catch (IOException e) {
+                        errors.increment();
+                        connected.countDown();
+                        return;
+                    }
+                    connectedTables.incrementAndGet();
+                    connected.countDown();
+
+                    try (TableClient table = client) {
+                        go.await();
+                        latencies.add(table.play(roundsPerTable, commands, errors));
+                    } catch (IOException | InterruptedException e) {
+                        errors.increment();
+                    }
+                });
+            }
+
+            connected.await();
+            long heapAfter = usedHeapAfterGc();
+            heapPerTable = connectedTables.get() == 0 ? 0 : (heapAfter - heapBefore) / connectedTables.get();
+
+            start = System.nanoTime();
+            go.countDown();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new LoadReport(tables, connectedTables.get(), commands.sum(), errors.sum(), elapsed,
+                percentile(all, 0.50), percentile(all, 0.99), all.length == 0 ? 0 : all[all.length - 1], heapPerTable);
+    }
+
+    /**
+     * Returns a percentile of sorted samples.
+     * @param sorted The sorted samples.
+     * @param fraction The percentile as a fraction (0 to 1).
+     * @return The sample at that percentile, 0 if there are none.
+     */
+    static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.min(Math.max(index, 0), sorted.length - 1)];
+    }
+
+    /**
+     * Measures the used heap after asking for a full garbage collection.
+     * @return The used heap in bytes.
+     * @throws InterruptedException if the calling thread is interrupted.
+     */
+    private static long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * One table seen from the client side.
+     */
+    private static final class TableClient implements AutoCloseable {
+        private final LineConnection connection;
+
+        /**
+         * @param socket The connected socket.
+         * @throws IOException if the streams cannot be opened.
+         */
+        private TableClient(Socket socket) throws IOException {
+            this.connection = new LineConnection(socket);
+        }
+
+        /**
+         * Connects to the server and waits until the table answers a STATE command,
+         * retrying a few times when a burst of connects overflows the accept queue.
+         * @param port The server port.
+         * @return The connected client.
+         * @throws IOException if every attempt fails.
+         */
+        private static TableClient connect(int port) throws IOException {
+            IOException failure = null;
+            for (int attempt = 0; attempt < CONNECT_ATTEMPTS; attempt++) {
+                Socket socket = new Socket();
+                try {
+                    socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+                    TableClient client = new TableClient(socket);
+                    client.send("STATE");
+                    return client;
+                } catch (IOException e) {
+                    socket.close();
+                    failure = e;
+                }
+            }
+            throw failure;
+        }
+
+        /**
+         * Sends one command and waits for its response.
+         * @param command The command line.
+         * @return The response line.
+         * @throws IOException if the connection fails or closes.
+         */
+        private String send(String command) throws IOException {
+            connection.writeLine(command);
+            String response = connection.readLine();
+            if (response == null) {
+                throw new IOException("The server closed the connection.");
+            }
+            return response;
+        }
+
+        /**
+         * Plays rounds and records the round-trip time of every command.
+         * @param rounds The number of rounds to play.
+         * @param commands Counts the answered commands.
+         * @param errors Counts the rejected commands.
+         * @return The latencies in nanoseconds.
+         * @throws IOException if the connection fails.
+         */
+        private long[] play(int rounds, LongAdder commands, LongAdder errors) throws IOException {
+            long[] samples = new long[rounds * 4];
+            int count = 0;
+            String state = null;
+            for (int round = 0; round < rounds; round++) {
+                // The first round is dealt when the table opens
+                String command = round == 0 ? "STATE" : "NEW";
+                while (command != null) {
+                    long start = System.nanoTime();
+                    state = send(command);
+                    long latency = System.nanoTime() - start;
+                    if (count == samples.length) {
+                        samples = Arrays.copyOf(samples, count * 2);
+                    }
+                    samples[count++] = latency;
+                    commands.increment();
+                    if (state.startsWith(TableProtocol.ERR)) {
+                        errors.increment();
+                        break;
+                    }
+                    command = nextCommand(state);
+                }
+            }
+            send("QUIT");
+            return Arrays.copyOf(samples, count);
+        }
+
+        /**
+         * Chooses the next command from a state response: hit below 17, stand otherwise, nothing once the round is over.
+         * @param state The state response.
+         * @return The next command, or null when the round is over.
+         */
+        private static String nextCommand(String state) {
+            if (!state.startsWith("OK PLAYER_TURN")) {
+                return null;
+            }
+            int from = state.indexOf("player=") + "player=".length();
+            int score = Integer.parseInt(state, from, state.indexOf(':', from), 10);
+            return score < PLAYER_STANDS_ON ? "HIT" : "STAND";
+        }
+
+        /**
+         * Closes the connection.
+         * @throws IOException if the socket cannot be closed.
+         */
+        @Override
+        public void close() throws IOException {
+            connection.close();
+        }
+    }
+}
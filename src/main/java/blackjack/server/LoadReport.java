@@ -0,0 +1,121 @@
+package blackjack.server;
+
+/**
+ * The measurements of one load generator run: command latencies, throughput and heap cost per table.
+ */
+public class LoadReport {
+    private static final double GIGABYTE = 1024.0 * 1024 * 1024;
+
+    private final int tables;
+    private final int connectedTables;
+    private final long commands;
+    private final long errors;
+    private final long elapsedNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+    private final long heapBytesPerTable;
+
+    /**
+     * Constructs a report.
+     * @param tables The number of tables requested.
+     * @param connectedTables The number of tables that connected successfully.
+     * @param commands The number of commands answered.
+     * @param errors The number of failed commands and connections.
+     * @param elapsedNanos The wall-clock time of the playing phase.
+     * @param p50Nanos The median command latency.
+     * @param p99Nanos The 99th percentile command latency.
+     * @param maxNanos The highest command latency.
+     * @param heapBytesPerTable The heap retained per open table, client and server side together.
+     */
+    public LoadReport(int tables, int connectedTables, long commands, long errors, long elapsedNanos,
+                      long p50Nanos, long p99Nanos, long maxNanos, long heapBytesPerTable) {
+        this.tables = tables;
+        this.connectedTables = connectedTables;
+        this.commands = commands;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+        this.heapBytesPerTable = heapBytesPerTable;
+    }
+
+    /**
+     * Returns the number of tables requested.
+     * @return The table count.
+     */
+    public int getTables() { return tables; }
+
+    /**
+     * Returns the number of tables that connected successfully.
+     * @return The connected table count.
+     */
+    public int getConnectedTables() { return connectedTables; }
+
+    /**
+     * Returns the number of commands answered by the server.
+     * @return The command count.
+     */
+    public long getCommands() { return commands; }
+
+    /**
+     * Returns the number of failed commands and connections.
+     * @return The error count.
+     */
+    public long getErrors() { return errors; }
+
+    /**
+     * Returns the median command latency.
+     * @return The p50 latency in nanoseconds.
+     */
+    public long getP50Nanos() { return p50Nanos; }
+
+    /**
+     * Returns the 99th percentile command latency.
+     * @return The p99 latency in nanoseconds.
+     */
+    public long getP99Nanos() { return p99Nanos; }
+
+    /**
+     * Returns the heap retained per open table, measured with every table connected and idle.
+     * @return The heap bytes per table, client and server side together.
+     */
+    public long getHeapBytesPerTable() { return heapBytesPerTable; }
+
+    /**
+     * Returns the number of commands answered per second.
+     * @return The command throughput.
+     */
+    public double getCommandsPerSecond() {
+        return elapsedNanos == 0 ? 0 : commands * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns how many open tables fit in one gigabyte of heap.
+     * @return The sessions per GB, or 0 if the heap cost could not be measured.
+     */
+    public double getSessionsPerGigabyte() {
+        return heapBytesPerTable <= 0 ? 0 : GIGABYTE / heapBytesPerTable;
+    }
+
+    /**
+     * Provides a multi-line report of the run.
+     * @return The formatted report.
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "Tables:        %,d (%,d connected)%n" +
+                "Commands:      %,d (%,.0f/sec)%n" +
+                "Latency p50:   %.3f ms%n" +
+                "Latency p99:   %.3f ms%n" +
+                "Latency max:   %.3f ms%n" +
+                "Heap/table:    %,d bytes (client and server side)%n" +
+                "Sessions/GB:   %,.0f%n" +
+                "Errors:        %,d",
+                tables, connectedTables, commands, getCommandsPerSecond(),
+                p50Nanos / 1e6, p99Nanos / 1e6, maxNanos / 1e6,
+                heapBytesPerTable, getSessionsPerGigabyte(), errors);
+    }
+}
@@ -0,0 +1,67 @@
+package blackjack.server;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An unbounded, lock-free multi-producer single-consumer queue (a linked queue in the style of Vyukov).
+ * Producers only swap the tail with one atomic exchange, so they never wait for each other;
+ * the single consumer follows the links without any atomic read-modify-write at all.
+ * {@link #offer} may be called from any thread, {@link #poll} only from the consumer.
+ * @param <E> The element type.
+ */
+final class MpscQueue<E> {
+    private final AtomicReference<Node<E>> tail;
+    private Node<E> head;
+
+    /**
+     * Creates an empty queue.
+     */
+    MpscQueue() {
+        Node<E> stub = new Node<>(null);
+        head = stub;
+        tail = new AtomicReference<>(stub);
+    }
+
+    /**
+     * Adds an element at the end of the queue. Safe to call from any number of threads.
+     * @param element The element, not null.
+     */
+    void offer(E element) {
+        Node<E> node = new Node<>(element);
+        Node<E> previous = tail.getAndSet(node);
+        // Until this link is written the consumer sees the queue end at previous; it never loses the node
+        previous.next = node;
+    }
+
+    /**
+     * Removes the element at the head of the queue. Consumer thread only.
+     * An element whose producer is between its exchange and its link is not visible yet.
+     * @return The element, or null if none is visible.
+     */
+    E poll() {
+        Node<E> next = head.next;
+        if (next == null) {
+            return null;
+        }
+        E element = next.value;
+        next.value = null;
+        head = next;
+        return element;
+    }
+
+    /**
+     * A link of the queue.
+     * @param <E> The element type.
+     */
+    private static final class Node<E> {
+        private E value;
+        private volatile Node<E> next;
+
+        /**
+         * @param value The element held by the node.
+         */
+        private Node(E value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package blackjack.server;
+
+import blackjack.model.Card;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The line protocol spoken by the game server. Each request is one line holding a command,
+ * each response is one line starting with {@code OK} or {@code ERR}.
+ * <pre>
+ * NEW          start a new round (only when the previous round is over)
+ * HIT          draw a card
+ * STAND        finish the active hand; after the last hand the dealer plays and the round is resolved
+ * DOUBLE       double the bet, take exactly one card and finish the hand
+ * SPLIT        split a pair into two hands, played one after another
+ * SURRENDER    give up the hand for half the bet (late surrender, first two cards only)
+ * INSURANCE    take insurance against a dealer Blackjack while an Ace shows
+ * NOINSURANCE  decline insurance
+ * STATE        report the table state without changing it
+ * QUIT         close the connection
+ * </pre>
+ * A successful command answers with the table state, for example:
+ * <pre>
+ * OK PLAYER_TURN player=13:3H,QS dealer=10:KD,?? result=NONE
+ * OK ROUND_OVER player=20:KH,QC dealer=19:KD,9S result=PLAYER_WIN
+ * OK PLAYER_TURN player=18:8H,KS|11:8C,3D hand=2 dealer=6:6D,?? result=NONE
+ * OK PLAYER_TURN player=20:KH,QC dealer=11:AS,?? insurance=OFFERED result=NONE
+ * </pre>
+ * After a split the hands are separated by {@code |} and {@code hand} gives the active one, counting from 1;
+ * the result is that of the first hand.
+ * While the player is playing, the dealer's hole card is hidden and the dealer score is that of the upcard.
+ * Commands go through the table's {@link TableSession}; STATE reads its latest snapshot without queuing.
+ */
+final class TableProtocol {
+    /** The response prefix of a successful command. */
+    static final String OK = "OK";
+
+    /** The response prefix of a rejected command. */
+    static final String ERR = "ERR";
+
+    /** The reply to QUIT, after which the server closes the connection. */
+    static final String BYE = "OK BYE";
+
+    /** Every command {@link #execute} understands, in the order of the class comment. */
+    static final List<String> COMMANDS = List.of(
+            "NEW", "HIT", "STAND", "DOUBLE", "SPLIT", "SURRENDER", "INSURANCE", "NOINSURANCE", "STATE", "QUIT");
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private TableProtocol() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Executes one request line against a table, waiting for the table's writer to apply it.
+     * @param session The table.
+     * @param line The request line.
+     * @return The response line.
+     */
+    static String execute(TableSession session, String line) {
+        String command = line.trim().toUpperCase(Locale.ROOT);
+        TableSession.Command tableCommand;
+        switch (command) {
+            case "NEW" -> tableCommand = TableSession.Command.NEW_ROUND;
+            case "HIT" -> tableCommand = TableSession.Command.HIT;
+            case "STAND" -> tableCommand = TableSession.Command.STAND;
+            case "DOUBLE" -> tableCommand = TableSession.Command.DOUBLE;
+            case "SPLIT" -> tableCommand = TableSession.Command.SPLIT;
+            case "SURRENDER" -> tableCommand = TableSession.Command.SURRENDER;
+            case "INSURANCE" -> tableCommand = TableSession.Command.INSURANCE;
+            case "NOINSURANCE" -> tableCommand = TableSession.Command.NO_INSURANCE;
+            case "STATE" -> {
+                return describe(session.snapshot());
+            }
+            case "QUIT" -> {
+                return BYE;
+            }
+            default -> {
+                return ERR + " Unknown command: " + line.trim();
+            }
+        }
+        try {
+            return describe(session.submit(tableCommand).join());
+        } catch (CompletionException e) {
+            return ERR + " " + e.getCause().getMessage();
+        }
+    }
+
+    /**
+     * Describes the table state as a successful response line.
+     * @param snapshot The table state.
+     * @return The response line.
+     */
+    static String describe(TableSnapshot snapshot) {
+        StringBuilder response = new StringBuilder(80).append(OK).append(' ')
+                .append(snapshot.isRoundOver() ? "ROUND_OVER" : "PLAYER_TURN");
+
+        response.append(" player=");
+        List<List<Card>> hands = snapshot.getPlayerHands();
+        for (int i = 0; i < hands.size(); i++) {
+            if (i > 0) {
+                response.append('|');
+            }
+            response.append(snapshot.getPlayerScore(i)).append(':');
+            appendCards(response, hands.get(i));
+        }
+        if (hands.size() > 1) {
+            response.append(" hand=").append(snapshot.getActiveHand() + 1);
+        }
+
+        response.append(" dealer=").append(snapshot.getDealerScore()).append(':');
+        appendCards(response, snapshot.getDealerHand());
+        if (snapshot.isHoleCardHidden()) {
+            response.append(",??");
+        }
+        if (snapshot.isInsuranceOffered() || snapshot.isInsuranceTaken()) {
+            response.append(" insurance=").append(snapshot.isInsuranceOffered() ? "OFFERED" : "TAKEN");
+        }
+
+        response.append(" result=").append(snapshot.isRoundOver() ? snapshot.getOutcome().name() : "NONE");
+        return response.toString();
+    }
+
+    /**
+     * Appends a hand as comma-separated short card names.
+     * @param response The response being built.
+     * @param hand The cards.
+     */
+    private static void appendCards(StringBuilder response, List<Card> hand) {
+        for (int i = 0; i < hand.size(); i++) {
+            if (i > 0) {
+                response.append(',');
+            }
+            response.append(hand.get(i).getShortName());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package blackjack.server;
+
+import blackjack.logic.Action;
+import blackjack.logic.BlackjackGame;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A thread-safe table: one {@link BlackjackGame} with a single writer.
+ * <p>
+ * Commands may be submitted from any number of threads. They go into a lock-free MPSC queue,
+ * and a single drain task at a time applies them to the game in batches, in submission order.
+ * Each command completes its future with a snapshot of the table right after it was applied.
+ * The latest snapshot is also published after every batch, so readers never block and never touch
+ * the mutable game. No thread ever holds a lock.
+ */
+public class TableSession {
+    /** The commands a table accepts. */
+    public enum Command {
+        NEW_ROUND,
+        HIT,
+        STAND,
+        DOUBLE,
+        SPLIT,
+        SURRENDER,
+        INSURANCE,
+        NO_INSURANCE
+    }
+
+    /** The maximum number of commands applied before the drain task yields to other sessions. */
+    static final int BATCH_SIZE = 64;
+
+    // Drain tasks are short and numerous; virtual threads keep an idle session free
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final BlackjackGame game;
+    private final Executor executor;
+    private final MpscQueue<Request> queue = new MpscQueue<>();
+    // Commands submitted but not yet applied; the producer that raises it from zero starts the drain task
+    private final AtomicInteger pending = new AtomicInteger();
+    // Requests of the running batch, answered once its snapshot is published; touched by the drain task only
+    private final Request[] batch = new Request[BATCH_SIZE];
+    private volatile TableSnapshot snapshot;
+    private long version;
+
+    /**
+     * Wraps a game, draining commands on virtual threads.
+     * The session becomes the only writer of the game; the caller must not use it directly afterwards.
+     * @param game The game to own.
+     */
+    public TableSession(BlackjackGame game) {
+        this(game, DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Wraps a game, draining commands on the given executor.
+     * @param game The game to own.
+     * @param executor Runs the drain tasks; at most one per session runs at a time.
+     */
+    public TableSession(BlackjackGame game, Executor executor) {
+        this.game = game;
+        this.executor = executor;
+        this.snapshot = new TableSnapshot(game, 0);
+    }
+
+    /**
+     * Submits a command. Never blocks.
+     * @param command The command.
+     * @return A future completed with the table state after the command, or exceptionally with an
+     *         {@link IllegalStateException} if the command is not allowed in the current state.
+     */
+    public CompletableFuture<TableSnapshot> submit(Command command) {
+        Request request = new Request(command);
+        // Count before offering, so the drain task never applies a command that is not counted yet
+        boolean idle = pending.getAndIncrement() == 0;
+        queue.offer(request);
+        if (idle) {
+            executor.execute(this::drain);
+        }
+        return request.result;
+    }
+
+    /**
+     * Returns the latest published state of the table. Never blocks.
+     * @return The most recent snapshot.
+     */
+    public TableSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Applies up to one batch of queued commands, publishes the resulting snapshot,
+     * and hands over to a new drain task if more commands are waiting.
+     * Only one drain task runs at a time: a new one is started either by the producer that finds
+     * no commands pending or by the previous drain task, never both.
+     */
+    private void drain() {
+        TableSnapshot latest = null;
+        Request request;
+        int applied = 0;
+        while (applied < BATCH_SIZE && (request = queue.poll()) != null) {
+            batch[applied++] = request;
+            try {
+                apply(request.command);
+                latest = new TableSnapshot(game, ++version);
+                request.snapshot = latest;
+            } catch (RuntimeException e) {
+                request.failure = e;
+            }
+        }
+
+        // Publish before answering, so a client that reads the state after its reply sees its own command
+        if (latest != null) {
+            snapshot = latest;
+        }
+        for (int i = 0; i < applied; i++) {
+            request = batch[i];
+            batch[i] = null;
+            if (request.failure != null) {
+                request.result.completeExceptionally(request.failure);
+            } else {
+                request.result.complete(request.snapshot);
+            }
+        }
+
+        // Commands that arrived meanwhile were counted but not scheduled; they are this task's to hand over.
+        // A command whose producer has counted it but not linked it yet is picked up by the next task.
+        if (pending.addAndGet(-applied) > 0) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Applies one command to the game, checking that it is allowed first.
+     * @param command The command.
+     * @throws IllegalStateException if the command is not allowed in the current state.
+     */
+    private void apply(Command command) {
+        switch (command) {
+            case NEW_ROUND -> {
+                if (!game.isGameOver()) {
+                    throw new IllegalStateException("Round in progress");
+                }
+                game.startNewRound();
+            }
+            case HIT -> {
+                checkAllowed(Action.HIT);
+                game.playerHit();
+            }
+            case STAND -> {
+                checkAllowed(Action.STAND);
+                game.playerStand();
+            }
+            case DOUBLE -> {
+                checkAllowed(Action.DOUBLE);
+                game.playerDouble();
+            }
+            case SPLIT -> {
+                checkAllowed(Action.SPLIT);
+                game.playerSplit();
+            }
+            case SURRENDER -> {
+                checkAllowed(Action.SURRENDER);
+                game.playerSurrender();
+            }
+            case INSURANCE, NO_INSURANCE -> {
+                if (!game.isInsuranceOffered()) {
+                    throw new IllegalStateException("Insurance not offered");
+                }
+                game.playerInsurance(command == Command.INSURANCE);
+            }
+        }
+    }
+
+    /**
+     * Checks that the player may take an action on the active hand.
+     * @param action The action.
+     * @throws IllegalStateException if it is not the player's turn or the rules do not allow the action.
+     */
+    private void checkAllowed(Action action) {
+        if (!game.isPlayerTurn()) {
+            throw new IllegalStateException("Not your turn");
+        }
+        if ((game.getAllowedActions() & action.mask()) == 0) {
+            throw new IllegalStateException(action + " not allowed");
+        }
+    }
+
+    /**
+     * A queued command and the future of its result.
+     */
+    private static final class Request {
+        private final Command command;
+        private final CompletableFuture<TableSnapshot> result = new CompletableFuture<>();
+        private TableSnapshot snapshot;
+        private RuntimeException failure;
+
+        /**
+         * @param command The command.
+         */
+        private Request(Command command) {
+            this.command = command;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package blackjack.server;
+
+import blackjack.logic.BlackjackGame;
+import blackjack.logic.Outcome;
+import blackjack.model.Card;
+import blackjack.model.Hand;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An immutable view of a table, taken by the table's writer after a command.
+ * Readers on any thread can use it without synchronization; while the player is playing,
+ * the dealer's hole card is left out, just as the player would see it.
+ */
+public final class TableSnapshot {
+    private final long version;
+    private final boolean playerTurn;
+    private final Outcome outcome;
+    private final int[] playerScores;
+    private final int dealerScore;
+    private final List<List<Card>> playerHands;
+    private final int activeHand;
+    private final boolean insuranceOffered;
+    private final boolean insuranceTaken;
+    private final List<Card> dealerHand;
+    private final boolean holeCardHidden;
+
+    /**
+     * Takes a snapshot of a game. Must be called by the thread that owns the game.
+     * @param game The game.
+     * @param version The number of commands applied to the table so far.
+     */
+    TableSnapshot(BlackjackGame game, long version) {
+        this.version = version;
+        this.playerTurn = game.isPlayerTurn();
+        this.outcome = game.getOutcome();
+        List<Hand> hands = game.getPlayer().getHands();
+        this.playerScores = new int[hands.size()];
+        List<List<Card>> cards = new ArrayList<>(hands.size());
+        for (int i = 0; i < playerScores.length; i++) {
+            playerScores[i] = hands.get(i).getScore();
+            cards.add(List.copyOf(hands.get(i).getCards()));
+        }
+        this.playerHands = List.copyOf(cards);
+        this.activeHand = game.getPlayer().getActiveHandIndex();
+        this.insuranceOffered = game.isInsuranceOffered();
+        this.insuranceTaken = game.isInsuranceTaken();
+
+        List<Card> dealer = game.getDealer().getHand();
+        this.holeCardHidden = !game.isGameOver() && dealer.size() > 1;
+        if (holeCardHidden) {
+            this.dealerHand = List.of(dealer.get(0));
+            this.dealerScore = dealer.get(0).getValue();
+        } else {
+            this.dealerHand = List.copyOf(dealer);
+            this.dealerScore = game.getDealer().getScore();
+        }
+    }
+
+    /**
+     * Returns the number of commands applied to the table when the snapshot was taken.
+     * @return The version; later snapshots have higher versions.
+     */
+    public long getVersion() { return version; }
+
+    /**
+     * Checks whether the player is to act.
+     * @return True during the player's turn.
+     */
+    public boolean isPlayerTurn() { return playerTurn; }
+
+    /**
+     * Checks whether the round is over.
+     * @return True once the round has been resolved.
+     */
+    public boolean isRoundOver() { return outcome != null; }
+
+    /**
+     * Returns the outcome of the round.
+     * @return The outcome, or null while the round is in progress.
+     */
+    public Outcome getOutcome() { return outcome; }
+
+    /**
+     * Returns the score of the player's active hand.
+     * @return The player's score.
+     */
+    public int getPlayerScore() { return playerScores[activeHand]; }
+
+    /**
+     * Returns the score of one of the player's hands.
+     * @param hand The index of the hand in playing order.
+     * @return The score of that hand.
+     */
+    public int getPlayerScore(int hand) { return playerScores[hand]; }
+
+    /**
+     * Returns the dealer's visible score: the upcard's value while the hole card is hidden.
+     * @return The dealer's visible score.
+     */
+    public int getDealerScore() { return dealerScore; }
+
+    /**
+     * Returns the cards of the player's active hand.
+     * @return An unmodifiable list of cards.
+     */
+    public List<Card> getPlayerHand() { return playerHands.get(activeHand); }
+
+    /**
+     * Returns the player's hands in playing order; more than one after a split.
+     * @return An unmodifiable list of unmodifiable card lists.
+     */
+    public List<List<Card>> getPlayerHands() { return playerHands; }
+
+    /**
+     * Returns the index of the hand being played.
+     * @return The index of the active hand.
+     */
+    public int getActiveHand() { return activeHand; }
+
+    /**
+     * Checks whether the insurance decision is pending.
+     * @return True while insurance is offered.
+     */
+    public boolean isInsuranceOffered() { return insuranceOffered; }
+
+    /**
+     * Checks whether the player took insurance this round.
+     * @return True if insurance was taken.
+     */
+    public boolean isInsuranceTaken() { return insuranceTaken; }
+
+    /**
+     * Returns the dealer's visible cards.
+     * @return An unmodifiable list of cards, without the hole card while it is hidden.
+     */
+    public List<Card> getDealerHand() { return dealerHand; }
+
+    /**
+     * Checks whether the dealer's hole card is face down.
+     * @return True while the hole card is hidden.
+     */
+    public boolean isHoleCardHidden() { return holeCardHidden; }
+}
@@ -0,0 +1,79 @@
+package blackjack.sim;
+
+import blackjack.logic.Action;
+import blackjack.logic.BasicStrategy;
+import blackjack.logic.BlackjackGame;
+import blackjack.logic.TableRules;
+
+/**
+ * Plays the player's side of a round automatically by following a compiled basic strategy.
+ * Used by the headless simulator instead of GUI clicks.
+ */
+public class AutoPlayer {
+    private final BasicStrategy strategy;
+
+    /**
+     * Constructs an auto player.
+     * @param strategy The compiled strategy to follow.
+     */
+    public AutoPlayer(BasicStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Plays the player's turn of the current round until every hand is finished.
+     * Insurance is always declined, as basic strategy does; an action the table does not allow right now
+     * (such as hitting a split Ace) falls back to standing.
+     * @param game The game whose current round should be played.
+     */
+    public void playRound(BlackjackGame game) {
+        game.playerInsurance(false);
+        while (game.isPlayerTurn() && !game.isGameOver()) {
+            game.playerAction(decide(game));
+        }
+    }
+
+    /**
+     * Plays the player's turn of the recorder's current round like {@link #playRound(BlackjackGame)},
+     * recording every decision.
+     * @param recorder The recorder holding the game.
+     */
+    public void playRound(Recording.Recorder recorder) {
+        BlackjackGame game = recorder.getGame();
+        if (game.isInsuranceOffered()) {
+            recorder.insurance(false);
+        }
+        while (game.isPlayerTurn() && !game.isGameOver()) {
+            recorder.apply(decide(game));
+        }
+    }
+
+    /**
+     * Plays and records a whole session, e.g. as a reference run for checking later changes to the game logic.
+     * @param rules The table rules, including the number of decks.
+     * @param penetration The cut card penetration.
+     * @param seed The seed of the shuffling generator.
+     * @param rounds The number of rounds to play.
+     * @return The recording.
+     */
+    public Recording recordSession(TableRules rules, double penetration, long seed, int rounds) {
+        Recording.Recorder recorder = Recording.record(rules, penetration, seed);
+        for (int round = 1; round < rounds; round++) {
+            playRound(recorder);
+            recorder.startNewRound();
+        }
+        playRound(recorder);
+        return recorder.finish();
+    }
+
+    /**
+     * Chooses the strategy's decision for the active hand, or standing if the table does not allow it right now.
+     * @param game The game.
+     * @return The decision.
+     */
+    private Action decide(BlackjackGame game) {
+        int allowed = game.getAllowedActions();
+        Action action = strategy.decide(game.getPlayer(), game.getDealerUpcard(), allowed);
+        return (allowed & action.mask()) != 0 ? action : Action.STAND;
+    }
+}
@@ -0,0 +1,32 @@
+package blackjack.sim;
+
+/**
+ * Sizes the bet of a simulated round from the Hi-Lo true count seen before the deal.
+ */
+@FunctionalInterface
+public interface BettingStrategy {
+
+    /** Always bets one unit, ignoring the count. */
+    BettingStrategy FLAT = trueCount -> 1;
+
+    /**
+     * Returns the bet for the next round.
+     * @param trueCount The true count before the deal (0 for a freshly shuffled shoe).
+     * @return The bet in units, at least 1.
+     */
+    double units(double trueCount);
+
+    /**
+     * Creates the classic Hi-Lo bet ramp: one unit up to a true count of 1, then one unit per true count
+     * (2 units at +2, 3 at +3, ...), capped at the given maximum.
+     * @param maxUnits The largest bet in units (at least 1).
+     * @return The betting strategy.
+     * @throws IllegalArgumentException if maxUnits is less than 1.
+     */
+    static BettingStrategy hiLoRamp(int maxUnits) {
+        if (maxUnits < 1) {
+            throw new IllegalArgumentException("The maximum bet must be at least 1 unit.");
+        }
+        return trueCount -> Math.max(1, Math.min(maxUnits, (int) Math.floor(trueCount)));
+    }
+}
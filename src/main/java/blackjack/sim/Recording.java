@@ -0,0 +1,332 @@
+package blackjack.sim;
+
+import blackjack.logic.Action;
+import blackjack.logic.BlackjackGame;
+import blackjack.logic.Outcome;
+import blackjack.logic.TableRules;
+import blackjack.model.Deck;
+import blackjack.model.Hand;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A recorded session that can be replayed exactly: the table rules, the shuffle seed and every decision the player made.
+ * <p>
+ * A game built from the same rules, penetration and seed deals the same cards, so the decisions alone are enough
+ * to reproduce every round. Each decision is one byte. For every round the recording also keeps a digest of its
+ * result (see {@link #digest(BlackjackGame)}), so a replay can check that it still produces the same outcomes,
+ * e.g. after a change to the game logic.
+ * <p>
+ * Recordings are created with a {@link Recorder}, saved with {@link #write(Path)}, and replayed by a {@link Replayer}.
+ */
+public final class Recording {
+    /** The decision code that starts the next round. */
+    static final byte NEW_ROUND = 0x10;
+
+    /** The decision code for taking insurance. */
+    static final byte INSURANCE = 0x11;
+
+    /** The decision code for declining insurance. */
+    static final byte NO_INSURANCE = 0x12;
+
+    private static final int MAGIC = 0x424A5243; // "BJRC"
+    private static final int FORMAT_VERSION = 1;
+    private static final String PLAYER_NAME = "Replay";
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    private final TableRules rules;
+    private final double penetration;
+    private final long seed;
+    private final byte[] decisions;
+    private final long[] digests;
+
+    /**
+     * Constructs a recording.
+     * @param rules The table rules, including the number of decks.
+     * @param penetration The cut card penetration.
+     * @param seed The seed of the shuffling generator.
+     * @param decisions The decision codes: {@link Action} ordinals, insurance and new round markers.
+     * @param digests The result digest of every round, in playing order.
+     */
+    private Recording(TableRules rules, double penetration, long seed, byte[] decisions, long[] digests) {
+        this.rules = rules;
+        this.penetration = penetration;
+        this.seed = seed;
+        this.decisions = decisions;
+        this.digests = digests;
+    }
+
+    /**
+     * Starts recording a new game.
+     * @param rules The table rules, including the number of decks.
+     * @param penetration The cut card penetration.
+     * @param seed The seed of the shuffling generator.
+     * @return The recorder, holding a game whose first round has been dealt.
+     */
+    public static Recorder record(TableRules rules, double penetration, long seed) {
+        return new Recorder(new Recording(rules, penetration, seed, null, null));
+    }
+
+    /**
+     * Creates a fresh game in the recorded starting state: same rules, same shoe, first round dealt.
+     * @return The new game.
+     */
+    public BlackjackGame newGame() {
+        return new BlackjackGame(PLAYER_NAME, rules, penetration, Deck.createRandom(seed));
+    }
+
+    /**
+     * Returns a digest of the current round's result: the outcome and score of the first hand, the number of hands,
+     * the dealer's score, the position in the shoe and the net units of the round.
+     * Any difference in the cards dealt or in how the round was settled shows up in the digest.
+     * @param game The game.
+     * @return The digest.
+     */
+    public static long digest(BlackjackGame game) {
+        Outcome outcome = game.getOutcome();
+        Hand first = game.getPlayer().getHands().get(0);
+        long low = (outcome == null ? 0 : outcome.ordinal() + 1)
+                | (game.getPlayer().getHandCount() << 4)
+                | (first.getScore() << 8)
+                | (game.getDealer().getScore() << 16)
+                | ((game.getDeck().getCardsDealt() & 0xFF) << 24);
+        return ((long) Float.floatToIntBits((float) game.getRoundNetUnits()) << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Describes a round digest in words.
+     * @param digest The digest.
+     * @return A description such as {@code "PLAYER_WIN 20 vs 18, 1 hand(s), net +1.0, shoe at 12"}.
+     */
+    public static String describe(long digest) {
+        int outcome = (int) (digest & 0xF);
+        float net = Float.intBitsToFloat((int) (digest >>> 32));
+        return (outcome == 0 ? "UNFINISHED" : OUTCOMES[outcome - 1].toString())
+                + " " + ((digest >>> 8) & 0xFF) + " vs " + ((digest >>> 16) & 0xFF)
+                + ", " + ((digest >>> 4) & 0xF) + " hand(s), net " + (net >= 0 ? "+" : "") + net
+                + ", shoe at " + ((digest >>> 24) & 0xFF) + " (mod 256)";
+    }
+
+    /**
+     * Returns the table rules of the recorded game.
+     * @return The rules.
+     */
+    public TableRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the cut card penetration of the recorded game.
+     * @return The penetration.
+     */
+    public double getPenetration() {
+        return penetration;
+    }
+
+    /**
+     * Returns the seed of the shuffling generator.
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of recorded rounds.
+     * @return The round count.
+     */
+    public int getRoundCount() {
+        return digests.length;
+    }
+
+    /**
+     * Returns the number of recorded decisions, including round and insurance markers.
+     * @return The decision count.
+     */
+    public int getDecisionCount() {
+        return decisions.length;
+    }
+
+    /**
+     * Returns the decision codes. Used by the replayer, which only reads them.
+     * @return The decision codes, not copied.
+     */
+    byte[] decisions() {
+        return decisions;
+    }
+
+    /**
+     * Returns a copy of the recorded result digests, one per round.
+     * @return The digests.
+     */
+    public long[] getDigests() {
+        return digests.clone();
+    }
+
+    /**
+     * Returns the recorded result digest of one round.
+     * @param round The round index, from 0.
+     * @return The digest.
+     */
+    public long getDigest(int round) {
+        return digests[round];
+    }
+
+    /**
+     * Writes the recording to a file.
+     * @param file The destination file; its parent directories are created if needed.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(rules.toString());
+            out.writeDouble(penetration);
+            out.writeLong(seed);
+            out.writeInt(decisions.length);
+            out.write(decisions);
+            out.writeInt(digests.length);
+            for (long digest : digests) {
+                out.writeLong(digest);
+            }
+        }
+    }
+
+    /**
+     * Reads a recording from a file.
+     * @param file The file written by {@link #write(Path)}.
+     * @return The recording.
+     * @throws IOException if an I/O error occurs or the file is not a valid recording.
+     */
+    public static Recording read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != MAGIC || in.readUnsignedByte() != FORMAT_VERSION) {
+                throw new IOException("Not a recording of a supported version: " + file);
+            }
+            TableRules rules;
+            try {
+                rules = TableRules.parse(in.readUTF());
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid rules in recording.", e);
+            }
+            double penetration = in.readDouble();
+            long seed = in.readLong();
+            byte[] decisions = new byte[checkedLength(in.readInt())];
+            in.readFully(decisions);
+            long[] digests = new long[checkedLength(in.readInt())];
+            for (int i = 0; i < digests.length; i++) {
+                digests[i] = in.readLong();
+            }
+            return new Recording(rules, penetration, seed, decisions, digests);
+        }
+    }
+
+    /**
+     * Validates a length read from a file.
+     * @param length The length.
+     * @return The length.
+     * @throws IOException if the length is negative.
+     */
+    private static int checkedLength(int length) throws IOException {
+        if (length < 0) {
+            throw new IOException("Corrupt recording.");
+        }
+        return length;
+    }
+
+    /**
+     * Plays a game while recording every decision. Decisions must go through the recorder, not the game.
+     */
+    public static final class Recorder {
+        private final Recording template;
+        private final BlackjackGame game;
+        private byte[] decisions = new byte[1024];
+        private int decisionCount;
+        private long[] digests = new long[256];
+        private int roundCount;
+
+        /**
+         * Creates a recorder for the starting state of a recording.
+         * @param template The recording holding the rules, penetration and seed.
+         */
+        private Recorder(Recording template) {
+            this.template = template;
+            this.game = template.newGame();
+        }
+
+        /**
+         * Returns the recorded game, for reading its state.
+         * @return The game.
+         */
+        public BlackjackGame getGame() {
+            return game;
+        }
+
+        /**
+         * Applies a decision to the active hand and records it.
+         * @param action The decision.
+         */
+        public void apply(Action action) {
+            game.playerAction(action);
+            add((byte) action.ordinal());
+        }
+
+        /**
+         * Takes or declines insurance and records the decision.
+         * @param take True to take insurance.
+         */
+        public void insurance(boolean take) {
+            game.playerInsurance(take);
+            add(take ? INSURANCE : NO_INSURANCE);
+        }
+
+        /**
+         * Records the result of the current round and starts the next one.
+         */
+        public void startNewRound() {
+            addDigest();
+            game.startNewRound();
+            add(NEW_ROUND);
+        }
+
+        /**
+         * Records the result of the current round and ends the recording.
+         * @return The recording; the recorder must not be used afterwards.
+         */
+        public Recording finish() {
+            addDigest();
+            return new Recording(template.rules, template.penetration, template.seed,
+                    Arrays.copyOf(decisions, decisionCount), Arrays.copyOf(digests, roundCount));
+        }
+
+        /**
+         * Appends a decision code, growing the buffer as needed.
+         * @param code The code.
+         */
+        private void add(byte code) {
+            if (decisionCount == decisions.length) {
+                decisions = Arrays.copyOf(decisions, decisions.length * 2);
+            }
+            decisions[decisionCount++] = code;
+        }
+
+        /**
+         * Appends the digest of the current round, growing the buffer as needed.
+         */
+        private void addDigest() {
+            if (roundCount == digests.length) {
+                digests = Arrays.copyOf(digests, digests.length * 2);
+            }
+            digests[roundCount++] = digest(game);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package blackjack.sim;
+
+import blackjack.logic.Action;
+import blackjack.logic.BlackjackGame;
+
+/**
+ * Replays {@link Recording}s headlessly through {@link BlackjackGame}, at the speed of the game logic itself:
+ * no strategy lookups, no I/O, one byte read per decision.
+ * <p>
+ * A replay regenerates the result digest of every round. Comparing them with the recorded digests
+ * ({@link #verify(Recording)}) shows whether a change to the game logic altered any outcome,
+ * and {@link #diff(long[], long[])} finds the first round where two runs diverge.
+ */
+public final class Replayer {
+    private static final Action[] ACTIONS = Action.values();
+
+    /**
+     * Private constructor to hide the implicit public one.
+     * Utility classes should not be instantiated.
+     */
+    private Replayer() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * The first round in which two runs of a session differ.
+     * @param round The index of the round, from 0.
+     * @param expected The digest of the round in the reference run, or 0 if that run ended earlier.
+     * @param actual The digest of the round in the other run, or 0 if that run ended earlier.
+     */
+    public record Divergence(int round, long expected, long actual) {
+        /**
+         * Describes the divergence with both results in words.
+         * @return The description.
+         */
+        @Override
+        public String toString() {
+            return "Round " + (round + 1) + " diverges:\n  expected: "
+                    + (expected == 0 ? "(no round)" : Recording.describe(expected))
+                    + "\n  actual:   " + (actual == 0 ? "(no round)" : Recording.describe(actual));
+        }
+    }
+
+    /**
+     * Replays a whole recording.
+     * @param recording The recording.
+     * @return The result digest of every round, in playing order.
+     */
+    public static long[] replay(Recording recording) {
+        long[] digests = new long[recording.getRoundCount()];
+        BlackjackGame game = recording.newGame();
+        int round = run(recording, game, digests, Integer.MAX_VALUE);
+        if (round < digests.length) {
+            digests[round] = Recording.digest(game);
+        }
+        return digests;
+    }
+
+    /**
+     * Replays a recording up to the end of one round, e.g. to inspect the cards of a diverging round.
+     * @param recording The recording.
+     * @param round The index of the round, from 0.
+     * @return The game as it stood at the end of that round.
+     * @throws IndexOutOfBoundsException if the recording has no such round.
+     */
+    public static BlackjackGame replayTo(Recording recording, int round) {
+        if (round < 0 || round >= recording.getRoundCount()) {
+            throw new IndexOutOfBoundsException("Round " + round + " of " + recording.getRoundCount());
+        }
+        BlackjackGame game = recording.newGame();
+        run(recording, game, null, round);
+        return game;
+    }
+
+    /**
+     * Applies the recorded decisions to a game, stopping before the given round starts.
+     * @param recording The recording.
+     * @param game A new game in the recorded starting state.
+     * @param digests Receives the digest of every completed round, or null.
+     * @param lastRound The index of the round to stop in.
+     * @return The index of the round the game is in when the replay stops.
+     */
+    private static int run(Recording recording, BlackjackGame game, long[] digests, int lastRound) {
+        byte[] decisions = recording.decisions();
+        int round = 0;
+        for (byte code : decisions) {
+            if (code == Recording.NEW_ROUND) {
+                if (round == lastRound) {
+                    break;
+                }
+                if (digests != null) {
+                    digests[round] = Recording.digest(game);
+                }
+                round++;
+                game.startNewRound();
+            } else if (code == Recording.INSURANCE || code == Recording.NO_INSURANCE) {
+                game.playerInsurance(code == Recording.INSURANCE);
+            } else {
+                game.playerAction(ACTIONS[code]);
+            }
+        }
+        return round;
+    }
+
+    /**
+     * Replays a recording and compares the results with the recorded ones.
+     * @param recording The recording.
+     * @return The first diverging round, or null if every round has the recorded result.
+     */
+    public static Divergence verify(Recording recording) {
+        return diff(recording.getDigests(), replay(recording));
+    }
+
+    /**
+     * Finds the first round where two runs of a session differ.
+     * @param expected The digests of the reference run.
+     * @param actual The digests of the other run.
+     * @return The first diverging round, or null if both runs have the same rounds with the same results.
+     */
+    public static Divergence diff(long[] expected, long[] actual) {
+        int common = Math.min(expected.length, actual.length);
+        for (int round = 0; round < common; round++) {
+            if (expected[round] != actual[round]) {
+                return new Divergence(round, expected[round], actual[round]);
+            }
+        }
+        if (expected.length != actual.length) {
+            return new Divergence(common, common < expected.length ? expected[common] : 0,
+                    common < actual.length ? actual[common] : 0);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,232 @@
+package blackjack.sim;
+
+import blackjack.logic.Outcome;
+
+/**
+ * Accumulates the outcome of many simulated rounds.
+ * Outcomes, busts and wagers are counted per hand, so a split round counts each of its hands;
+ * the expected value and its standard error are per round, the unit the player actually bets on.
+ * Each simulation worker fills its own instance, and the partial results are merged at the end,
+ * so no synchronization is needed while rounds are being played.
+ */
+public class SimulationResult {
+    private long rounds;
+    private long hands;
+    private long playerWins;
+    private long dealerWins;
+    private long pushes;
+    private long playerBusts;
+    private long dealerBusts;
+    private double unitsWagered;
+    private double netUnits;
+    private double netUnitsSquared;
+    private long elapsedNanos;
+
+    /**
+     * Records the result of a single finished round of one hand.
+     * @param outcome The outcome of the round.
+     * @param playerScore The final score of the player.
+     * @param dealerScore The final score of the dealer.
+     * @param net The net units won (positive) or lost (negative) by the player.
+     */
+    public void record(Outcome outcome, int playerScore, int dealerScore, double net) {
+        record(outcome, playerScore, dealerScore, 1, net);
+    }
+
+    /**
+     * Records the result of a single finished round of one hand played for a given bet.
+     * @param outcome The outcome of the round.
+     * @param playerScore The final score of the player.
+     * @param dealerScore The final score of the dealer.
+     * @param bet The units wagered on the round.
+     * @param net The net units won (positive) or lost (negative) by the player.
+     */
+    public void record(Outcome outcome, int playerScore, int dealerScore, double bet, double net) {
+        recordHand(outcome, playerScore, dealerScore, bet);
+        recordRound(net);
+    }
+
+    /**
+     * Records one hand of a finished round; a round with split hands records each of them.
+     * The net result is recorded for the whole round with {@link #recordRound(double)}.
+     * @param outcome The outcome of the hand.
+     * @param playerScore The final score of the hand.
+     * @param dealerScore The final score of the dealer.
+     * @param bet The units initially wagered on the hand.
+     */
+    public void recordHand(Outcome outcome, int playerScore, int dealerScore, double bet) {
+        hands++;
+        unitsWagered += bet;
+        switch (outcome) {
+            case PLAYER_WIN -> playerWins++;
+            case DEALER_WIN -> dealerWins++;
+            default -> pushes++;
+        }
+        if (playerScore > 21) {
+            playerBusts++;
+        } else if (dealerScore > 21) {
+            dealerBusts++;
+        }
+    }
+
+    /**
+     * Records the net result of a finished round, after its hands were recorded.
+     * @param net The net units won (positive) or lost (negative) by the player over all hands of the round.
+     */
+    public void recordRound(double net) {
+        rounds++;
+        netUnits += net;
+        netUnitsSquared += net * net;
+    }
+
+    /**
+     * Adds the counters of another partial result to this one.
+     * @param other The partial result to merge.
+     * @return This result, for chaining.
+     */
+    public SimulationResult merge(SimulationResult other) {
+        rounds += other.rounds;
+        hands += other.hands;
+        playerWins += other.playerWins;
+        dealerWins += other.dealerWins;
+        pushes += other.pushes;
+        playerBusts += other.playerBusts;
+        dealerBusts += other.dealerBusts;
+        unitsWagered += other.unitsWagered;
+        netUnits += other.netUnits;
+        netUnitsSquared += other.netUnitsSquared;
+        return this;
+    }
+
+    /**
+     * Sets the wall-clock duration of the whole simulation.
+     * @param elapsedNanos The duration in nanoseconds.
+     */
+    void setElapsedNanos(long elapsedNanos) { this.elapsedNanos = elapsedNanos; }
+
+    /**
+     * Returns the number of simulated rounds.
+     * @return The round count.
+     */
+    public long getRounds() { return rounds; }
+
+    /**
+     * Returns the number of simulated hands, counting each hand of a split round.
+     * @return The hand count.
+     */
+    public long getHands() { return hands; }
+
+    /**
+     * Returns the number of hands won by the player.
+     * @return The win count.
+     */
+    public long getPlayerWins() { return playerWins; }
+
+    /**
+     * Returns the number of hands won by the dealer.
+     * @return The loss count.
+     */
+    public long getDealerWins() { return dealerWins; }
+
+    /**
+     * Returns the number of tied hands.
+     * @return The push count.
+     */
+    public long getPushes() { return pushes; }
+
+    /**
+     * Returns the number of hands where the player went over 21.
+     * @return The player bust count.
+     */
+    public long getPlayerBusts() { return playerBusts; }
+
+    /**
+     * Returns the number of hands where the dealer went over 21.
+     * @return The dealer bust count.
+     */
+    public long getDealerBusts() { return dealerBusts; }
+
+    /**
+     * Returns the total net units won by the player.
+     * @return The net units (negative if the house is ahead).
+     */
+    public double getNetUnits() { return netUnits; }
+
+    /**
+     * Returns the total units wagered.
+     * @return The sum of all bets.
+     */
+    public double getUnitsWagered() { return unitsWagered; }
+
+    /**
+     * Returns the net result per unit wagered, which differs from the EV per round once bets vary with the count.
+     * @return The net units divided by the units wagered, or 0 if nothing was wagered.
+     */
+    public double getReturnPerUnitWagered() {
+        return unitsWagered == 0 ? 0 : netUnits / unitsWagered;
+    }
+
+    /**
+     * Returns the wall-clock duration of the simulation.
+     * @return The duration in nanoseconds.
+     */
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    /**
+     * Returns the expected net units per round.
+     * @return The mean net result, or 0 if no rounds were played.
+     */
+    public double getExpectedValue() {
+        return rounds == 0 ? 0 : netUnits / rounds;
+    }
+
+    /**
+     * Returns the standard error of the expected value.
+     * @return The standard error of the mean net result per round.
+     */
+    public double getStandardError() {
+        if (rounds < 2) return 0;
+        double mean = getExpectedValue();
+        double variance = (netUnitsSquared - rounds * mean * mean) / (rounds - 1);
+        return Math.sqrt(Math.max(0, variance) / rounds);
+    }
+
+    /**
+     * Returns the simulation throughput.
+     * @return The number of hands played per second.
+     */
+    public double getHandsPerSecond() {
+        return elapsedNanos == 0 ? 0 : hands * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Returns the fraction of hands that ended with the given count.
+     * @param count The number of matching hands.
+     * @return The rate between 0 and 1.
+     */
+    private double rate(long count) {
+        return hands == 0 ? 0 : (double) count / hands;
+    }
+
+    /**
+     * Provides a multi-line report of the simulation.
+     * @return The formatted report.
+     */
+    @Override
+    public String toString() {
+        return String.format(
+                "Rounds:       %,d%n" +
+                "Hands:        %,d%n" +
+                "Hands/sec:    %,.0f%n" +
+                "EV/round:     %+.5f (+/- %.5f)%n" +
+                "Avg bet:      %.3f (return/unit %+.5f)%n" +
+                "Win rate:     %.4f%n" +
+                "Loss rate:    %.4f%n" +
+                "Push rate:    %.4f%n" +
+                "Player bust:  %.4f%n" +
+                "Dealer bust:  %.4f",
+                rounds, hands, getHandsPerSecond(), getExpectedValue(), getStandardError(),
+                hands == 0 ? 0 : unitsWagered / hands, getReturnPerUnitWagered(),
+                rate(playerWins), rate(dealerWins), rate(pushes), rate(playerBusts), rate(dealerBusts));
+    }
+}
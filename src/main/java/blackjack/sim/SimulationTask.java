@@ -0,0 +1,94 @@
+package blackjack.sim;
+
+import blackjack.logic.BlackjackGame;
+import blackjack.logic.TableRules;
+import blackjack.model.Hand;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * A fork/join task that plays a contiguous range of simulated rounds.
+ * Large ranges are split in half until they fit below the threshold; each leaf then
+ * plays its rounds on its own game, deck and random generator.
+ * Generators are split off deterministically while the range is divided, so the generator of every
+ * leaf depends only on the seed and the number of rounds, never on the number of threads.
+ */
+class SimulationTask extends RecursiveTask<SimulationResult> {
+    private static final long serialVersionUID = 1L;
+
+    /** The maximum number of rounds a single leaf task plays. */
+    static final long LEAF_ROUNDS = 1L << 16;
+
+    // Tasks are never serialized; ForkJoinTask is only Serializable for historical reasons
+    private final transient TableRules rules;
+    private final transient AutoPlayer autoPlayer;
+    private final transient BettingStrategy betting;
+    private final transient SplittableGenerator random;
+    private final long rounds;
+
+    /**
+     * Constructs a task for a range of rounds.
+     * @param rules The table rules of every game.
+     * @param autoPlayer The (stateless, shared) player logic.
+     * @param betting The (stateless, shared) bet sizing.
+     * @param random The generator owned by this range.
+     * @param rounds The number of rounds in this range.
+     */
+    SimulationTask(TableRules rules, AutoPlayer autoPlayer, BettingStrategy betting, SplittableGenerator random, long rounds) {
+        this.rules = rules;
+        this.autoPlayer = autoPlayer;
+        this.betting = betting;
+        this.random = random;
+        this.rounds = rounds;
+    }
+
+    /**
+     * Splits the range or plays it directly when it is small enough.
+     * @return The merged result of the range.
+     */
+    @Override
+    protected SimulationResult compute() {
+        if (rounds <= LEAF_ROUNDS) {
+            return playRounds();
+        }
+        long half = rounds / 2;
+        // Split before forking, so the split sequence is the same whatever thread runs the halves
+        SimulationTask left = new SimulationTask(rules, autoPlayer, betting, random.split(), half);
+        SimulationTask right = new SimulationTask(rules, autoPlayer, betting, random, rounds - half);
+        left.fork();
+        SimulationResult result = right.compute();
+        return result.merge(left.join());
+    }
+
+    /**
+     * Plays every round of this leaf on a private game instance.
+     * @return The result of the leaf.
+     */
+    private SimulationResult playRounds() {
+        SimulationResult result = new SimulationResult();
+        BlackjackGame game = new BlackjackGame("Simulator", rules, random);
+
+        for (long i = 0; i < rounds; i++) {
+            double bet;
+            if (i == 0) {
+                // The first round is dealt by the constructor, from a fresh shoe
+                bet = betting.units(0);
+            } else {
+                // The bet is placed before the deal; a due reshuffle resets the count first
+                bet = betting.units(game.isReshuffleDue() ? 0 : game.getTrueCount());
+                game.startNewRound();
+            }
+            autoPlayer.playRound(game);
+
+            // One entry per hand, like the game's own history; split rounds are each played for the bet
+            List<Hand> playerHands = game.getPlayer().getHands();
+            int dealerScore = game.getDealer().getScore();
+            for (int h = 0; h < playerHands.size(); h++) {
+                result.recordHand(game.getOutcome(h), playerHands.get(h).getScore(), dealerScore, bet);
+            }
+            result.recordRound(bet * game.getRoundNetUnits());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,107 @@
+package blackjack.sim;
+
+import blackjack.logic.BasicStrategy;
+import blackjack.logic.TableRules;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Headless Monte Carlo engine that plays a large number of Blackjack rounds without the GUI.
+ * The player's side follows basic strategy through an {@link AutoPlayer}, and bets are sized by a
+ * {@link BettingStrategy}, flat by default or following the Hi-Lo count.
+ * The work is split across a fork/join pool; every worker owns its own game, deck and random generator,
+ * and the partial results are merged once all rounds have been played.
+ * The same seed produces the same aggregate result regardless of the number of threads.
+ */
+public class Simulator {
+    private static final RandomGeneratorFactory<SplittableGenerator> RANDOM_FACTORY = RandomGeneratorFactory.of("L64X128MixRandom");
+
+    private final TableRules rules;
+    private final AutoPlayer autoPlayer;
+    private final BettingStrategy betting;
+    private final int parallelism;
+    private final long seed;
+
+    /**
+     * Constructs a simulator that uses every available processor.
+     * @param numberOfDecks The number of decks used by every simulated game.
+     * @param seed The seed from which every worker's random generator is split.
+     */
+    public Simulator(int numberOfDecks, long seed) {
+        this(numberOfDecks, seed, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a simulator with an explicit degree of parallelism.
+     * @param numberOfDecks The number of decks used by every simulated game.
+     * @param seed The seed from which every worker's random generator is split.
+     * @param parallelism The number of worker threads.
+     */
+    public Simulator(int numberOfDecks, long seed, int parallelism) {
+        this(numberOfDecks, seed, parallelism, BettingStrategy.FLAT);
+    }
+
+    /**
+     * Constructs a simulator with an explicit degree of parallelism and bet sizing.
+     * @param numberOfDecks The number of decks used by every simulated game.
+     * @param seed The seed from which every worker's random generator is split.
+     * @param parallelism The number of worker threads.
+     * @param betting The bet sizing, shared by every worker.
+     */
+    public Simulator(int numberOfDecks, long seed, int parallelism, BettingStrategy betting) {
+        this(TableRules.STANDARD.withNumberOfDecks(numberOfDecks), seed, parallelism, betting);
+    }
+
+    /**
+     * Constructs a simulator for a rule set. The rules are compiled before the run, so every rule variant
+     * plays at the speed of the standard rules.
+     * @param rules The table rules of every simulated game, including the number of decks.
+     * @param seed The seed from which every worker's random generator is split.
+     * @param parallelism The number of worker threads.
+     * @param betting The bet sizing, shared by every worker.
+     */
+    public Simulator(TableRules rules, long seed, int parallelism, BettingStrategy betting) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+        this.rules = rules;
+        // The strategy chart follows the dealer's soft 17 rule and whether doubling after a split is allowed
+        this.autoPlayer = new AutoPlayer(BasicStrategy.compile(rules.dealerHitsSoft17(), rules.doubleAfterSplit()));
+        this.betting = betting;
+        this.seed = seed;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Plays the requested number of rounds and returns the merged statistics.
+     * @param rounds The total number of rounds to simulate.
+     * @return The aggregated result, including the elapsed time.
+     */
+    public SimulationResult run(long rounds) {
+        if (rounds < 0) {
+            throw new IllegalArgumentException("The number of rounds cannot be negative.");
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long start = System.nanoTime();
+            SimulationResult result = pool.invoke(new SimulationTask(rules, autoPlayer, betting, RANDOM_FACTORY.create(seed), rounds));
+            result.setElapsedNanos(System.nanoTime() - start);
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns the table rules of the simulated games.
+     * @return The compiled rules.
+     */
+    public TableRules getRules() { return rules; }
+
+    /**
+     * Returns the number of worker threads.
+     * @return The degree of parallelism.
+     */
+    public int getParallelism() { return parallelism; }
+}
@@ -0,0 +1,162 @@
+package blackjack.io;
+
+import blackjack.logic.BlackjackGame;
+import blackjack.model.Deck;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the AutoSaver class: background writes, coalescing of bursts and failure reporting.
+ */
+class AutoSaverTest {
+    private Path file;
+    private final List<String> events = new ArrayList<>();
+
+    private final AutoSaver.Listener listener = new AutoSaver.Listener() {
+        @Override
+        public void saveCompleted(Path saved, int bytes, long writeNanos) {
+            events.add("saved " + bytes);
+        }
+
+        @Override
+        public void saveFailed(Path saved, IOException error) {
+            events.add("failed");
+        }
+    };
+
+    /**
+     * Creates an empty save location before each test.
+     * @throws IOException if the temporary file cannot be created.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("autosave", ".dat");
+        Files.delete(file);
+    }
+
+    /**
+     * Deletes the save file after each test.
+     * @throws IOException if the file cannot be deleted.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Verifies that a burst of saves while the writer is busy results in a single write of the latest state.
+     */
+    @Test
+    void testBurstIsCoalescedIntoOneWrite() throws Exception {
+        Queue<Runnable> writerTasks = new ArrayDeque<>();
+        AutoSaver saver = new AutoSaver(file, listener, Runnable::run, writerTasks::add);
+        BlackjackGame game = new BlackjackGame("Burst", 1);
+
+        for (int i = 0; i < 10; i++) {
+            saver.save(game);
+            game.startNewRound();
+        }
+        assertEquals(1, writerTasks.size(), "A burst should schedule only one write task.");
+        assertFalse(Files.exists(file), "Nothing should be written before the writer runs.");
+
+        game.playerStand();
+        saver.save(game);
+        writerTasks.poll().run();
+
+        assertEquals(11, saver.getRequestedCount(), "Every save should be counted as requested.");
+        assertEquals(1, saver.getWrittenCount(), "The burst should be written once.");
+        assertEquals(1, events.size(), "The listener should hear about the single write.");
+        BlackjackGame loaded = SaveManager.loadGame(file);
+        assertEquals(game.getPlayer().getScore(), loaded.getPlayer().getScore(), "The latest state should be written.");
+        assertEquals(game.isGameOver(), loaded.isGameOver(), "The latest state should be written.");
+        assertTrue(writerTasks.isEmpty(), "No write should be left pending.");
+
+        saver.save(game);
+        assertEquals(1, writerTasks.size(), "A save after the drain should schedule a new write.");
+    }
+
+    /**
+     * Verifies that the round listener saves after every round, and that rounds ending while the writer is busy
+     * are coalesced into a single write of the latest round.
+     */
+    @Test
+    void testRoundsAreSavedAndCoalesced() throws Exception {
+        Queue<Runnable> writerTasks = new ArrayDeque<>();
+        AutoSaver saver = new AutoSaver(file, listener, Runnable::run, writerTasks::add);
+        BlackjackGame game = new BlackjackGame("Rounds", 1, Deck.createRandom(5));
+        game.addListener(saver.saveAfterEveryRound(game));
+
+        for (int round = 0; round < 5; round++) {
+            if (!game.isGameOver()) {
+                game.playerStand();
+            }
+            game.startNewRound();
+        }
+        if (!game.isGameOver()) {
+            game.playerStand();
+        }
+        assertTrue(saver.getRequestedCount() >= 6, "Every finished round should request a save.");
+        assertEquals(1, writerTasks.size(), "The rounds should schedule only one write task.");
+
+        writerTasks.poll().run();
+        assertEquals(1, saver.getWrittenCount(), "The rounds should be written once.");
+        BlackjackGame loaded = SaveManager.loadGame(file);
+        assertTrue(loaded.isGameOver(), "The last finished round should be written.");
+        assertEquals(game.getResultsHistory().size(), loaded.getResultsHistory().size(),
+                "The history up to the last round should be written.");
+    }
+
+    /**
+     * Verifies that a save on the real writer thread is on disk once flush completes, and loads back intact.
+     */
+    @Test
+    void testSaveAndFlushWritesFile() throws Exception {
+        BlackjackGame game = new BlackjackGame("Flush", 2);
+        game.playerHit();
+        try (AutoSaver saver = new AutoSaver(file, listener, Runnable::run)) {
+            saver.save(game);
+            saver.flush().get();
+            assertTrue(Files.exists(file), "The save file should exist after a flush.");
+        }
+
+        BlackjackGame loaded = SaveManager.loadGame(file);
+        assertEquals("Flush", loaded.getPlayer().getName(), "The player should be restored.");
+        assertEquals(game.getPlayer().getScore(), loaded.getPlayer().getScore(), "The score should be restored.");
+        assertEquals(game.getDeck().getCardCount(), loaded.getDeck().getCardCount(), "The shoe should be restored.");
+    }
+
+    /**
+     * Verifies that a failed write is reported to the listener rather than thrown at the caller.
+     */
+    @Test
+    void testFailureIsReported() throws Exception {
+        Path blocker = Files.createTempFile("autosave", ".blocker");
+        try (AutoSaver saver = new AutoSaver(blocker.resolve("save.dat"), listener, Runnable::run)) {
+            saver.save(new BlackjackGame("Fail", 1));
+            saver.flush().get();
+        } finally {
+            Files.delete(blocker);
+        }
+        assertEquals(List.of("failed"), events, "A write below a regular file should be reported as failed.");
+    }
+
+    /**
+     * Verifies that a closed auto saver rejects further saves.
+     */
+    @Test
+    void testSaveAfterCloseIsRejected() {
+        AutoSaver saver = new AutoSaver(file, listener, Runnable::run);
+        saver.close();
+        BlackjackGame game = new BlackjackGame("Closed", 1);
+        assertThrows(IllegalStateException.class, () -> saver.save(game), "Saving after close should fail.");
+    }
+}
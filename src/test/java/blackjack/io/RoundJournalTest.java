@@ -0,0 +1,137 @@
+package blackjack.io;
+
+import blackjack.logic.BlackjackGame;
+import blackjack.logic.Outcome;
+import blackjack.model.Card;
+import blackjack.model.Rank;
+import blackjack.model.Suit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the RoundJournal class: appending, random access, scanning, segment growth and reopening.
+ */
+class RoundJournalTest {
+    private Path file;
+
+    /**
+     * Creates an empty journal location before each test.
+     * @throws IOException if the temporary file cannot be created.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("rounds", ".journal");
+        Files.delete(file);
+    }
+
+    /**
+     * Deletes the journal file after each test.
+     * @throws IOException if the file cannot be deleted.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        System.gc(); // Help release mapped files on Windows
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Verifies that an appended round can be read back with all its fields.
+     */
+    @Test
+    void testAppendAndRead() throws IOException {
+        try (RoundJournal journal = new RoundJournal(file)) {
+            List<Card> player = List.of(Card.of(Suit.HEARTS, Rank.ACE), Card.of(Suit.SPADES, Rank.KING));
+            List<Card> dealer = List.of(Card.of(Suit.CLUBS, Rank.NINE), Card.of(Suit.DIAMONDS, Rank.EIGHT));
+            long round = journal.append(Outcome.PLAYER_WIN, 21, 17, true, player, dealer);
+
+            assertEquals(1, round, "The first round must be round 1.");
+            assertEquals(1, journal.getRoundCount());
+            RoundJournal.Entry entry = journal.read(1);
+            assertEquals(Outcome.PLAYER_WIN, entry.getOutcome());
+            assertEquals(21, entry.getPlayerScore());
+            assertEquals(17, entry.getDealerScore());
+            assertEquals(2, entry.getPlayerCardCount());
+            assertEquals(player.get(1), entry.getPlayerCard(1));
+            assertEquals(dealer.get(0), entry.getDealerCard(0));
+            assertTrue(entry.isPlayerBlackjack(), "Ace and king is a blackjack.");
+            journal.append(Outcome.PLAYER_WIN, 21, 17, false, player, dealer);
+            assertFalse(journal.read(2).isPlayerBlackjack(), "Ace and king after a split is not a blackjack.");
+            assertEquals(Outcome.PLAYER_WIN, journal.read(2).getOutcome());
+            assertThrows(IndexOutOfBoundsException.class, () -> journal.read(3), "Unwritten rounds cannot be read.");
+        }
+    }
+
+    /**
+     * Verifies that the journal grows across many small segments and supports random access and scans.
+     */
+    @Test
+    void testGrowsAcrossSegments() throws IOException {
+        try (RoundJournal journal = new RoundJournal(file, 4)) {
+            for (int i = 0; i < 100; i++) {
+                journal.append(Outcome.values()[i % 3], i % 30, 17, false, List.of(Card.fromCode(i % 52)), List.of());
+            }
+            assertEquals(100, journal.getRoundCount());
+            assertEquals(Outcome.values()[57 % 3], journal.read(58).getOutcome(), "Random access must find the right record.");
+            assertEquals(Card.fromCode(57 % 52), journal.read(58).getPlayerCard(0));
+
+            List<Long> rounds = new ArrayList<>();
+            journal.scan(91, entry -> rounds.add(entry.getRound()));
+            assertEquals(List.of(91L, 92L, 93L, 94L, 95L, 96L, 97L, 98L, 99L, 100L), rounds, "A scan visits the tail in order.");
+        }
+    }
+
+    /**
+     * Verifies that reopening a journal keeps its rounds and continues appending after them.
+     */
+    @Test
+    void testReopenContinuesAfterExistingRounds() throws IOException {
+        try (RoundJournal journal = new RoundJournal(file, 8)) {
+            for (int i = 0; i < 20; i++) {
+                journal.append(Outcome.PUSH, 18, 18, false, List.of(), List.of());
+            }
+        }
+        try (RoundJournal journal = new RoundJournal(file, 8)) {
+            assertEquals(20, journal.getRoundCount(), "Existing rounds must be found on reopening.");
+            assertEquals(21, journal.append(Outcome.DEALER_WIN, 22, 17, false, List.of(), List.of()));
+            assertEquals(Outcome.PUSH, journal.read(20).getOutcome());
+        }
+    }
+
+    /**
+     * Verifies that a file that is not a round journal is rejected.
+     */
+    @Test
+    void testRejectsForeignFile() throws IOException {
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> new RoundJournal(file, 4), "A foreign file must not be opened as a journal.");
+    }
+
+    /**
+     * Verifies that a game attached to the journal records every finished round.
+     */
+    @Test
+    void testRecordsEveryRoundOfAGame() throws IOException {
+        try (RoundJournal journal = new RoundJournal(file)) {
+            BlackjackGame game = new BlackjackGame("JournalPlayer", 2);
+            game.setRoundRecorder(journal);
+            for (int i = 0; i < 25; i++) {
+                game.startNewRound();
+                if (!game.isGameOver()) {
+                    game.playerStand();
+                }
+            }
+            assertEquals(25, journal.getRoundCount(), "Every round must be journaled, not only the last 10.");
+            RoundJournal.Entry last = journal.read(25);
+            assertEquals(game.getOutcome(), last.getOutcome());
+            assertEquals(game.getPlayer().getScore(), last.getPlayerScore());
+            assertEquals(game.getDealer().getHand().size(), last.getDealerCardCount());
+        }
+    }
+}
@@ -1,10 +1,26 @@
 package blackjack.io;
 
 import blackjack.logic.BlackjackGame;
+import blackjack.logic.Outcome;
+import blackjack.logic.RoundResult;
+import blackjack.logic.TableRules;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import blackjack.model.Card;
+import blackjack.model.Deck;
+import blackjack.model.Hand;
+import blackjack.model.Rank;
+import blackjack.model.Suit;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -69,4 +85,159 @@ class SaveManagerTest {
             fail("Exception during save/load test: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies that the shoe, hands, flags and history survive a save/load round trip unchanged.
+     */
+    @Test
+    void testRoundTripPreservesFullState() throws Exception {
+        originalGame.playerStand();
+        originalGame.startNewRound();
+        SaveManager.saveGame(originalGame);
+
+        BlackjackGame loadedGame = SaveManager.loadGame();
+        assertArrayEquals(originalGame.getDeck().getShoeCodes(), loadedGame.getDeck().getShoeCodes(), "The shoe order must be preserved.");
+        assertEquals(originalGame.getDeck().getCardsDealt(), loadedGame.getDeck().getCardsDealt(), "The shoe position must be preserved.");
+        assertEquals(originalGame.getPlayer().getHand(), loadedGame.getPlayer().getHand());
+        assertEquals(originalGame.getDealer().getHand(), loadedGame.getDealer().getHand());
+        assertEquals(originalGame.isGameOver(), loadedGame.isGameOver());
+        assertEquals(originalGame.isPlayerTurn(), loadedGame.isPlayerTurn());
+        assertEquals(originalGame.getResultsHistory().size(), loadedGame.getResultsHistory().size());
+        assertEquals(originalGame.getResultsHistory().get(0).toString(), loadedGame.getResultsHistory().get(0).toString());
+    }
+
+    /**
+     * Verifies that split hands, their betting state and the active hand survive a save/load round trip.
+     */
+    @Test
+    void testRoundTripPreservesSplitHands() throws Exception {
+        BlackjackGame game = BlackjackGame.restore("Splitter", 1, Deck.DEFAULT_PENETRATION, new Deck(1),
+                List.of(Card.of(Suit.HEARTS, Rank.EIGHT), Card.of(Suit.SPADES, Rank.EIGHT)),
+                List.of(Card.of(Suit.DIAMONDS, Rank.TEN), Card.of(Suit.DIAMONDS, Rank.SEVEN)),
+                false, true, List.of());
+        game.playerSplit();
+        game.playerDouble();
+        SaveManager.saveGame(game);
+
+        BlackjackGame loadedGame = SaveManager.loadGame();
+        assertEquals(2, loadedGame.getPlayer().getHandCount());
+        assertEquals(game.getPlayer().getActiveHandIndex(), loadedGame.getPlayer().getActiveHandIndex());
+        for (int i = 0; i < 2; i++) {
+            Hand saved = game.getPlayer().getHands().get(i);
+            Hand loaded = loadedGame.getPlayer().getHands().get(i);
+            assertEquals(saved.getCards(), loaded.getCards(), "The cards of hand " + i + " must be preserved.");
+            assertEquals(saved.isDoubled(), loaded.isDoubled());
+            assertEquals(saved.isFinished(), loaded.isFinished());
+            assertTrue(loaded.isFromSplit(), "Hand " + i + " must stay a split hand.");
+        }
+        assertEquals(game.getAllowedActions(), loadedGame.getAllowedActions(), "The loaded game must offer the same actions.");
+    }
+
+    /**
+     * Verifies that a natural and a two-card 21 after a split keep their blackjack flags through a save/load round trip.
+     */
+    @Test
+    void testRoundTripPreservesBlackjackFlags() throws Exception {
+        List<Card> twentyOne = List.of(Card.of(Suit.HEARTS, Rank.ACE), Card.of(Suit.SPADES, Rank.KING));
+        List<Card> dealer = List.of(Card.of(Suit.CLUBS, Rank.TEN), Card.of(Suit.CLUBS, Rank.NINE));
+        List<RoundResult> history = List.of(
+                new RoundResult(Outcome.PLAYER_WIN, "Splitter", 21, 19, twentyOne, dealer, false, 1),
+                new RoundResult(Outcome.PLAYER_WIN, "Splitter", 21, 19, twentyOne, dealer, true, 1.5));
+        BlackjackGame game = BlackjackGame.restore("Splitter", 1, Deck.DEFAULT_PENETRATION, new Deck(1),
+                List.of(Card.of(Suit.HEARTS, Rank.EIGHT), Card.of(Suit.SPADES, Rank.NINE)), dealer,
+                false, true, history);
+        SaveManager.saveGame(game);
+
+        BlackjackGame loadedGame = SaveManager.loadGame();
+        assertFalse(loadedGame.getResultsHistory().get(0).isPlayerBlackjack(), "A 21 after a split is not a natural.");
+        assertTrue(loadedGame.getResultsHistory().get(1).isPlayerBlackjack(), "The natural must keep its flag.");
+        assertEquals(1, loadedGame.getStatistics().getAllTime().getPlayerBlackjacks(),
+                "The rebuilt statistics must count only the natural.");
+    }
+
+    /**
+     * Verifies that a damaged save file is rejected instead of loading corrupt state.
+     */
+    @Test
+    void testCorruptSaveIsRejected() throws Exception {
+        SaveManager.saveGame(originalGame);
+        Path file = Path.of(TEST_FILE_PATH);
+        byte[] data = Files.readAllBytes(file);
+        data[data.length - 1] ^= 0x55;
+        Files.write(file, data);
+
+        assertThrows(IOException.class, SaveManager::loadGame, "A checksum mismatch must be reported.");
+        Files.write(file, Arrays.copyOf(data, 10));
+        assertThrows(IOException.class, SaveManager::loadGame, "A truncated file must be reported.");
+    }
+
+    /**
+     * Verifies that the table rules survive a save/load round trip.
+     */
+    @Test
+    void testRoundTripPreservesRules() throws Exception {
+        TableRules rules = TableRules.parse("H17 6:5 NOPEEK NODAS RSA NOLS 2HANDS 6D");
+        SaveManager.saveGame(new BlackjackGame("Rules", rules, Deck.createRandom(3)));
+
+        assertEquals(rules, SaveManager.loadGame().getRules(), "The loaded game must keep its table rules.");
+    }
+
+    /**
+     * Verifies that a length that exceeds the file is rejected before anything is allocated for it,
+     * even when the checksum matches.
+     */
+    @Test
+    void testOversizedLengthIsRejected() throws Exception {
+        byte[] data = SaveCodec.encode(originalGame);
+        // Replace the one-byte length of the player name with the largest varint
+        byte[] payload = new byte[data.length - SaveCodec.HEADER_SIZE + 4];
+        byte[] maxVarint = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F};
+        System.arraycopy(maxVarint, 0, payload, 0, maxVarint.length);
+        System.arraycopy(data, SaveCodec.HEADER_SIZE + 1, payload, maxVarint.length, data.length - SaveCodec.HEADER_SIZE - 1);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        byte[] corrupt = ByteBuffer.allocate(SaveCodec.HEADER_SIZE + payload.length).putInt(SaveCodec.MAGIC)
+                .put(SaveCodec.FORMAT_VERSION).putInt(payload.length).putInt((int) crc.getValue()).put(payload).array();
+
+        assertThrows(IOException.class, () -> SaveCodec.decode(corrupt), "An oversized length must be reported.");
+    }
+
+    /**
+     * Verifies that a truncated legacy save is reported as an I/O error.
+     */
+    @Test
+    void testTruncatedLegacySaveIsRejected() throws Exception {
+        byte[] legacy;
+        try (InputStream in = getClass().getResourceAsStream("/legacy-gamestate.dat")) {
+            assertNotNull(in, "The legacy save fixture must be on the test classpath.");
+            legacy = in.readAllBytes();
+        }
+        for (int length = 2; length < legacy.length; length += 97) {
+            byte[] truncated = Arrays.copyOf(legacy, length);
+            assertThrows(IOException.class, () -> LegacySaveReader.read(truncated),
+                    "A legacy save cut at " + length + " bytes must be reported.");
+        }
+    }
+
+    /**
+     * Verifies that a save written by the original serialization-based version can still be loaded.
+     */
+    @Test
+    void testLoadLegacySave() throws Exception {
+        Path file = Path.of(TEST_FILE_PATH);
+        Files.createDirectories(file.getParent());
+        try (InputStream in = getClass().getResourceAsStream("/legacy-gamestate.dat")) {
+            assertNotNull(in, "The legacy save fixture must be on the test classpath.");
+            Files.write(file, in.readAllBytes());
+        }
+
+        BlackjackGame loadedGame = SaveManager.loadGame();
+        assertEquals("Legacy", loadedGame.getPlayer().getName());
+        assertEquals(2, loadedGame.getNumberOfDecks());
+        assertEquals(3, loadedGame.getResultsHistory().size(), "The round history must be migrated.");
+        assertEquals(List.of(Rank.QUEEN, Rank.KING), loadedGame.getPlayer().getHand().stream().map(Card::getRank).toList());
+        assertEquals(List.of(Rank.TWO, Rank.QUEEN), loadedGame.getDealer().getHand().stream().map(Card::getRank).toList());
+        assertEquals(2 * 52, loadedGame.getDeck().getTotalCards(), "The shoe must be rebuilt at full size.");
+        assertEquals(4, loadedGame.getDeck().getCardsDealt(), "Cards already in play count as dealt.");
+    }
+}
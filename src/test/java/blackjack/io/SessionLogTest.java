@@ -0,0 +1,153 @@
+package blackjack.io;
+
+import blackjack.logic.Action;
+import blackjack.logic.BasicStrategy;
+import blackjack.logic.BlackjackGame;
+import blackjack.logic.TableRules;
+import blackjack.model.Deck;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the SessionLog class: recovery from snapshot plus log, periodic snapshots and torn log tails.
+ */
+class SessionLogTest {
+    private final BasicStrategy strategy = BasicStrategy.compile(TableRules.STANDARD.dealerHitsSoft17(), true);
+    private Path directory;
+
+    /**
+     * Creates an empty log directory before each test.
+     * @throws IOException if the directory cannot be created.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("session");
+    }
+
+    /**
+     * Deletes the log directory after each test.
+     * @throws IOException if a file cannot be deleted.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * Plays the current round of the logged game with basic strategy, declining insurance.
+     * @param log The session log.
+     */
+    private void playRound(SessionLog log) {
+        BlackjackGame game = log.getGame();
+        if (game.isInsuranceOffered()) {
+            log.insurance(false);
+        }
+        while (game.isPlayerTurn() && !game.isGameOver()) {
+            int allowed = game.getAllowedActions();
+            Action action = strategy.decide(game.getPlayer(), game.getDealerUpcard(), allowed);
+            log.apply((allowed & action.mask()) != 0 ? action : Action.STAND);
+        }
+    }
+
+    /**
+     * Verifies that an empty directory has no session to recover.
+     */
+    @Test
+    void testRecoverWithoutSnapshot() throws IOException {
+        assertNull(SessionLog.recover(directory), "A directory without a snapshot should recover nothing.");
+    }
+
+    /**
+     * Verifies that many rounds, spanning several snapshots and reshuffles, recover to the exact live state.
+     */
+    @Test
+    void testRecoverReplaysToLiveState() throws IOException {
+        BlackjackGame game = new BlackjackGame("Logged", 1, Deck.createRandom(7));
+        try (SessionLog log = new SessionLog(directory, 25, 5)) {
+            log.begin(game);
+            for (int round = 0; round < 60; round++) {
+                playRound(log);
+                log.startNewRound();
+            }
+            // Leave the last round unfinished, after one hit
+            if (game.isPlayerTurn() && !game.isGameOver()) {
+                log.apply(Action.HIT);
+            }
+        }
+
+        BlackjackGame recovered = SessionLog.recover(directory);
+        assertNotNull(recovered, "The session should be recovered.");
+        assertArrayEquals(SaveCodec.encode(game), SaveCodec.encode(recovered), "Replay should reproduce the live game exactly.");
+        assertTrue(Files.size(directory.resolve(SessionLog.LOG_FILE)) < 1000, "Snapshots should keep the log short.");
+    }
+
+    /**
+     * Verifies that the recovered game shuffles like the live one, so the session can be continued and logged again.
+     */
+    @Test
+    void testRecoveredGameContinuesIdentically() throws IOException {
+        BlackjackGame game = new BlackjackGame("Logged", 1, Deck.createRandom(11));
+        try (SessionLog log = new SessionLog(directory, 1000, 5)) {
+            log.begin(game);
+            for (int round = 0; round < 40; round++) {
+                playRound(log);
+                log.startNewRound();
+            }
+        }
+        BlackjackGame recovered = SessionLog.recover(directory);
+
+        // Continue both through a reshuffle with the same seed
+        game.reseedShuffle(99);
+        recovered.reseedShuffle(99);
+        for (int round = 0; round < 30; round++) {
+            game.playerStand();
+            recovered.playerStand();
+            game.startNewRound();
+            recovered.startNewRound();
+        }
+        assertArrayEquals(SaveCodec.encode(game), SaveCodec.encode(recovered), "The recovered game should deal the same cards.");
+    }
+
+    /**
+     * Verifies that a record torn by a crash ends the replay at the last complete record.
+     */
+    @Test
+    void testTornTailIsIgnored() throws IOException {
+        BlackjackGame game = new BlackjackGame("Torn", 2, Deck.createRandom(3));
+        byte[] beforeLastRound;
+        try (SessionLog log = new SessionLog(directory, 1000, 5)) {
+            log.begin(game);
+            for (int round = 0; round < 5; round++) {
+                playRound(log);
+                log.startNewRound();
+            }
+            playRound(log);
+            beforeLastRound = SaveCodec.encode(game);
+            log.startNewRound();
+        }
+
+        // Cut the START record of the last round in half
+        Path logFile = directory.resolve(SessionLog.LOG_FILE);
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            boolean endedOnDeal = game.isGameOver();
+            channel.truncate(size - (endedOnDeal ? 6 : 0) - 5);
+        }
+
+        BlackjackGame recovered = SessionLog.recover(directory);
+        assertArrayEquals(beforeLastRound, SaveCodec.encode(recovered), "Replay should stop before the torn record.");
+    }
+}
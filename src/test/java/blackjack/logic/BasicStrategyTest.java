@@ -0,0 +1,67 @@
+package blackjack.logic;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the compiled basic strategy tables against well-known chart entries.
+ */
+class BasicStrategyTest {
+    private static final int ALL = Action.DOUBLE.mask() | Action.SPLIT.mask() | Action.SURRENDER.mask();
+
+    /**
+     * Verifies common hard total decisions.
+     */
+    @Test
+    void testHardTotals() {
+        BasicStrategy strategy = BasicStrategy.compile(false, true);
+
+        assertEquals(Action.STAND, strategy.decide(12, false, 0, 4, ALL));
+        assertEquals(Action.HIT, strategy.decide(12, false, 0, 2, ALL));
+        assertEquals(Action.HIT, strategy.decide(16, false, 0, 7, ALL));
+        assertEquals(Action.DOUBLE, strategy.decide(11, false, 0, 10, ALL));
+        assertEquals(Action.STAND, strategy.decide(17, false, 0, 11, ALL));
+    }
+
+    /**
+     * Verifies that unavailable actions fall back to the chart's alternative.
+     */
+    @Test
+    void testFallbacks() {
+        BasicStrategy strategy = BasicStrategy.compile(false, true);
+
+        assertEquals(Action.SURRENDER, strategy.decide(16, false, 0, 10, ALL));
+        assertEquals(Action.HIT, strategy.decide(16, false, 0, 10, 0), "Surrender falls back to hit.");
+        assertEquals(Action.HIT, strategy.decide(11, false, 0, 6, 0), "Double falls back to hit.");
+        assertEquals(Action.STAND, strategy.decide(18, true, 0, 4, 0), "Soft 18 double falls back to stand.");
+    }
+
+    /**
+     * Verifies pair splitting and the fallback to the pair's total.
+     */
+    @Test
+    void testPairs() {
+        BasicStrategy strategy = BasicStrategy.compile(false, true);
+
+        assertEquals(Action.SPLIT, strategy.decide(16, false, 8, 10, ALL));
+        assertEquals(Action.SPLIT, strategy.decide(12, true, 11, 6, ALL));
+        assertEquals(Action.STAND, strategy.decide(20, false, 10, 6, ALL), "Tens are never split.");
+        assertEquals(Action.DOUBLE, strategy.decide(10, false, 5, 6, ALL), "Fives are played as a hard 10.");
+        assertEquals(Action.STAND, strategy.decide(18, false, 9, 7, ALL));
+        assertEquals(Action.HIT, strategy.decide(16, false, 8, 10, 0), "Without split or surrender, 8,8 vs T hits.");
+    }
+
+    /**
+     * Verifies the differences between the H17 and S17 charts and the double-after-split option.
+     */
+    @Test
+    void testRuleVariants() {
+        BasicStrategy s17 = BasicStrategy.compile(false, false);
+        BasicStrategy h17 = BasicStrategy.compile(true, true);
+
+        assertEquals(Action.HIT, s17.decide(11, false, 0, 11, ALL));
+        assertEquals(Action.DOUBLE, h17.decide(11, false, 0, 11, ALL));
+        assertEquals(Action.HIT, s17.decide(4, false, 2, 2, ALL), "2,2 vs 2 only splits with double after split.");
+        assertEquals(Action.SPLIT, h17.decide(4, false, 2, 2, ALL));
+    }
+}
@@ -1,8 +1,12 @@
 package blackjack.logic;
 
 import blackjack.model.Card;
+import blackjack.model.Deck;
 import blackjack.model.Rank;
 import blackjack.model.Suit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -18,16 +22,22 @@ class BlackjackGameTest {
     void testGameInitialization() {
         BlackjackGame game = new BlackjackGame("Gamer", 1);
         
-        assertEquals(4, game.getPlayer().getHand().size() + game.getDealer().getHand().size(), "Four cards must be dealt initially.");
+        assertEquals(2, game.getPlayer().getHand().size(), "The player must be dealt two cards initially.");
+        // The dealer holds two cards, or more if a player Blackjack already ended the round
+        assertTrue(game.getDealer().getHand().size() >= 2, "The dealer must be dealt two cards initially.");
         assertEquals(1, game.getNumberOfDecks(), "The number of decks should be 1.");
 
+        if (game.getDealer().isBlackjack() && !game.isInsuranceOffered()) {
+            // The dealer peeked and found a Blackjack: the round ends on the deal
+            assertTrue(game.isGameOver(), "A peeked dealer Blackjack should end the round at once.");
+            return;
+        }
         if (game.getPlayer().getScore() == 21) {
             assertFalse(game.isPlayerTurn(), "If player is dealt a Blackjack (21), turn should pass automatically.");
         } else {
             assertTrue(game.isPlayerTurn(), "The game should start with the player's turn (if score < 21).");
+            assertFalse(game.isGameOver(), "The game should not be over initially (unless dealer also has blackjack).");
         }
-
-        assertFalse(game.isGameOver(), "The game should not be over initially (unless dealer also has blackjack).");
     }
     
     /**
@@ -113,4 +123,334 @@ class BlackjackGameTest {
         
         assertTrue(game.getResultsHistory().size() >= 1, "History should record rounds.");
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies that the shoe persists across rounds until the cut card comes out.
+     */
+    @Test
+    void testShoePersistsAcrossRounds() {
+        BlackjackGame game = new BlackjackGame("ShoeTester", 8);
+        Deck shoe = game.getDeck();
+        game.playerStand();
+        int dealtAfterFirstRound = shoe.getCardsDealt();
+
+        game.startNewRound();
+
+        assertSame(shoe, game.getDeck(), "The same shoe must be used for the next round.");
+        assertTrue(shoe.getCardsDealt() >= dealtAfterFirstRound + 4, "The next round must continue dealing from the shoe.");
+    }
+
+    /**
+     * Verifies that the count shown to the player leaves out the hole card until it is revealed.
+     */
+    @Test
+    void testVisibleCountSkipsHoleCard() {
+        BlackjackGame game = new BlackjackGame("Counter", 1, Deck.createRandom(3));
+        while (!game.isPlayerTurn()) {
+            game.startNewRound();
+        }
+        int expected = 0;
+        for (Card card : game.getPlayer().getHand()) {
+            expected += card.getHiLoTag();
+        }
+        expected += game.getDealerUpcard().getHiLoTag();
+        if (game.getDeck().getCardsDealt() == 4) {
+            assertEquals(expected, game.getRunningCount(), "Only the three visible cards may be counted.");
+            assertEquals(expected * 52.0 / 49, game.getTrueCount(), 1e-9, "The hole card is still unseen.");
+        }
+
+        game.playerStand();
+        assertEquals(game.getDeck().getRunningCount(), game.getRunningCount(), "Every card is visible after the round.");
+    }
+
+    /**
+     * Verifies that a natural Blackjack beats a dealer 21 and is paid 3:2 under the standard rules.
+     */
+    @Test
+    void testBlackjackPaysThreeToTwo() {
+        BlackjackGame game = BlackjackGame.restore("Natural", 1, Deck.DEFAULT_PENETRATION, new Deck(1),
+                List.of(Card.of(Suit.HEARTS, Rank.ACE), Card.of(Suit.HEARTS, Rank.KING)),
+                List.of(Card.of(Suit.CLUBS, Rank.SIX), Card.of(Suit.CLUBS, Rank.FIVE), Card.of(Suit.CLUBS, Rank.TEN)),
+                false, true, List.of());
+
+        game.playerStand();
+
+        assertEquals(Outcome.PLAYER_WIN, game.getOutcome(), "A natural beats a three-card 21.");
+        assertEquals(1.5, game.getRoundNetUnits(), 1e-12);
+        assertTrue(game.getGameResult().contains("won"), game.getGameResult());
+    }
+
+    /**
+     * Verifies that a dealer who hits soft 17 under H17 rules draws on it.
+     */
+    @Test
+    void testDealerHitsSoft17UnderH17() {
+        BlackjackGame game = BlackjackGame.restore("H17", 1, Deck.DEFAULT_PENETRATION, new Deck(1),
+                List.of(Card.of(Suit.HEARTS, Rank.TEN), Card.of(Suit.HEARTS, Rank.EIGHT)),
+                List.of(Card.of(Suit.CLUBS, Rank.ACE), Card.of(Suit.CLUBS, Rank.SIX)),
+                false, true, List.of());
+        game.setRules(TableRules.parse("H17 1D"));
+
+        game.playerStand();
+
+        assertTrue(game.getDealer().getHand().size() > 2, "The dealer must draw on soft 17.");
+    }
+
+    /**
+     * Builds a single-deck shoe that deals the given cards next; the rest of the shoe is filler.
+     * @param next The cards to deal first, in order.
+     * @return The stacked shoe.
+     */
+    private static Deck stackedShoe(Card... next) {
+        byte[] shoe = new byte[Card.DISTINCT_CARDS];
+        Arrays.fill(shoe, (byte) Card.of(Suit.SPADES, Rank.TWO).getCode());
+        for (int i = 0; i < next.length; i++) {
+            shoe[i] = (byte) next[i].getCode();
+        }
+        return Deck.restore(1, Deck.DEFAULT_PENETRATION, shoe, 0, Deck.createRandom(1));
+    }
+
+    /**
+     * Verifies a split pair played as two hands, the first one doubled after the split.
+     */
+    @Test
+    void testSplitAndDoubleAfterSplit() {
+        BlackjackGame game = BlackjackGame.restore("Splitter", 1, Deck.DEFAULT_PENETRATION,
+                stackedShoe(Card.of(Suit.CLUBS, Rank.THREE), Card.of(Suit.CLUBS, Rank.KING), Card.of(Suit.CLUBS, Rank.NINE)),
+                List.of(Card.of(Suit.HEARTS, Rank.EIGHT), Card.of(Suit.SPADES, Rank.EIGHT)),
+                List.of(Card.of(Suit.DIAMONDS, Rank.TEN), Card.of(Suit.DIAMONDS, Rank.SEVEN)),
+                false, true, List.of());
+        assertTrue((game.getAllowedActions() & Action.SPLIT.mask()) != 0, "A pair of eights can be split.");
+
+        game.playerSplit();
+        assertEquals(2, game.getPlayer().getHandCount());
+        assertEquals(11, game.getPlayer().getScore(), "The first split hand receives its second card at once.");
+        assertTrue((game.getAllowedActions() & Action.DOUBLE.mask()) != 0, "Doubling after a split is allowed.");
+        assertEquals(0, game.getAllowedActions() & Action.SURRENDER.mask(), "A split hand cannot be surrendered.");
+
+        game.playerDouble();
+        assertEquals(1, game.getPlayer().getActiveHandIndex(), "Doubling finishes the first hand.");
+        assertEquals(17, game.getPlayer().getScore(), "The second hand receives its card when it is played.");
+
+        game.playerStand();
+        assertTrue(game.isGameOver());
+        assertEquals(2.0, game.getRoundNetUnits(), 1e-12, "A doubled 21 wins two units and 17 pushes against 17.");
+        assertEquals(2, game.getResultsHistory().size(), "Every split hand is recorded.");
+        assertTrue(game.getGameResult().startsWith("Hand 1: You won!"), game.getGameResult());
+    }
+
+    /**
+     * A listener that writes every event as a line of text.
+     */
+    private static final class EventLog implements GameListener {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void roundStarted() {
+            events.add("start");
+        }
+
+        @Override
+        public void cardDealt(Seat seat, int hand, Card card) {
+            events.add("card " + seat + " " + hand + " " + card);
+        }
+
+        @Override
+        public void handSplit(int hand, int newHand) {
+            events.add("split " + hand + " " + newHand);
+        }
+
+        @Override
+        public void turnChanged(Seat seat, int hand) {
+            events.add("turn " + seat + " " + hand);
+        }
+
+        @Override
+        public void roundEnded(Outcome outcome, double netUnits) {
+            events.add("end " + outcome + " " + netUnits);
+        }
+
+        @Override
+        public void shoeReshuffled(int cards) {
+            events.add("shuffle " + cards);
+        }
+    }
+
+    /**
+     * Verifies the events of a new round: the round start, the four cards of the deal and the player's turn.
+     */
+    @Test
+    void testDealEvents() {
+        BlackjackGame game = BlackjackGame.restore("Watched", 1, Deck.DEFAULT_PENETRATION,
+                stackedShoe(Card.of(Suit.CLUBS, Rank.NINE), Card.of(Suit.CLUBS, Rank.FIVE),
+                        Card.of(Suit.HEARTS, Rank.SEVEN), Card.of(Suit.HEARTS, Rank.SIX)),
+                List.of(), List.of(), true, false, List.of());
+        EventLog log = new EventLog();
+        game.addListener(log);
+
+        game.startNewRound();
+
+        assertEquals(List.of("start",
+                "card PLAYER 0 " + Card.of(Suit.CLUBS, Rank.NINE), "card DEALER 0 " + Card.of(Suit.CLUBS, Rank.FIVE),
+                "card PLAYER 0 " + Card.of(Suit.HEARTS, Rank.SEVEN), "card DEALER 0 " + Card.of(Suit.HEARTS, Rank.SIX),
+                "turn PLAYER 0"), log.events, "The deal should be reported card by card.");
+
+        game.removeListener(log);
+        game.playerHit();
+        assertEquals(6, log.events.size(), "A removed listener should receive no more events.");
+    }
+
+    /**
+     * Verifies the events of a split round: the split, each dealt card, the moves between hands and the settlement.
+     */
+    @Test
+    void testSplitRoundEvents() {
+        BlackjackGame game = BlackjackGame.restore("Watched", 1, Deck.DEFAULT_PENETRATION,
+                stackedShoe(Card.of(Suit.CLUBS, Rank.THREE), Card.of(Suit.CLUBS, Rank.KING), Card.of(Suit.CLUBS, Rank.NINE)),
+                List.of(Card.of(Suit.HEARTS, Rank.EIGHT), Card.of(Suit.SPADES, Rank.EIGHT)),
+                List.of(Card.of(Suit.DIAMONDS, Rank.TEN), Card.of(Suit.DIAMONDS, Rank.SEVEN)),
+                false, true, List.of());
+        EventLog log = new EventLog();
+        game.addListener(log);
+
+        game.playerSplit();
+        game.playerDouble();
+        game.playerStand();
+
+        assertEquals(List.of("split 0 1", "card PLAYER 0 " + Card.of(Suit.CLUBS, Rank.THREE),
+                "card PLAYER 0 " + Card.of(Suit.CLUBS, Rank.KING),
+                "card PLAYER 1 " + Card.of(Suit.CLUBS, Rank.NINE), "turn PLAYER 1",
+                "turn DEALER 0", "end PLAYER_WIN 2.0"), log.events, "The round should be reported step by step.");
+    }
+
+    /**
+     * Verifies that rebuilding the shoe after a change of decks is reported.
+     */
+    @Test
+    void testShoeReshuffledEvent() {
+        BlackjackGame game = new BlackjackGame("Watched", 1);
+        EventLog log = new EventLog();
+        game.addListener(log);
+
+        game.setNumberOfDecks(2);
+        game.startNewRound();
+
+        assertEquals("shuffle 104", log.events.get(0), "The rebuilt two-deck shoe should be reported first.");
+        assertEquals("start", log.events.get(1), "The round should start after the shuffle.");
+    }
+
+    /**
+     * Verifies that split Aces receive one card each, end the turn and a split 21 is not a Blackjack.
+     */
+    @Test
+    void testSplitAcesTakeOneCardEach() {
+        BlackjackGame game = BlackjackGame.restore("Aces", 1, Deck.DEFAULT_PENETRATION,
+                stackedShoe(Card.of(Suit.CLUBS, Rank.KING), Card.of(Suit.CLUBS, Rank.NINE)),
+                List.of(Card.of(Suit.HEARTS, Rank.ACE), Card.of(Suit.SPADES, Rank.ACE)),
+                List.of(Card.of(Suit.DIAMONDS, Rank.TEN), Card.of(Suit.DIAMONDS, Rank.EIGHT)),
+                false, true, List.of());
+
+        game.playerSplit();
+
+        assertTrue(game.isGameOver(), "Both split Aces are finished after one card.");
+        assertFalse(game.getPlayer().getHands().get(0).isBlackjack(), "21 after a split is not a Blackjack.");
+        assertEquals(2.0, game.getRoundNetUnits(), 1e-12, "Split 21 is paid even money.");
+    }
+
+    /**
+     * Verifies late surrender: half the bet is lost and the dealer does not draw.
+     */
+    @Test
+    void testLateSurrender() {
+        BlackjackGame game = BlackjackGame.restore("Quitter", 1, Deck.DEFAULT_PENETRATION, new Deck(1),
+                List.of(Card.of(Suit.HEARTS, Rank.TEN), Card.of(Suit.HEARTS, Rank.SIX)),
+                List.of(Card.of(Suit.DIAMONDS, Rank.TEN), Card.of(Suit.DIAMONDS, Rank.SIX)),
+                false, true, List.of());
+
+        game.playerSurrender();
+
+        assertTrue(game.isGameOver());
+        assertEquals(Outcome.DEALER_WIN, game.getOutcome());
+        assertEquals(-0.5, game.getRoundNetUnits(), 1e-12);
+        assertEquals(2, game.getDealer().getHand().size(), "The dealer does not play against a surrendered hand.");
+
+        game.setRules(TableRules.parse("NOLS 1D"));
+        game.startNewRound();
+        assertEquals(0, game.getAllowedActions() & Action.SURRENDER.mask(), "Surrender needs the LS rule.");
+    }
+
+    /**
+     * Verifies that insurance is offered under an Ace and pays 2:1 when the dealer has a Blackjack.
+     */
+    @Test
+    void testInsurancePaysAgainstDealerBlackjack() {
+        BlackjackGame game = BlackjackGame.restore("Insured", 1, Deck.DEFAULT_PENETRATION,
+                stackedShoe(Card.of(Suit.HEARTS, Rank.TEN), Card.of(Suit.CLUBS, Rank.ACE),
+                        Card.of(Suit.HEARTS, Rank.NINE), Card.of(Suit.CLUBS, Rank.KING)),
+                List.of(), List.of(), true, false, List.of());
+        game.startNewRound();
+
+        assertTrue(game.isInsuranceOffered(), "Insurance is offered under an Ace.");
+        assertFalse(game.isGameOver(), "The dealer peeks only after the insurance decision.");
+
+        game.playerInsurance(true);
+
+        assertTrue(game.isGameOver(), "The dealer's Blackjack ends the round.");
+        assertEquals(Outcome.DEALER_WIN, game.getOutcome());
+        assertEquals(0.0, game.getRoundNetUnits(), 1e-12, "Insurance pays 2:1 on half a bet and covers the lost hand.");
+    }
+
+    /**
+     * Verifies that a shoe running out in the middle of a round never deals a card that is still on the table.
+     */
+    @Test
+    void testMidRoundReshuffleKeepsCardsInPlayOut() {
+        // Without a cut card, most shoes run out in the middle of a round
+        BlackjackGame game = new BlackjackGame("Deep", 1, 1.0, Deck.createRandom(21));
+        int[] midRoundReshuffles = new int[1];
+        game.addListener(new GameListener() {
+            @Override
+            public void shoeReshuffled(int cards) {
+                if (!game.isGameOver() && !game.getDealer().getHand().isEmpty()) {
+                    midRoundReshuffles[0]++;
+                }
+            }
+        });
+        for (int round = 0; round < 500; round++) {
+            while (game.isPlayerTurn() && !game.isGameOver() && game.getPlayer().getScore() < 17) {
+                game.playerHit();
+            }
+            game.playerStand();
+
+            boolean[] seen = new boolean[Card.DISTINCT_CARDS];
+            List<Card> cards = new ArrayList<>(game.getDealer().getHand());
+            for (var hand : game.getPlayer().getHands()) {
+                cards.addAll(hand.getCards());
+            }
+            for (Card card : cards) {
+                assertFalse(seen[card.getCode()], "A card was dealt twice in round " + round + ": " + cards);
+                seen[card.getCode()] = true;
+            }
+            game.startNewRound();
+        }
+        assertTrue(midRoundReshuffles[0] > 0, "The shoe should have run out in the middle of some rounds.");
+    }
+
+    /**
+     * Verifies that a recorder passed to the constructor sees a first round that ends on the deal.
+     */
+    @Test
+    void testConstructorRecorderSeesFirstDeal() {
+        for (long seed = 0; ; seed++) {
+            List<Outcome> recorded = new ArrayList<>();
+            BlackjackGame game = new BlackjackGame("Recorded", TableRules.STANDARD, Deck.DEFAULT_PENETRATION,
+                    Deck.createRandom(seed), (outcome, playerScore, dealerScore, playerBlackjack, playerHand, dealerHand)
+                            -> recorded.add(outcome));
+            if (game.isGameOver()) {
+                assertEquals(List.of(game.getOutcome()), recorded, "A round settled on the first deal must be recorded.");
+                return;
+            }
+            assertTrue(recorded.isEmpty(), "Nothing is recorded before the round ends.");
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package blackjack.logic;
+
+import blackjack.model.Deck;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the dealer outcome solver: exact distributions, the peek, running out of cards, and the cache.
+ */
+class DealerOutcomeSolverTest {
+
+    /**
+     * Returns the composition of a full shoe.
+     * @param decks The number of decks.
+     * @return The counts by value.
+     */
+    private static int[] fullShoe(int decks) {
+        return new Deck(decks).getRemainingRankCounts();
+    }
+
+    /**
+     * Verifies that every distribution sums to 1.
+     */
+    @Test
+    void testDistributionsSumToOne() {
+        DealerOutcomeSolver solver = new DealerOutcomeSolver();
+        for (int upcard = 2; upcard <= 11; upcard++) {
+            double sum = 0;
+            for (double p : solver.solve(upcard, fullShoe(6))) {
+                sum += p;
+            }
+            assertEquals(1.0, sum, 1e-9);
+        }
+    }
+
+    /**
+     * Verifies known dealer bust probabilities for a 6-deck shoe (dealer stands on soft 17, no peek).
+     */
+    @Test
+    void testKnownBustProbabilities() {
+        DealerOutcomeSolver solver = new DealerOutcomeSolver(TableRules.parse("NOPEEK"));
+        assertEquals(0.42, solver.solve(6, fullShoe(6))[DealerOutcomeSolver.BUST], 0.01);
+        assertEquals(0.21, solver.solve(10, fullShoe(6))[DealerOutcomeSolver.BUST], 0.01);
+    }
+
+    /**
+     * Verifies that after a peek the distribution is conditioned on the dealer not having a blackjack.
+     */
+    @Test
+    void testPeekExcludesDealerBlackjack() {
+        DealerOutcomeSolver peek = new DealerOutcomeSolver(TableRules.STANDARD);
+        DealerOutcomeSolver noPeek = new DealerOutcomeSolver(TableRules.parse("NOPEEK"));
+        int[] shoe = fullShoe(6);
+        int total = 6 * 52;
+
+        // A blackjack never busts, so conditioning scales the bust probability by 1 / P(no blackjack)
+        double tenHole = shoe[8] / (double) total;
+        double aceHole = shoe[9] / (double) total;
+        assertEquals(noPeek.solve(11, shoe)[DealerOutcomeSolver.BUST] / (1 - tenHole),
+                peek.solve(11, shoe)[DealerOutcomeSolver.BUST], 1e-12, "An Ace upcard hides no ten after the peek.");
+        assertEquals(noPeek.solve(10, shoe)[DealerOutcomeSolver.BUST] / (1 - aceHole),
+                peek.solve(10, shoe)[DealerOutcomeSolver.BUST], 1e-12, "A ten upcard hides no Ace after the peek.");
+        assertArrayEquals(noPeek.solve(9, shoe), peek.solve(9, shoe), "The dealer does not peek under a 9.");
+
+        // With only tens and Aces left under an Ace, the hole card must be an Ace: soft 12, then a ten makes hard 12
+        int[] tensAndAces = new int[DealerOutcomeSolver.VALUES];
+        tensAndAces[8] = 1;
+        tensAndAces[9] = 1;
+        assertEquals(1.0, peek.solve(11, tensAndAces)[DealerOutcomeSolver.EXHAUSTED], 1e-12,
+                "The dealer holds A-A-10 and runs out of cards on hard 12.");
+    }
+
+    /**
+     * Verifies that running out of cards below 17 is its own outcome, not a dealer total of 17.
+     */
+    @Test
+    void testExhaustedComposition() {
+        DealerOutcomeSolver solver = new DealerOutcomeSolver();
+        int[] twos = new int[DealerOutcomeSolver.VALUES];
+        twos[0] = 2;
+
+        double[] distribution = solver.solve(2, twos);
+        assertEquals(1.0, distribution[DealerOutcomeSolver.EXHAUSTED], 1e-12, "2-2-2 runs out of cards on 6.");
+        assertEquals(0.0, distribution[0], 1e-12, "Running out must not count as a 17.");
+        assertEquals(0.0, solver.standEv(18, 2, twos), 1e-12, "With no finished dealer hands there is no stand value.");
+
+        // An Ace and a five under a 6: 6-A stands on soft 17, 6-5-A runs out on hard 12
+        int[] mixed = new int[DealerOutcomeSolver.VALUES];
+        mixed[3] = 1;
+        mixed[9] = 1;
+        double[] split = solver.solve(6, mixed);
+        assertEquals(0.5, split[0], 1e-12);
+        assertEquals(0.5, split[DealerOutcomeSolver.EXHAUSTED], 1e-12);
+        assertEquals(1.0, solver.standEv(18, 6, mixed), 1e-12, "18 beats every 17 the dealer finishes on.");
+    }
+
+    /**
+     * Verifies a fully determined composition: with only tens left, a dealer showing 7 ends on 17.
+     */
+    @Test
+    void testDeterministicComposition() {
+        DealerOutcomeSolver solver = new DealerOutcomeSolver();
+        int[] onlyTens = new int[DealerOutcomeSolver.VALUES];
+        onlyTens[8] = 5;
+
+        double[] distribution = solver.solve(7, onlyTens);
+
+        assertEquals(1.0, distribution[0], 1e-12, "7 + 10 must always end on 17.");
+        assertEquals(1.0, solver.standEv(18, 7, onlyTens), 1e-12);
+        assertEquals(-1.0, solver.hitEv(18, false, 7, onlyTens), 1e-12, "Hitting 18 with only tens left always busts.");
+    }
+
+    /**
+     * Verifies that results are cached and the cache is bounded.
+     */
+    @Test
+    void testCacheIsBounded() {
+        DealerOutcomeSolver solver = new DealerOutcomeSolver(3);
+        for (int upcard = 2; upcard <= 11; upcard++) {
+            solver.solve(upcard, fullShoe(1));
+        }
+        assertEquals(3, solver.getCacheSize());
+
+        double[] first = solver.solve(11, fullShoe(1));
+        first[0] = 42;
+        assertNotEquals(42.0, solver.solve(11, fullShoe(1))[0], "Returned arrays must not expose the cache.");
+    }
+}
@@ -0,0 +1,65 @@
+package blackjack.logic;
+
+import blackjack.model.Card;
+import blackjack.model.Rank;
+import blackjack.model.Suit;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the RoundResult class, focusing on the packed hand encoding and lazy rendering.
+ */
+class RoundResultTest {
+
+    /**
+     * Verifies that both hands unpack to the same cards, in order.
+     */
+    @Test
+    void testHandsRoundTrip() {
+        List<Card> player = List.of(Card.of(Suit.HEARTS, Rank.ACE), Card.of(Suit.SPADES, Rank.KING));
+        List<Card> dealer = List.of(Card.of(Suit.CLUBS, Rank.NINE), Card.of(Suit.DIAMONDS, Rank.SEVEN), Card.of(Suit.HEARTS, Rank.TWO));
+        RoundResult result = new RoundResult(Outcome.PLAYER_WIN, "Tester", 21, 18, player, dealer);
+
+        assertEquals(player, result.getPlayerHand());
+        assertEquals(dealer, result.getDealerHand());
+        assertEquals(2, result.getPlayerCardCount());
+        assertEquals(3, result.getDealerCardCount());
+        assertEquals(21, result.getPlayerScore());
+        assertEquals(18, result.getDealerScore());
+    }
+
+    /**
+     * Verifies that hands longer than the packed capacity keep every card.
+     */
+    @Test
+    void testLongHandsOverflow() {
+        List<Card> player = new ArrayList<>();
+        List<Card> dealer = new ArrayList<>();
+        for (int i = 0; i < 14; i++) {
+            player.add(Card.fromCode(i));
+            dealer.add(Card.fromCode(51 - i));
+        }
+        RoundResult result = new RoundResult(Outcome.DEALER_WIN, "Tester", 30, 20, player, dealer);
+
+        assertEquals(player, result.getPlayerHand(), "Cards beyond the tenth must be kept.");
+        assertEquals(dealer, result.getDealerHand(), "Cards beyond the tenth must be kept.");
+        assertThrows(IndexOutOfBoundsException.class, () -> result.getPlayerCard(14));
+    }
+
+    /**
+     * Verifies the winner names and the rendered hand text.
+     */
+    @Test
+    void testWinnerAndFormatting() {
+        List<Card> hand = List.of(Card.of(Suit.HEARTS, Rank.TEN), Card.of(Suit.SPADES, Rank.EIGHT));
+        assertEquals("Tester", new RoundResult(Outcome.PLAYER_WIN, "Tester", 18, 17, hand, hand).getWinner());
+        assertEquals("Dealer", new RoundResult(Outcome.DEALER_WIN, "Tester", 18, 19, hand, hand).getWinner());
+        assertEquals("Tie", new RoundResult(Outcome.PUSH, "Tester", 18, 18, hand, hand).getWinner());
+
+        RoundResult result = new RoundResult(Outcome.PUSH, "Tester", 18, 18, hand, List.of());
+        assertEquals(hand.get(0) + ", " + hand.get(1), result.formatPlayerHand());
+        assertEquals("", result.formatDealerHand(), "An empty hand renders as empty text.");
+    }
+}
@@ -0,0 +1,131 @@
+package blackjack.logic;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the RoundStatistics class: all-time aggregates, sliding windows, streaks and histograms.
+ */
+class RoundStatisticsTest {
+
+    /**
+     * Verifies the all-time counts, rates, busts, blackjacks and net units.
+     */
+    @Test
+    void testAllTimeAggregates() {
+        RoundStatistics stats = new RoundStatistics();
+        stats.record(Outcome.PLAYER_WIN, 21, 18, true, false, 1.5);
+        stats.record(Outcome.PLAYER_WIN, 21, 20, false, false, 1);
+        stats.record(Outcome.DEALER_WIN, 24, 17, false, false, -1);
+        stats.record(Outcome.PLAYER_WIN, 18, 25, false, false, 1);
+        stats.record(Outcome.PUSH, 19, 19, false, false, 0);
+
+        RoundStatistics.Tally all = stats.getAllTime();
+        assertEquals(5, all.getRounds());
+        assertEquals(3, all.getWins());
+        assertEquals(1, all.getLosses());
+        assertEquals(1, all.getPushes());
+        assertEquals(1, all.getPlayerBusts(), "A player score over 21 is a bust.");
+        assertEquals(1, all.getDealerBusts(), "A dealer score over 21 is a bust.");
+        assertEquals(1, all.getPlayerBlackjacks(), "Only the natural counts as a blackjack, not the 21 after a split.");
+        assertEquals(0.6, all.getWinRate(), 1e-9);
+        assertEquals(0.2, all.getBlackjackRate(), 1e-9);
+        assertEquals(2.5, all.getNetUnits(), 1e-9);
+    }
+
+    /**
+     * Verifies that the sliding windows only count their most recent rounds.
+     */
+    @Test
+    void testWindowsSlide() {
+        RoundStatistics stats = new RoundStatistics();
+        for (int i = 0; i < 150; i++) {
+            stats.record(Outcome.PLAYER_WIN, 20, 18, false, false, 1);
+        }
+        for (int i = 0; i < 100; i++) {
+            stats.record(Outcome.DEALER_WIN, 17, 19, false, false, -1);
+        }
+
+        RoundStatistics.Tally last100 = stats.getWindow(100);
+        assertEquals(100, last100.getRounds(), "A window never holds more rounds than its size.");
+        assertEquals(0, last100.getWins(), "Older wins must have left the window.");
+        assertEquals(-100.0, last100.getNetUnits(), 1e-9);
+        assertEquals(250, stats.getWindow(1_000).getRounds(), "A window that is not full counts every round.");
+        assertEquals(150, stats.getAllTime().getWins());
+        assertThrows(IllegalArgumentException.class, () -> stats.getWindow(50));
+    }
+
+    /**
+     * Verifies that the largest window stays correct after its ring buffer wraps around several times.
+     */
+    @Test
+    void testLargestWindowAfterWrapping() {
+        RoundStatistics stats = new RoundStatistics();
+        for (int i = 0; i < 35_000; i++) {
+            stats.record(i % 3 == 0 ? Outcome.PLAYER_WIN : Outcome.DEALER_WIN, 20, 19, false, false, i % 3 == 0 ? 1 : -1);
+        }
+        RoundStatistics.Tally last = stats.getWindow(10_000);
+        long wins = 0;
+        for (int i = 25_000; i < 35_000; i++) {
+            if (i % 3 == 0) wins++;
+        }
+        assertEquals(10_000, last.getRounds());
+        assertEquals(wins, last.getWins(), "The window must count exactly the last 10,000 rounds.");
+        assertEquals(wins - (10_000 - wins), last.getNetUnits(), 1e-6);
+    }
+
+    /**
+     * Verifies the streak tracking; a push ends both streaks.
+     */
+    @Test
+    void testStreaks() {
+        RoundStatistics stats = new RoundStatistics();
+        Outcome[] sequence = {Outcome.PLAYER_WIN, Outcome.PLAYER_WIN, Outcome.PLAYER_WIN, Outcome.DEALER_WIN,
+                Outcome.DEALER_WIN, Outcome.PUSH, Outcome.PLAYER_WIN};
+        for (Outcome outcome : sequence) {
+            stats.record(outcome, 20, 19, false, false, 0);
+        }
+        assertEquals(3, stats.getLongestWinStreak());
+        assertEquals(2, stats.getLongestLossStreak());
+        assertEquals(1, stats.getCurrentStreak());
+    }
+
+    /**
+     * Verifies the final-score histograms, including the bucket for very high scores.
+     */
+    @Test
+    void testScoreHistograms() {
+        RoundStatistics stats = new RoundStatistics();
+        stats.record(Outcome.PLAYER_WIN, 20, 26, false, false, 1);
+        stats.record(Outcome.DEALER_WIN, 40, 17, false, false, -1);
+
+        long[] player = stats.getPlayerScoreHistogram();
+        assertEquals(1, player[20]);
+        assertEquals(1, player[RoundStatistics.MAX_SCORE], "Scores above the maximum share the last bucket.");
+        assertEquals(1, stats.getDealerScoreHistogram()[26]);
+    }
+
+    /**
+     * Verifies that a game keeps its statistics up to date and that they survive a restore.
+     */
+    @Test
+    void testGameStatistics() {
+        BlackjackGame game = new BlackjackGame("StatsTester", 2);
+        for (int i = 0; i < 30; i++) {
+            if (!game.isGameOver()) {
+                game.playerStand();
+            }
+            game.startNewRound();
+        }
+        RoundStatistics stats = game.getStatistics();
+        long rounds = stats.getAllTime().getRounds();
+        assertTrue(rounds >= 30, "Every finished round must be counted.");
+        assertEquals(rounds, stats.getAllTime().getWins() + stats.getAllTime().getLosses() + stats.getAllTime().getPushes());
+
+        BlackjackGame restored = BlackjackGame.restore("StatsTester", 2, game.getPenetration(), game.getDeck(),
+                game.getPlayer().getHand(), game.getDealer().getHand(), game.isGameOver(), game.isPlayerTurn(),
+                game.getResultsHistory());
+        assertEquals(game.getResultsHistory().size(), restored.getStatistics().getAllTime().getRounds(),
+                "A restored game rebuilds its statistics from the saved history.");
+    }
+}
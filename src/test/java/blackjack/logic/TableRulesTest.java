@@ -0,0 +1,76 @@
+package blackjack.logic;
+
+import blackjack.model.Dealer;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the TableRules class: the compiled dealer, peek and payout tables and the rule specification.
+ */
+class TableRulesTest {
+
+    /**
+     * Verifies that the compiled draw tables match the dealer rule for every total, under S17 and H17.
+     */
+    @Test
+    void testDrawTablesMatchDealerRule() {
+        for (boolean hitsSoft17 : new boolean[] {false, true}) {
+            TableRules rules = TableRules.compile(hitsSoft17, 3, 2, true, 6);
+            for (int score = 2; score <= 26; score++) {
+                assertEquals(Dealer.shouldHit(score, false, hitsSoft17), rules.dealerDraws(score, false), "hard " + score);
+                assertEquals(Dealer.shouldHit(score, true, hitsSoft17), rules.dealerDraws(score, true), "soft " + score);
+            }
+        }
+        assertFalse(TableRules.parse("S17").dealerDraws(17, true), "S17 stands on soft 17.");
+        assertTrue(TableRules.parse("H17").dealerDraws(17, true), "H17 hits soft 17.");
+        assertFalse(TableRules.parse("H17").dealerDraws(17, false), "Every rule set stands on hard 17.");
+    }
+
+    /**
+     * Verifies natural blackjack resolution and the payout table.
+     */
+    @Test
+    void testNaturalsAndPayouts() {
+        TableRules sixToFive = TableRules.parse("6:5");
+
+        assertEquals(Outcome.PLAYER_WIN, sixToFive.resolve(21, true, 21, false), "A natural beats a three-card 21.");
+        assertEquals(Outcome.DEALER_WIN, sixToFive.resolve(21, false, 21, true), "A dealer natural beats a three-card 21.");
+        assertEquals(Outcome.PUSH, sixToFive.resolve(21, true, 21, true), "Two naturals push.");
+        assertEquals(Outcome.DEALER_WIN, sixToFive.resolve(22, false, 23, false), "A player bust always loses.");
+
+        assertEquals(1.2, sixToFive.netUnits(Outcome.PLAYER_WIN, true), 1e-12);
+        assertEquals(1.5, TableRules.STANDARD.netUnits(Outcome.PLAYER_WIN, true), 1e-12);
+        assertEquals(1.0, sixToFive.netUnits(Outcome.PLAYER_WIN, false), 1e-12);
+        assertEquals(-1.0, sixToFive.netUnits(Outcome.DEALER_WIN, false), 1e-12);
+        assertEquals(0.0, sixToFive.netUnits(Outcome.PUSH, true), 1e-12);
+    }
+
+    /**
+     * Verifies that the dealer only peeks under a ten or an Ace, and only if the rules allow it.
+     */
+    @Test
+    void testPeekUpcards() {
+        for (int upcard = 2; upcard <= 11; upcard++) {
+            assertEquals(upcard >= 10, TableRules.STANDARD.peeksWith(upcard), "upcard " + upcard);
+            assertFalse(TableRules.parse("NOPEEK").peeksWith(upcard), "No peek with upcard " + upcard);
+        }
+    }
+
+    /**
+     * Verifies that a specification parses back into equal rules and that bad specifications are rejected.
+     */
+    @Test
+    void testSpecificationRoundTrip() {
+        TableRules rules = TableRules.parse("h17, 6:5 nopeek 8d");
+        assertEquals("H17 6:5 NOPEEK DAS NORSA LS 4HANDS 8D", rules.toString());
+        assertEquals(TableRules.parse("NODAS RSA NOLS 2HANDS"), TableRules.parse(TableRules.parse("NODAS RSA NOLS 2HANDS").toString()));
+        assertEquals(rules, TableRules.parse(rules.toString()));
+        assertEquals(TableRules.STANDARD, TableRules.parse(""), "An empty specification means the standard rules.");
+        assertSame(rules, rules.withNumberOfDecks(8), "Unchanged rules need no recompilation.");
+        assertEquals(2, rules.withNumberOfDecks(2).getNumberOfDecks());
+
+        assertThrows(IllegalArgumentException.class, () -> TableRules.parse("S18"));
+        assertThrows(IllegalArgumentException.class, () -> TableRules.parse("9D"));
+        assertThrows(IllegalArgumentException.class, () -> TableRules.parse("3:0"));
+    }
+}
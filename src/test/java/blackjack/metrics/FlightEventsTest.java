@@ -0,0 +1,110 @@
+package blackjack.metrics;
+
+import blackjack.io.SaveManager;
+import blackjack.logic.BlackjackGame;
+import blackjack.model.Deck;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the Flight Recorder events: what an enabled recording captures, and that they are off by default.
+ */
+class FlightEventsTest {
+    /**
+     * Plays rounds of a single deck game and saves and loads it.
+     * @param saveFile The save file to use.
+     * @throws Exception if saving or loading fails.
+     */
+    private static void playAndSave(Path saveFile) throws Exception {
+        BlackjackGame game = new BlackjackGame("Recorded", 1, Deck.createRandom(8));
+        for (int round = 0; round < 30; round++) {
+            game.playerStand();
+            game.startNewRound();
+        }
+        SaveManager.saveGame(game, saveFile);
+        SaveManager.loadGame(saveFile);
+    }
+
+    /**
+     * Records the game with the given recording and returns its events.
+     * @param recording The recording, configured but not started.
+     * @return The recorded events.
+     * @throws Exception if the recording cannot be written or read.
+     */
+    private static List<RecordedEvent> record(Recording recording) throws Exception {
+        Path saveFile = Files.createTempFile("game", ".dat");
+        Path dump = Files.createTempFile("game", ".jfr");
+        try (recording) {
+            recording.start();
+            playAndSave(saveFile);
+            recording.stop();
+            recording.dump(dump);
+            return RecordingFile.readAllEvents(dump);
+        } finally {
+            Files.delete(saveFile);
+            Files.delete(dump);
+        }
+    }
+
+    /**
+     * Counts the events of one type.
+     * @param events The recorded events.
+     * @param name The event name.
+     * @return The number of events with that name.
+     */
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).count();
+    }
+
+    /**
+     * Verifies that enabled events report every deal, dealer turn, shuffle, save and load with their fields.
+     */
+    @Test
+    void testEnabledEventsAreRecorded() throws Exception {
+        Recording recording = new Recording();
+        for (String name : List.of("blackjack.RoundStart", "blackjack.DealerTurn", "blackjack.Shuffle",
+                "blackjack.Save", "blackjack.Load")) {
+            recording.enable(name);
+        }
+        long resolved = Metrics.getRoundResolution().getCount();
+        List<RecordedEvent> events = record(recording);
+
+        assertEquals(31, count(events, "blackjack.RoundStart"), "The first deal and every new round should be recorded.");
+        assertEquals(Metrics.getRoundResolution().getCount() - resolved, count(events, "blackjack.DealerTurn"),
+                "Every round the dealer played out should be recorded.");
+        assertTrue(count(events, "blackjack.Shuffle") > 1, "The first shuffle and the reshuffles should be recorded.");
+
+        RecordedEvent round = events.stream()
+                .filter(e -> e.getEventType().getName().equals("blackjack.RoundStart") && e.getBoolean("reshuffled"))
+                .findFirst().orElseThrow();
+        assertEquals(1, round.getInt("deckCount"), "The deck count should be recorded.");
+        assertTrue(round.getInt("cardsDealt") >= 4, "The cards dealt should include the initial deal.");
+
+        RecordedEvent save = events.stream().filter(e -> e.getEventType().getName().equals("blackjack.Save"))
+                .findFirst().orElseThrow();
+        RecordedEvent load = events.stream().filter(e -> e.getEventType().getName().equals("blackjack.Load"))
+                .findFirst().orElseThrow();
+        assertTrue(save.getLong("bytesWritten") > 0, "The bytes written should be recorded.");
+        assertEquals(save.getLong("bytesWritten"), load.getLong("bytesRead"), "The load should read the saved bytes.");
+        assertTrue(load.getBoolean("succeeded"), "The load should succeed.");
+        assertFalse(save.getDuration().isNegative(), "The save should be timed.");
+    }
+
+    /**
+     * Verifies that a recording with the JDK's default settings captures none of the game events.
+     */
+    @Test
+    void testEventsAreOffByDefault() throws Exception {
+        List<RecordedEvent> events = record(new Recording(Configuration.getConfiguration("default")));
+
+        assertTrue(events.stream().noneMatch(e -> e.getEventType().getName().startsWith("blackjack.")),
+                "Game events should only be recorded when enabled.");
+    }
+}
@@ -0,0 +1,92 @@
+package blackjack.metrics;
+
+import blackjack.logic.BlackjackGame;
+import blackjack.model.Deck;
+import org.junit.jupiter.api.Test;
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the metrics layer: histogram buckets and percentiles, the game counters and the registered MBeans.
+ */
+class MetricsTest {
+    /**
+     * Verifies that every value falls into a bucket whose bounds are within one eighth of it.
+     */
+    @Test
+    void testBucketBounds() {
+        long[] values = {0, 1, 7, 8, 9, 15, 16, 1_000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            long lower = LatencyHistogram.lowerBoundOf(bucket);
+            assertTrue(lower <= value, "The bucket of " + value + " should not start above it.");
+            assertTrue(value - lower <= value / 8, "The bucket of " + value + " should be at most 12.5% wide.");
+        }
+        assertEquals(0, LatencyHistogram.bucketOf(0), "Zero should have the first bucket.");
+        assertTrue(LatencyHistogram.bucketOf(Long.MAX_VALUE) < 488, "The largest value should have a bucket.");
+    }
+
+    /**
+     * Verifies the count, mean, percentiles and maximum of a uniform distribution, and reset.
+     */
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 1_000; micros++) {
+            histogram.record(micros * 1_000L);
+        }
+
+        assertEquals(1_000, histogram.getCount(), "Every value should be counted.");
+        assertEquals(500.5, histogram.getMeanMicros(), 1e-9, "The mean should be exact.");
+        assertEquals(500, histogram.getP50Micros(), 500 / 8.0, "The median should be within a bucket.");
+        assertEquals(990, histogram.getP99Micros(), 990 / 8.0, "The 99th percentile should be within a bucket.");
+        assertEquals(1_000, histogram.getMaxMicros(), 1e-9, "The maximum should be exact.");
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount(), "Reset should clear the count.");
+        assertEquals(0.0, histogram.getP99Micros(), "An empty histogram should report 0.");
+    }
+
+    /**
+     * Verifies that playing rounds advances the game counters and the round resolution histogram.
+     */
+    @Test
+    void testGameCounters() {
+        GameCounters counters = Metrics.getGameCounters();
+        long deals = counters.getDeals();
+        long rounds = counters.getRounds();
+        long cards = counters.getCardsDealt();
+        long resolved = Metrics.getRoundResolution().getCount();
+
+        BlackjackGame game = new BlackjackGame("Counted", 1, Deck.createRandom(42));
+        for (int round = 0; round < 100; round++) {
+            game.playerStand();
+            game.startNewRound();
+        }
+
+        assertEquals(101, counters.getDeals() - deals, "The first deal and every new round should be counted.");
+        assertEquals(100, counters.getRounds() - rounds, "Every finished round should be counted.");
+        assertTrue(counters.getCardsDealt() - cards >= 404, "At least four cards should be dealt per round.");
+        assertTrue(counters.getShuffles() > 0, "A single deck should be reshuffled within 100 rounds.");
+        assertTrue(Metrics.getRoundResolution().getCount() > resolved, "Round resolution should be timed.");
+    }
+
+    /**
+     * Verifies that the counters and histograms are readable as platform MBean attributes.
+     */
+    @Test
+    void testMBeansRegistered() throws Exception {
+        Metrics.register();
+        Metrics.register();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        Number deals = (Number) server.getAttribute(new ObjectName("blackjack:type=Game"), "Deals");
+        assertEquals(Metrics.getGameCounters().getDeals(), deals.longValue(), "The Game MBean should expose the counters.");
+        assertNotNull(server.getAttribute(new ObjectName("blackjack:type=Persistence"), "BytesWritten"),
+                "The Persistence MBean should be registered.");
+        assertNotNull(server.getAttribute(new ObjectName("blackjack:type=Latency,name=Save"), "P99Micros"),
+                "The latency MBeans should be registered.");
+    }
+}
@@ -32,4 +32,31 @@ class CardTest {
         assertNotNull(card.toString());
         assertTrue(card.toString().contains("TEN"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies that the factory methods return the shared canonical instances.
+     */
+    @Test
+    void testCanonicalInstances() {
+        Card ace = Card.of(Suit.SPADES, Rank.ACE);
+        assertSame(ace, Card.of(Suit.SPADES, Rank.ACE));
+        assertSame(ace, Card.fromCode(ace.getCode()));
+        assertEquals(ace, new Card(Suit.SPADES, Rank.ACE), "A constructed card must equal its canonical instance.");
+        assertEquals(Rank.ACE, Card.rankOf(ace.getCode()));
+    }
+
+    /**
+     * Verifies that every card has a distinct code between 0 and 51.
+     */
+    @Test
+    void testCodesAreDistinct() {
+        boolean[] seen = new boolean[Card.DISTINCT_CARDS];
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                int code = Card.of(suit, rank).getCode();
+                assertFalse(seen[code], "Card codes must be unique.");
+                seen[code] = true;
+            }
+        }
+    }
+}
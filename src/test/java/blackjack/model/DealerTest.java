@@ -29,4 +29,15 @@ class DealerTest {
         dealer.addCard(new Card(Suit.DIAMONDS, Rank.SEVEN)); 
         assertFalse(dealer.shouldHit());
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies the soft 17 rule: S17 stands on it, H17 hits it, and both stand on hard 17.
+     */
+    @Test
+    void testSoftSeventeenRule() {
+        assertFalse(Dealer.shouldHit(17, true, false), "S17 stands on soft 17.");
+        assertTrue(Dealer.shouldHit(17, true, true), "H17 hits soft 17.");
+        assertFalse(Dealer.shouldHit(17, false, true), "H17 stands on hard 17.");
+        assertFalse(Dealer.shouldHit(18, true, true), "H17 stands on soft 18.");
+    }
+}
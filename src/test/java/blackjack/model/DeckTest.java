@@ -1,5 +1,7 @@
 package blackjack.model;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -36,4 +38,124 @@ class DeckTest {
         assertNotNull(deck.dealCard());
         assertEquals(initialSize - 1, deck.getCardCount());
     }
-}
\ No newline at end of file
+
+    /**
+     * Ensures that a double deck deals every card exactly twice before running out.
+     */
+    @Test
+    void testDealsEveryCardExactlyOncePerDeck() {
+        Deck deck = new Deck(2);
+        int[] counts = new int[Card.DISTINCT_CARDS];
+        while (deck.getCardCount() > 0) {
+            counts[deck.dealCard().getCode()]++;
+        }
+        for (int count : counts) {
+            assertEquals(2, count);
+        }
+        assertThrows(IllegalStateException.class, deck::dealCard);
+    }
+
+    /**
+     * Verifies that the cut card is reached at the configured penetration and a reshuffle restores the shoe.
+     */
+    @Test
+    void testCutCardAndReshuffle() {
+        Deck deck = new Deck(6, 0.5, Deck.createRandom(1));
+        assertEquals(312, deck.getTotalCards());
+        assertEquals(156, deck.getCutCardPosition());
+
+        for (int i = 0; i < 155; i++) {
+            deck.dealCard();
+        }
+        assertFalse(deck.isCutCardReached());
+        deck.dealCard();
+        assertTrue(deck.isCutCardReached(), "The cut card must come out at 50% penetration.");
+
+        deck.reshuffle();
+        assertEquals(312, deck.getCardCount());
+        assertEquals(0, deck.getCardsDealt());
+    }
+
+    /**
+     * Verifies that two shoes shuffled from the same seed deal the same sequence.
+     */
+    @Test
+    void testSeededShuffleIsReproducible() {
+        Deck first = new Deck(2, Deck.createRandom(99));
+        Deck second = new Deck(2, Deck.createRandom(99));
+        while (first.getCardCount() > 0) {
+            assertSame(first.dealCard(), second.dealCard());
+        }
+    }
+
+    /**
+     * Verifies that the incremental counts match a recount of the dealt cards at every step,
+     * and that a reshuffle resets them.
+     */
+    @Test
+    void testCountsFollowDealtCards() {
+        Deck deck = new Deck(2, 1.0, Deck.createRandom(5));
+        int running = 0;
+        int[] remaining = deck.getRemainingRankCounts();
+        assertEquals(32, remaining[8], "A double deck holds 32 ten-valued cards.");
+        assertEquals(8, deck.getRemainingCount(11), "A double deck holds 8 Aces.");
+
+        while (deck.getCardCount() > 0) {
+            Card card = deck.dealCard();
+            running += card.getHiLoTag();
+            remaining[card.getValue() - 2]--;
+            assertEquals(running, deck.getRunningCount(), "The running count must follow every dealt card.");
+            assertEquals(remaining[card.getValue() - 2], deck.getRemainingCount(card.getValue()));
+            if (deck.getCardCount() > 0) {
+                assertEquals(running * 52.0 / deck.getCardCount(), deck.getTrueCount(), 1e-9);
+            }
+        }
+        assertEquals(0, deck.getRunningCount(), "A complete shoe is balanced.");
+        assertEquals(0.0, deck.getTrueCount(), "An empty shoe has a true count of 0.");
+
+        deck.reshuffle();
+        assertEquals(0, deck.getRunningCount(), "A reshuffle resets the count.");
+        assertEquals(8, deck.getRemainingCount(2), "A reshuffle restores every card.");
+    }
+
+    /**
+     * Verifies that a restored shoe recounts the cards dealt before it was saved.
+     */
+    @Test
+    void testRestoreRecountsDealtCards() {
+        Deck deck = new Deck(1, Deck.createRandom(8));
+        for (int i = 0; i < 20; i++) {
+            deck.dealCard();
+        }
+        Deck restored = Deck.restore(1, deck.getPenetration(), deck.getShoeCodes(), deck.getCardsDealt(), Deck.createRandom(8));
+
+        assertEquals(deck.getRunningCount(), restored.getRunningCount());
+        assertArrayEquals(deck.getRemainingRankCounts(), restored.getRemainingRankCounts());
+    }
+
+    /**
+     * Verifies that a mid-round reshuffle leaves the cards in play out of the shoe and counts them as seen.
+     */
+    @Test
+    void testReshuffleDiscardsKeepsCardsInPlayOut() {
+        Deck deck = new Deck(1, 1.0, Deck.createRandom(4));
+        List<Card> inPlay = new ArrayList<>();
+        while (deck.getCardCount() > 0) {
+            Card card = deck.dealCard();
+            if (deck.getCardCount() < 3) {
+                inPlay.add(card);
+            }
+        }
+        deck.reshuffleDiscards(inPlay);
+
+        assertEquals(49, deck.getCardCount(), "Only the 49 discards should go back into the shoe.");
+        int tags = 0;
+        for (Card card : inPlay) {
+            tags += card.getHiLoTag();
+        }
+        assertEquals(tags, deck.getRunningCount(), "The cards in play should count as seen.");
+        while (deck.getCardCount() > 0) {
+            assertFalse(inPlay.contains(deck.dealCard()), "A card in play must not be dealt again.");
+        }
+    }
+}
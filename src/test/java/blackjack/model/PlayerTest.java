@@ -42,4 +42,65 @@ class PlayerTest {
         // 1 + 10 + 8 = 19
         assertEquals(19, player.getScore());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the soft, bust and blackjack flags as the hand changes.
+     */
+    @Test
+    void testHandFlags() {
+        Player player = new Player("TestPlayer");
+        player.addCard(new Card(Suit.SPADES, Rank.ACE));
+        player.addCard(new Card(Suit.HEARTS, Rank.KING));
+        assertTrue(player.isBlackjack());
+        assertTrue(player.isSoft());
+
+        player.addCard(new Card(Suit.CLUBS, Rank.FIVE)); // A + K + 5 = 16 (hard)
+        assertEquals(16, player.getScore());
+        assertFalse(player.isSoft());
+        assertFalse(player.isBlackjack());
+
+        player.addCard(new Card(Suit.CLUBS, Rank.SEVEN));
+        assertTrue(player.isBust());
+
+        player.clearHand();
+        assertEquals(0, player.getScore());
+        assertFalse(player.isBust());
+    }
+
+    /**
+     * Tests that only one of several Aces is counted as 11.
+     */
+    @Test
+    void testMultipleAces() {
+        Player player = new Player("TestPlayer");
+        player.addCard(new Card(Suit.SPADES, Rank.ACE));
+        player.addCard(new Card(Suit.HEARTS, Rank.ACE));
+        assertEquals(12, player.getScore());
+        assertTrue(player.isSoft());
+
+        player.addCard(new Card(Suit.CLUBS, Rank.NINE));
+        assertEquals(21, player.getScore());
+    }
+
+    /**
+     * Tests that a split moves the second card to a new hand and that split hands come from the seat's pool.
+     */
+    @Test
+    void testSplitReusesPooledHands() {
+        Player player = new Player("Splitter");
+        player.addCard(new Card(Suit.HEARTS, Rank.EIGHT));
+        player.addCard(new Card(Suit.CLUBS, Rank.EIGHT));
+
+        Hand first = player.split();
+        assertEquals(2, player.getHandCount());
+        assertEquals(8, player.getScore(), "The active hand keeps the first card.");
+        assertTrue(player.getActiveHand().isFromSplit() && first.isFromSplit(), "Both hands are split hands.");
+
+        player.clearHand();
+        assertEquals(1, player.getHandCount(), "A new round starts with one hand.");
+        player.addCard(new Card(Suit.HEARTS, Rank.NINE));
+        player.addCard(new Card(Suit.CLUBS, Rank.NINE));
+        assertSame(first, player.split(), "The split hand must come from the pool.");
+        assertFalse(player.nextHand() && player.nextHand(), "There are only two hands.");
+    }
+}
@@ -0,0 +1,81 @@
+package blackjack.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the GameServer class over real loopback connections, together with the load generator.
+ */
+class GameServerTest {
+    private GameServer server;
+
+    /**
+     * Starts a server on a free port before each test.
+     * @throws IOException if the server cannot be started.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new GameServer(0, 2).start();
+    }
+
+    /**
+     * Stops the server after each test.
+     * @throws IOException if the server cannot be stopped.
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+    }
+
+    /**
+     * Verifies a session over a raw socket: state, a rejected command and quitting.
+     */
+    @Test
+    void testSessionOverSocket() throws IOException {
+        try (LineConnection connection = new LineConnection(new Socket(InetAddress.getLoopbackAddress(), server.getPort()))) {
+            connection.writeLine("STATE");
+            String state = connection.readLine();
+            assertTrue(state.startsWith("OK "), state);
+
+            connection.writeLine("JUMP\r");
+            assertTrue(connection.readLine().startsWith("ERR"), "Unknown commands must be rejected.");
+
+            connection.writeLine("QUIT");
+            assertEquals(TableProtocol.BYE, connection.readLine());
+            assertNull(connection.readLine(), "The server closes the table after QUIT.");
+        }
+    }
+
+    /**
+     * Verifies that many concurrent tables play their rounds without errors.
+     */
+    @Test
+    void testConcurrentTablesUnderLoad() throws InterruptedException {
+        LoadReport report = new LoadGenerator(server.getPort(), 50, 5).run();
+
+        assertEquals(50, report.getConnectedTables(), "Every table must connect.");
+        assertEquals(0, report.getErrors(), "No command may fail.");
+        assertTrue(report.getCommands() >= 50 * 5, "At least one command per round must be answered.");
+        assertTrue(report.getP99Nanos() >= report.getP50Nanos(), "p99 cannot be below p50.");
+        assertTrue(server.getCommandCount() >= report.getCommands(), "The server must have answered every command.");
+    }
+
+    /**
+     * Verifies the percentile calculation of the load generator.
+     */
+    @Test
+    void testPercentile() {
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i + 1;
+        }
+        assertEquals(50, LoadGenerator.percentile(sorted, 0.50));
+        assertEquals(99, LoadGenerator.percentile(sorted, 0.99));
+        assertEquals(0, LoadGenerator.percentile(new long[0], 0.99));
+    }
+}
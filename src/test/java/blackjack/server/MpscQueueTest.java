@@ -0,0 +1,67 @@
+package blackjack.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the MpscQueue class: FIFO order and concurrent producers.
+ */
+class MpscQueueTest {
+
+    /**
+     * Verifies that a single producer's elements come out in order and that an empty queue returns null.
+     */
+    @Test
+    void testFifoOrder() {
+        MpscQueue<Integer> queue = new MpscQueue<>();
+        assertNull(queue.poll(), "An empty queue has nothing to poll.");
+        for (int i = 0; i < 10; i++) {
+            queue.offer(i);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, (int) queue.poll(), "Elements must come out in insertion order.");
+        }
+        assertNull(queue.poll(), "The queue must be empty after polling everything.");
+    }
+
+    /**
+     * Verifies that concurrent producers lose no element and that each producer's elements keep their order.
+     * @throws InterruptedException if interrupted while waiting for the producers.
+     */
+    @Test
+    void testConcurrentProducers() throws InterruptedException {
+        final int producers = 8;
+        final int perProducer = 20_000;
+        MpscQueue<long[]> queue = new MpscQueue<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    queue.offer(new long[] {producer, i});
+                }
+            }));
+        }
+
+        int[] next = new int[producers];
+        int received = 0;
+        while (received < producers * perProducer) {
+            long[] element = queue.poll();
+            if (element == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int producer = (int) element[0];
+            assertEquals(next[producer], element[1], "Elements of one producer must keep their order.");
+            next[producer]++;
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(queue.poll(), "No element may be delivered twice.");
+    }
+}
@@ -0,0 +1,78 @@
+package blackjack.server;
+
+import blackjack.logic.BlackjackGame;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the TableProtocol class: command handling, rule checks and the state line.
+ */
+class TableProtocolTest {
+
+    /**
+     * Plays a full round through the protocol until the round is over.
+     * @param table The table.
+     * @return The final response line.
+     */
+    private static String playRound(TableSession table) {
+        String response = TableProtocol.describe(table.snapshot());
+        while (response.startsWith("OK PLAYER_TURN")) {
+            response = TableProtocol.execute(table, "stand");
+        }
+        return response;
+    }
+
+    /**
+     * Verifies the state line while the player is playing: the hole card is hidden.
+     */
+    @Test
+    void testStateHidesHoleCard() {
+        BlackjackGame game = new BlackjackGame("ProtocolTester", 1);
+        while (game.isGameOver()) {
+            game.startNewRound();
+        }
+        String state = TableProtocol.execute(new TableSession(game), "STATE");
+
+        assertTrue(state.startsWith("OK PLAYER_TURN player=" + game.getPlayer().getScore() + ":"), state);
+        assertTrue(state.contains(",??"), "The dealer's hole card must be hidden: " + state);
+        assertTrue(state.endsWith("result=NONE"), state);
+    }
+
+    /**
+     * Verifies that a finished round reports the outcome and that commands respect the round state.
+     */
+    @Test
+    void testRoundLifecycle() {
+        BlackjackGame game = new BlackjackGame("ProtocolTester", 1);
+        TableSession table = new TableSession(game);
+        String finished = playRound(table);
+
+        assertTrue(finished.startsWith("OK ROUND_OVER"), finished);
+        assertTrue(finished.endsWith("result=" + game.getOutcome().name()), finished);
+        assertFalse(finished.contains("??"), "The hole card is shown once the round is over.");
+        assertTrue(TableProtocol.execute(table, "HIT").startsWith("ERR"), "Hitting after the round must be rejected.");
+        assertTrue(TableProtocol.execute(table, "NEW").startsWith("OK"), "A new round can start once the round is over.");
+    }
+
+    /**
+     * Verifies the replies to unknown commands and QUIT.
+     */
+    @Test
+    void testUnknownCommandAndQuit() {
+        TableSession table = new TableSession(new BlackjackGame("ProtocolTester", 1));
+        assertEquals("ERR Unknown command: DANCE", TableProtocol.execute(table, "DANCE"));
+        assertEquals(TableProtocol.BYE, TableProtocol.execute(table, " quit "));
+    }
+
+    /**
+     * Verifies that every advertised command is understood, so the command list cannot go stale.
+     */
+    @Test
+    void testAdvertisedCommandsAreKnown() {
+        for (String command : TableProtocol.COMMANDS) {
+            TableSession table = new TableSession(new BlackjackGame("ProtocolTester", 1));
+            String response = TableProtocol.execute(table, command);
+            assertFalse(response.startsWith("ERR Unknown command"), command + " must be understood: " + response);
+        }
+    }
+}
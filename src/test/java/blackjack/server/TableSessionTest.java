@@ -0,0 +1,96 @@
+package blackjack.server;
+
+import blackjack.logic.BlackjackGame;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the TableSession class: rule checks, snapshots and concurrent submitters.
+ */
+class TableSessionTest {
+
+    /**
+     * Verifies that a rejected command fails its future with the rule that was broken.
+     */
+    @Test
+    void testRejectedCommand() {
+        BlackjackGame game = new BlackjackGame("SessionTester", 1);
+        while (!game.isGameOver()) {
+            game.playerStand();
+        }
+        TableSession table = new TableSession(game);
+
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> table.submit(TableSession.Command.HIT).join(), "Hitting after the round must fail.");
+        assertInstanceOf(IllegalStateException.class, e.getCause(), "The failure must be a rule violation.");
+        assertEquals("Not your turn", e.getCause().getMessage());
+    }
+
+    /**
+     * Verifies that snapshots keep their state after the table moves on and that the published snapshot follows.
+     */
+    @Test
+    void testSnapshotsAreImmutable() {
+        TableSession table = new TableSession(new BlackjackGame("SessionTester", 1));
+        TableSnapshot before = table.snapshot();
+        int cards = before.getPlayerHand().size();
+        boolean roundOver = before.isRoundOver();
+
+        TableSnapshot after = table.submit(roundOver ? TableSession.Command.NEW_ROUND : TableSession.Command.STAND).join();
+
+        assertEquals(cards, before.getPlayerHand().size(), "An old snapshot must not change.");
+        assertEquals(roundOver, before.isRoundOver(), "An old snapshot must not change.");
+        assertTrue(after.getVersion() > before.getVersion(), "Versions must increase.");
+        assertSame(after, table.snapshot(), "The reply's state must be published before the reply.");
+        assertThrows(UnsupportedOperationException.class, () -> after.getPlayerHand().clear(),
+                "Snapshot hands must be read-only.");
+    }
+
+    /**
+     * Verifies that commands from many threads are all answered, one at a time, with increasing versions.
+     * @throws InterruptedException if interrupted while waiting for the submitters.
+     */
+    @Test
+    void testConcurrentSubmitters() throws InterruptedException {
+        final int threads = 8;
+        final int perThread = 2_000;
+        TableSession table = new TableSession(new BlackjackGame("SessionTester", 2));
+        TableSession.Command[] commands = TableSession.Command.values();
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Thread> submitters = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int offset = t;
+            submitters.add(Thread.ofPlatform().start(() -> {
+                List<CompletableFuture<TableSnapshot>> results = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                    results.add(table.submit(commands[(i + offset) % commands.length]));
+                }
+                long lastVersion = 0;
+                for (CompletableFuture<TableSnapshot> result : results) {
+                    try {
+                        long version = result.join().getVersion();
+                        assertTrue(version > lastVersion, "One submitter's commands must be applied in order.");
+                        lastVersion = version;
+                        applied.incrementAndGet();
+                    } catch (CompletionException e) {
+                        assertInstanceOf(IllegalStateException.class, e.getCause(), "Only rule violations may fail.");
+                        rejected.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Thread submitter : submitters) {
+            submitter.join();
+        }
+
+        assertEquals(threads * perThread, applied.get() + rejected.get(), "Every command must be answered.");
+        assertEquals(applied.get(), table.snapshot().getVersion(), "Each applied command must publish one version.");
+    }
+}
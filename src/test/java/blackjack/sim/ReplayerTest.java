@@ -0,0 +1,101 @@
+package blackjack.sim;
+
+import blackjack.logic.BasicStrategy;
+import blackjack.logic.BlackjackGame;
+import blackjack.logic.TableRules;
+import blackjack.model.Deck;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests recording sessions and replaying them with the Replayer: exact reproduction, persistence and divergence reports.
+ */
+class ReplayerTest {
+    private static final TableRules RULES = TableRules.STANDARD.withNumberOfDecks(2);
+    private final AutoPlayer autoPlayer = new AutoPlayer(BasicStrategy.compile(RULES.dealerHitsSoft17(), true));
+
+    /**
+     * Verifies that replaying a recorded session reproduces the result of every round.
+     */
+    @Test
+    void testReplayReproducesEveryRound() {
+        Recording recording = autoPlayer.recordSession(RULES, Deck.DEFAULT_PENETRATION, 2024, 20_000);
+
+        assertEquals(20_000, recording.getRoundCount(), "Every round should be recorded.");
+        assertArrayEquals(recording.getDigests(), Replayer.replay(recording), "The replay should reproduce every round.");
+        assertNull(Replayer.verify(recording), "A verified replay should report no divergence.");
+    }
+
+    /**
+     * Verifies that replaying up to a round leaves the game in that round's recorded state.
+     */
+    @Test
+    void testReplayToRound() {
+        Recording recording = autoPlayer.recordSession(RULES, Deck.DEFAULT_PENETRATION, 5, 500);
+
+        BlackjackGame game = Replayer.replayTo(recording, 321);
+        assertTrue(game.isGameOver(), "The replayed round should be finished.");
+        assertEquals(recording.getDigest(321), Recording.digest(game), "The game should stand at the end of round 322.");
+        assertThrows(IndexOutOfBoundsException.class, () -> Replayer.replayTo(recording, 500), "There is no round 501.");
+    }
+
+    /**
+     * Verifies that a recording written to a file replays identically after reading it back.
+     */
+    @Test
+    void testWriteAndReadRoundTrip() throws IOException {
+        Recording recording = autoPlayer.recordSession(TableRules.parse("H17 6:5 NODAS 6D"), 0.8, 77, 2_000);
+        Path file = Files.createTempFile("session", ".rec");
+        try {
+            recording.write(file);
+            Recording read = Recording.read(file);
+
+            assertEquals(recording.getRules().toString(), read.getRules().toString(), "The rules should be restored.");
+            assertEquals(0.8, read.getPenetration(), "The penetration should be restored.");
+            assertEquals(77, read.getSeed(), "The seed should be restored.");
+            assertEquals(recording.getDecisionCount(), read.getDecisionCount(), "Every decision should be restored.");
+            assertNull(Replayer.verify(read), "The read recording should replay to its recorded results.");
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Verifies that the diff reports the first round with a different result, and runs of different lengths.
+     */
+    @Test
+    void testDiffReportsFirstDivergingRound() {
+        long[] expected = autoPlayer.recordSession(RULES, Deck.DEFAULT_PENETRATION, 9, 1_000).getDigests();
+        long[] actual = expected.clone();
+        actual[700] ^= 1L << 40;
+        actual[900] ^= 1L << 40;
+
+        Replayer.Divergence divergence = Replayer.diff(expected, actual);
+        assertNotNull(divergence, "A changed round should be reported.");
+        assertEquals(700, divergence.round(), "The first changed round should be reported.");
+        assertEquals(expected[700], divergence.expected(), "The reference result should be reported.");
+        assertTrue(divergence.toString().startsWith("Round 701 diverges"), "The report should number rounds from 1.");
+
+        long[] shorter = java.util.Arrays.copyOf(expected, 999);
+        Replayer.Divergence missing = Replayer.diff(expected, shorter);
+        assertEquals(999, missing.round(), "A missing last round should be reported.");
+        assertEquals(0, missing.actual(), "The missing round should have no result.");
+    }
+
+    /**
+     * Verifies that a session replayed under different rules is caught as a divergence.
+     */
+    @Test
+    void testDifferentRulesDiverge() {
+        Recording standard = autoPlayer.recordSession(RULES, Deck.DEFAULT_PENETRATION, 13, 2_000);
+        Recording sixToFive = autoPlayer.recordSession(TableRules.parse("6:5 2D"), Deck.DEFAULT_PENETRATION, 13, 2_000);
+
+        Replayer.Divergence divergence = Replayer.diff(standard.getDigests(), Replayer.replay(sixToFive));
+        assertNotNull(divergence, "A changed blackjack payout should change some round.");
+        BlackjackGame game = Replayer.replayTo(standard, divergence.round());
+        assertTrue(game.getPlayer().isBlackjack(), "The first difference should be a blackjack paid 6:5.");
+    }
+}
@@ -0,0 +1,110 @@
+package blackjack.sim;
+
+import blackjack.logic.Outcome;
+import blackjack.logic.TableRules;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the headless simulation engine and the merging of partial results.
+ */
+class SimulatorTest {
+
+    /**
+     * Verifies that every requested round is played and every hand of it, split hands included, classified exactly once.
+     */
+    @Test
+    void testAllHandsAreCounted() {
+        SimulationResult result = new Simulator(1, 42L, 4).run(200_000);
+
+        assertEquals(200_000, result.getRounds());
+        assertTrue(result.getHands() > result.getRounds(), "Split rounds must record one entry per hand.");
+        assertEquals(result.getHands(), result.getPlayerWins() + result.getDealerWins() + result.getPushes(),
+                "Every hand must be a win, a loss or a push.");
+        assertTrue(result.getElapsedNanos() > 0, "The elapsed time must be measured.");
+    }
+
+    /**
+     * Verifies that the simulated expected value is in a plausible range for a basic strategy player.
+     */
+    @Test
+    void testExpectedValueIsPlausible() {
+        SimulationResult result = new Simulator(2, 7L).run(500_000);
+
+        assertTrue(Math.abs(result.getExpectedValue()) < 0.02, "Full basic strategy keeps the game close to even.");
+        assertTrue(result.getStandardError() > 0 && result.getStandardError() < 0.01);
+    }
+
+    /**
+     * Verifies that partial results merge by adding all counters.
+     */
+    @Test
+    void testMergeAddsCounters() {
+        SimulationResult a = new SimulationResult();
+        a.record(Outcome.PLAYER_WIN, 20, 25, 1);
+        SimulationResult b = new SimulationResult();
+        b.record(Outcome.DEALER_WIN, 23, 17, -1);
+        b.record(Outcome.PUSH, 18, 18, 0);
+
+        a.merge(b);
+
+        assertEquals(3, a.getRounds());
+        assertEquals(3, a.getHands());
+        assertEquals(1, a.getPlayerBusts());
+        assertEquals(1, a.getDealerBusts());
+        assertEquals(0.0, a.getNetUnits(), 1e-9);
+    }
+
+    /**
+     * Verifies that the same seed produces the same aggregate result regardless of the thread count.
+     */
+    @Test
+    void testSameSeedIsReproducibleAcrossThreadCounts() {
+        SimulationResult single = new Simulator(6, 2024L, 1).run(300_000);
+        SimulationResult parallel = new Simulator(6, 2024L, 4).run(300_000);
+
+        assertEquals(single.getPlayerWins(), parallel.getPlayerWins());
+        assertEquals(single.getDealerWins(), parallel.getDealerWins());
+        assertEquals(single.getPlayerBusts(), parallel.getPlayerBusts());
+        assertEquals(single.getNetUnits(), parallel.getNetUnits(), 0.0);
+    }
+
+    /**
+     * Verifies that a Hi-Lo bet ramp raises bets with the count and beats flat betting per unit wagered.
+     */
+    @Test
+    void testHiLoRampRaisesBets() {
+        SimulationResult flat = new Simulator(6, 11L, 2).run(400_000);
+        SimulationResult ramp = new Simulator(6, 11L, 2, BettingStrategy.hiLoRamp(8)).run(400_000);
+
+        assertEquals(flat.getHands(), flat.getUnitsWagered(), 1e-9, "Flat betting wagers one unit per hand.");
+        assertTrue(ramp.getUnitsWagered() > ramp.getHands(), "The ramp must bet more than one unit in positive counts.");
+        assertTrue(ramp.getReturnPerUnitWagered() > flat.getReturnPerUnitWagered(),
+                "Betting more in positive counts must improve the return per unit wagered.");
+    }
+
+    /**
+     * Verifies the steps of the Hi-Lo bet ramp.
+     */
+    @Test
+    void testHiLoRampSteps() {
+        BettingStrategy ramp = BettingStrategy.hiLoRamp(4);
+        assertEquals(1.0, ramp.units(-3.5));
+        assertEquals(1.0, ramp.units(1.9));
+        assertEquals(2.0, ramp.units(2.0));
+        assertEquals(4.0, ramp.units(7.2), "Bets are capped at the maximum.");
+        assertThrows(IllegalArgumentException.class, () -> BettingStrategy.hiLoRamp(0));
+    }
+
+    /**
+     * Verifies that a worse rule set costs the player: 6:5 blackjacks and H17 lower the EV of the same hands.
+     */
+    @Test
+    void testRuleVariantsChangeExpectedValue() {
+        SimulationResult standard = new Simulator(TableRules.parse("S17 3:2 6D"), 21L, 2, BettingStrategy.FLAT).run(300_000);
+        SimulationResult worse = new Simulator(TableRules.parse("H17 6:5 6D"), 21L, 2, BettingStrategy.FLAT).run(300_000);
+
+        assertTrue(worse.getExpectedValue() < standard.getExpectedValue(),
+                "H17 and 6:5 must be worse for the player than S17 and 3:2.");
+    }
+}